@@ -0,0 +1,28 @@
+package com.ecommerce.msa.order.client;
+
+import lombok.Getter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+// 하위 서비스 동시 호출 한도를 넘어 호출 전에 거절된 경우 (503 + Retry-After)
+@Getter
+public class DownstreamOverloadedException extends ResponseStatusException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String downstream;
+
+    public DownstreamOverloadedException(String downstream) {
+        super(HttpStatus.SERVICE_UNAVAILABLE,
+                downstream + " 호출이 몰려 요청을 처리할 수 없습니다. 잠시 후 다시 시도해 주세요");
+        this.downstream = downstream;
+    }
+
+    @Override
+    public HttpHeaders getHeaders() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, "1");
+        return headers;
+    }
+}
@@ -0,0 +1,281 @@
+package com.ecommerce.msa.order.client;
+
+import com.ecommerce.msa.order.config.DownstreamCallGuard;
+import com.ecommerce.msa.order.config.RemoteCallExecutor;
+import com.ecommerce.msa.order.dto.ProductResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 상품 단건 조회(멱등 읽기)를 헤지 요청으로 수행
+// 첫 요청이 최근 응답 시간의 지정 백분위 안에 끝나지 않으면 한 번 더 보내고, 먼저 온 응답을 사용
+// 두 요청 모두 ProductTransportConfig 가 고른 전송 방식(Feign 커넥션 풀/디코더 또는 RSocket)을 거치고,
+// 헤지 요청이 같은 느린 인스턴스로 가지 않도록 인스턴스를 직접 골라 원 요청 다음 인스턴스로 보냄
+// 블로킹 호출이라 늦은 쪽 요청은 취소하지 않고 끝까지 받은 뒤 연결을 반환
+// 요청마다 DownstreamCallGuard 허가를 따로 받아, 헤지 요청과 늦게 끝나는 요청도 동시 호출 한도에 포함
+// 추가 요청은 토큰 버킷 예산 안에서만 보내 하위 서비스 부하가 일정 비율 이상 늘지 않도록 함
+@Component
+@Slf4j
+public class HedgedProductReader implements DisposableBean {
+
+    private static final String SERVICE_ID = "product-service";
+    private static final long MIN_SAMPLES = 100;
+
+    private final DiscoveryClient discoveryClient;
+    private final ProductServiceClient productServiceClient;
+    private final ProductInstanceClients instanceClients;
+    private final DownstreamCallGuard downstreamCallGuard;
+    private final RemoteCallExecutor remoteCallExecutor;
+    private final ScheduledExecutorService scheduler;
+    private final ThreadPoolExecutor hedgeExecutor;
+    private final HedgeBudget budget;
+    private final Timer latency;
+    private final Counter hedgesSent;
+    private final Counter hedgesWon;
+    private final Counter hedgesSkipped;
+    private final Counter hedgesRejected;
+    private final AtomicInteger nextInstance = new AtomicInteger();
+
+    private final boolean enabled;
+    private final long minDelayMs;
+    private final long maxDelayMs;
+
+    private volatile long hedgeDelayMs;
+
+    public HedgedProductReader(
+            DiscoveryClient discoveryClient,
+            ProductServiceClient productServiceClient,
+            ProductInstanceClients instanceClients,
+            DownstreamCallGuard downstreamCallGuard,
+            RemoteCallExecutor remoteCallExecutor,
+            MeterRegistry meterRegistry,
+            @Value("${order.product-lookup.hedge.enabled:false}") boolean enabled,
+            @Value("${order.product-lookup.hedge.percentile:0.95}") double percentile,
+            @Value("${order.product-lookup.hedge.initial-delay-ms:100}") long initialDelayMs,
+            @Value("${order.product-lookup.hedge.min-delay-ms:10}") long minDelayMs,
+            @Value("${order.product-lookup.hedge.max-delay-ms:500}") long maxDelayMs,
+            @Value("${order.product-lookup.hedge.budget-ratio:0.1}") double budgetRatio,
+            @Value("${order.product-lookup.hedge.budget-max-tokens:10}") double budgetMaxTokens,
+            @Value("${order.product-lookup.hedge.max-in-flight:16}") int maxInFlight) {
+        this.discoveryClient = discoveryClient;
+        this.productServiceClient = productServiceClient;
+        this.instanceClients = instanceClients;
+        this.downstreamCallGuard = downstreamCallGuard;
+        this.remoteCallExecutor = remoteCallExecutor;
+        this.enabled = enabled;
+        this.minDelayMs = minDelayMs;
+        this.maxDelayMs = Math.max(minDelayMs, maxDelayMs);
+        this.hedgeDelayMs = Math.min(this.maxDelayMs, Math.max(minDelayMs, initialDelayMs));
+        this.budget = new HedgeBudget(budgetRatio, budgetMaxTokens);
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("product-hedge-"));
+        // 헤지 요청 전용 스레드: 원격 호출 실행기가 포화되면 스케줄러 스레드에서 블로킹 호출이 실행되므로 분리하고,
+        // 가득 차면 헤지를 보내지 않음
+        this.hedgeExecutor = new ThreadPoolExecutor(0, Math.max(1, maxInFlight), 60L, TimeUnit.SECONDS,
+                new SynchronousQueue<>(), new CustomizableThreadFactory("product-hedge-call-"),
+                new ThreadPoolExecutor.AbortPolicy());
+
+        this.latency = Timer.builder("order.product-lookup.latency")
+                .description("상품 단건 조회 첫 요청의 응답 시간 (헤지 지연 계산용, 헤지 여부와 관계없이 모두 기록)")
+                .publishPercentiles(percentile)
+                .distributionStatisticExpiry(Duration.ofMinutes(1))
+                .register(meterRegistry);
+        this.hedgesSent = Counter.builder("order.product-lookup.hedge").tag("result", "sent").register(meterRegistry);
+        this.hedgesWon = Counter.builder("order.product-lookup.hedge").tag("result", "won").register(meterRegistry);
+        this.hedgesSkipped = Counter.builder("order.product-lookup.hedge").tag("result", "budget-exhausted")
+                .register(meterRegistry);
+        this.hedgesRejected = Counter.builder("order.product-lookup.hedge").tag("result", "saturated")
+                .register(meterRegistry);
+        meterRegistry.gauge("order.product-lookup.hedge.delay", this, reader -> reader.hedgeDelayMs);
+
+        if (enabled) {
+            // 백분위 계산은 비용이 있으므로 호출마다 하지 않고 주기적으로 갱신
+            scheduler.scheduleWithFixedDelay(this::refreshHedgeDelay, 1, 1, TimeUnit.SECONDS);
+            log.info("Hedged product reads enabled: percentile={}, budgetRatio={}", percentile, budgetRatio);
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public CompletableFuture<ProductResponse> getProductById(Long productId) {
+        List<ServiceInstance> instances = discoveryClient.getInstances(SERVICE_ID);
+        budget.deposit();
+
+        Exchange exchange = new Exchange(productId);
+        // 인스턴스가 하나뿐이면 같은 인스턴스에 다시 보내도 꼬리 지연이 줄지 않으므로 헤지하지 않음
+        if (instances.size() <= 1) {
+            exchange.sendPrimary(productServiceClient);
+            return exchange.result;
+        }
+
+        int primaryIndex = Math.floorMod(nextInstance.getAndIncrement(), instances.size());
+        ProductServiceClient hedgeClient = clientFor(instances.get((primaryIndex + 1) % instances.size()));
+        exchange.sendPrimary(clientFor(instances.get(primaryIndex)));
+
+        ScheduledFuture<?> hedge = scheduler.schedule(() -> {
+            if (exchange.result.isDone()) {
+                return;
+            }
+            if (!budget.tryWithdraw()) {
+                hedgesSkipped.increment();
+                return;
+            }
+            exchange.sendHedge(hedgeClient);
+        }, hedgeDelayMs, TimeUnit.MILLISECONDS);
+        exchange.result.whenComplete((result, ex) -> hedge.cancel(false));
+        return exchange.result;
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.shutdownNow();
+        hedgeExecutor.shutdown();
+    }
+
+    private void refreshHedgeDelay() {
+        if (latency.count() < MIN_SAMPLES) {
+            return;
+        }
+        ValueAtPercentile[] percentiles = latency.takeSnapshot().percentileValues();
+        if (percentiles.length > 0) {
+            long delay = (long) percentiles[0].value(TimeUnit.MILLISECONDS);
+            hedgeDelayMs = Math.min(maxDelayMs, Math.max(minDelayMs, delay));
+        }
+    }
+
+    private ProductServiceClient clientFor(ServiceInstance instance) {
+        // 인스턴스로 직접 보낼 수 없는 경우 전송 계층의 로드 밸런서에 맡김
+        ProductServiceClient client = instanceClients.forInstance(instance);
+        return client != null ? client : productServiceClient;
+    }
+
+    private static ProductResponse fetch(ProductServiceClient client, Long productId) {
+        ProductResponse productResponse = client.getProductById(productId);
+        // Feign fallback 응답은 실패로 보고 다른 요청의 결과를 기다림
+        if (productResponse == null || productResponse.isFallback()) {
+            throw new IllegalStateException("상품 조회 실패: productId=" + productId);
+        }
+        return productResponse;
+    }
+
+    // 상품 한 건에 대한 원 요청과 헤지 요청 묶음
+    private class Exchange {
+
+        private final Long productId;
+        private final CompletableFuture<ProductResponse> result = new CompletableFuture<>();
+        private int pending;
+        private Throwable error;
+
+        Exchange(Long productId) {
+            this.productId = productId;
+        }
+
+        void sendPrimary(ProductServiceClient client) {
+            long startNanos = System.nanoTime();
+            CompletableFuture<ProductResponse> call;
+            try {
+                call = downstreamCallGuard.callAsync(DownstreamCallGuard.PRODUCT_SERVICE,
+                        () -> remoteCallExecutor.supplyAsync(() -> fetch(client, productId)));
+            } catch (DownstreamOverloadedException e) {
+                // 원 요청이 한도를 넘으면 헤지 없이 호출자에게 바로 거절
+                throw e;
+            } catch (RuntimeException e) {
+                call = CompletableFuture.failedFuture(e);
+            }
+            synchronized (this) {
+                pending++;
+            }
+            call.whenComplete((productResponse, ex) -> {
+                // 헤지 지연은 첫 요청의 응답 시간 분포로 정하므로, 헤지가 먼저 끝났거나 실패한 요청도 모두 기록
+                latency.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+                complete(productResponse, ex, false);
+            });
+        }
+
+        void sendHedge(ProductServiceClient client) {
+            synchronized (this) {
+                if (result.isDone()) {
+                    return;
+                }
+                pending++;
+            }
+            CompletableFuture<ProductResponse> call;
+            try {
+                // 허가는 헤지 요청이 끝날 때 반납되므로, 원 요청이 먼저 끝나도 남은 헤지 요청은 한도에 계속 포함
+                call = downstreamCallGuard.callAsync(DownstreamCallGuard.PRODUCT_SERVICE,
+                        () -> CompletableFuture.supplyAsync(() -> fetch(client, productId), hedgeExecutor));
+            } catch (DownstreamOverloadedException | RejectedExecutionException e) {
+                hedgesRejected.increment();
+                complete(null, null, true);
+                return;
+            }
+            hedgesSent.increment();
+            log.debug("Hedging product lookup: productId={}", productId);
+            call.whenComplete((productResponse, ex) -> complete(productResponse, ex, true));
+        }
+
+        // 보내지 못한 헤지 요청은 응답과 예외 모두 null 로 끝냄
+        private synchronized void complete(ProductResponse productResponse, Throwable ex, boolean hedge) {
+            pending--;
+            if (ex != null) {
+                error = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+            } else if (productResponse != null) {
+                if (result.complete(productResponse) && hedge) {
+                    hedgesWon.increment();
+                }
+                return;
+            }
+            // 다른 요청이 아직 진행 중이면 그 결과를 기다림
+            if (pending == 0 && error != null) {
+                result.completeExceptionally(error);
+            }
+        }
+    }
+
+    // 원 요청마다 ratio 만큼 토큰을 적립하고 헤지 요청 하나에 토큰 1개를 사용
+    private static class HedgeBudget {
+
+        private final double ratio;
+        private final double maxTokens;
+        private double tokens;
+
+        HedgeBudget(double ratio, double maxTokens) {
+            this.ratio = ratio;
+            this.maxTokens = maxTokens;
+        }
+
+        synchronized void deposit() {
+            tokens = Math.min(maxTokens, tokens + ratio);
+        }
+
+        synchronized boolean tryWithdraw() {
+            if (tokens < 1) {
+                return false;
+            }
+            tokens--;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.ecommerce.msa.order.client;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.cloud.client.ServiceInstance;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+// 헤지 요청처럼 product-service 인스턴스를 직접 골라 보내야 할 때 쓰는 인스턴스별 클라이언트
+// ProductTransportConfig 가 고른 전송 방식(Feign 커넥션 풀/디코더 또는 RSocket)으로 인스턴스마다 한 번만 만듦
+public class ProductInstanceClients implements DisposableBean {
+
+    private final Function<ServiceInstance, ProductServiceClient> factory;
+    private final Map<String, ProductServiceClient> clients = new ConcurrentHashMap<>();
+
+    public ProductInstanceClients(Function<ServiceInstance, ProductServiceClient> factory) {
+        this.factory = factory;
+    }
+
+    // 해당 인스턴스로 직접 보낼 수 없으면(RSocket 포트 메타데이터 없음 등) null
+    public ProductServiceClient forInstance(ServiceInstance instance) {
+        return clients.computeIfAbsent(instance.getUri().toString(), key -> factory.apply(instance));
+    }
+
+    @Override
+    public void destroy() {
+        clients.values().forEach(client -> {
+            if (client instanceof ProductRSocketClient rsocketClient) {
+                rsocketClient.dispose();
+            }
+        });
+        clients.clear();
+    }
+}
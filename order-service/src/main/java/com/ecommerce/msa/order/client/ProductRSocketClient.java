@@ -0,0 +1,155 @@
+package com.ecommerce.msa.order.client;
+
+import com.ecommerce.msa.order.dto.ProductResponse;
+import com.ecommerce.msa.order.dto.StockHoldRequest;
+import com.ecommerce.msa.order.dto.StockHoldResponse;
+import com.ecommerce.msa.order.dto.StockReservationRequest;
+import com.ecommerce.msa.order.dto.StockReservationResponse;
+import com.ecommerce.msa.order.dto.StockUpdateRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.messaging.rsocket.RSocketRequester;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Supplier;
+
+// product-service 내부 RSocket(CBOR) 엔드포인트를 쓰는 ProductServiceClient 구현
+// 하나의 TCP 연결에서 요청을 다중화하므로 호출마다 연결을 잡거나 JSON 을 파싱하지 않음
+// 오류(ApplicationErrorException, 연결 오류, block 타임아웃의 IllegalStateException)는 Feign 과 같은 fallback 응답으로 바꿈
+@Slf4j
+public class ProductRSocketClient implements ProductServiceClient {
+
+    private static final ParameterizedTypeReference<List<ProductResponse>> PRODUCT_LIST =
+            new ParameterizedTypeReference<>() {};
+    private static final ParameterizedTypeReference<List<ProductResponse.StockInfo>> STOCK_INFO_LIST =
+            new ParameterizedTypeReference<>() {};
+
+    private final RSocketRequester requester;
+    private final Duration timeout;
+    private final ProductServiceClient fallback;
+
+    public ProductRSocketClient(RSocketRequester requester, Duration timeout, ProductServiceClient fallback) {
+        this.requester = requester;
+        this.timeout = timeout;
+        this.fallback = fallback;
+    }
+
+    @Override
+    public ProductResponse getProductById(Long productId) {
+        return call("products.get", () -> requester.route("products.get")
+                        .data(productId)
+                        .retrieveMono(ProductResponse.class)
+                        .block(timeout),
+                () -> fallback.getProductById(productId));
+    }
+
+    @Override
+    public List<ProductResponse> getProductsByIds(List<Long> productIds) {
+        return call("products.batch", () -> requester.route("products.batch")
+                        .data(productIds)
+                        .retrieveMono(PRODUCT_LIST)
+                        .block(timeout),
+                () -> fallback.getProductsByIds(productIds));
+    }
+
+    @Override
+    public ProductResponse.StockInfo checkStock(Long productId) {
+        return call("products.stock", () -> requester.route("products.{productId}.stock", productId)
+                        .retrieveMono(ProductResponse.StockInfo.class)
+                        .block(timeout),
+                () -> fallback.checkStock(productId));
+    }
+
+    // 여러 상품 재고 확인은 request-channel 로 보내고 응답 묶음을 모아 한 번에 반환
+    @Override
+    public List<ProductResponse.StockInfo> checkStocks(List<Long> productIds) {
+        return call("products.stock.stream", () -> streamStocks(Flux.fromIterable(productIds))
+                        .collectList()
+                        .block(timeout),
+                () -> fallback.checkStocks(productIds));
+    }
+
+    // request-channel: 상품 ID 를 보내는 대로 재고 정보를 순서대로 받음 (묶음 크기는 product-service 가 결정)
+    public Flux<ProductResponse.StockInfo> streamStocks(Flux<Long> productIds) {
+        return requester.route("products.stock.stream")
+                .data(productIds, Long.class)
+                .retrieveFlux(STOCK_INFO_LIST)
+                .flatMapIterable(stockInfos -> stockInfos);
+    }
+
+    @Override
+    public ProductResponse.StockInfo updateStock(Long productId, StockUpdateRequest request) {
+        return call("products.stock.update", () -> requester.route("products.{productId}.stock.update", productId)
+                        .data(request)
+                        .retrieveMono(ProductResponse.StockInfo.class)
+                        .block(timeout),
+                () -> fallback.updateStock(productId, request));
+    }
+
+    @Override
+    public StockReservationResponse reserveStocks(StockReservationRequest request) {
+        return call("products.stock.reserve", () -> requester.route("products.stock.reserve")
+                        .data(request)
+                        .retrieveMono(StockReservationResponse.class)
+                        .block(timeout),
+                () -> fallback.reserveStocks(request));
+    }
+
+    @Override
+    public void releaseStocks(StockReservationRequest request) {
+        // send() 는 응답을 기다리지 않으므로 request-response 로 완료를 확인
+        call("products.stock.release", () -> requester.route("products.stock.release")
+                        .data(request)
+                        .retrieveMono(Void.class)
+                        .block(timeout),
+                () -> {
+                    fallback.releaseStocks(request);
+                    return null;
+                });
+    }
+
+    @Override
+    public StockHoldResponse createStockHolds(StockHoldRequest request) {
+        return call("products.stock.holds.create", () -> requester.route("products.stock.holds.create")
+                        .data(request)
+                        .retrieveMono(StockHoldResponse.class)
+                        .block(timeout),
+                () -> fallback.createStockHolds(request));
+    }
+
+    @Override
+    public StockHoldResponse confirmStockHolds(String reservationId) {
+        return call("products.stock.holds.confirm", () -> requester.route("products.stock.holds.{reservationId}.confirm", reservationId)
+                        .retrieveMono(StockHoldResponse.class)
+                        .block(timeout),
+                () -> fallback.confirmStockHolds(reservationId));
+    }
+
+    @Override
+    public void releaseStockHolds(String reservationId) {
+        call("products.stock.holds.release", () -> requester.route("products.stock.holds.{reservationId}.release", reservationId)
+                        .retrieveMono(Void.class)
+                        .block(timeout),
+                () -> {
+                    fallback.releaseStockHolds(reservationId);
+                    return null;
+                });
+    }
+
+    // 인스턴스별로 직접 만든 요청자(ProductInstanceClients)를 닫을 때 사용
+    public void dispose() {
+        requester.dispose();
+    }
+
+    // Feign 서킷 브레이커 fallback 처럼 모든 호출 오류에 fallback 응답 사용 (fallback 이 예외를 던지는 호출은 그 예외로 실패)
+    private <T> T call(String route, Supplier<T> request, Supplier<T> fallbackResponse) {
+        try {
+            return request.get();
+        } catch (RuntimeException e) {
+            log.warn("Product service RSocket call failed: route={}", route, e);
+            return fallbackResponse.get();
+        }
+    }
+}
@@ -1,19 +1,48 @@
 package com.ecommerce.msa.order.client;
 
 import com.ecommerce.msa.order.dto.ProductResponse;
+import com.ecommerce.msa.order.dto.StockHoldRequest;
+import com.ecommerce.msa.order.dto.StockHoldResponse;
+import com.ecommerce.msa.order.dto.StockReservationRequest;
+import com.ecommerce.msa.order.dto.StockReservationResponse;
 import com.ecommerce.msa.order.dto.StockUpdateRequest;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.*;
 
-@FeignClient(name = "product-service", fallback = ProductServiceClientFallback.class)
+import java.util.List;
+
+// 주입 시에는 ProductTransportConfig 가 전송 방식에 따라 고른 구현이 사용됨
+@FeignClient(name = "product-service", fallback = ProductServiceClientFallback.class,
+        qualifiers = "productServiceFeignClient", primary = false)
 public interface ProductServiceClient {
     
     @GetMapping("/products/{productId}")
     ProductResponse getProductById(@PathVariable Long productId);
     
+    @PostMapping("/products/batch")
+    List<ProductResponse> getProductsByIds(@RequestBody List<Long> productIds);
+    
     @GetMapping("/products/{productId}/stock")
     ProductResponse.StockInfo checkStock(@PathVariable Long productId);
     
+    @PostMapping("/products/stock/check")
+    List<ProductResponse.StockInfo> checkStocks(@RequestBody List<Long> productIds);
+    
     @PutMapping("/products/{productId}/stock")
     ProductResponse.StockInfo updateStock(@PathVariable Long productId, @RequestBody StockUpdateRequest request);
+    
+    @PostMapping("/products/stock/reserve")
+    StockReservationResponse reserveStocks(@RequestBody StockReservationRequest request);
+    
+    @PostMapping("/products/stock/release")
+    void releaseStocks(@RequestBody StockReservationRequest request);
+    
+    @PostMapping("/products/stock/holds")
+    StockHoldResponse createStockHolds(@RequestBody StockHoldRequest request);
+    
+    @PostMapping("/products/stock/holds/{reservationId}/confirm")
+    StockHoldResponse confirmStockHolds(@PathVariable String reservationId);
+    
+    @PostMapping("/products/stock/holds/{reservationId}/release")
+    void releaseStockHolds(@PathVariable String reservationId);
 }
@@ -1,11 +1,17 @@
 package com.ecommerce.msa.order.client;
 
 import com.ecommerce.msa.order.dto.ProductResponse;
+import com.ecommerce.msa.order.dto.StockHoldRequest;
+import com.ecommerce.msa.order.dto.StockHoldResponse;
+import com.ecommerce.msa.order.dto.StockReservationRequest;
+import com.ecommerce.msa.order.dto.StockReservationResponse;
 import com.ecommerce.msa.order.dto.StockUpdateRequest;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.List;
 
 @Component
 @Slf4j
@@ -20,9 +26,16 @@ public class ProductServiceClientFallback implements ProductServiceClient {
                 .price(BigDecimal.ZERO)
                 .stockQuantity(0)
                 .available(false)
+                .fallback(true)
                 .build();
     }
     
+    @Override
+    public List<ProductResponse> getProductsByIds(List<Long> productIds) {
+        log.warn("Product service is unavailable. Using fallback for batch lookup productIds: {}", productIds);
+        return Collections.emptyList();
+    }
+    
     @Override
     public ProductResponse.StockInfo checkStock(Long productId) {
         log.warn("Product service is unavailable. Using fallback for stock check productId: {}", productId);
@@ -31,9 +44,24 @@ public class ProductServiceClientFallback implements ProductServiceClient {
                 .name("상품 정보 조회 실패")
                 .stockQuantity(0)
                 .available(false)
+                .fallback(true)
                 .build();
     }
     
+    @Override
+    public List<ProductResponse.StockInfo> checkStocks(List<Long> productIds) {
+        log.warn("Product service is unavailable. Using fallback for stock check productIds: {}", productIds);
+        return productIds.stream()
+                .map(productId -> ProductResponse.StockInfo.builder()
+                        .productId(productId)
+                        .name("상품 정보 조회 실패")
+                        .stockQuantity(0)
+                        .available(false)
+                        .fallback(true)
+                        .build())
+                .toList();
+    }
+    
     @Override
     public ProductResponse.StockInfo updateStock(Long productId, StockUpdateRequest request) {
         log.warn("Product service is unavailable. Using fallback for stock update productId: {}", productId);
@@ -44,4 +72,41 @@ public class ProductServiceClientFallback implements ProductServiceClient {
                 .available(false)
                 .build();
     }
+    
+    @Override
+    public StockReservationResponse reserveStocks(StockReservationRequest request) {
+        log.warn("Product service is unavailable. Using fallback for stock reservation: {}", request.getItems());
+        return StockReservationResponse.builder()
+                .reserved(false)
+                .items(Collections.emptyList())
+                .build();
+    }
+    
+    @Override
+    public void releaseStocks(StockReservationRequest request) {
+        log.warn("Product service is unavailable. Stock release skipped: {}", request.getItems());
+        throw new RuntimeException("재고 복원 실패");
+    }
+    
+    @Override
+    public StockHoldResponse createStockHolds(StockHoldRequest request) {
+        log.warn("Product service is unavailable. Using fallback for stock hold: reservationId={}", request.getReservationId());
+        return StockHoldResponse.builder()
+                .reservationId(request.getReservationId())
+                .held(false)
+                .items(Collections.emptyList())
+                .build();
+    }
+    
+    @Override
+    public StockHoldResponse confirmStockHolds(String reservationId) {
+        log.warn("Product service is unavailable. Stock hold confirmation failed: reservationId={}", reservationId);
+        throw new RuntimeException("재고 확정 실패");
+    }
+    
+    @Override
+    public void releaseStockHolds(String reservationId) {
+        log.warn("Product service is unavailable. Stock hold release skipped: reservationId={}", reservationId);
+        throw new RuntimeException("재고 홀드 해제 실패");
+    }
 }
@@ -5,7 +5,9 @@ import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 
-@FeignClient(name = "user-service", fallback = UserServiceClientFallback.class)
+// 404(없는 사용자)는 예외 대신 UserServiceClientConfig 의 디코더가 주문 불가 응답으로 변환
+@FeignClient(name = "user-service", fallback = UserServiceClientFallback.class,
+        configuration = UserServiceClientConfig.class, dismiss404 = true)
 public interface UserServiceClient {
     
     @GetMapping("/users/{userId}")
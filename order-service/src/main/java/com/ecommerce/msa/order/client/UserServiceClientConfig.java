@@ -0,0 +1,33 @@
+package com.ecommerce.msa.order.client;
+
+import com.ecommerce.msa.order.dto.UserResponse;
+import feign.codec.Decoder;
+import feign.optionals.OptionalDecoder;
+import org.springframework.beans.factory.ObjectFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.http.HttpMessageConverters;
+import org.springframework.cloud.openfeign.support.HttpMessageConverterCustomizer;
+import org.springframework.cloud.openfeign.support.ResponseEntityDecoder;
+import org.springframework.cloud.openfeign.support.SpringDecoder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.HttpStatus;
+
+// UserServiceClient 전용 설정 (@Configuration 이 아니므로 다른 Feign 클라이언트에는 적용되지 않음)
+// 404 는 장애가 아니라 없는 사용자이므로 fallback 대신 주문 불가 응답으로 디코딩해 음성 캐시에 보관되게 함
+public class UserServiceClientConfig {
+
+    @Bean
+    public Decoder userServiceDecoder(ObjectFactory<HttpMessageConverters> messageConverters,
+                                      ObjectProvider<HttpMessageConverterCustomizer> customizers) {
+        Decoder delegate = new OptionalDecoder(new ResponseEntityDecoder(new SpringDecoder(messageConverters, customizers)));
+        return (response, type) -> {
+            if (response.status() == HttpStatus.NOT_FOUND.value() && type == UserResponse.class) {
+                return UserResponse.builder()
+                        .name("존재하지 않는 사용자")
+                        .available(false)
+                        .build();
+            }
+            return delegate.decode(response, type);
+        };
+    }
+}
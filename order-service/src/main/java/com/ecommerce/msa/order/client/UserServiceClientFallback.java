@@ -16,6 +16,7 @@ public class UserServiceClientFallback implements UserServiceClient {
                 .name("사용자 정보 조회 실패")
                 .email("fallback@example.com")
                 .available(false)
+                .fallback(true)
                 .build();
     }
 }
@@ -0,0 +1,86 @@
+package com.ecommerce.msa.order.config;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 관측한 지연 시간에 맞춰 동시 호출 한도를 조정하는 AIMD 방식 리미터
+// 실패하거나 응답이 기준 지연보다 크게 느려지면 한도를 비율로 줄이고, 한도 가까이 사용 중일 때 성공하면 1씩 늘림
+public class AdaptiveConcurrencyLimit {
+
+    // 기준 지연(평소 응답 시간)의 지수 이동 평균 가중치
+    private static final double BASELINE_SMOOTHING = 0.05;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final double latencyTolerance;
+    private final long maxLatencyNanos;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile double limit;
+    private volatile double baselineLatencyNanos;
+
+    public AdaptiveConcurrencyLimit(int initialLimit, int minLimit, int maxLimit,
+                                    double backoffRatio, double latencyTolerance, long maxLatencyNanos) {
+        this.minLimit = Math.max(1, minLimit);
+        this.maxLimit = Math.max(this.minLimit, maxLimit);
+        this.backoffRatio = backoffRatio;
+        this.latencyTolerance = latencyTolerance;
+        this.maxLatencyNanos = maxLatencyNanos;
+        this.limit = Math.min(this.maxLimit, Math.max(this.minLimit, initialLimit));
+    }
+
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= (int) limit) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    public void onSuccess(long latencyNanos) {
+        complete(latencyNanos, false);
+    }
+
+    public void onFailure(long latencyNanos) {
+        complete(latencyNanos, true);
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    public double getBaselineLatencyMillis() {
+        return baselineLatencyNanos / 1_000_000.0;
+    }
+
+    private synchronized void complete(long latencyNanos, boolean failed) {
+        int inFlightBefore = inFlight.getAndDecrement();
+        double baseline = baselineLatencyNanos;
+
+        boolean dropped = failed
+                || latencyNanos > maxLatencyNanos
+                || (baseline > 0 && latencyNanos > baseline * latencyTolerance);
+
+        if (dropped) {
+            limit = Math.max(minLimit, limit * backoffRatio);
+        } else if (inFlightBefore * 2 >= (int) limit) {
+            // 한도를 충분히 사용 중일 때만 늘려 유휴 상태에서 한도가 끝없이 커지지 않도록 함
+            limit = Math.min(maxLimit, limit + 1);
+        }
+
+        // 실패한 호출의 지연은 기준에 반영하지 않음
+        if (!failed) {
+            baselineLatencyNanos = baseline == 0
+                    ? latencyNanos
+                    : baseline + (latencyNanos - baseline) * BASELINE_SMOOTHING;
+        }
+    }
+}
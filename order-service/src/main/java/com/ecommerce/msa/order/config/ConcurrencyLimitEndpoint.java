@@ -0,0 +1,32 @@
+package com.ecommerce.msa.order.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// /actuator/concurrencylimits : 하위 서비스별 현재 적응형 한도와 처리 중 호출 수
+@Component
+@Endpoint(id = "concurrencylimits")
+@RequiredArgsConstructor
+public class ConcurrencyLimitEndpoint {
+
+    private final DownstreamCallGuard downstreamCallGuard;
+
+    @ReadOperation
+    public Map<String, Map<String, Object>> limits() {
+        Map<String, Map<String, Object>> limits = new LinkedHashMap<>();
+        downstreamCallGuard.getLimits().forEach((downstream, limit) -> {
+            Map<String, Object> details = new LinkedHashMap<>();
+            details.put("limit", limit.getLimit());
+            details.put("inFlight", limit.getInFlight());
+            details.put("baselineLatencyMs", limit.getBaselineLatencyMillis());
+            details.put("rejected", (long) downstreamCallGuard.getRejectedCount(downstream));
+            limits.put(downstream, details);
+        });
+        return limits;
+    }
+}
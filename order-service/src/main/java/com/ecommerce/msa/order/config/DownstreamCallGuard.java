@@ -0,0 +1,144 @@
+package com.ecommerce.msa.order.config;
+
+import com.ecommerce.msa.order.client.DownstreamOverloadedException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+// 하위 서비스별 벌크헤드(고정 상한)와 적응형 동시 호출 한도를 함께 적용
+// 한도를 넘는 호출은 대기 없이 바로 거절해 느린 하위 서비스 때문에 주문 스레드가 쌓이지 않도록 함
+@Component
+@Slf4j
+public class DownstreamCallGuard {
+
+    public static final String USER_SERVICE = "user-service";
+    public static final String PRODUCT_SERVICE = "product-service";
+
+    private final BulkheadRegistry bulkheadRegistry;
+    private final boolean adaptiveEnabled;
+    private final Map<String, AdaptiveConcurrencyLimit> limits = new LinkedHashMap<>();
+    private final Map<String, Counter> bulkheadRejections = new LinkedHashMap<>();
+    private final Map<String, Counter> limitRejections = new LinkedHashMap<>();
+
+    public DownstreamCallGuard(
+            BulkheadRegistry bulkheadRegistry,
+            MeterRegistry meterRegistry,
+            @Value("${order.concurrency-limit.enabled:true}") boolean adaptiveEnabled,
+            @Value("${order.concurrency-limit.initial-limit:20}") int initialLimit,
+            @Value("${order.concurrency-limit.min-limit:4}") int minLimit,
+            @Value("${order.concurrency-limit.max-limit:200}") int maxLimit,
+            @Value("${order.concurrency-limit.backoff-ratio:0.9}") double backoffRatio,
+            @Value("${order.concurrency-limit.latency-tolerance:2.0}") double latencyTolerance,
+            @Value("${order.concurrency-limit.max-latency-ms:1000}") long maxLatencyMs) {
+        this.bulkheadRegistry = bulkheadRegistry;
+        this.adaptiveEnabled = adaptiveEnabled;
+
+        for (String downstream : new String[]{USER_SERVICE, PRODUCT_SERVICE}) {
+            AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(initialLimit, minLimit, maxLimit,
+                    backoffRatio, latencyTolerance, TimeUnit.MILLISECONDS.toNanos(maxLatencyMs));
+            limits.put(downstream, limit);
+
+            Gauge.builder("order.downstream.concurrency.limit", limit, AdaptiveConcurrencyLimit::getLimit)
+                    .tag("downstream", downstream)
+                    .register(meterRegistry);
+            Gauge.builder("order.downstream.concurrency.in-flight", limit, AdaptiveConcurrencyLimit::getInFlight)
+                    .tag("downstream", downstream)
+                    .register(meterRegistry);
+            Gauge.builder("order.downstream.latency.baseline", limit, AdaptiveConcurrencyLimit::getBaselineLatencyMillis)
+                    .tag("downstream", downstream)
+                    .baseUnit("milliseconds")
+                    .register(meterRegistry);
+            bulkheadRejections.put(downstream, Counter.builder("order.downstream.rejected")
+                    .tag("downstream", downstream)
+                    .tag("reason", "bulkhead")
+                    .register(meterRegistry));
+            limitRejections.put(downstream, Counter.builder("order.downstream.rejected")
+                    .tag("downstream", downstream)
+                    .tag("reason", "concurrency-limit")
+                    .register(meterRegistry));
+
+            // 벌크헤드 인스턴스를 미리 만들어 actuator/bulkheads 에 바로 노출
+            bulkheadRegistry.bulkhead(downstream);
+        }
+    }
+
+    public <T> T call(String downstream, Supplier<T> call) {
+        Permit permit = acquire(downstream);
+        try {
+            T result = call.get();
+            permit.release(true);
+            return result;
+        } catch (RuntimeException e) {
+            permit.release(false);
+            throw e;
+        }
+    }
+
+    public <T> CompletableFuture<T> callAsync(String downstream, Supplier<CompletableFuture<T>> call) {
+        // 실행기 큐에 넣기 전에 허가를 받아, 거절된 호출이 원격 호출 스레드를 차지하지 않도록 함
+        Permit permit = acquire(downstream);
+        CompletableFuture<T> future;
+        try {
+            future = call.get();
+        } catch (RuntimeException e) {
+            permit.release(false);
+            throw e;
+        }
+        return future.whenComplete((result, ex) -> permit.release(ex == null));
+    }
+
+    public Map<String, AdaptiveConcurrencyLimit> getLimits() {
+        return Collections.unmodifiableMap(limits);
+    }
+
+    public double getRejectedCount(String downstream) {
+        return bulkheadRejections.get(downstream).count() + limitRejections.get(downstream).count();
+    }
+
+    private Permit acquire(String downstream) {
+        Bulkhead bulkhead = bulkheadRegistry.bulkhead(downstream);
+        if (!bulkhead.tryAcquirePermission()) {
+            bulkheadRejections.get(downstream).increment();
+            log.warn("Downstream call rejected by bulkhead: downstream={}", downstream);
+            throw new DownstreamOverloadedException(downstream);
+        }
+
+        AdaptiveConcurrencyLimit limit = limits.get(downstream);
+        if (adaptiveEnabled && !limit.tryAcquire()) {
+            bulkhead.onComplete();
+            limitRejections.get(downstream).increment();
+            log.warn("Downstream call rejected by concurrency limit: downstream={}, limit={}, inFlight={}",
+                    downstream, limit.getLimit(), limit.getInFlight());
+            throw new DownstreamOverloadedException(downstream);
+        }
+        return new Permit(bulkhead, adaptiveEnabled ? limit : null, System.nanoTime());
+    }
+
+    private record Permit(Bulkhead bulkhead, AdaptiveConcurrencyLimit limit, long startNanos) {
+
+        void release(boolean success) {
+            bulkhead.onComplete();
+            if (limit == null) {
+                return;
+            }
+            long latencyNanos = System.nanoTime() - startNanos;
+            if (success) {
+                limit.onSuccess(latencyNanos);
+            } else {
+                limit.onFailure(latencyNanos);
+            }
+        }
+    }
+}
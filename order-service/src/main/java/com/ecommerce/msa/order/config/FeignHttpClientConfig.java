@@ -0,0 +1,164 @@
+package com.ecommerce.msa.order.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.socket.ConnectionSocketFactory;
+import org.apache.hc.client5.http.socket.LayeredConnectionSocketFactory;
+import org.apache.hc.client5.http.socket.PlainConnectionSocketFactory;
+import org.apache.hc.client5.http.ssl.SSLConnectionSocketFactory;
+import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.http.config.Registry;
+import org.apache.hc.core5.http.config.RegistryBuilder;
+import org.apache.hc.core5.http.io.SocketConfig;
+import org.apache.hc.core5.http.protocol.HttpContext;
+import org.apache.hc.core5.pool.PoolConcurrencyPolicy;
+import org.apache.hc.core5.pool.PoolReusePolicy;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cloud.openfeign.clientconfig.HttpClient5FeignConfiguration;
+import org.springframework.cloud.openfeign.support.FeignHttpClientProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.util.concurrent.TimeUnit;
+
+// Feign 클라이언트(user-service, product-service)가 쓰는 Apache HttpClient 5 커넥션 풀
+// 풀 크기/TTL/타임아웃은 spring.cloud.openfeign.httpclient.* 를 그대로 따르고, 여기서는 유휴 연결 정리와 메트릭만 추가
+// HTTP/2 (feign-java11) 로 전환하면 이 설정은 적용되지 않음
+@Configuration
+@ConditionalOnProperty(name = "spring.cloud.openfeign.httpclient.hc5.enabled", matchIfMissing = true)
+@Slf4j
+public class FeignHttpClientConfig {
+
+    @Bean
+    public PoolingHttpClientConnectionManager feignConnectionManager(
+            FeignHttpClientProperties properties,
+            MeterRegistry meterRegistry,
+            @Value("${order.feign.validate-after-inactivity-ms:2000}") long validateAfterInactivityMs) {
+        FeignHttpClientProperties.Hc5Properties hc5 = properties.getHc5();
+
+        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager(
+                socketFactoryRegistry(meterRegistry),
+                PoolConcurrencyPolicy.valueOf(hc5.getPoolConcurrencyPolicy().name()),
+                PoolReusePolicy.valueOf(hc5.getPoolReusePolicy().name()),
+                TimeValue.of(properties.getTimeToLive(), properties.getTimeToLiveUnit()));
+        connectionManager.setMaxTotal(properties.getMaxConnections());
+        connectionManager.setDefaultMaxPerRoute(properties.getMaxConnectionsPerRoute());
+        connectionManager.setDefaultSocketConfig(SocketConfig.custom()
+                .setSoTimeout(Timeout.of(hc5.getSocketTimeout(), hc5.getSocketTimeoutUnit()))
+                .setSoKeepAlive(true)
+                .setTcpNoDelay(true)
+                .build());
+        connectionManager.setDefaultConnectionConfig(ConnectionConfig.custom()
+                .setConnectTimeout(Timeout.ofMilliseconds(properties.getConnectionTimeout()))
+                .setSocketTimeout(Timeout.of(hc5.getSocketTimeout(), hc5.getSocketTimeoutUnit()))
+                .setTimeToLive(TimeValue.of(properties.getTimeToLive(), properties.getTimeToLiveUnit()))
+                // 서버가 먼저 닫은 keep-alive 연결을 재사용하지 않도록 일정 시간 유휴였던 연결은 검사 후 사용
+                .setValidateAfterInactivity(TimeValue.ofMilliseconds(validateAfterInactivityMs))
+                .build());
+
+        // httpcomponents.httpclient.pool.total.connections{state=leased|available}, ...pool.total.pending 등
+        new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, "feign").bindTo(meterRegistry);
+
+        log.info("Feign connection pool initialized: maxTotal={}, maxPerRoute={}, timeToLive={} {}",
+                properties.getMaxConnections(), properties.getMaxConnectionsPerRoute(),
+                properties.getTimeToLive(), properties.getTimeToLiveUnit());
+        return connectionManager;
+    }
+
+    // 연결 수립 시간을 재기 위해 소켓 팩토리를 감쌈 (풀에서 재사용된 요청은 기록되지 않음)
+    // http 는 TLS 계층을 올리지 않으므로 평문 팩토리로, https 만 계층 팩토리로 감쌈
+    static Registry<ConnectionSocketFactory> socketFactoryRegistry(MeterRegistry meterRegistry) {
+        Timer.Builder connectTimer = Timer.builder("order.feign.connect")
+                .description("Feign 하위 서비스 TCP/TLS 연결 수립 시간");
+        return RegistryBuilder.<ConnectionSocketFactory>create()
+                .register("http", new TimedConnectionSocketFactory(PlainConnectionSocketFactory.getSocketFactory(),
+                        connectTimer.tag("scheme", "http").register(meterRegistry)))
+                .register("https", new TimedLayeredConnectionSocketFactory(SSLConnectionSocketFactory.getSocketFactory(),
+                        connectTimer.tag("scheme", "https").register(meterRegistry)))
+                .build();
+    }
+
+    @Bean
+    public HttpClient5FeignConfiguration.HttpClientBuilderCustomizer feignKeepAliveCustomizer(
+            @Value("${order.feign.keep-alive-ms:15000}") long keepAliveMs,
+            @Value("${order.feign.idle-eviction-ms:30000}") long idleEvictionMs) {
+        // 서버 keep-alive 타임아웃(Tomcat 기본 20초)보다 짧게 유지하고, 만료/유휴 연결은 백그라운드에서 정리
+        return builder -> builder
+                .setKeepAliveStrategy((response, context) -> TimeValue.ofMilliseconds(keepAliveMs))
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.of(idleEvictionMs, TimeUnit.MILLISECONDS));
+    }
+
+    static class TimedConnectionSocketFactory implements ConnectionSocketFactory {
+
+        private final ConnectionSocketFactory delegate;
+        private final Timer connectTimer;
+
+        TimedConnectionSocketFactory(ConnectionSocketFactory delegate, Timer connectTimer) {
+            this.delegate = delegate;
+            this.connectTimer = connectTimer;
+        }
+
+        @Override
+        public Socket createSocket(HttpContext context) throws IOException {
+            return delegate.createSocket(context);
+        }
+
+        @Override
+        public Socket connectSocket(TimeValue connectTimeout, Socket socket, HttpHost host,
+                                    InetSocketAddress remoteAddress, InetSocketAddress localAddress,
+                                    HttpContext context) throws IOException {
+            long startNanos = System.nanoTime();
+            try {
+                return delegate.connectSocket(connectTimeout, socket, host, remoteAddress, localAddress, context);
+            } finally {
+                connectTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+            }
+        }
+
+        @Override
+        public Socket connectSocket(Socket socket, HttpHost host, InetSocketAddress remoteAddress,
+                                    InetSocketAddress localAddress, Timeout connectTimeout,
+                                    Object attachment, HttpContext context) throws IOException {
+            long startNanos = System.nanoTime();
+            try {
+                return delegate.connectSocket(socket, host, remoteAddress, localAddress, connectTimeout, attachment, context);
+            } finally {
+                connectTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+
+    // https 용: 프록시 터널 위에 TLS 를 올리는 createLayeredSocket 도 그대로 위임
+    static class TimedLayeredConnectionSocketFactory extends TimedConnectionSocketFactory
+            implements LayeredConnectionSocketFactory {
+
+        private final LayeredConnectionSocketFactory layered;
+
+        TimedLayeredConnectionSocketFactory(LayeredConnectionSocketFactory delegate, Timer connectTimer) {
+            super(delegate, connectTimer);
+            this.layered = delegate;
+        }
+
+        @Override
+        public Socket createLayeredSocket(Socket socket, String target, int port, HttpContext context) throws IOException {
+            return layered.createLayeredSocket(socket, target, port, context);
+        }
+
+        @Override
+        public Socket createLayeredSocket(Socket socket, String target, int port, Object attachment,
+                                          HttpContext context) throws IOException {
+            return layered.createLayeredSocket(socket, target, port, attachment, context);
+        }
+    }
+}
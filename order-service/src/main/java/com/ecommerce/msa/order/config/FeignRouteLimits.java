@@ -0,0 +1,86 @@
+package com.ecommerce.msa.order.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.core5.http.HttpHost;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 하위 서비스별로 인스턴스당 연결 수 상한을 기본값(max-connections-per-route)과 다르게 지정 (order.feign.max-per-route.<service-id>)
+// 커넥션 풀의 경로는 인스턴스(host:port) 단위이므로 디스커버리의 인스턴스 목록으로 풀어 적용하고, 새 인스턴스가 생기면 다시 적용
+@Component
+@ConditionalOnProperty(name = "spring.cloud.openfeign.httpclient.hc5.enabled", matchIfMissing = true)
+@Slf4j
+public class FeignRouteLimits {
+
+    private final PoolingHttpClientConnectionManager connectionManager;
+    private final DiscoveryClient discoveryClient;
+    private final Map<String, Integer> maxPerRoute;
+    private final Set<HttpRoute> appliedRoutes = ConcurrentHashMap.newKeySet();
+
+    public FeignRouteLimits(PoolingHttpClientConnectionManager feignConnectionManager,
+                            DiscoveryClient discoveryClient,
+                            Environment environment) {
+        this.connectionManager = feignConnectionManager;
+        this.discoveryClient = discoveryClient;
+        this.maxPerRoute = parse(Binder.get(environment)
+                .bind("order.feign.max-per-route", Bindable.mapOf(String.class, String.class))
+                .orElse(Collections.emptyMap()));
+        if (!maxPerRoute.isEmpty()) {
+            log.info("Feign per-service max connections per route: {}", maxPerRoute);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${order.feign.max-per-route-refresh-ms:30000}")
+    public void apply() {
+        maxPerRoute.forEach((serviceId, max) -> {
+            try {
+                for (ServiceInstance instance : discoveryClient.getInstances(serviceId)) {
+                    HttpRoute route = route(instance);
+                    connectionManager.setMaxPerRoute(route, max);
+                    if (appliedRoutes.add(route)) {
+                        log.info("Feign max connections per route applied: serviceId={}, route={}, max={}",
+                                serviceId, route.getTargetHost(), max);
+                    }
+                }
+            } catch (Exception e) {
+                log.warn("Failed to apply Feign max connections per route: serviceId={}", serviceId, e);
+            }
+        });
+    }
+
+    public Map<String, Integer> getMaxPerRoute() {
+        return Collections.unmodifiableMap(maxPerRoute);
+    }
+
+    // HttpClient 의 기본 경로 계획(DefaultRoutePlanner)과 같은 키: 프록시 없이 대상 호스트와 https 여부
+    static HttpRoute route(ServiceInstance instance) {
+        String scheme = instance.isSecure() ? "https" : "http";
+        return new HttpRoute(new HttpHost(scheme, instance.getHost(), instance.getPort()), null, instance.isSecure());
+    }
+
+    // 값이 비어 있으면 기본값을 그대로 사용
+    private static Map<String, Integer> parse(Map<String, String> values) {
+        Map<String, Integer> parsed = new TreeMap<>();
+        values.forEach((serviceId, value) -> {
+            if (StringUtils.hasText(value)) {
+                parsed.put(serviceId, Integer.parseInt(value.trim()));
+            }
+        });
+        return parsed;
+    }
+}
@@ -0,0 +1,84 @@
+package com.ecommerce.msa.order.config;
+
+import com.ecommerce.msa.order.event.OrderEvent;
+import com.ecommerce.msa.order.event.OrderEventSerializer;
+import com.ecommerce.msa.order.event.OrderIntakeCommand;
+import com.ecommerce.msa.order.service.OrderService;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.serialization.Serializer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.kafka.ConcurrentKafkaListenerContainerFactoryConfigurer;
+import org.springframework.boot.autoconfigure.kafka.DefaultKafkaProducerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.kafka.support.ExponentialBackOffWithMaxRetries;
+import org.springframework.kafka.support.serializer.DelegatingByTypeSerializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Configuration
+@Slf4j
+public class KafkaConfig {
+
+    public static final String ORDER_INTAKE_CONTAINER_FACTORY = "orderIntakeContainerFactory";
+
+    public enum WireFormat {
+        JSON,       // JsonSerializer (타입 헤더 포함)
+        BINARY      // OrderEventCodec 바이너리 인코딩
+    }
+
+    // BINARY 이면 OrderEvent 만 바이너리로 보내고 나머지 메시지는 기존처럼 JSON 으로 보냄
+    // 컨슈머는 OrderEventDeserializer 로 두 형식을 모두 읽으므로, 모든 인스턴스 배포 후 전환
+    @Bean
+    public DefaultKafkaProducerFactoryCustomizer orderEventWireFormatCustomizer(
+            @Value("${order.events.wire-format:JSON}") WireFormat wireFormat) {
+        return producerFactory -> {
+            log.info("Order event wire format: {}", wireFormat);
+            if (wireFormat != WireFormat.BINARY) {
+                return;
+            }
+            @SuppressWarnings("unchecked")
+            DefaultKafkaProducerFactory<Object, Object> factory = (DefaultKafkaProducerFactory<Object, Object>) producerFactory;
+            factory.setValueSerializerSupplier(() -> {
+                Map<Class<?>, Serializer<?>> delegates = new LinkedHashMap<>();
+                delegates.put(OrderEvent.class, new OrderEventSerializer());
+                delegates.put(Object.class, new JsonSerializer<>());
+                return new DelegatingByTypeSerializer(delegates, true);
+            });
+        };
+    }
+
+    // 주문 접수 워커 전용: 일시적인 오류는 지수 백오프로 재시도하고, 재시도를 모두 실패한 접수 건은 거절 처리
+    @Bean(ORDER_INTAKE_CONTAINER_FACTORY)
+    public ConcurrentKafkaListenerContainerFactory<Object, Object> orderIntakeContainerFactory(
+            ConcurrentKafkaListenerContainerFactoryConfigurer configurer,
+            ConsumerFactory<Object, Object> consumerFactory,
+            ObjectProvider<OrderService> orderService,
+            @Value("${order.intake.worker.retry.max-retries:6}") int maxRetries,
+            @Value("${order.intake.worker.retry.initial-interval-ms:500}") long initialIntervalMs,
+            @Value("${order.intake.worker.retry.max-interval-ms:10000}") long maxIntervalMs) {
+        ConcurrentKafkaListenerContainerFactory<Object, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        configurer.configure(factory, consumerFactory);
+
+        ExponentialBackOffWithMaxRetries backOff = new ExponentialBackOffWithMaxRetries(maxRetries);
+        backOff.setInitialInterval(initialIntervalMs);
+        backOff.setMultiplier(2.0);
+        backOff.setMaxInterval(maxIntervalMs);
+        factory.setCommonErrorHandler(new DefaultErrorHandler((record, e) -> {
+            if (record.value() instanceof OrderIntakeCommand command) {
+                Throwable cause = e.getCause() != null ? e.getCause() : e;
+                log.error("Order intake retries exhausted: orderId={}", command.getOrderId(), cause);
+                orderService.getObject().rejectOrderIntake(command.getOrderId(),
+                        "주문 처리 재시도 한도 초과: " + cause.getMessage());
+            }
+        }, backOff));
+        return factory;
+    }
+}
@@ -0,0 +1,103 @@
+package com.ecommerce.msa.order.config;
+
+import com.ecommerce.msa.order.client.ProductInstanceClients;
+import com.ecommerce.msa.order.client.ProductRSocketClient;
+import com.ecommerce.msa.order.client.ProductServiceClient;
+import com.ecommerce.msa.order.client.ProductServiceClientFallback;
+import io.rsocket.loadbalance.LoadbalanceTarget;
+import io.rsocket.loadbalance.RoundRobinLoadbalanceStrategy;
+import io.rsocket.transport.netty.client.TcpClientTransport;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+import org.springframework.cloud.openfeign.FeignClientBuilder;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.messaging.rsocket.RSocketRequester;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.util.List;
+
+// order → product 호출 전송 방식 선택 (order.product-transport)
+// OrderService 는 ProductServiceClient 타입으로 주입받으므로 여기서 고른 구현을 @Primary 로 노출
+@Configuration
+@Slf4j
+public class ProductTransportConfig {
+
+    private static final String PRODUCT_SERVICE = "product-service";
+    private static final String RSOCKET_PORT_METADATA = "rsocket-port";
+
+    public enum ProductTransport {
+        HTTP,       // Feign + JSON (기본)
+        RSOCKET     // RSocket + CBOR, product-service 인스턴스별 TCP 연결 하나에 요청 다중화
+    }
+
+    @Bean
+    @Primary
+    public ProductServiceClient productServiceClientTransport(
+            @Value("${order.product-transport:HTTP}") ProductTransport transport,
+            @Qualifier("productServiceFeignClient") ProductServiceClient feignClient,
+            ObjectProvider<RSocketRequester> productRSocketRequester,
+            ProductServiceClientFallback fallback,
+            @Value("${order.product-rsocket.timeout-ms:3000}") long timeoutMs) {
+        log.info("Product service transport: {}", transport);
+        if (transport == ProductTransport.RSOCKET) {
+            return new ProductRSocketClient(productRSocketRequester.getObject(), Duration.ofMillis(timeoutMs), fallback);
+        }
+        return feignClient;
+    }
+
+    // 헤지 요청이 원 요청과 다른 인스턴스로 가도록 인스턴스를 직접 지정해 보낼 때 사용
+    // Feign 은 url 을 지정하면 로드 밸런서를 건너뛰고 같은 Apache HttpClient 5 커넥션 풀/디코더를 씀
+    @Bean
+    public ProductInstanceClients productInstanceClients(
+            @Value("${order.product-transport:HTTP}") ProductTransport transport,
+            ApplicationContext applicationContext,
+            ObjectProvider<RSocketRequester.Builder> rsocketRequesterBuilder,
+            ProductServiceClientFallback fallback,
+            @Value("${order.product-rsocket.timeout-ms:3000}") long timeoutMs) {
+        if (transport == ProductTransport.RSOCKET) {
+            return new ProductInstanceClients(instance -> {
+                String port = instance.getMetadata().get(RSOCKET_PORT_METADATA);
+                return port == null ? null : new ProductRSocketClient(
+                        rsocketRequesterBuilder.getObject().tcp(instance.getHost(), Integer.parseInt(port)),
+                        Duration.ofMillis(timeoutMs), fallback);
+            });
+        }
+        FeignClientBuilder feignClientBuilder = new FeignClientBuilder(applicationContext);
+        return new ProductInstanceClients(instance -> feignClientBuilder
+                .forType(ProductServiceClient.class, PRODUCT_SERVICE)
+                .url(instance.getUri().toString())
+                .fallback(ProductServiceClientFallback.class)
+                .build());
+    }
+
+    @Bean(destroyMethod = "dispose")
+    @ConditionalOnProperty(name = "order.product-transport", havingValue = "RSOCKET")
+    public RSocketRequester productRSocketRequester(
+            RSocketRequester.Builder builder,
+            DiscoveryClient discoveryClient,
+            @Value("${order.product-rsocket.refresh-interval-ms:30000}") long refreshIntervalMs) {
+        // Eureka 인스턴스 목록을 주기적으로 다시 읽어 연결 대상을 갱신하고, 대상 간에는 라운드 로빈
+        Flux<List<LoadbalanceTarget>> targets = Flux.interval(Duration.ZERO, Duration.ofMillis(refreshIntervalMs))
+                .map(tick -> discoveryClient.getInstances(PRODUCT_SERVICE).stream()
+                        .filter(instance -> instance.getMetadata().containsKey(RSOCKET_PORT_METADATA))
+                        .map(ProductTransportConfig::loadbalanceTarget)
+                        .toList())
+                .onErrorContinue((e, tick) -> log.warn("Failed to refresh product-service RSocket targets", e));
+        return builder.transports(targets, new RoundRobinLoadbalanceStrategy());
+    }
+
+    private static LoadbalanceTarget loadbalanceTarget(ServiceInstance instance) {
+        int port = Integer.parseInt(instance.getMetadata().get(RSOCKET_PORT_METADATA));
+        return LoadbalanceTarget.from(instance.getHost() + ":" + port,
+                TcpClientTransport.create(instance.getHost(), port));
+    }
+}
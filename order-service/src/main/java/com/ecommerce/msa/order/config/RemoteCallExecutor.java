@@ -0,0 +1,75 @@
+package com.ecommerce.msa.order.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+// Feign 호출처럼 블로킹 I/O 를 하는 원격 호출 전용 실행기 (공용 ForkJoinPool 사용 방지)
+// Executor 빈으로 등록하면 스프링 부트의 applicationTaskExecutor 가 비활성화되므로 감싸서 노출
+@Component
+@Slf4j
+public class RemoteCallExecutor implements DisposableBean {
+
+    public enum Type {
+        BOUNDED,    // 크기가 제한된 전용 스레드 풀
+        VIRTUAL     // 작업마다 가상 스레드 (Java 21 이상)
+    }
+
+    private final ExecutorService executor;
+
+    public RemoteCallExecutor(
+            MeterRegistry meterRegistry,
+            @Value("${order.remote-call.executor.type:BOUNDED}") Type type,
+            @Value("${order.remote-call.executor.core-size:16}") int coreSize,
+            @Value("${order.remote-call.executor.max-size:64}") int maxSize,
+            @Value("${order.remote-call.executor.queue-capacity:256}") int queueCapacity) {
+        ExecutorService delegate = type == Type.VIRTUAL
+                ? newVirtualThreadExecutor()
+                : newBoundedExecutor(coreSize, maxSize, queueCapacity);
+        this.executor = ExecutorServiceMetrics.monitor(meterRegistry, delegate, "order.remote-call", List.of());
+        log.info("Remote call executor initialized: type={}", type);
+    }
+
+    public <T> CompletableFuture<T> supplyAsync(Supplier<T> supplier) {
+        return CompletableFuture.supplyAsync(supplier, executor);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    private static ExecutorService newBoundedExecutor(int coreSize, int maxSize, int queueCapacity) {
+        // 큐까지 가득 차면 호출한 요청 스레드에서 직접 실행해 자연스럽게 유입 속도를 늦춤
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                coreSize, Math.max(coreSize, maxSize), 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("remote-call-"),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    private static ExecutorService newVirtualThreadExecutor() {
+        // Java 17 로도 빌드되도록 리플렉션으로 조회하고, 지원하지 않는 런타임이면 기동 시점에 실패
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(
+                    "order.remote-call.executor.type=VIRTUAL 은 Java 21 이상에서만 사용할 수 있습니다", e);
+        }
+    }
+}
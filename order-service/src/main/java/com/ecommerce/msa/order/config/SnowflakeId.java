@@ -0,0 +1,15 @@
+package com.ecommerce.msa.order.config;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// 애플리케이션에서 시간순 64비트 ID 를 만들어 IDENTITY 와 달리 INSERT 배치가 가능하도록 함
+@IdGeneratorType(SnowflakeIdGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface SnowflakeId {
+}
@@ -0,0 +1,102 @@
+package com.ecommerce.msa.order.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+import org.hibernate.id.factory.spi.CustomIdGeneratorCreationContext;
+
+import java.lang.reflect.Member;
+import java.util.Map;
+
+// 41비트 시각(ms, 2024-01-01 기준) + 10비트 노드 + 12비트 순번 (노드당 ms 당 4096개)
+// 노드 ID 는 order.id.node-id(spring.jpa.properties 로 Hibernate 설정에 전달)로 지정하거나 SnowflakeNodeLease 가 DB 에서 임대
+// 둘 다 없으면 인스턴스끼리 같은 노드 ID 를 쓸 수 있으므로 기동을 실패시킴
+@Slf4j
+public class SnowflakeIdGenerator implements IdentifierGenerator {
+
+    private static final long serialVersionUID = 1L;
+
+    public static final String NODE_ID_SETTING = "order.id.node-id";
+
+    private static final long EPOCH = 1704067200000L;
+    private static final int NODE_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+    static final long MAX_NODE_ID = (1L << NODE_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    private static final long MAX_BACKWARD_MS = 10L;
+
+    private final long nodeId;
+    // 임대한 노드 ID 를 쓰는 경우에만 설정 (직접 지정한 노드 ID 는 null)
+    private final transient SnowflakeNodeLease lease;
+    private long lastTimestamp = -1L;
+    private long sequence;
+
+    public SnowflakeIdGenerator(SnowflakeId config, Member member, CustomIdGeneratorCreationContext context) {
+        Map<String, Object> settings = context.getServiceRegistry()
+                .getService(ConfigurationService.class)
+                .getSettings();
+        this.nodeId = resolveNodeId(settings.get(NODE_ID_SETTING));
+        this.lease = settings.get(SnowflakeNodeLease.LEASE_SETTING) instanceof SnowflakeNodeLease nodeLease ? nodeLease : null;
+        log.info("Snowflake id generator initialized: entity={}, nodeId={}, leased={}",
+                member.getDeclaringClass().getSimpleName(), nodeId, lease != null);
+    }
+
+    SnowflakeIdGenerator(long nodeId, SnowflakeNodeLease lease) {
+        this.nodeId = resolveNodeId(nodeId);
+        this.lease = lease;
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object object) {
+        return nextId();
+    }
+
+    synchronized long nextId() {
+        if (lease != null) {
+            lease.checkValid();
+        }
+        long timestamp = System.currentTimeMillis();
+        if (timestamp < lastTimestamp) {
+            // 시계가 조금 뒤로 간 경우에는 따라잡을 때까지 기다리고, 크게 어긋나면 중복 방지를 위해 실패
+            long backward = lastTimestamp - timestamp;
+            if (backward > MAX_BACKWARD_MS) {
+                throw new IllegalStateException("시스템 시계가 뒤로 이동해 ID 를 생성할 수 없습니다: " + backward + "ms");
+            }
+            timestamp = waitUntil(lastTimestamp);
+        }
+
+        if (timestamp == lastTimestamp) {
+            sequence = (sequence + 1) & SEQUENCE_MASK;
+            if (sequence == 0) {
+                // 같은 ms 의 순번을 모두 쓰면 다음 ms 까지 대기
+                timestamp = waitUntil(lastTimestamp + 1);
+            }
+        } else {
+            sequence = 0;
+        }
+        lastTimestamp = timestamp;
+
+        return ((timestamp - EPOCH) << (NODE_BITS + SEQUENCE_BITS)) | (nodeId << SEQUENCE_BITS) | sequence;
+    }
+
+    private static long waitUntil(long target) {
+        long timestamp = System.currentTimeMillis();
+        while (timestamp < target) {
+            Thread.onSpinWait();
+            timestamp = System.currentTimeMillis();
+        }
+        return timestamp;
+    }
+
+    static long resolveNodeId(Object setting) {
+        long configured = setting != null ? Long.parseLong(setting.toString().trim()) : -1L;
+        if (configured < 0) {
+            throw new IllegalStateException("Snowflake 노드 ID 가 없습니다: order.id.node-id(ORDER_ID_NODE_ID)를 지정하거나 노드 ID 임대를 켜세요");
+        }
+        if (configured > MAX_NODE_ID) {
+            throw new IllegalArgumentException("order.id.node-id 는 0~" + MAX_NODE_ID + " 범위여야 합니다: " + configured);
+        }
+        return configured;
+    }
+}
@@ -0,0 +1,149 @@
+package com.ecommerce.msa.order.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+// order.id.node-id 를 지정하지 않은 인스턴스에 Snowflake 노드 ID 를 DB 에서 임대
+// 임대 행의 만료 시각은 DB 시계로 관리하고, 인스턴스는 갱신에 성공한 시점부터 TTL 동안만 ID 를 생성
+// 갱신하지 못한 채 TTL 이 지나면 ID 생성을 멈추므로, 만료된 노드 ID 를 다른 인스턴스가 가져가도 겹치지 않음
+// EntityManagerFactory 생성 전에 Hibernate 설정으로 노드 ID 와 임대 객체를 넘김
+@Component
+@Slf4j
+public class SnowflakeNodeLease implements HibernatePropertiesCustomizer, DisposableBean {
+
+    public static final String LEASE_SETTING = "order.id.node-lease";
+
+    private static final int CANDIDATES = 32;
+
+    private static final String CREATE_TABLE_SQL = """
+            CREATE TABLE IF NOT EXISTS snowflake_node_leases (
+                node_id INTEGER PRIMARY KEY,
+                owner VARCHAR(200) NOT NULL,
+                expires_at TIMESTAMP NOT NULL
+            )
+            """;
+
+    private static final String FREE_NODES_SQL = """
+            SELECT n FROM generate_series(0, ?) AS n
+            WHERE NOT EXISTS (SELECT 1 FROM snowflake_node_leases l WHERE l.node_id = n AND l.expires_at > now())
+            ORDER BY n
+            LIMIT ?
+            """;
+
+    // 만료된 행만 가져올 수 있으므로 동시에 기동한 인스턴스 중 하나만 성공
+    private static final String ACQUIRE_SQL = """
+            INSERT INTO snowflake_node_leases (node_id, owner, expires_at)
+            VALUES (?, ?, now() + ? * INTERVAL '1 millisecond')
+            ON CONFLICT (node_id) DO UPDATE SET owner = EXCLUDED.owner, expires_at = EXCLUDED.expires_at
+            WHERE snowflake_node_leases.expires_at <= now()
+            RETURNING node_id
+            """;
+
+    private static final String RENEW_SQL = """
+            UPDATE snowflake_node_leases SET expires_at = now() + ? * INTERVAL '1 millisecond'
+            WHERE node_id = ? AND owner = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+    private final long ttlMs;
+    private final String owner;
+
+    private volatile int nodeId = -1;
+    private volatile long validUntilNanos;
+
+    public SnowflakeNodeLease(JdbcTemplate jdbcTemplate,
+                              @Value("${order.id.node-lease.enabled:true}") boolean enabled,
+                              @Value("${order.id.node-lease.ttl-ms:60000}") long ttlMs,
+                              @Value("${eureka.instance.instance-id:order-service}") String instanceId) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+        this.ttlMs = ttlMs;
+        // 같은 인스턴스 ID 로 재시작해도 이전 프로세스의 임대를 이어받지 않도록 구분
+        this.owner = instanceId + "/" + UUID.randomUUID();
+    }
+
+    @Override
+    public void customize(Map<String, Object> hibernateProperties) {
+        Object configured = hibernateProperties.get(SnowflakeIdGenerator.NODE_ID_SETTING);
+        if (!enabled || (configured != null && Long.parseLong(configured.toString().trim()) >= 0)) {
+            return;
+        }
+        hibernateProperties.put(SnowflakeIdGenerator.NODE_ID_SETTING, Integer.toString(acquire()));
+        hibernateProperties.put(LEASE_SETTING, this);
+    }
+
+    synchronized int acquire() {
+        if (nodeId >= 0) {
+            return nodeId;
+        }
+        jdbcTemplate.execute(CREATE_TABLE_SQL);
+        List<Integer> candidates = jdbcTemplate.queryForList(FREE_NODES_SQL, Integer.class,
+                SnowflakeIdGenerator.MAX_NODE_ID, CANDIDATES);
+        for (Integer candidate : candidates) {
+            long started = System.nanoTime();
+            List<Integer> acquired = jdbcTemplate.queryForList(ACQUIRE_SQL, Integer.class, candidate, owner, ttlMs);
+            if (!acquired.isEmpty()) {
+                validUntilNanos = started + TimeUnit.MILLISECONDS.toNanos(ttlMs);
+                nodeId = candidate;
+                log.info("Snowflake node id leased: nodeId={}, owner={}, ttlMs={}", nodeId, owner, ttlMs);
+                return nodeId;
+            }
+        }
+        throw new IllegalStateException("임대할 수 있는 Snowflake 노드 ID 가 없습니다 (order.id.node-id 를 직접 지정하세요)");
+    }
+
+    @Scheduled(fixedDelayString = "${order.id.node-lease.renew-interval-ms:10000}")
+    public void renew() {
+        if (nodeId < 0) {
+            return;
+        }
+        long started = System.nanoTime();
+        try {
+            if (jdbcTemplate.update(RENEW_SQL, ttlMs, nodeId, owner) == 1) {
+                validUntilNanos = started + TimeUnit.MILLISECONDS.toNanos(ttlMs);
+            } else {
+                // 다른 인스턴스가 가져간 노드 ID 로는 더 이상 생성하지 않음
+                validUntilNanos = started;
+                log.error("Snowflake node id lease lost: nodeId={}, owner={}", nodeId, owner);
+            }
+        } catch (RuntimeException e) {
+            // 남은 TTL 동안은 계속 생성하고 다음 주기에 다시 갱신
+            log.warn("Failed to renew snowflake node id lease: nodeId={}", nodeId, e);
+        }
+    }
+
+    // ID 생성 직전 호출, 임대가 유효하지 않으면 실패
+    void checkValid() {
+        if (System.nanoTime() - validUntilNanos >= 0) {
+            throw new IllegalStateException("Snowflake 노드 ID 임대가 만료되어 ID 를 생성할 수 없습니다: nodeId=" + nodeId);
+        }
+    }
+
+    public int getNodeId() {
+        return nodeId;
+    }
+
+    @Override
+    public void destroy() {
+        if (nodeId < 0) {
+            return;
+        }
+        try {
+            jdbcTemplate.update("DELETE FROM snowflake_node_leases WHERE node_id = ? AND owner = ?", nodeId, owner);
+            log.info("Snowflake node id lease released: nodeId={}", nodeId);
+        } catch (RuntimeException e) {
+            log.warn("Failed to release snowflake node id lease: nodeId={}", nodeId, e);
+        }
+    }
+}
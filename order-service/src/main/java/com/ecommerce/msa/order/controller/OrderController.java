@@ -1,28 +1,68 @@
 package com.ecommerce.msa.order.controller;
 
+import com.ecommerce.msa.order.dto.CursorPage;
 import com.ecommerce.msa.order.dto.OrderRequest;
 import com.ecommerce.msa.order.dto.OrderResponse;
 import com.ecommerce.msa.order.entity.Order;
+import com.ecommerce.msa.order.service.BulkOrderStatusService;
+import com.ecommerce.msa.order.service.OrderExportService;
+import com.ecommerce.msa.order.service.OrderIdempotencyService;
 import com.ecommerce.msa.order.service.OrderService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
 
 @RestController
 @RequestMapping("/orders")
 @RequiredArgsConstructor
 public class OrderController {
 
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    private static final String IDEMPOTENT_REPLAYED_HEADER = "Idempotent-Replayed";
+
     private final OrderService orderService;
+    private final OrderIdempotencyService orderIdempotencyService;
+    private final OrderExportService orderExportService;
+    private final BulkOrderStatusService bulkOrderStatusService;
 
     @PostMapping
     public ResponseEntity<OrderResponse.OrderInfo> createOrder(
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
             @Valid @RequestBody OrderRequest.Create request) {
-        OrderResponse.OrderInfo orderInfo = orderService.createOrder(request);
-        return ResponseEntity.ok(orderInfo);
+        if (idempotencyKey == null) {
+            OrderResponse.OrderInfo orderInfo = orderService.createOrder(request);
+            return ResponseEntity.ok(orderInfo);
+        }
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > 100) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        OrderIdempotencyService.Result result = orderIdempotencyService.createOrder(idempotencyKey, request);
+        return ResponseEntity.ok()
+                .header(IDEMPOTENT_REPLAYED_HEADER, String.valueOf(result.replayed()))
+                .body(result.orderInfo());
+    }
+
+    @PostMapping("/async")
+    public ResponseEntity<OrderResponse.OrderInfo> acceptOrder(
+            @Valid @RequestBody OrderRequest.Create request) {
+        orderService.precheckIntakeStock(request);
+        OrderResponse.OrderInfo orderInfo = orderService.acceptOrder(request);
+        return ResponseEntity.accepted()
+                .location(URI.create("/orders/" + orderInfo.getOrderId()))
+                .body(orderInfo);
     }
 
     @GetMapping("/{orderId}")
@@ -52,6 +92,79 @@ public class OrderController {
         return ResponseEntity.ok(orders);
     }
 
+    @GetMapping("/user/{userId}/slice")
+    public ResponseEntity<Slice<OrderResponse.OrderInfo>> getOrdersSliceByUserId(
+            @PathVariable Long userId, Pageable pageable) {
+        Slice<OrderResponse.OrderInfo> orders = orderService.getOrdersSliceByUserId(userId, pageable);
+        return ResponseEntity.ok(orders);
+    }
+
+    @GetMapping("/user/{userId}/cursor")
+    public ResponseEntity<CursorPage<OrderResponse.OrderInfo>> getOrdersByUserIdCursor(
+            @PathVariable Long userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        CursorPage<OrderResponse.OrderInfo> orders = orderService.getOrdersByUserIdCursor(userId, cursor, size);
+        return ResponseEntity.ok(orders);
+    }
+
+    @GetMapping("/status/{status}/slice")
+    public ResponseEntity<Slice<OrderResponse.OrderInfo>> getOrdersSliceByStatus(
+            @PathVariable String status, Pageable pageable) {
+        Order.OrderStatus orderStatus;
+        try {
+            orderStatus = Order.OrderStatus.valueOf(status.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        Slice<OrderResponse.OrderInfo> orders = orderService.getOrdersSliceByStatus(orderStatus, pageable);
+        return ResponseEntity.ok(orders);
+    }
+
+    @GetMapping("/status/{status}/cursor")
+    public ResponseEntity<CursorPage<OrderResponse.OrderInfo>> getOrdersByStatusCursor(
+            @PathVariable String status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        Order.OrderStatus orderStatus;
+        try {
+            orderStatus = Order.OrderStatus.valueOf(status.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        CursorPage<OrderResponse.OrderInfo> orders = orderService.getOrdersByStatusCursor(orderStatus, cursor, size);
+        return ResponseEntity.ok(orders);
+    }
+
+    // 기간 [from, to) 의 주문을 NDJSON 또는 CSV 로 스트리밍
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportOrders(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "ndjson") String format) {
+        OrderExportService.Format exportFormat;
+        try {
+            exportFormat = OrderExportService.Format.valueOf(format.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        if (!from.isBefore(to)) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        MediaType mediaType = exportFormat == OrderExportService.Format.CSV
+                ? new MediaType("text", "csv", StandardCharsets.UTF_8)
+                : new MediaType("application", "x-ndjson", StandardCharsets.UTF_8);
+        StreamingResponseBody body = outputStream -> orderExportService.export(from, to, exportFormat, outputStream);
+        return ResponseEntity.ok()
+                .contentType(mediaType)
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"orders." + exportFormat.name().toLowerCase() + "\"")
+                .body(body);
+    }
+
     @PutMapping("/{orderId}/status")
     public ResponseEntity<OrderResponse.OrderInfo> updateOrderStatus(
             @PathVariable Long orderId,
@@ -60,6 +173,25 @@ public class OrderController {
         return ResponseEntity.ok(orderInfo);
     }
 
+    // 여러 주문을 한 번에 같은 상태로 변경하고 주문별 결과를 반환 (취소는 개별 취소 API 사용)
+    @PutMapping("/bulk/status")
+    public ResponseEntity<OrderResponse.BulkStatusResult> updateOrderStatuses(
+            @Valid @RequestBody OrderRequest.BulkStatusUpdate request) {
+        Order.OrderStatus orderStatus;
+        try {
+            orderStatus = Order.OrderStatus.valueOf(request.getStatus().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        if (orderStatus == Order.OrderStatus.PENDING || orderStatus == Order.OrderStatus.CANCELLED) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        OrderResponse.BulkStatusResult result =
+                bulkOrderStatusService.updateStatuses(request.getOrderIds(), orderStatus);
+        return ResponseEntity.ok(result);
+    }
+
     @DeleteMapping("/{orderId}")
     public ResponseEntity<Void> cancelOrder(@PathVariable Long orderId) {
         orderService.cancelOrder(orderId);
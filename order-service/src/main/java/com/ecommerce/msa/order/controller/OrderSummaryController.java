@@ -0,0 +1,43 @@
+package com.ecommerce.msa.order.controller;
+
+import com.ecommerce.msa.order.dto.CursorPage;
+import com.ecommerce.msa.order.dto.OrderResponse;
+import com.ecommerce.msa.order.service.OrderSummaryRebuilder;
+import com.ecommerce.msa.order.service.OrderSummaryService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/orders/summaries")
+@RequiredArgsConstructor
+public class OrderSummaryController {
+
+    private final OrderSummaryService orderSummaryService;
+    private final OrderSummaryRebuilder orderSummaryRebuilder;
+
+    @GetMapping("/{orderId}")
+    public ResponseEntity<OrderResponse.OrderSummaryInfo> getSummary(@PathVariable Long orderId) {
+        OrderResponse.OrderSummaryInfo summary = orderSummaryService.getSummary(orderId);
+        return ResponseEntity.ok(summary);
+    }
+
+    @GetMapping("/user/{userId}")
+    public ResponseEntity<CursorPage<OrderResponse.OrderSummaryInfo>> getSummariesByUserId(
+            @PathVariable Long userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        CursorPage<OrderResponse.OrderSummaryInfo> summaries =
+                orderSummaryService.getSummariesByUserId(userId, cursor, size);
+        return ResponseEntity.ok(summaries);
+    }
+
+    @PostMapping("/rebuild")
+    public ResponseEntity<Void> rebuild() {
+        if (!orderSummaryRebuilder.rebuildAsync()) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+        return ResponseEntity.accepted().build();
+    }
+}
@@ -0,0 +1,61 @@
+package com.ecommerce.msa.order.controller;
+
+import com.ecommerce.msa.order.dto.SalesResponse;
+import com.ecommerce.msa.order.entity.SalesRollup;
+import com.ecommerce.msa.order.service.SalesRollupService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@RestController
+@RequestMapping("/orders/analytics")
+@RequiredArgsConstructor
+public class SalesAnalyticsController {
+
+    private final SalesRollupService salesRollupService;
+
+    // 구간 시작 시각이 [from, to) 에 속하는 시간/일 단위 상품별 매출
+    @GetMapping("/sales")
+    public ResponseEntity<List<SalesResponse.BucketInfo>> getSales(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "HOUR") String granularity,
+            @RequestParam(required = false) Long productId) {
+        SalesRollup.Granularity rollupGranularity = parseGranularity(granularity);
+        if (rollupGranularity == null || !from.isBefore(to)) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        List<SalesResponse.BucketInfo> buckets =
+                salesRollupService.getBuckets(rollupGranularity, productId, from, to);
+        return ResponseEntity.ok(buckets);
+    }
+
+    // 기간 전체의 상품별 합계 (긴 기간은 DAY 집계로 조회)
+    @GetMapping("/sales/products")
+    public ResponseEntity<List<SalesResponse.ProductTotal>> getProductTotals(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "DAY") String granularity) {
+        SalesRollup.Granularity rollupGranularity = parseGranularity(granularity);
+        if (rollupGranularity == null || !from.isBefore(to)) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        List<SalesResponse.ProductTotal> totals =
+                salesRollupService.getProductTotals(rollupGranularity, from, to);
+        return ResponseEntity.ok(totals);
+    }
+
+    private SalesRollup.Granularity parseGranularity(String granularity) {
+        try {
+            return SalesRollup.Granularity.valueOf(granularity.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
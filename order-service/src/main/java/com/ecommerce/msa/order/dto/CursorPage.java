@@ -0,0 +1,34 @@
+package com.ecommerce.msa.order.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.function.Function;
+
+// 키셋 페이지네이션 응답: 전체 건수 대신 다음 페이지를 여는 불투명 커서를 반환
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPage<T> {
+    private List<T> content;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor;
+
+    // limit + 1 건을 조회한 결과로 페이지를 만듦: 한 건이 더 있으면 COUNT 없이 다음 페이지가 있다고 판단
+    public static <E, T> CursorPage<T> of(List<E> rows, int limit,
+                                          Function<List<E>, List<T>> mapper, Function<E, String> cursorOf) {
+        boolean hasNext = rows.size() > limit;
+        List<E> content = hasNext ? rows.subList(0, limit) : rows;
+        return CursorPage.<T>builder()
+                .content(mapper.apply(content))
+                .size(content.size())
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? cursorOf.apply(content.get(content.size() - 1)) : null)
+                .build();
+    }
+}
@@ -0,0 +1,36 @@
+package com.ecommerce.msa.order.dto;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+// (createdAt, orderId) 키셋 페이지네이션용 불투명 커서 (주문/주문 요약 조회 공통)
+public record OrderCursor(LocalDateTime createdAt, Long orderId) {
+
+    public static final int MAX_PAGE_SIZE = 100;
+
+    public static int pageSize(int size) {
+        return Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+    }
+
+    public String encode() {
+        String value = createdAt + "|" + orderId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static OrderCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|");
+            return new OrderCursor(LocalDateTime.parse(parts[0]), Long.valueOf(parts[1]));
+        } catch (RuntimeException e) {
+            // 클라이언트가 보낸 값의 문제이므로 500 이 아닌 400 으로 응답
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "유효하지 않은 커서입니다");
+        }
+    }
+}
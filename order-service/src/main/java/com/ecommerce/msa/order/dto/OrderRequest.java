@@ -5,6 +5,7 @@ import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
 import lombok.Data;
 
 import java.util.List;
@@ -57,4 +58,14 @@ public class OrderRequest {
         @NotNull(message = "주문 상태는 필수입니다")
         private String status;  // CONFIRMED, PROCESSING, SHIPPED, DELIVERED, CANCELLED
     }
+
+    @Data
+    public static class BulkStatusUpdate {
+        @NotNull(message = "주문 상태는 필수입니다")
+        private String status;  // CONFIRMED, PROCESSING, SHIPPED, DELIVERED
+
+        @NotEmpty(message = "주문 ID 목록은 필수입니다")
+        @Size(max = 10000, message = "한 번에 변경할 수 있는 주문은 10000건 이하입니다")
+        private List<@NotNull Long> orderIds;
+    }
 }
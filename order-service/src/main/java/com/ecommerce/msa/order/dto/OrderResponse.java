@@ -3,36 +3,53 @@ package com.ecommerce.msa.order.dto;
 import com.ecommerce.msa.order.entity.Order;
 import com.ecommerce.msa.order.entity.OrderItem;
 import com.ecommerce.msa.order.entity.ShippingAddress;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 
+// 주문/주문 항목 ID 는 2^53 을 넘는 Snowflake ID 라 JavaScript 숫자로 읽으면 값이 바뀌므로 문자열로 직렬화
 public class OrderResponse {
 
     @Data
     @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
     public static class OrderInfo {
+        @JsonSerialize(using = ToStringSerializer.class)
         private Long orderId;
         private Long userId;
         private BigDecimal totalAmount;
         private Order.OrderStatus status;
+        private Order.IntakeStatus intakeStatus;
+        private String intakeFailureReason;
         private ShippingAddressInfo shippingAddress;
         private List<OrderItemInfo> orderItems;
         private LocalDateTime createdAt;
         private LocalDateTime updatedAt;
 
         public static OrderInfo from(Order order) {
+            return from(order, order.getOrderItems());
+        }
+
+        // 주문 항목을 미리 일괄 조회한 경우 지연 로딩 컬렉션을 건드리지 않도록 항목을 직접 전달
+        public static OrderInfo from(Order order, List<OrderItem> orderItems) {
             return OrderInfo.builder()
                     .orderId(order.getOrderId())
                     .userId(order.getUserId())
                     .totalAmount(order.getTotalAmount())
                     .status(order.getStatus())
+                    .intakeStatus(order.getIntakeStatus())
+                    .intakeFailureReason(order.getIntakeFailureReason())
                     .shippingAddress(ShippingAddressInfo.from(order.getShippingAddress()))
-                    .orderItems(order.getOrderItems().stream()
+                    .orderItems(orderItems.stream()
                             .map(OrderItemInfo::from)
                             .collect(Collectors.toList()))
                     .createdAt(order.getCreatedAt())
@@ -43,7 +60,10 @@ public class OrderResponse {
 
     @Data
     @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
     public static class OrderItemInfo {
+        @JsonSerialize(using = ToStringSerializer.class)
         private Long orderItemId;
         private Long productId;
         private String productName;
@@ -65,6 +85,8 @@ public class OrderResponse {
 
     @Data
     @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
     public static class ShippingAddressInfo {
         private String zipCode;
         private String address;
@@ -85,4 +107,64 @@ public class OrderResponse {
                     .build();
         }
     }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class OrderSummaryInfo {
+        @JsonSerialize(using = ToStringSerializer.class)
+        private Long orderId;
+        private Long userId;
+        private String status;
+        private BigDecimal totalAmount;
+        private Integer itemCount;
+        private Integer totalQuantity;
+        private List<OrderSummaryItem> items;
+        private LocalDateTime createdAt;
+        private LocalDateTime updatedAt;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class OrderSummaryItem {
+        private Long productId;
+        private String productName;
+        private Integer quantity;
+        private BigDecimal price;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class BulkStatusResult {
+        private Order.OrderStatus status;
+        private int requested;
+        private int updated;
+        private int unchanged;
+        private int failed;
+        private List<BulkStatusItem> results;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class BulkStatusItem {
+        @JsonSerialize(using = ToStringSerializer.class)
+        private Long orderId;
+        private BulkStatusOutcome outcome;
+        private Order.OrderStatus previousStatus;
+        private String reason;
+    }
+
+    public enum BulkStatusOutcome {
+        UPDATED,        // 상태 변경됨
+        UNCHANGED,      // 이미 요청한 상태
+        NOT_FOUND,      // 주문 없음
+        REJECTED        // 허용되지 않는 전이
+    }
 }
@@ -1,5 +1,6 @@
 package com.ecommerce.msa.order.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.Builder;
 import lombok.Data;
 
@@ -8,6 +9,9 @@ import java.math.BigDecimal;
 @Data
 @Builder
 public class ProductResponse {
+
+    private static final String ACTIVE = "ACTIVE";
+
     private Long productId;
     private String name;
     private String description;
@@ -15,8 +19,19 @@ public class ProductResponse {
     private Integer stockQuantity;
     private String category;
     private String brand;
+    // product-service 의 상품 응답은 available 대신 status(ACTIVE | INACTIVE | OUT_OF_STOCK)를 보냄
+    private String status;
     private boolean available;
 
+    // 장애 대체 응답 여부 (판매 불가 상품과 구분)
+    @JsonIgnore
+    private boolean fallback;
+
+    // status 가 있으면 ACTIVE 여부로 판단하고, 없으면(장애 대체 응답 등) available 값을 사용
+    public boolean isAvailable() {
+        return status != null ? ACTIVE.equals(status) : available;
+    }
+
     @Data
     @Builder
     public static class StockInfo {
@@ -24,5 +39,12 @@ public class ProductResponse {
         private String name;
         private Integer stockQuantity;
         private boolean available;
+        // 판매 가능 수량 = 재고 - 홀드/예약 수량 (product-service 가 계산)
+        private Integer reservedQuantity;
+        private Integer availableQuantity;
+
+        // 장애 대체 응답 여부 (재고 없음과 구분)
+        @JsonIgnore
+        private boolean fallback;
     }
 }
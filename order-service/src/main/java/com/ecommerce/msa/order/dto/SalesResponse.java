@@ -0,0 +1,48 @@
+package com.ecommerce.msa.order.dto;
+
+import com.ecommerce.msa.order.entity.SalesRollup;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public class SalesResponse {
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class BucketInfo {
+        private SalesRollup.Granularity granularity;
+        private LocalDateTime bucketStart;
+        private Long productId;
+        private BigDecimal revenue;
+        private Long orderCount;
+        private Long unitsSold;
+
+        public static BucketInfo from(SalesRollup rollup) {
+            return BucketInfo.builder()
+                    .granularity(rollup.getGranularity())
+                    .bucketStart(rollup.getBucketStart())
+                    .productId(rollup.getProductId())
+                    .revenue(rollup.getRevenue())
+                    .orderCount(rollup.getOrderCount())
+                    .unitsSold(rollup.getUnitsSold())
+                    .build();
+        }
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ProductTotal {
+        private Long productId;
+        private BigDecimal revenue;
+        private Long orderCount;
+        private Long unitsSold;
+    }
+}
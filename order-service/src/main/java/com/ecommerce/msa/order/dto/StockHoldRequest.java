@@ -0,0 +1,18 @@
+package com.ecommerce.msa.order.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StockHoldRequest {
+    private String reservationId;
+    private List<StockReservationRequest.Item> items;
+    private Integer ttlSeconds;
+}
@@ -0,0 +1,21 @@
+package com.ecommerce.msa.order.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StockHoldResponse {
+    private String reservationId;
+    private boolean held;
+    private String status;
+    private LocalDateTime expiresAt;
+    private List<StockReservationResponse.Line> items;
+}
@@ -0,0 +1,30 @@
+package com.ecommerce.msa.order.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StockReservationResponse {
+    private boolean reserved;
+    private List<Line> items;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Line {
+        private Long productId;
+        private String name;
+        private Integer requestedQuantity;
+        private Integer stockQuantity;
+        private boolean reserved;
+        private String reason;
+    }
+}
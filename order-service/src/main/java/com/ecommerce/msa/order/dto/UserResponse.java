@@ -1,5 +1,6 @@
 package com.ecommerce.msa.order.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.Builder;
 import lombok.Data;
 
@@ -11,4 +12,8 @@ public class UserResponse {
     private String name;
     private String phoneNumber;
     private boolean available;
+
+    // 장애 대체 응답 여부 (사용자 상태 캐시에 보관하지 않음)
+    @JsonIgnore
+    private boolean fallback;
 }
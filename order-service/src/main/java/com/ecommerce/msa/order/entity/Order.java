@@ -1,5 +1,6 @@
 package com.ecommerce.msa.order.entity;
 
+import com.ecommerce.msa.order.config.SnowflakeId;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -15,7 +16,11 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "orders")
+@Table(name = "orders", indexes = {
+        @Index(name = "idx_orders_user_id_created_at", columnList = "user_id, created_at, order_id"),
+        @Index(name = "idx_orders_status_created_at", columnList = "status, created_at, order_id"),
+        @Index(name = "idx_orders_created_at", columnList = "created_at, order_id")
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -24,7 +29,7 @@ import java.util.List;
 public class Order {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     private Long orderId;
 
     @Column(nullable = false)
@@ -40,6 +45,18 @@ public class Order {
     @Embedded
     private ShippingAddress shippingAddress;
 
+    // 상품 서비스의 재고 홀드 ID (홀드 없이 바로 차감한 주문은 null)
+    @Column(name = "stock_reservation_id", length = 64)
+    private String stockReservationId;
+
+    // 비동기 접수 주문의 처리 상태 (동기 주문은 null)
+    @Enumerated(EnumType.STRING)
+    @Column(name = "intake_status", length = 20)
+    private IntakeStatus intakeStatus;
+
+    @Column(name = "intake_failure_reason", length = 500)
+    private String intakeFailureReason;
+
     @OneToMany(mappedBy = "order", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     @Builder.Default
     private List<OrderItem> orderItems = new ArrayList<>();
@@ -58,7 +75,24 @@ public class Order {
         PROCESSING,     // 처리 중
         SHIPPED,        // 배송 중
         DELIVERED,      // 배송 완료
-        CANCELLED       // 주문 취소
+        CANCELLED;      // 주문 취소
+
+        // 앞 단계로 되돌리거나 종료 상태(배송 완료, 취소)에서 바꿀 수 없고, 배송이 시작되면 취소할 수 없음
+        public boolean canTransitionTo(OrderStatus next) {
+            if (this == DELIVERED || this == CANCELLED) {
+                return false;
+            }
+            if (next == CANCELLED) {
+                return this != SHIPPED;
+            }
+            return next.ordinal() > ordinal();
+        }
+    }
+
+    public enum IntakeStatus {
+        ACCEPTED,       // 접수됨, 처리 대기
+        COMPLETED,      // 재고 예약까지 완료
+        REJECTED        // 검증 또는 재고 예약 실패
     }
 
     public void addOrderItem(OrderItem orderItem) {
@@ -70,6 +104,12 @@ public class Order {
         this.status = status;
     }
 
+    public void rejectIntake(String reason) {
+        this.intakeStatus = IntakeStatus.REJECTED;
+        this.intakeFailureReason = reason != null && reason.length() > 500 ? reason.substring(0, 500) : reason;
+        this.status = OrderStatus.CANCELLED;
+    }
+
     public void calculateTotalAmount() {
         this.totalAmount = orderItems.stream()
                 .map(item -> item.getPrice().multiply(BigDecimal.valueOf(item.getQuantity())))
@@ -1,5 +1,6 @@
 package com.ecommerce.msa.order.entity;
 
+import com.ecommerce.msa.order.config.SnowflakeId;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -9,7 +10,9 @@ import lombok.NoArgsConstructor;
 import java.math.BigDecimal;
 
 @Entity
-@Table(name = "order_items")
+@Table(name = "order_items", indexes = {
+        @Index(name = "idx_order_items_order_id", columnList = "order_id")
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -17,7 +20,7 @@ import java.math.BigDecimal;
 public class OrderItem {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     private Long orderItemId;
 
     @ManyToOne(fetch = FetchType.LAZY)
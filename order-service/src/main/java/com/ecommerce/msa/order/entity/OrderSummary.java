@@ -0,0 +1,53 @@
+package com.ecommerce.msa.order.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+// order.events 로부터 갱신되는 조회 전용 주문 요약 (orders/order_items 조인 없이 한 행으로 조회)
+@Entity
+@Table(name = "order_summaries", indexes = {
+        @Index(name = "idx_order_summaries_user_id_created_at", columnList = "user_id, order_created_at, order_id")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderSummary {
+
+    @Id
+    @Column(name = "order_id")
+    private Long orderId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(nullable = false, length = 20)
+    private String status;
+
+    @Column(precision = 10, scale = 2)
+    private BigDecimal totalAmount;
+
+    private Integer itemCount;
+
+    private Integer totalQuantity;
+
+    // 주문 항목 목록 (JSON)
+    @Column(columnDefinition = "TEXT")
+    private String items;
+
+    @Column(name = "order_created_at")
+    private LocalDateTime orderCreatedAt;
+
+    @Column(length = 50)
+    private String lastEventType;
+
+    // 마지막으로 반영한 이벤트 시각, 이보다 오래된 이벤트는 무시
+    @Column(name = "last_event_time")
+    private LocalDateTime lastEventTime;
+}
@@ -0,0 +1,58 @@
+package com.ecommerce.msa.order.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+// 상품별 시간/일 단위 매출 집계 (주문 생성 시 더하고 취소 시 같은 구간에서 뺌)
+@Entity
+@Table(name = "sales_rollups",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_sales_rollups_bucket_product",
+                        columnNames = {"granularity", "bucket_start", "product_id"})
+        },
+        indexes = {
+                @Index(name = "idx_sales_rollups_product_bucket", columnList = "product_id, granularity, bucket_start")
+        })
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SalesRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private Granularity granularity;
+
+    // 구간 시작 시각 (주문 생성 시각을 시/일 단위로 절삭)
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDateTime bucketStart;
+
+    @Column(name = "product_id", nullable = false)
+    private Long productId;
+
+    @Column(nullable = false, precision = 19, scale = 2)
+    private BigDecimal revenue;
+
+    @Column(name = "order_count", nullable = false)
+    private Long orderCount;
+
+    @Column(name = "units_sold", nullable = false)
+    private Long unitsSold;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    public enum Granularity {
+        HOUR, DAY
+    }
+}
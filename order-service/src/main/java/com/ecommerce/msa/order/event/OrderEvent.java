@@ -1,7 +1,9 @@
 package com.ecommerce.msa.order.event;
 
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -9,6 +11,8 @@ import java.util.List;
 
 @Data
 @Builder
+@NoArgsConstructor
+@AllArgsConstructor
 public class OrderEvent {
     private String eventType; // ORDER_CREATED, ORDER_CONFIRMED, ORDER_CANCELLED
     private Long orderId;
@@ -16,10 +20,13 @@ public class OrderEvent {
     private BigDecimal totalAmount;
     private String orderStatus;
     private List<OrderItemEvent> orderItems;
+    private LocalDateTime orderCreatedAt;
     private LocalDateTime eventTime;
 
     @Data
     @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
     public static class OrderItemEvent {
         private Long productId;
         private String productName;
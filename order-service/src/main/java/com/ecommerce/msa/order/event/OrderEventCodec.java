@@ -0,0 +1,281 @@
+package com.ecommerce.msa.order.event;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+// OrderEvent 의 버전 있는 바이너리 인코딩
+// [MAGIC][VERSION][필드 존재 비트마스크][필드...], 정수는 zigzag varint, 금액은 scale + unscaled 값, 시각은 epoch 초 + 나노초
+// 첫 바이트 MAGIC(0xC1)은 UTF-8/JSON 에 나타날 수 없어 JSON 메시지와 구분됨
+// 필드를 추가할 때는 VERSION 을 올리고 이전 버전의 디코딩을 유지
+public final class OrderEventCodec {
+
+    public static final byte MAGIC = (byte) 0xC1;
+    public static final byte VERSION = 1;
+
+    private static final int EVENT_TYPE = 1;
+    private static final int ORDER_ID = 1 << 1;
+    private static final int USER_ID = 1 << 2;
+    private static final int TOTAL_AMOUNT = 1 << 3;
+    private static final int ORDER_STATUS = 1 << 4;
+    private static final int ORDER_ITEMS = 1 << 5;
+    private static final int ORDER_CREATED_AT = 1 << 6;
+    private static final int EVENT_TIME = 1 << 7;
+
+    private static final int ITEM_PRODUCT_ID = 1;
+    private static final int ITEM_PRODUCT_NAME = 1 << 1;
+    private static final int ITEM_QUANTITY = 1 << 2;
+    private static final int ITEM_PRICE = 1 << 3;
+
+    private OrderEventCodec() {
+    }
+
+    public static boolean isBinary(byte[] data) {
+        return data != null && data.length >= 2 && data[0] == MAGIC;
+    }
+
+    public static byte[] encode(OrderEvent event) {
+        Writer writer = new Writer();
+        writer.buffer.write(MAGIC);
+        writer.buffer.write(VERSION);
+
+        int mask = (event.getEventType() != null ? EVENT_TYPE : 0)
+                | (event.getOrderId() != null ? ORDER_ID : 0)
+                | (event.getUserId() != null ? USER_ID : 0)
+                | (event.getTotalAmount() != null ? TOTAL_AMOUNT : 0)
+                | (event.getOrderStatus() != null ? ORDER_STATUS : 0)
+                | (event.getOrderItems() != null ? ORDER_ITEMS : 0)
+                | (event.getOrderCreatedAt() != null ? ORDER_CREATED_AT : 0)
+                | (event.getEventTime() != null ? EVENT_TIME : 0);
+        writer.writeVarLong(mask);
+
+        if (event.getEventType() != null) {
+            writer.writeString(event.getEventType());
+        }
+        if (event.getOrderId() != null) {
+            writer.writeZigZag(event.getOrderId());
+        }
+        if (event.getUserId() != null) {
+            writer.writeZigZag(event.getUserId());
+        }
+        if (event.getTotalAmount() != null) {
+            writer.writeDecimal(event.getTotalAmount());
+        }
+        if (event.getOrderStatus() != null) {
+            writer.writeString(event.getOrderStatus());
+        }
+        if (event.getOrderItems() != null) {
+            writer.writeVarLong(event.getOrderItems().size());
+            for (OrderEvent.OrderItemEvent item : event.getOrderItems()) {
+                encodeItem(writer, item);
+            }
+        }
+        if (event.getOrderCreatedAt() != null) {
+            writer.writeDateTime(event.getOrderCreatedAt());
+        }
+        if (event.getEventTime() != null) {
+            writer.writeDateTime(event.getEventTime());
+        }
+        return writer.buffer.toByteArray();
+    }
+
+    public static OrderEvent decode(byte[] data) {
+        if (!isBinary(data)) {
+            throw new IllegalArgumentException("바이너리 OrderEvent 형식이 아닙니다");
+        }
+        if (data[1] != VERSION) {
+            throw new IllegalArgumentException("지원하지 않는 OrderEvent 버전입니다: " + data[1]);
+        }
+
+        Reader reader = new Reader(data, 2);
+        int mask = (int) reader.readVarLong();
+        OrderEvent event = new OrderEvent();
+        if ((mask & EVENT_TYPE) != 0) {
+            event.setEventType(reader.readString());
+        }
+        if ((mask & ORDER_ID) != 0) {
+            event.setOrderId(reader.readZigZag());
+        }
+        if ((mask & USER_ID) != 0) {
+            event.setUserId(reader.readZigZag());
+        }
+        if ((mask & TOTAL_AMOUNT) != 0) {
+            event.setTotalAmount(reader.readDecimal());
+        }
+        if ((mask & ORDER_STATUS) != 0) {
+            event.setOrderStatus(reader.readString());
+        }
+        if ((mask & ORDER_ITEMS) != 0) {
+            int size = (int) reader.readVarLong();
+            List<OrderEvent.OrderItemEvent> items = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                items.add(decodeItem(reader));
+            }
+            event.setOrderItems(items);
+        }
+        if ((mask & ORDER_CREATED_AT) != 0) {
+            event.setOrderCreatedAt(reader.readDateTime());
+        }
+        if ((mask & EVENT_TIME) != 0) {
+            event.setEventTime(reader.readDateTime());
+        }
+        return event;
+    }
+
+    private static void encodeItem(Writer writer, OrderEvent.OrderItemEvent item) {
+        int mask = (item.getProductId() != null ? ITEM_PRODUCT_ID : 0)
+                | (item.getProductName() != null ? ITEM_PRODUCT_NAME : 0)
+                | (item.getQuantity() != null ? ITEM_QUANTITY : 0)
+                | (item.getPrice() != null ? ITEM_PRICE : 0);
+        writer.writeVarLong(mask);
+        if (item.getProductId() != null) {
+            writer.writeZigZag(item.getProductId());
+        }
+        if (item.getProductName() != null) {
+            writer.writeString(item.getProductName());
+        }
+        if (item.getQuantity() != null) {
+            writer.writeZigZag(item.getQuantity());
+        }
+        if (item.getPrice() != null) {
+            writer.writeDecimal(item.getPrice());
+        }
+    }
+
+    private static OrderEvent.OrderItemEvent decodeItem(Reader reader) {
+        int mask = (int) reader.readVarLong();
+        OrderEvent.OrderItemEvent item = new OrderEvent.OrderItemEvent();
+        if ((mask & ITEM_PRODUCT_ID) != 0) {
+            item.setProductId(reader.readZigZag());
+        }
+        if ((mask & ITEM_PRODUCT_NAME) != 0) {
+            item.setProductName(reader.readString());
+        }
+        if ((mask & ITEM_QUANTITY) != 0) {
+            item.setQuantity((int) reader.readZigZag());
+        }
+        if ((mask & ITEM_PRICE) != 0) {
+            item.setPrice(reader.readDecimal());
+        }
+        return item;
+    }
+
+    private static final class Writer {
+
+        private final ByteArrayOutputStream buffer = new ByteArrayOutputStream(128);
+
+        void writeVarLong(long value) {
+            while ((value & ~0x7FL) != 0) {
+                buffer.write((int) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+            buffer.write((int) value);
+        }
+
+        void writeZigZag(long value) {
+            writeVarLong((value << 1) ^ (value >> 63));
+        }
+
+        void writeString(String value) {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeVarLong(bytes.length);
+            buffer.writeBytes(bytes);
+        }
+
+        void writeDecimal(BigDecimal value) {
+            // 대부분의 금액은 unscaled 값이 long 범위라 varint 로, 그 밖의 값만 바이트 배열로 기록
+            writeZigZag(value.scale());
+            BigInteger unscaled = value.unscaledValue();
+            if (unscaled.bitLength() < 64) {
+                buffer.write(0);
+                writeZigZag(unscaled.longValue());
+            } else {
+                buffer.write(1);
+                byte[] bytes = unscaled.toByteArray();
+                writeVarLong(bytes.length);
+                buffer.writeBytes(bytes);
+            }
+        }
+
+        void writeDateTime(LocalDateTime value) {
+            writeZigZag(value.toEpochSecond(ZoneOffset.UTC));
+            writeVarLong(value.getNano());
+        }
+    }
+
+    private static final class Reader {
+
+        private final byte[] data;
+        private int position;
+
+        Reader(byte[] data, int position) {
+            this.data = data;
+            this.position = position;
+        }
+
+        long readVarLong() {
+            long value = 0;
+            int shift = 0;
+            while (true) {
+                if (position >= data.length) {
+                    throw new IllegalArgumentException("OrderEvent 데이터가 잘렸습니다");
+                }
+                byte b = data[position++];
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+                shift += 7;
+                if (shift > 63) {
+                    throw new IllegalArgumentException("잘못된 varint 입니다");
+                }
+            }
+        }
+
+        long readZigZag() {
+            long value = readVarLong();
+            return (value >>> 1) ^ -(value & 1);
+        }
+
+        String readString() {
+            int length = (int) readVarLong();
+            String value = new String(data, position, checkLength(length), StandardCharsets.UTF_8);
+            position += length;
+            return value;
+        }
+
+        BigDecimal readDecimal() {
+            int scale = (int) readZigZag();
+            if (position >= data.length) {
+                throw new IllegalArgumentException("OrderEvent 데이터가 잘렸습니다");
+            }
+            byte kind = data[position++];
+            if (kind == 0) {
+                return BigDecimal.valueOf(readZigZag(), scale);
+            }
+            int length = (int) readVarLong();
+            byte[] bytes = new byte[checkLength(length)];
+            System.arraycopy(data, position, bytes, 0, length);
+            position += length;
+            return new BigDecimal(new BigInteger(bytes), scale);
+        }
+
+        LocalDateTime readDateTime() {
+            long epochSecond = readZigZag();
+            int nano = (int) readVarLong();
+            return LocalDateTime.ofEpochSecond(epochSecond, nano, ZoneOffset.UTC);
+        }
+
+        private int checkLength(int length) {
+            if (length < 0 || position + length > data.length) {
+                throw new IllegalArgumentException("OrderEvent 데이터가 잘렸습니다");
+            }
+            return length;
+        }
+    }
+}
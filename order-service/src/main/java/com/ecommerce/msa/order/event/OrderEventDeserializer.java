@@ -0,0 +1,40 @@
+package com.ecommerce.msa.order.event;
+
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+
+import java.util.Map;
+
+// order.events 역직렬화기: 첫 바이트로 바이너리/JSON 을 구분해 두 형식이 섞인 토픽도 읽음
+// JSON 메시지는 spring.json.* 설정을 그대로 받은 JsonDeserializer 로 처리
+public class OrderEventDeserializer implements Deserializer<Object> {
+
+    private final JsonDeserializer<Object> jsonDeserializer = new JsonDeserializer<>();
+
+    @Override
+    public void configure(Map<String, ?> configs, boolean isKey) {
+        jsonDeserializer.configure(configs, isKey);
+    }
+
+    @Override
+    public Object deserialize(String topic, byte[] data) {
+        if (OrderEventCodec.isBinary(data)) {
+            return OrderEventCodec.decode(data);
+        }
+        return jsonDeserializer.deserialize(topic, data);
+    }
+
+    @Override
+    public Object deserialize(String topic, Headers headers, byte[] data) {
+        if (OrderEventCodec.isBinary(data)) {
+            return OrderEventCodec.decode(data);
+        }
+        return jsonDeserializer.deserialize(topic, headers, data);
+    }
+
+    @Override
+    public void close() {
+        jsonDeserializer.close();
+    }
+}
@@ -0,0 +1,12 @@
+package com.ecommerce.msa.order.event;
+
+import org.apache.kafka.common.serialization.Serializer;
+
+// order.events 를 바이너리 형식으로 발행할 때 사용하는 직렬화기
+public class OrderEventSerializer implements Serializer<OrderEvent> {
+
+    @Override
+    public byte[] serialize(String topic, OrderEvent event) {
+        return event != null ? OrderEventCodec.encode(event) : null;
+    }
+}
@@ -0,0 +1,19 @@
+package com.ecommerce.msa.order.event;
+
+import com.ecommerce.msa.order.dto.OrderRequest;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderIntakeCommand {
+    private Long orderId;
+    private OrderRequest.Create request;
+    private LocalDateTime acceptedAt;
+}
@@ -0,0 +1,18 @@
+package com.ecommerce.msa.order.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductEvent {
+    private String eventType; // PRODUCT_UPDATED, PRODUCT_DEACTIVATED
+    private Long productId;
+    private LocalDateTime eventTime;
+}
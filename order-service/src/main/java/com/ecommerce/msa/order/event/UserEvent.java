@@ -0,0 +1,19 @@
+package com.ecommerce.msa.order.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserEvent {
+    private String eventType; // USER_REGISTERED, USER_STATUS_CHANGED
+    private Long userId;
+    private String status;
+    private LocalDateTime eventTime;
+}
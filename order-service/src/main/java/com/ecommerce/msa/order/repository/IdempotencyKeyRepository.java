@@ -0,0 +1,60 @@
+package com.ecommerce.msa.order.repository;
+
+import com.ecommerce.msa.order.entity.IdempotencyKey;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface IdempotencyKeyRepository extends JpaRepository<IdempotencyKey, String> {
+    
+    // 같은 키를 동시에 선점하려는 요청은 먼저 커밋한 쪽만 1을 받음
+    @Modifying
+    @Query(value = "INSERT INTO idempotency_keys (idempotency_key, request_hash, claim_token, status, claimed_at, expires_at) " +
+                   "VALUES (:key, :requestHash, :claimToken, 'IN_PROGRESS', now(), :expiresAt) " +
+                   "ON CONFLICT (idempotency_key) DO NOTHING",
+           nativeQuery = true)
+    int insertIfAbsent(@Param("key") String key,
+                       @Param("requestHash") String requestHash,
+                       @Param("claimToken") String claimToken,
+                       @Param("expiresAt") LocalDateTime expiresAt);
+    
+    // 처리하던 인스턴스가 중단되어 오래 남은 IN_PROGRESS 키나 만료된 키를 다시 선점
+    @Modifying
+    @Query("UPDATE IdempotencyKey k SET k.requestHash = :requestHash, k.claimToken = :claimToken, " +
+           "k.status = com.ecommerce.msa.order.entity.IdempotencyKey$Status.IN_PROGRESS, " +
+           "k.orderId = null, k.response = null, k.completedAt = null, " +
+           "k.claimedAt = CURRENT_TIMESTAMP, k.expiresAt = :expiresAt " +
+           "WHERE k.idempotencyKey = :key AND (k.expiresAt < CURRENT_TIMESTAMP OR " +
+           "(k.status = com.ecommerce.msa.order.entity.IdempotencyKey$Status.IN_PROGRESS AND k.claimedAt < :staleBefore))")
+    int reclaim(@Param("key") String key,
+                @Param("requestHash") String requestHash,
+                @Param("claimToken") String claimToken,
+                @Param("staleBefore") LocalDateTime staleBefore,
+                @Param("expiresAt") LocalDateTime expiresAt);
+    
+    // 선점 이후 다른 요청이 키를 다시 선점했다면 0 을 반환 (호출한 쪽이 주문 생성을 롤백)
+    @Modifying
+    @Query("UPDATE IdempotencyKey k SET " +
+           "k.status = com.ecommerce.msa.order.entity.IdempotencyKey$Status.COMPLETED, " +
+           "k.orderId = :orderId, k.response = :response, k.completedAt = CURRENT_TIMESTAMP " +
+           "WHERE k.idempotencyKey = :key AND k.claimToken = :claimToken " +
+           "AND k.status = com.ecommerce.msa.order.entity.IdempotencyKey$Status.IN_PROGRESS")
+    int complete(@Param("key") String key,
+                 @Param("claimToken") String claimToken,
+                 @Param("orderId") Long orderId,
+                 @Param("response") String response);
+    
+    @Modifying
+    @Query("DELETE FROM IdempotencyKey k WHERE k.idempotencyKey = :key AND k.claimToken = :claimToken " +
+           "AND k.status = com.ecommerce.msa.order.entity.IdempotencyKey$Status.IN_PROGRESS")
+    int deleteInProgress(@Param("key") String key, @Param("claimToken") String claimToken);
+    
+    @Modifying
+    @Query("DELETE FROM IdempotencyKey k WHERE k.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
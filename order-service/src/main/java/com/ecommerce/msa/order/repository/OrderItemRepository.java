@@ -0,0 +1,17 @@
+package com.ecommerce.msa.order.repository;
+
+import com.ecommerce.msa.order.entity.OrderItem;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface OrderItemRepository extends JpaRepository<OrderItem, Long> {
+    
+    @Query("SELECT i FROM OrderItem i WHERE i.order.orderId IN :orderIds ORDER BY i.orderItemId")
+    List<OrderItem> findByOrderIdIn(@Param("orderIds") Collection<Long> orderIds);
+}
@@ -3,6 +3,7 @@ package com.ecommerce.msa.order.repository;
 import com.ecommerce.msa.order.entity.Order;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -18,6 +19,35 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
     
     Page<Order> findByStatus(Order.OrderStatus status, Pageable pageable);
     
+    Slice<Order> findSliceByUserId(Long userId, Pageable pageable);
+    
+    Slice<Order> findSliceByStatus(Order.OrderStatus status, Pageable pageable);
+    
+    // (createdAt, orderId) 키셋 조회: 첫 페이지는 OrderBy 메서드, 이후 페이지는 커서 이전 행부터
+    List<Order> findByUserIdOrderByCreatedAtDescOrderIdDesc(Long userId, Pageable pageable);
+    
+    List<Order> findByStatusOrderByCreatedAtDescOrderIdDesc(Order.OrderStatus status, Pageable pageable);
+    
+    @Query("SELECT o FROM Order o WHERE o.userId = :userId " +
+           "AND (o.createdAt < :createdAt OR (o.createdAt = :createdAt AND o.orderId < :orderId)) " +
+           "ORDER BY o.createdAt DESC, o.orderId DESC")
+    List<Order> findByUserIdBefore(
+            @Param("userId") Long userId,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("orderId") Long orderId,
+            Pageable pageable
+    );
+    
+    @Query("SELECT o FROM Order o WHERE o.status = :status " +
+           "AND (o.createdAt < :createdAt OR (o.createdAt = :createdAt AND o.orderId < :orderId)) " +
+           "ORDER BY o.createdAt DESC, o.orderId DESC")
+    List<Order> findByStatusBefore(
+            @Param("status") Order.OrderStatus status,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("orderId") Long orderId,
+            Pageable pageable
+    );
+    
     List<Order> findByUserIdAndStatus(Long userId, Order.OrderStatus status);
     
     @Query("SELECT o FROM Order o WHERE o.createdAt BETWEEN :startDate AND :endDate")
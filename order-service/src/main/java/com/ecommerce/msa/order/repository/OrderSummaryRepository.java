@@ -0,0 +1,89 @@
+package com.ecommerce.msa.order.repository;
+
+import com.ecommerce.msa.order.entity.OrderSummary;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface OrderSummaryRepository extends JpaRepository<OrderSummary, Long> {
+    
+    List<OrderSummary> findByUserIdOrderByOrderCreatedAtDescOrderIdDesc(Long userId, Pageable pageable);
+    
+    @Query("SELECT s FROM OrderSummary s WHERE s.userId = :userId " +
+           "AND (s.orderCreatedAt < :createdAt OR (s.orderCreatedAt = :createdAt AND s.orderId < :orderId)) " +
+           "ORDER BY s.orderCreatedAt DESC, s.orderId DESC")
+    List<OrderSummary> findByUserIdBefore(
+            @Param("userId") Long userId,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("orderId") Long orderId,
+            Pageable pageable
+    );
+    
+    // 재구성은 order_summaries_rebuild 에 먼저 쌓고 한 트랜잭션으로 반영해, 재구성 중에도 기존 조회 모델을 그대로 제공
+    @Modifying
+    @Query(value = "CREATE TABLE IF NOT EXISTS order_summaries_rebuild " +
+                   "(LIKE order_summaries INCLUDING DEFAULTS INCLUDING CONSTRAINTS INCLUDING INDEXES)",
+           nativeQuery = true)
+    void createRebuildTable();
+    
+    @Modifying
+    @Query(value = "TRUNCATE order_summaries_rebuild", nativeQuery = true)
+    void truncateRebuildTable();
+    
+    // OrderSummaryService.apply 와 같은 규칙: 마지막으로 반영한 이벤트보다 오래된 이벤트는 무시
+    @Modifying
+    @Query(value = "INSERT INTO order_summaries_rebuild AS s (order_id, user_id, status, total_amount, item_count, " +
+                   "total_quantity, items, order_created_at, last_event_type, last_event_time) " +
+                   "VALUES (:orderId, :userId, :status, :totalAmount, :itemCount, :totalQuantity, :items, " +
+                   "COALESCE(CAST(:orderCreatedAt AS timestamp), :eventTime), :eventType, :eventTime) " +
+                   "ON CONFLICT (order_id) DO UPDATE SET user_id = EXCLUDED.user_id, status = EXCLUDED.status, " +
+                   "total_amount = EXCLUDED.total_amount, item_count = EXCLUDED.item_count, " +
+                   "total_quantity = EXCLUDED.total_quantity, items = EXCLUDED.items, " +
+                   "order_created_at = COALESCE(CAST(:orderCreatedAt AS timestamp), s.order_created_at, :eventTime), " +
+                   "last_event_type = EXCLUDED.last_event_type, last_event_time = EXCLUDED.last_event_time " +
+                   "WHERE s.last_event_time IS NULL OR EXCLUDED.last_event_time IS NULL " +
+                   "OR EXCLUDED.last_event_time >= s.last_event_time",
+           nativeQuery = true)
+    int upsertRebuilt(@Param("orderId") Long orderId,
+                      @Param("userId") Long userId,
+                      @Param("status") String status,
+                      @Param("totalAmount") BigDecimal totalAmount,
+                      @Param("itemCount") Integer itemCount,
+                      @Param("totalQuantity") Integer totalQuantity,
+                      @Param("items") String items,
+                      @Param("orderCreatedAt") LocalDateTime orderCreatedAt,
+                      @Param("eventType") String eventType,
+                      @Param("eventTime") LocalDateTime eventTime);
+    
+    // 재생 결과에 없는 주문 요약 삭제 (재구성 시작 이후 실시간 프로젝터가 반영한 행은 유지)
+    @Modifying
+    @Query(value = "DELETE FROM order_summaries s WHERE NOT EXISTS " +
+                   "(SELECT 1 FROM order_summaries_rebuild r WHERE r.order_id = s.order_id) " +
+                   "AND (s.last_event_time IS NULL OR s.last_event_time < :startedAt)",
+           nativeQuery = true)
+    int deleteNotRebuilt(@Param("startedAt") LocalDateTime startedAt);
+    
+    // 재생 결과로 덮어쓰되, 재구성 중 실시간 프로젝터가 더 최신 이벤트를 반영한 행은 유지
+    @Modifying
+    @Query(value = "INSERT INTO order_summaries AS s (order_id, user_id, status, total_amount, item_count, " +
+                   "total_quantity, items, order_created_at, last_event_type, last_event_time) " +
+                   "SELECT order_id, user_id, status, total_amount, item_count, total_quantity, items, " +
+                   "order_created_at, last_event_type, last_event_time FROM order_summaries_rebuild " +
+                   "ON CONFLICT (order_id) DO UPDATE SET user_id = EXCLUDED.user_id, status = EXCLUDED.status, " +
+                   "total_amount = EXCLUDED.total_amount, item_count = EXCLUDED.item_count, " +
+                   "total_quantity = EXCLUDED.total_quantity, items = EXCLUDED.items, " +
+                   "order_created_at = EXCLUDED.order_created_at, last_event_type = EXCLUDED.last_event_type, " +
+                   "last_event_time = EXCLUDED.last_event_time " +
+                   "WHERE s.last_event_time IS NULL OR EXCLUDED.last_event_time IS NULL " +
+                   "OR EXCLUDED.last_event_time >= s.last_event_time",
+           nativeQuery = true)
+    int mergeRebuilt();
+}
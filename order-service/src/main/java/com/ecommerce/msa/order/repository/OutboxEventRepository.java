@@ -0,0 +1,51 @@
+package com.ecommerce.msa.order.repository;
+
+import com.ecommerce.msa.order.entity.OutboxEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+    
+    // 트랜잭션 종료 시 자동 해제되는 advisory lock 으로 한 번에 하나의 릴레이만 발행 (이벤트 순서 보장)
+    @Query(value = "SELECT pg_try_advisory_xact_lock(:lockKey)", nativeQuery = true)
+    boolean tryRelayLock(@Param("lockKey") long lockKey);
+    
+    @Query(value = "SELECT * FROM outbox_events WHERE published_at IS NULL AND dead_lettered_at IS NULL " +
+                   "ORDER BY id LIMIT :limit",
+           nativeQuery = true)
+    List<OutboxEvent> findUnpublished(@Param("limit") int limit);
+    
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.publishedAt = :publishedAt WHERE e.id IN :ids")
+    int markPublished(@Param("ids") Collection<Long> ids, @Param("publishedAt") LocalDateTime publishedAt);
+    
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.attempts = e.attempts + 1, e.lastError = :lastError WHERE e.id = :id")
+    int recordFailure(@Param("id") Long id, @Param("lastError") String lastError);
+    
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.attempts = e.attempts + 1, e.lastError = :lastError, " +
+           "e.deadLetteredAt = :deadLetteredAt WHERE e.id = :id")
+    int markDeadLettered(@Param("id") Long id, @Param("lastError") String lastError,
+                         @Param("deadLetteredAt") LocalDateTime deadLetteredAt);
+    
+    @Query("SELECT COUNT(e) FROM OutboxEvent e WHERE e.publishedAt IS NULL AND e.deadLetteredAt IS NULL")
+    long countPending();
+    
+    long countByDeadLetteredAtIsNotNull();
+    
+    @Query("SELECT MIN(e.createdAt) FROM OutboxEvent e WHERE e.publishedAt IS NULL AND e.deadLetteredAt IS NULL")
+    LocalDateTime findOldestUnpublishedCreatedAt();
+    
+    @Modifying
+    @Query("DELETE FROM OutboxEvent e WHERE e.publishedAt < :before")
+    int deletePublishedBefore(@Param("before") LocalDateTime before);
+}
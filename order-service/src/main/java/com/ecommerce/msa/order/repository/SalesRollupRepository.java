@@ -0,0 +1,62 @@
+package com.ecommerce.msa.order.repository;
+
+import com.ecommerce.msa.order.entity.SalesRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface SalesRollupRepository extends JpaRepository<SalesRollup, Long> {
+    
+    // 구간 행이 없으면 만들고 있으면 증감분만 더함 (취소는 음수로 전달)
+    @Modifying
+    @Query(value = "INSERT INTO sales_rollups (granularity, bucket_start, product_id, revenue, order_count, units_sold, updated_at) " +
+                   "VALUES (:granularity, :bucketStart, :productId, :revenue, :orderCount, :unitsSold, now()) " +
+                   "ON CONFLICT (granularity, bucket_start, product_id) DO UPDATE SET " +
+                   "revenue = sales_rollups.revenue + EXCLUDED.revenue, " +
+                   "order_count = sales_rollups.order_count + EXCLUDED.order_count, " +
+                   "units_sold = sales_rollups.units_sold + EXCLUDED.units_sold, " +
+                   "updated_at = now()",
+           nativeQuery = true)
+    int upsert(@Param("granularity") String granularity,
+               @Param("bucketStart") LocalDateTime bucketStart,
+               @Param("productId") Long productId,
+               @Param("revenue") BigDecimal revenue,
+               @Param("orderCount") long orderCount,
+               @Param("unitsSold") long unitsSold);
+    
+    @Query("SELECT r FROM SalesRollup r WHERE r.granularity = :granularity " +
+           "AND r.bucketStart >= :from AND r.bucketStart < :to " +
+           "ORDER BY r.bucketStart, r.productId")
+    List<SalesRollup> findByRange(
+            @Param("granularity") SalesRollup.Granularity granularity,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to
+    );
+    
+    @Query("SELECT r FROM SalesRollup r WHERE r.granularity = :granularity AND r.productId = :productId " +
+           "AND r.bucketStart >= :from AND r.bucketStart < :to " +
+           "ORDER BY r.bucketStart")
+    List<SalesRollup> findByProductIdAndRange(
+            @Param("granularity") SalesRollup.Granularity granularity,
+            @Param("productId") Long productId,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to
+    );
+    
+    // 기간 전체의 상품별 합계 (매출 내림차순)
+    @Query("SELECT r.productId, SUM(r.revenue), SUM(r.orderCount), SUM(r.unitsSold) FROM SalesRollup r " +
+           "WHERE r.granularity = :granularity AND r.bucketStart >= :from AND r.bucketStart < :to " +
+           "GROUP BY r.productId ORDER BY SUM(r.revenue) DESC")
+    List<Object[]> sumByProduct(
+            @Param("granularity") SalesRollup.Granularity granularity,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to
+    );
+}
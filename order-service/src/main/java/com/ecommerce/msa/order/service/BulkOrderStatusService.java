@@ -0,0 +1,196 @@
+package com.ecommerce.msa.order.service;
+
+import com.ecommerce.msa.order.dto.OrderResponse;
+import com.ecommerce.msa.order.entity.Order;
+import com.ecommerce.msa.order.event.OrderEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+// 창고 시스템의 대량 상태 변경을 주문 단위 조회/저장 없이 처리
+// 청크마다 행을 주문 ID 순서로 잠그고, 상태 UPDATE 와 아웃박스 INSERT 를 JDBC 배치로 한 트랜잭션에 기록
+// 이벤트 발행은 OutboxRelay 가 배치 단위로 이어서 처리
+@Service
+@Slf4j
+public class BulkOrderStatusService {
+
+    private static final String ORDER_EVENTS_TOPIC = "order.events";
+    private static final String EVENT_TYPE = "ORDER_STATUS_UPDATED";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final OutboxService outboxService;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${order.bulk-status.chunk-size:1000}")
+    private int chunkSize;
+
+    public BulkOrderStatusService(NamedParameterJdbcTemplate jdbcTemplate,
+                                  OutboxService outboxService,
+                                  PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.outboxService = outboxService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    private record OrderRow(Long orderId, Long userId, Order.OrderStatus status, BigDecimal totalAmount,
+                            String stockReservationId, LocalDateTime createdAt) {
+    }
+
+    public OrderResponse.BulkStatusResult updateStatuses(List<Long> orderIds, Order.OrderStatus newStatus) {
+        if (newStatus == Order.OrderStatus.CANCELLED || newStatus == Order.OrderStatus.PENDING) {
+            // 취소는 재고 복원과 매출 차감이 필요하므로 주문별 취소 API 를 사용
+            throw new RuntimeException("일괄 변경할 수 없는 주문 상태입니다: " + newStatus);
+        }
+
+        List<Long> distinctIds = new ArrayList<>(new LinkedHashSet<>(orderIds));
+        Map<Long, OrderResponse.BulkStatusItem> results = new LinkedHashMap<>();
+        for (int from = 0; from < distinctIds.size(); from += chunkSize) {
+            List<Long> chunk = distinctIds.subList(from, Math.min(from + chunkSize, distinctIds.size()));
+            List<OrderResponse.BulkStatusItem> chunkResults =
+                    transactionTemplate.execute(status -> updateChunk(chunk, newStatus));
+            if (chunkResults != null) {
+                chunkResults.forEach(item -> results.put(item.getOrderId(), item));
+            }
+        }
+
+        int updated = 0;
+        int unchanged = 0;
+        for (OrderResponse.BulkStatusItem item : results.values()) {
+            if (item.getOutcome() == OrderResponse.BulkStatusOutcome.UPDATED) {
+                updated++;
+            } else if (item.getOutcome() == OrderResponse.BulkStatusOutcome.UNCHANGED) {
+                unchanged++;
+            }
+        }
+        log.info("Bulk order status update completed: status={}, requested={}, updated={}, unchanged={}",
+                newStatus, results.size(), updated, unchanged);
+
+        return OrderResponse.BulkStatusResult.builder()
+                .status(newStatus)
+                .requested(results.size())
+                .updated(updated)
+                .unchanged(unchanged)
+                .failed(results.size() - updated - unchanged)
+                .results(new ArrayList<>(results.values()))
+                .build();
+    }
+
+    private List<OrderResponse.BulkStatusItem> updateChunk(List<Long> orderIds, Order.OrderStatus newStatus) {
+        // 1. 주문 ID 순서로 잠가 동시에 실행되는 다른 일괄 변경과 교착 상태를 방지
+        Map<Long, OrderRow> rows = new HashMap<>();
+        jdbcTemplate.query(
+                "SELECT order_id, user_id, status, total_amount, stock_reservation_id, created_at " +
+                "FROM orders WHERE order_id IN (:orderIds) ORDER BY order_id FOR UPDATE",
+                new MapSqlParameterSource("orderIds", orderIds),
+                rs -> {
+                    Timestamp createdAt = rs.getTimestamp("created_at");
+                    rows.put(rs.getLong("order_id"), new OrderRow(
+                            rs.getLong("order_id"),
+                            rs.getLong("user_id"),
+                            Order.OrderStatus.valueOf(rs.getString("status")),
+                            rs.getBigDecimal("total_amount"),
+                            rs.getString("stock_reservation_id"),
+                            createdAt != null ? createdAt.toLocalDateTime() : null));
+                });
+
+        // 2. 전이 검증
+        List<OrderResponse.BulkStatusItem> results = new ArrayList<>(orderIds.size());
+        List<OrderRow> transitions = new ArrayList<>();
+        for (Long orderId : orderIds) {
+            OrderRow row = rows.get(orderId);
+            if (row == null) {
+                results.add(item(orderId, OrderResponse.BulkStatusOutcome.NOT_FOUND, null, "주문을 찾을 수 없습니다"));
+            } else if (row.status() == newStatus) {
+                results.add(item(orderId, OrderResponse.BulkStatusOutcome.UNCHANGED, row.status(), null));
+            } else if (!row.status().canTransitionTo(newStatus)) {
+                results.add(item(orderId, OrderResponse.BulkStatusOutcome.REJECTED, row.status(),
+                        "허용되지 않는 상태 전이입니다: " + row.status() + " -> " + newStatus));
+            } else if (row.status() == Order.OrderStatus.PENDING && row.stockReservationId() != null) {
+                // 재고 홀드 확정은 상품 서비스 호출이 필요하므로 주문별 상태 변경 API 로 처리
+                results.add(item(orderId, OrderResponse.BulkStatusOutcome.REJECTED, row.status(),
+                        "재고 홀드 확정이 필요한 주문은 개별 상태 변경 API 를 사용해야 합니다"));
+            } else {
+                transitions.add(row);
+                results.add(item(orderId, OrderResponse.BulkStatusOutcome.UPDATED, row.status(), null));
+            }
+        }
+        if (transitions.isEmpty()) {
+            return results;
+        }
+
+        // 3. 상태 UPDATE 배치 (행이 잠겨 있으므로 이전 상태 조건은 항상 일치)
+        LocalDateTime now = LocalDateTime.now();
+        MapSqlParameterSource[] updates = transitions.stream()
+                .map(row -> new MapSqlParameterSource()
+                        .addValue("orderId", row.orderId())
+                        .addValue("previousStatus", row.status().name())
+                        .addValue("status", newStatus.name())
+                        .addValue("updatedAt", Timestamp.valueOf(now)))
+                .toArray(MapSqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate(
+                "UPDATE orders SET status = :status, updated_at = :updatedAt " +
+                "WHERE order_id = :orderId AND status = :previousStatus",
+                updates);
+
+        // 4. 이벤트 페이로드용 주문 항목을 한 번에 조회하고 아웃박스에 배치 기록
+        Map<Long, List<OrderEvent.OrderItemEvent>> items = loadItems(transitions);
+        List<OutboxService.Message> messages = new ArrayList<>(transitions.size());
+        for (OrderRow row : transitions) {
+            messages.add(new OutboxService.Message(String.valueOf(row.orderId()), EVENT_TYPE, OrderEvent.builder()
+                    .eventType(EVENT_TYPE)
+                    .orderId(row.orderId())
+                    .userId(row.userId())
+                    .totalAmount(row.totalAmount())
+                    .orderStatus(newStatus.name())
+                    .orderItems(items.getOrDefault(row.orderId(), List.of()))
+                    .orderCreatedAt(row.createdAt())
+                    .eventTime(now)
+                    .build()));
+        }
+        outboxService.appendAll(ORDER_EVENTS_TOPIC, messages);
+
+        return results;
+    }
+
+    private Map<Long, List<OrderEvent.OrderItemEvent>> loadItems(List<OrderRow> transitions) {
+        Map<Long, List<OrderEvent.OrderItemEvent>> items = new HashMap<>();
+        jdbcTemplate.query(
+                "SELECT order_id, product_id, product_name, quantity, price " +
+                "FROM order_items WHERE order_id IN (:orderIds) ORDER BY order_id, order_item_id",
+                new MapSqlParameterSource("orderIds", transitions.stream().map(OrderRow::orderId).toList()),
+                rs -> {
+                    items.computeIfAbsent(rs.getLong("order_id"), orderId -> new ArrayList<>())
+                            .add(OrderEvent.OrderItemEvent.builder()
+                                    .productId(rs.getLong("product_id"))
+                                    .productName(rs.getString("product_name"))
+                                    .quantity(rs.getInt("quantity"))
+                                    .price(rs.getBigDecimal("price"))
+                                    .build());
+                });
+        return items;
+    }
+
+    private OrderResponse.BulkStatusItem item(Long orderId, OrderResponse.BulkStatusOutcome outcome,
+                                              Order.OrderStatus previousStatus, String reason) {
+        return OrderResponse.BulkStatusItem.builder()
+                .orderId(orderId)
+                .outcome(outcome)
+                .previousStatus(previousStatus)
+                .reason(reason)
+                .build();
+    }
+}
@@ -0,0 +1,158 @@
+package com.ecommerce.msa.order.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+// 기간별 주문을 서버 측 커서로 fetch-size 만큼씩 읽어 응답 스트림에 바로 기록
+// 전체 결과를 메모리에 올리지 않으므로 기간이 길어져도 힙 사용량이 일정함
+@Service
+@Slf4j
+public class OrderExportService {
+
+    private static final String EXPORT_SQL = """
+            SELECT order_id, user_id, status, total_amount, created_at, updated_at
+            FROM orders
+            WHERE created_at >= ? AND created_at < ?
+            ORDER BY created_at, order_id
+            """;
+
+    private static final String CSV_HEADER = "orderId,userId,status,totalAmount,createdAt,updatedAt";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+
+    public enum Format {
+        NDJSON, CSV
+    }
+
+    public OrderExportService(DataSource dataSource,
+                              PlatformTransactionManager transactionManager,
+                              ObjectMapper objectMapper,
+                              @Value("${order.export.fetch-size:1000}") int fetchSize) {
+        // PostgreSQL 은 autocommit 이 꺼진 트랜잭션 안에서만 fetch-size 단위 커서 조회를 사용
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(fetchSize);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.objectMapper = objectMapper;
+    }
+
+    public long export(LocalDateTime from, LocalDateTime to, Format format, OutputStream outputStream) {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        try {
+            Long count = format == Format.CSV
+                    ? transactionTemplate.execute(status -> exportCsv(from, to, writer))
+                    : transactionTemplate.execute(status -> exportNdjson(from, to, writer));
+            writer.flush();
+            log.info("Orders exported: from={}, to={}, format={}, count={}", from, to, format, count);
+            return count != null ? count : 0L;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private long exportNdjson(LocalDateTime from, LocalDateTime to, Writer writer) {
+        long[] count = {0L};
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(writer)) {
+            generator.configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false);
+            // 루트 값마다 기본 구분자(공백)가 붙지 않도록 하고 줄바꿈만 직접 기록
+            generator.setRootValueSeparator(null);
+            jdbcTemplate.query(EXPORT_SQL, rs -> {
+                try {
+                    generator.writeStartObject();
+                    // API 응답과 같이 2^53 을 넘는 주문 ID 는 문자열로 기록
+                    generator.writeStringField("orderId", rs.getString("order_id"));
+                    generator.writeNumberField("userId", rs.getLong("user_id"));
+                    generator.writeStringField("status", rs.getString("status"));
+                    writeDecimalField(generator, "totalAmount", rs.getBigDecimal("total_amount"));
+                    generator.writeStringField("createdAt", timestamp(rs, "created_at"));
+                    generator.writeStringField("updatedAt", timestamp(rs, "updated_at"));
+                    generator.writeEndObject();
+                    generator.writeRaw('\n');
+                    count[0]++;
+                } catch (IOException e) {
+                    // 클라이언트 연결이 끊기면 조회를 중단하고 커서를 닫음
+                    throw new UncheckedIOException(e);
+                }
+            }, Timestamp.valueOf(from), Timestamp.valueOf(to));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return count[0];
+    }
+
+    private long exportCsv(LocalDateTime from, LocalDateTime to, Writer writer) {
+        long[] count = {0L};
+        try {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+            jdbcTemplate.query(EXPORT_SQL, rs -> {
+                try {
+                    writer.write(String.valueOf(rs.getLong("order_id")));
+                    writer.write(',');
+                    writer.write(String.valueOf(rs.getLong("user_id")));
+                    writer.write(',');
+                    writer.write(csv(rs.getString("status")));
+                    writer.write(',');
+                    BigDecimal totalAmount = rs.getBigDecimal("total_amount");
+                    writer.write(totalAmount != null ? totalAmount.toPlainString() : "");
+                    writer.write(',');
+                    writer.write(csv(timestamp(rs, "created_at")));
+                    writer.write(',');
+                    writer.write(csv(timestamp(rs, "updated_at")));
+                    writer.write('\n');
+                    count[0]++;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }, Timestamp.valueOf(from), Timestamp.valueOf(to));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return count[0];
+    }
+
+    private void writeDecimalField(JsonGenerator generator, String name, BigDecimal value) throws IOException {
+        if (value == null) {
+            generator.writeNullField(name);
+        } else {
+            generator.writeNumberField(name, value);
+        }
+    }
+
+    private String timestamp(ResultSet rs, String column) throws SQLException {
+        Timestamp timestamp = rs.getTimestamp(column);
+        return timestamp != null ? timestamp.toLocalDateTime().toString() : null;
+    }
+
+    private String csv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
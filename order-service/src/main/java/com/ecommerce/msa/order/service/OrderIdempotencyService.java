@@ -0,0 +1,252 @@
+package com.ecommerce.msa.order.service;
+
+import com.ecommerce.msa.order.dto.OrderRequest;
+import com.ecommerce.msa.order.dto.OrderResponse;
+import com.ecommerce.msa.order.entity.IdempotencyKey;
+import com.ecommerce.msa.order.repository.IdempotencyKeyRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+// Idempotency-Key 로 주문 생성 요청의 중복 실행을 막는다
+// 메모리(처리 중 요청 + 최근 완료 결과)를 먼저 확인하고, 인스턴스 간 중복은 idempotency_keys 테이블로 판정
+@Service
+@Slf4j
+public class OrderIdempotencyService {
+
+    private static final long POLL_INTERVAL_MS = 100L;
+
+    private final IdempotencyKeyRepository idempotencyKeyRepository;
+    private final OrderService orderService;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Map<String, CompletableFuture<CompletedRequest>> inFlight = new ConcurrentHashMap<>();
+    private final Map<String, CompletedRequest> completed;
+
+    @Value("${order.idempotency.ttl-hours:24}")
+    private long ttlHours;
+
+    @Value("${order.idempotency.wait-timeout-ms:30000}")
+    private long waitTimeoutMs;
+
+    @Value("${order.idempotency.stale-after-ms:120000}")
+    private long staleAfterMs;
+
+    public OrderIdempotencyService(IdempotencyKeyRepository idempotencyKeyRepository,
+                                   OrderService orderService,
+                                   ObjectMapper objectMapper,
+                                   PlatformTransactionManager transactionManager,
+                                   @Value("${order.idempotency.cache-size:10000}") int cacheSize) {
+        this.idempotencyKeyRepository = idempotencyKeyRepository;
+        this.orderService = orderService;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.completed = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CompletedRequest> eldest) {
+                return size() > cacheSize;
+            }
+        });
+    }
+
+    public record Result(OrderResponse.OrderInfo orderInfo, boolean replayed) {
+    }
+
+    private record CompletedRequest(String requestHash, OrderResponse.OrderInfo orderInfo, LocalDateTime expiresAt) {
+    }
+
+    public Result createOrder(String idempotencyKey, OrderRequest.Create request) {
+        String requestHash = hash(request);
+
+        // 1. 최근에 완료된 키는 메모리에서 바로 응답
+        CompletedRequest cached = completed.get(idempotencyKey);
+        if (cached != null && cached.expiresAt().isAfter(LocalDateTime.now())) {
+            return replay(idempotencyKey, cached, requestHash);
+        }
+
+        // 2. 같은 인스턴스에서 처리 중인 동일 키 요청은 먼저 들어온 요청의 결과를 기다림
+        CompletableFuture<CompletedRequest> future = new CompletableFuture<>();
+        CompletableFuture<CompletedRequest> running = inFlight.putIfAbsent(idempotencyKey, future);
+        if (running != null) {
+            return replay(idempotencyKey, await(idempotencyKey, running), requestHash);
+        }
+
+        // 3. 테이블에서 키를 선점한 요청만 주문 생성을 실행
+        try {
+            Result result = execute(idempotencyKey, request, requestHash);
+            future.complete(new CompletedRequest(requestHash, result.orderInfo(), LocalDateTime.now().plusHours(ttlHours)));
+            return result;
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(idempotencyKey, future);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${order.idempotency.cleanup-interval-ms:3600000}")
+    public void purgeExpiredKeys() {
+        try {
+            Integer deleted = transactionTemplate.execute(status ->
+                    idempotencyKeyRepository.deleteExpired(LocalDateTime.now()));
+            if (deleted != null && deleted > 0) {
+                log.info("Expired idempotency keys purged: count={}", deleted);
+            }
+        } catch (Exception e) {
+            log.error("Failed to purge expired idempotency keys", e);
+        }
+    }
+
+    private Result execute(String idempotencyKey, OrderRequest.Create request, String requestHash) {
+        long deadline = System.currentTimeMillis() + waitTimeoutMs;
+        while (true) {
+            String claimToken = claim(idempotencyKey, requestHash);
+            if (claimToken != null) {
+                return new Result(createOrder(idempotencyKey, claimToken, request, requestHash), false);
+            }
+
+            IdempotencyKey record = idempotencyKeyRepository.findById(idempotencyKey).orElse(null);
+            if (record != null && record.getStatus() == IdempotencyKey.Status.COMPLETED
+                    && record.getExpiresAt().isAfter(LocalDateTime.now())) {
+                CompletedRequest completedRequest = new CompletedRequest(
+                        record.getRequestHash(), fromJson(record.getResponse()), record.getExpiresAt());
+                completed.put(idempotencyKey, completedRequest);
+                return replay(idempotencyKey, completedRequest, requestHash);
+            }
+
+            // 다른 인스턴스가 처리 중이면 완료될 때까지 짧게 폴링
+            if (System.currentTimeMillis() >= deadline) {
+                throw new ResponseStatusException(HttpStatus.CONFLICT, "같은 Idempotency-Key 의 요청이 처리 중입니다");
+            }
+            sleep();
+        }
+    }
+
+    private String claim(String idempotencyKey, String requestHash) {
+        String claimToken = UUID.randomUUID().toString();
+        LocalDateTime expiresAt = LocalDateTime.now().plusHours(ttlHours);
+        LocalDateTime staleBefore = LocalDateTime.now().minusNanos(TimeUnit.MILLISECONDS.toNanos(staleAfterMs));
+        Integer claimed = transactionTemplate.execute(status -> {
+            if (idempotencyKeyRepository.insertIfAbsent(idempotencyKey, requestHash, claimToken, expiresAt) == 1) {
+                return 1;
+            }
+            return idempotencyKeyRepository.reclaim(idempotencyKey, requestHash, claimToken, staleBefore, expiresAt);
+        });
+        return claimed != null && claimed == 1 ? claimToken : null;
+    }
+
+    private OrderResponse.OrderInfo createOrder(String idempotencyKey, String claimToken,
+                                                OrderRequest.Create request, String requestHash) {
+        OrderResponse.OrderInfo orderInfo;
+        try {
+            // 주문 저장과 키 완료 기록을 한 트랜잭션으로 묶어 응답 없이 주문만 남는 경우를 막음
+            orderInfo = transactionTemplate.execute(status -> {
+                OrderResponse.OrderInfo created = orderService.createOrder(request);
+                // 처리가 오래 걸려 다른 요청이 키를 다시 선점했다면 이 주문은 롤백해 중복 주문을 막음
+                if (idempotencyKeyRepository.complete(idempotencyKey, claimToken,
+                        created.getOrderId(), toJson(created)) != 1) {
+                    throw new ResponseStatusException(HttpStatus.CONFLICT,
+                            "같은 Idempotency-Key 를 다른 요청이 다시 선점했습니다");
+                }
+                return created;
+            });
+        } catch (RuntimeException e) {
+            // 실패한 요청은 같은 키로 다시 시도할 수 있도록 선점을 해제
+            try {
+                transactionTemplate.executeWithoutResult(status ->
+                        idempotencyKeyRepository.deleteInProgress(idempotencyKey, claimToken));
+            } catch (RuntimeException releaseFailure) {
+                log.error("Failed to release idempotency key: key={}", idempotencyKey, releaseFailure);
+            }
+            throw e;
+        }
+
+        completed.put(idempotencyKey,
+                new CompletedRequest(requestHash, orderInfo, LocalDateTime.now().plusHours(ttlHours)));
+        return orderInfo;
+    }
+
+    private Result replay(String idempotencyKey, CompletedRequest completedRequest, String requestHash) {
+        if (!completedRequest.requestHash().equals(requestHash)) {
+            throw new ResponseStatusException(HttpStatus.UNPROCESSABLE_ENTITY,
+                    "같은 Idempotency-Key 로 다른 요청이 전달되었습니다");
+        }
+        log.info("Idempotent order request replayed: key={}, orderId={}",
+                idempotencyKey, completedRequest.orderInfo().getOrderId());
+        return new Result(completedRequest.orderInfo(), true);
+    }
+
+    private CompletedRequest await(String idempotencyKey, CompletableFuture<CompletedRequest> running) {
+        try {
+            return running.get(waitTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "같은 Idempotency-Key 의 요청이 처리 중입니다");
+        } catch (TimeoutException e) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "같은 Idempotency-Key 의 요청이 처리 중입니다");
+        } catch (ExecutionException e) {
+            // 먼저 들어온 요청이 실패하면 같은 오류를 그대로 전달
+            log.debug("Idempotent order request failed in concurrent attempt: key={}", idempotencyKey);
+            throw e.getCause() instanceof RuntimeException runtimeException
+                    ? runtimeException : new RuntimeException(e.getCause());
+        }
+    }
+
+    private void sleep() {
+        try {
+            Thread.sleep(POLL_INTERVAL_MS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "같은 Idempotency-Key 의 요청이 처리 중입니다");
+        }
+    }
+
+    private String hash(OrderRequest.Create request) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(objectMapper.writeValueAsBytes(request)));
+        } catch (NoSuchAlgorithmException | JsonProcessingException e) {
+            throw new IllegalStateException("요청 해시 계산 실패", e);
+        }
+    }
+
+    private String toJson(OrderResponse.OrderInfo orderInfo) {
+        try {
+            return objectMapper.writeValueAsString(orderInfo);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("주문 응답 직렬화 실패", e);
+        }
+    }
+
+    private OrderResponse.OrderInfo fromJson(String response) {
+        try {
+            return objectMapper.readValue(response, OrderResponse.OrderInfo.class);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("저장된 주문 응답을 읽을 수 없습니다", e);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.ecommerce.msa.order.service;
+
+import com.ecommerce.msa.order.config.KafkaConfig;
+import com.ecommerce.msa.order.event.OrderIntakeCommand;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+// order.intake 토픽에서 접수된 주문을 꺼내 사용자/상품 확인과 재고 예약을 수행
+// 처리 속도는 컨슈머 수와 poll 크기로 제한되므로 부하가 몰리면 요청 스레드 대신 토픽에 적체됨
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OrderIntakeWorker {
+
+    private final OrderService orderService;
+
+    @KafkaListener(
+            topics = "order.intake",
+            groupId = "${order.intake.worker.group-id:order-service-intake}",
+            concurrency = "${order.intake.worker.concurrency:4}",
+            containerFactory = KafkaConfig.ORDER_INTAKE_CONTAINER_FACTORY,
+            properties = "max.poll.records=${order.intake.worker.max-poll-records:20}")
+    public void onOrderIntake(OrderIntakeCommand command) {
+        try {
+            orderService.processOrderIntake(command);
+            log.info("Order intake processed: orderId={}", command.getOrderId());
+        } catch (OrderRejectedException e) {
+            log.warn("Order intake rejected: orderId={}, reason={}", command.getOrderId(), e.getMessage());
+            // 거절 처리까지 실패하면 예외를 그대로 던져 컨테이너가 다시 전달하도록 함
+            orderService.rejectOrderIntake(command.getOrderId(), e.getMessage());
+        }
+        // 하위 서비스 장애(타임아웃, 서킷 오픈, 대체 응답)나 DB 잠금 대기 초과 등은 그대로 던져
+        // 컨테이너의 DefaultErrorHandler 가 백오프 후 재시도하고, 재시도를 모두 실패하면 거절 처리
+    }
+}
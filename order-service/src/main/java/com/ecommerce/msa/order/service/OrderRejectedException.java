@@ -0,0 +1,15 @@
+package com.ecommerce.msa.order.service;
+
+import java.io.Serial;
+
+// 사용자/상품 확인이나 재고 확보가 실제로 거절된 경우 (하위 서비스 장애로 확인하지 못한 경우와 구분)
+// 비동기 접수 워커는 이 예외만 주문 거절로 처리하고, 나머지는 재시도함
+public class OrderRejectedException extends RuntimeException {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    public OrderRejectedException(String message) {
+        super(message);
+    }
+}
@@ -1,28 +1,46 @@
 package com.ecommerce.msa.order.service;
 
+import com.ecommerce.msa.order.client.DownstreamOverloadedException;
+import com.ecommerce.msa.order.client.HedgedProductReader;
 import com.ecommerce.msa.order.client.ProductServiceClient;
 import com.ecommerce.msa.order.client.UserServiceClient;
+import com.ecommerce.msa.order.config.DownstreamCallGuard;
+import com.ecommerce.msa.order.config.RemoteCallExecutor;
 import com.ecommerce.msa.order.dto.*;
 import com.ecommerce.msa.order.entity.Order;
 import com.ecommerce.msa.order.entity.OrderItem;
 import com.ecommerce.msa.order.entity.ShippingAddress;
 import com.ecommerce.msa.order.event.OrderEvent;
+import com.ecommerce.msa.order.event.OrderIntakeCommand;
+import com.ecommerce.msa.order.repository.OrderItemRepository;
 import com.ecommerce.msa.order.repository.OrderRepository;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import io.github.resilience4j.retry.annotation.Retry;
 import io.github.resilience4j.timelimiter.annotation.TimeLimiter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
 import java.util.stream.Collectors;
 
 @Service
@@ -31,42 +49,165 @@ import java.util.stream.Collectors;
 @Slf4j
 public class OrderService {
 
+    private static final String ORDER_EVENTS_TOPIC = "order.events";
+    private static final String ORDER_INTAKE_TOPIC = "order.intake";
+
     private final OrderRepository orderRepository;
+    private final OrderItemRepository orderItemRepository;
     private final UserServiceClient userServiceClient;
     private final ProductServiceClient productServiceClient;
-    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final HedgedProductReader hedgedProductReader;
+    private final OutboxService outboxService;
+    private final RemoteCallExecutor remoteCallExecutor;
+    private final DownstreamCallGuard downstreamCallGuard;
+    private final ProductCache productCache;
+    private final UserStatusCache userStatusCache;
+    private final SalesRollupService salesRollupService;
 
-    public OrderResponse.OrderInfo createOrder(OrderRequest.Create request) {
-        // 1. 사용자 정보 확인
-        UserResponse userResponse = getUserWithFallback(request.getUserId());
-        if (!userResponse.isAvailable()) {
-            throw new RuntimeException("사용자 정보를 확인할 수 없습니다");
-        }
+    @Value("${order.product-lookup.max-concurrency:8}")
+    private int productLookupMaxConcurrency;
+
+    @Value("${order.stock.hold.enabled:true}")
+    private boolean stockHoldEnabled;
+
+    @Value("${order.stock.hold.ttl-seconds:1800}")
+    private int stockHoldTtlSeconds;
+
+    @Value("${order.intake.stock-precheck.enabled:false}")
+    private boolean intakeStockPrecheckEnabled;
 
-        // 2. 주문 생성
+    public OrderResponse.OrderInfo createOrder(OrderRequest.Create request) {
         Order order = Order.builder()
                 .userId(request.getUserId())
                 .totalAmount(BigDecimal.ZERO)
                 .shippingAddress(createShippingAddress(request.getShippingAddress()))
                 .build();
 
-        // 3. 주문 항목 처리
-        for (OrderRequest.OrderItemRequest itemRequest : request.getOrderItems()) {
-            ProductResponse productResponse = getProductWithFallback(itemRequest.getProductId());
-            
-            if (!productResponse.isAvailable()) {
-                throw new RuntimeException("상품 정보를 확인할 수 없습니다: " + itemRequest.getProductId());
+        return OrderResponse.OrderInfo.from(placeOrder(order, request));
+    }
+
+    public OrderResponse.OrderInfo acceptOrder(OrderRequest.Create request) {
+        // 주문 껍데기만 저장하고, 외부 서비스 호출과 재고 예약은 접수 워커가 처리
+        Order order = orderRepository.save(Order.builder()
+                .userId(request.getUserId())
+                .totalAmount(BigDecimal.ZERO)
+                .shippingAddress(createShippingAddress(request.getShippingAddress()))
+                .intakeStatus(Order.IntakeStatus.ACCEPTED)
+                .build());
+
+        OrderIntakeCommand command = OrderIntakeCommand.builder()
+                .orderId(order.getOrderId())
+                .request(request)
+                .acceptedAt(LocalDateTime.now())
+                .build();
+        outboxService.append(ORDER_INTAKE_TOPIC, String.valueOf(order.getOrderId()), "ORDER_ACCEPTED", command);
+
+        log.info("Order accepted for async intake: orderId={}, userId={}", order.getOrderId(), order.getUserId());
+        return OrderResponse.OrderInfo.from(order);
+    }
+
+    // 비동기 접수 전 재고 사전 확인 (기본 꺼짐): 판매 가능 수량(재고 - 홀드)이 요청 수량보다 적은 상품이 있으면 409
+    // 원격 호출 동안 DB 연결을 잡지 않도록 트랜잭션 밖에서 실행하고, 확인하지 못한 경우(호출 실패, 한도 초과,
+    // 장애 대체 응답)는 그대로 접수해 실제 확보 여부를 접수 워커의 재고 예약에 맡김
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void precheckIntakeStock(OrderRequest.Create request) {
+        if (!intakeStockPrecheckEnabled) {
+            return;
+        }
+        Map<Long, Integer> quantities = request.getOrderItems().stream().collect(Collectors.toMap(
+                OrderRequest.OrderItemRequest::getProductId, OrderRequest.OrderItemRequest::getQuantity,
+                Integer::sum, LinkedHashMap::new));
+
+        List<ProductResponse.StockInfo> stockInfos;
+        try {
+            stockInfos = downstreamCallGuard.call(DownstreamCallGuard.PRODUCT_SERVICE,
+                    () -> productServiceClient.checkStocks(List.copyOf(quantities.keySet())));
+        } catch (Exception e) {
+            log.warn("Stock pre-check skipped, accepting order without it: productIds={}", quantities.keySet(), e);
+            return;
+        }
+
+        for (ProductResponse.StockInfo stockInfo : stockInfos) {
+            Integer requested = quantities.get(stockInfo.getProductId());
+            if (stockInfo.isFallback() || requested == null || stockInfo.getAvailableQuantity() == null) {
+                continue;
+            }
+            if (stockInfo.getAvailableQuantity() < requested) {
+                throw new ResponseStatusException(HttpStatus.CONFLICT, "재고가 부족합니다: "
+                        + (stockInfo.getName() != null ? stockInfo.getName() : stockInfo.getProductId()));
             }
+        }
+    }
+
+    public void processOrderIntake(OrderIntakeCommand command) {
+        Order order = orderRepository.findById(command.getOrderId()).orElse(null);
+        // 재전달되었거나 이미 취소된 접수 건은 건너뜀
+        if (order == null
+                || order.getIntakeStatus() != Order.IntakeStatus.ACCEPTED
+                || order.getStatus() != Order.OrderStatus.PENDING) {
+            log.info("Order intake skipped: orderId={}, intakeStatus={}", command.getOrderId(),
+                    order != null ? order.getIntakeStatus() : null);
+            return;
+        }
+
+        order.setIntakeStatus(Order.IntakeStatus.COMPLETED);
+        placeOrder(order, command.getRequest());
+    }
+
+    public void rejectOrderIntake(Long orderId, String reason) {
+        Order order = orderRepository.findById(orderId).orElse(null);
+        if (order == null || order.getIntakeStatus() != Order.IntakeStatus.ACCEPTED) {
+            return;
+        }
+
+        order.rejectIntake(reason);
+        orderRepository.save(order);
+        publishOrderEvent("ORDER_REJECTED", order);
+
+        log.info("Order intake rejected: orderId={}, reason={}", orderId, reason);
+    }
+
+    private Order placeOrder(Order order, OrderRequest.Create request) {
+        // 1. 사용자 정보 확인 (거절과 user-service 장애를 구분)
+        Boolean userAvailable = checkUserAvailable(request.getUserId());
+        if (userAvailable == null) {
+            throw new RuntimeException("사용자 정보 조회 실패: user-service 에 연결할 수 없습니다");
+        }
+        if (!userAvailable) {
+            throw new OrderRejectedException("사용자 정보를 확인할 수 없습니다");
+        }
 
-            // 재고 확인 및 차감
-            ProductResponse.StockInfo stockInfo = checkAndUpdateStock(
-                    itemRequest.getProductId(), 
-                    itemRequest.getQuantity()
-            );
-            
-            if (!stockInfo.isAvailable()) {
-                throw new RuntimeException("재고가 부족합니다: " + productResponse.getName());
+        // 2. 상품 정보 병렬 조회
+        Map<Long, ProductResponse> products = getProductsWithFallback(request.getOrderItems().stream()
+                .map(OrderRequest.OrderItemRequest::getProductId)
+                .distinct()
+                .collect(Collectors.toList()));
+
+        products.forEach((productId, productResponse) -> {
+            if (productResponse.isFallback()) {
+                throw new RuntimeException("상품 정보 조회 실패: " + productId);
+            }
+            if (!productResponse.isAvailable()) {
+                throw new OrderRejectedException("상품 정보를 확인할 수 없습니다: " + productId);
             }
+        });
+
+        // 3. 재고 일괄 예약 (전체 성공 또는 전체 실패)
+        //    홀드 사용 시 주문 확정 전까지는 판매 가능 수량만 확보하고, 확정되지 않으면 만료 시 자동 반환
+        //    이후 단계(주문 저장, 이벤트 기록, 커밋)가 실패해 트랜잭션이 롤백되면 예약한 재고를 복원
+        StockReservationRequest reservationRequest = createStockReservationRequest(request.getOrderItems());
+        if (stockHoldEnabled) {
+            String reservationId = holdStocks(reservationRequest, products);
+            order.setStockReservationId(reservationId);
+            runAfterRollback(() -> releaseStockHoldsQuietly(reservationId));
+        } else {
+            reserveStocks(reservationRequest, products);
+            runAfterRollback(() -> releaseStocksQuietly(reservationRequest));
+        }
+
+        // 4. 주문 항목 처리
+        for (OrderRequest.OrderItemRequest itemRequest : request.getOrderItems()) {
+            ProductResponse productResponse = products.get(itemRequest.getProductId());
 
             OrderItem orderItem = OrderItem.builder()
                     .productId(itemRequest.getProductId())
@@ -78,74 +219,285 @@ public class OrderService {
             order.addOrderItem(orderItem);
         }
 
-        // 4. 총 금액 계산
+        // 5. 총 금액 계산
         order.calculateTotalAmount();
 
-        // 5. 주문 저장
-        Order savedOrder = orderRepository.save(order);
+        // 6. 주문 저장
+        Order savedOrder = orderRepository.saveAndFlush(order);
+        salesRollupService.recordPlaced(savedOrder, savedOrder.getOrderItems());
 
-        // 6. 주문 생성 이벤트 발행
+        // 7. 주문 생성 이벤트 발행
         publishOrderEvent("ORDER_CREATED", savedOrder);
 
         log.info("Order created successfully: orderId={}, userId={}, totalAmount={}", 
                 savedOrder.getOrderId(), savedOrder.getUserId(), savedOrder.getTotalAmount());
 
-        return OrderResponse.OrderInfo.from(savedOrder);
+        return savedOrder;
     }
 
     @CircuitBreaker(name = "user-service", fallbackMethod = "fallbackGetUser")
     @Retry(name = "user-service")
     @TimeLimiter(name = "user-service")
     public CompletableFuture<UserResponse> getUserAsync(Long userId) {
-        return CompletableFuture.supplyAsync(() -> userServiceClient.getUserById(userId));
+        return downstreamCallGuard.callAsync(DownstreamCallGuard.USER_SERVICE,
+                () -> remoteCallExecutor.supplyAsync(() -> userServiceClient.getUserById(userId)));
     }
 
     public UserResponse getUserWithFallback(Long userId) {
         try {
             return getUserAsync(userId).get();
         } catch (Exception e) {
+            rethrowIfOverloaded(e);
             log.error("Failed to get user info for userId: {}", userId, e);
             return UserResponse.builder()
                     .userId(userId)
                     .name("사용자 정보 조회 실패")
                     .available(false)
+                    .fallback(true)
                     .build();
         }
     }
 
+    public boolean isUserAvailable(Long userId) {
+        return Boolean.TRUE.equals(checkUserAvailable(userId));
+    }
+
+    private Boolean checkUserAvailable(Long userId) {
+        // 로컬 사용자 상태 캐시에 없을 때만 user-service 를 조회 (장애로 확인하지 못하면 null)
+        Boolean cached = userStatusCache.get(userId);
+        if (cached != null) {
+            return cached;
+        }
+
+        UserResponse userResponse = getUserWithFallback(userId);
+        if (userResponse.isFallback()) {
+            return null;
+        }
+        userStatusCache.putIfAbsent(userId, userResponse.isAvailable());
+        return userResponse.isAvailable();
+    }
+
     @CircuitBreaker(name = "product-service", fallbackMethod = "fallbackGetProduct")
     @Retry(name = "product-service")
     @TimeLimiter(name = "product-service")
     public CompletableFuture<ProductResponse> getProductAsync(Long productId) {
-        return CompletableFuture.supplyAsync(() -> productServiceClient.getProductById(productId));
+        if (hedgedProductReader.isEnabled()) {
+            // 헤지 조회는 원 요청과 헤지 요청이 각각 동시 호출 허가를 받음
+            return hedgedProductReader.getProductById(productId);
+        }
+        return downstreamCallGuard.callAsync(DownstreamCallGuard.PRODUCT_SERVICE,
+                () -> remoteCallExecutor.supplyAsync(() -> productServiceClient.getProductById(productId)));
     }
 
     public ProductResponse getProductWithFallback(Long productId) {
+        ProductResponse cached = productCache.get(productId);
+        if (cached != null) {
+            return cached;
+        }
+        ProductResponse productResponse = awaitProduct(productId, getProductAsync(productId));
+        productCache.put(productResponse);
+        return productResponse;
+    }
+
+    public Map<Long, ProductResponse> getProductsWithFallback(List<Long> productIds) {
+        // 로컬 캐시에 없는 상품만 원격 조회
+        Map<Long, ProductResponse> cached = productCache.getAll(productIds);
+        List<Long> uncachedIds = productIds.stream()
+                .filter(productId -> !cached.containsKey(productId))
+                .collect(Collectors.toList());
+
+        // 일괄 조회 API로 한 번에 조회하고, 응답에 없는 상품만 개별 조회로 보완
+        Map<Long, ProductResponse> fetched = new LinkedHashMap<>();
+        if (!uncachedIds.isEmpty()) {
+            try {
+                for (ProductResponse productResponse : downstreamCallGuard.call(DownstreamCallGuard.PRODUCT_SERVICE,
+                        () -> productServiceClient.getProductsByIds(uncachedIds))) {
+                    fetched.put(productResponse.getProductId(), productResponse);
+                }
+            } catch (DownstreamOverloadedException e) {
+                // 한도 초과 시 개별 조회로 넘어가면 부하가 더 커지므로 바로 거절
+                throw e;
+            } catch (Exception e) {
+                log.warn("Batch product lookup failed, falling back to single lookups: productIds={}", uncachedIds, e);
+            }
+
+            List<Long> missedIds = uncachedIds.stream()
+                    .filter(productId -> !fetched.containsKey(productId))
+                    .collect(Collectors.toList());
+            if (!missedIds.isEmpty()) {
+                fetched.putAll(getProductsConcurrently(missedIds));
+            }
+            fetched.values().forEach(productCache::put);
+        }
+
+        Map<Long, ProductResponse> products = new LinkedHashMap<>();
+        for (Long productId : productIds) {
+            ProductResponse productResponse = cached.containsKey(productId) ? cached.get(productId) : fetched.get(productId);
+            if (productResponse != null) {
+                products.put(productId, productResponse);
+            }
+        }
+        return products;
+    }
+
+    private Map<Long, ProductResponse> getProductsConcurrently(List<Long> productIds) {
+        // 요청당 동시 조회 수를 제한하면서 모든 상품을 한 번에 조회
+        Semaphore permits = new Semaphore(Math.max(1, productLookupMaxConcurrency));
+        Map<Long, CompletableFuture<ProductResponse>> futures = new LinkedHashMap<>();
+        for (Long productId : productIds) {
+            permits.acquireUninterruptibly();
+            CompletableFuture<ProductResponse> future;
+            try {
+                future = getProductAsync(productId);
+            } catch (DownstreamOverloadedException e) {
+                permits.release();
+                throw e;
+            } catch (RuntimeException e) {
+                permits.release();
+                future = CompletableFuture.failedFuture(e);
+            }
+            futures.put(productId, future.whenComplete((result, ex) -> permits.release()));
+        }
+
+        Map<Long, ProductResponse> products = new LinkedHashMap<>();
+        futures.forEach((productId, future) -> products.put(productId, awaitProduct(productId, future)));
+        return products;
+    }
+
+    private ProductResponse awaitProduct(Long productId, CompletableFuture<ProductResponse> future) {
         try {
-            return getProductAsync(productId).get();
+            return future.get();
         } catch (Exception e) {
+            rethrowIfOverloaded(e);
             log.error("Failed to get product info for productId: {}", productId, e);
             return ProductResponse.builder()
                     .productId(productId)
                     .name("상품 정보 조회 실패")
                     .price(BigDecimal.ZERO)
                     .available(false)
+                    .fallback(true)
                     .build();
         }
     }
 
-    public ProductResponse.StockInfo checkAndUpdateStock(Long productId, Integer quantity) {
+    private void rethrowIfOverloaded(Exception e) {
+        // 동시 호출 한도 초과는 조회 실패(fallback)로 처리하지 않고 503 으로 그대로 응답
+        Throwable cause = e instanceof ExecutionException ? e.getCause() : e;
+        if (cause instanceof DownstreamOverloadedException overloaded) {
+            throw overloaded;
+        }
+    }
+
+    public void reserveStocks(StockReservationRequest request, Map<Long, ProductResponse> products) {
+        StockReservationResponse reservation;
         try {
-            StockUpdateRequest request = StockUpdateRequest.builder()
-                    .quantity(quantity)
-                    .operation("DECREASE")
-                    .build();
-            
-            return productServiceClient.updateStock(productId, request);
+            reservation = downstreamCallGuard.call(DownstreamCallGuard.PRODUCT_SERVICE,
+                    () -> productServiceClient.reserveStocks(request));
+        } catch (DownstreamOverloadedException e) {
+            throw e;
         } catch (Exception e) {
-            log.error("Failed to update stock for productId: {}, quantity: {}", productId, quantity, e);
+            log.error("Failed to reserve stocks: items={}", request.getItems(), e);
             throw new RuntimeException("재고 업데이트 실패");
         }
+
+        if (!reservation.isReserved()) {
+            throw stockReservationFailure(reservation.getItems(), products);
+        }
+    }
+
+    public String holdStocks(StockReservationRequest request, Map<Long, ProductResponse> products) {
+        StockHoldRequest holdRequest = StockHoldRequest.builder()
+                .reservationId(UUID.randomUUID().toString())
+                .items(request.getItems())
+                .ttlSeconds(stockHoldTtlSeconds)
+                .build();
+
+        StockHoldResponse hold;
+        try {
+            hold = downstreamCallGuard.call(DownstreamCallGuard.PRODUCT_SERVICE,
+                    () -> productServiceClient.createStockHolds(holdRequest));
+        } catch (DownstreamOverloadedException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("Failed to hold stocks: reservationId={}, items={}",
+                    holdRequest.getReservationId(), request.getItems(), e);
+            throw new RuntimeException("재고 업데이트 실패");
+        }
+
+        if (!hold.isHeld()) {
+            throw stockReservationFailure(hold.getItems(), products);
+        }
+        return hold.getReservationId();
+    }
+
+    private RuntimeException stockReservationFailure(List<StockReservationResponse.Line> lines,
+                                                     Map<Long, ProductResponse> products) {
+        StockReservationResponse.Line failedLine = lines == null ? null
+                : lines.stream()
+                        .filter(line -> line.getReason() != null)
+                        .findFirst()
+                        .orElse(null);
+        if (failedLine == null) {
+            // 사유 없는 실패는 상품 서비스 장애 대체 응답
+            return new RuntimeException("재고 업데이트 실패");
+        }
+        ProductResponse productResponse = products.get(failedLine.getProductId());
+        return new OrderRejectedException(failedLine.getReason() + ": "
+                + (productResponse != null ? productResponse.getName() : failedLine.getProductId()));
+    }
+
+    private void releaseStockHoldsQuietly(String reservationId) {
+        try {
+            productServiceClient.releaseStockHolds(reservationId);
+        } catch (Exception e) {
+            // 해제하지 못한 홀드는 만료 시각에 상품 서비스가 반환
+            log.error("Failed to release stock holds: reservationId={}", reservationId, e);
+        }
+    }
+
+    private void confirmStockHolds(String reservationId) {
+        try {
+            downstreamCallGuard.call(DownstreamCallGuard.PRODUCT_SERVICE, () -> {
+                productServiceClient.confirmStockHolds(reservationId);
+                return null;
+            });
+        } catch (DownstreamOverloadedException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("Failed to confirm stock holds: reservationId={}", reservationId, e);
+            throw new RuntimeException("재고 확정 실패: 재고 예약이 만료되었거나 상품 서비스에 연결할 수 없습니다");
+        }
+    }
+
+    private void runAfterRollback(Runnable compensation) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                // 커밋 여부를 알 수 없는(STATUS_UNKNOWN) 경우는 복원하지 않음 (홀드는 만료 시 반환)
+                if (status == STATUS_ROLLED_BACK) {
+                    compensation.run();
+                }
+            }
+        });
+    }
+
+    private void releaseStocksQuietly(StockReservationRequest request) {
+        try {
+            productServiceClient.releaseStocks(request);
+        } catch (Exception e) {
+            log.error("Failed to restore stocks: items={}", request.getItems(), e);
+        }
+    }
+
+    private StockReservationRequest createStockReservationRequest(List<OrderRequest.OrderItemRequest> orderItems) {
+        return StockReservationRequest.builder()
+                .items(orderItems.stream()
+                        .map(item -> StockReservationRequest.Item.builder()
+                                .productId(item.getProductId())
+                                .quantity(item.getQuantity())
+                                .build())
+                        .collect(Collectors.toList()))
+                .build();
     }
 
     private ShippingAddress createShippingAddress(OrderRequest.ShippingAddressRequest request) {
@@ -169,13 +521,80 @@ public class OrderService {
     @Transactional(readOnly = true)
     public Page<OrderResponse.OrderInfo> getOrdersByUserId(Long userId, Pageable pageable) {
         Page<Order> orders = orderRepository.findByUserId(userId, pageable);
-        return orders.map(OrderResponse.OrderInfo::from);
+        return toOrderInfoPage(orders);
     }
 
     @Transactional(readOnly = true)
     public Page<OrderResponse.OrderInfo> getOrdersByStatus(Order.OrderStatus status, Pageable pageable) {
         Page<Order> orders = orderRepository.findByStatus(status, pageable);
-        return orders.map(OrderResponse.OrderInfo::from);
+        return toOrderInfoPage(orders);
+    }
+
+    @Transactional(readOnly = true)
+    public Slice<OrderResponse.OrderInfo> getOrdersSliceByUserId(Long userId, Pageable pageable) {
+        Slice<Order> orders = orderRepository.findSliceByUserId(userId, pageable);
+        return toOrderInfoSlice(orders);
+    }
+
+    @Transactional(readOnly = true)
+    public Slice<OrderResponse.OrderInfo> getOrdersSliceByStatus(Order.OrderStatus status, Pageable pageable) {
+        Slice<Order> orders = orderRepository.findSliceByStatus(status, pageable);
+        return toOrderInfoSlice(orders);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<OrderResponse.OrderInfo> getOrdersByUserIdCursor(Long userId, String cursor, int size) {
+        int limit = OrderCursor.pageSize(size);
+        OrderCursor after = OrderCursor.decode(cursor);
+        List<Order> orders = after == null
+                ? orderRepository.findByUserIdOrderByCreatedAtDescOrderIdDesc(userId, PageRequest.of(0, limit + 1))
+                : orderRepository.findByUserIdBefore(userId, after.createdAt(), after.orderId(),
+                        PageRequest.of(0, limit + 1));
+        return toCursorPage(orders, limit);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<OrderResponse.OrderInfo> getOrdersByStatusCursor(Order.OrderStatus status, String cursor, int size) {
+        int limit = OrderCursor.pageSize(size);
+        OrderCursor after = OrderCursor.decode(cursor);
+        List<Order> orders = after == null
+                ? orderRepository.findByStatusOrderByCreatedAtDescOrderIdDesc(status, PageRequest.of(0, limit + 1))
+                : orderRepository.findByStatusBefore(status, after.createdAt(), after.orderId(),
+                        PageRequest.of(0, limit + 1));
+        return toCursorPage(orders, limit);
+    }
+
+    private Page<OrderResponse.OrderInfo> toOrderInfoPage(Page<Order> orders) {
+        Map<Long, List<OrderItem>> itemsByOrderId = findOrderItems(orders.getContent());
+        return orders.map(order -> OrderResponse.OrderInfo.from(order,
+                itemsByOrderId.getOrDefault(order.getOrderId(), List.of())));
+    }
+
+    private Slice<OrderResponse.OrderInfo> toOrderInfoSlice(Slice<Order> orders) {
+        Map<Long, List<OrderItem>> itemsByOrderId = findOrderItems(orders.getContent());
+        return orders.map(order -> OrderResponse.OrderInfo.from(order,
+                itemsByOrderId.getOrDefault(order.getOrderId(), List.of())));
+    }
+
+    private CursorPage<OrderResponse.OrderInfo> toCursorPage(List<Order> orders, int limit) {
+        return CursorPage.of(orders, limit, content -> {
+            Map<Long, List<OrderItem>> itemsByOrderId = findOrderItems(content);
+            return content.stream()
+                    .map(order -> OrderResponse.OrderInfo.from(order,
+                            itemsByOrderId.getOrDefault(order.getOrderId(), List.of())))
+                    .collect(Collectors.toList());
+        }, last -> new OrderCursor(last.getCreatedAt(), last.getOrderId()).encode());
+    }
+
+    private Map<Long, List<OrderItem>> findOrderItems(List<Order> orders) {
+        // 페이지에 포함된 주문의 항목을 한 번에 조회해 주문마다 지연 로딩 쿼리가 나가지 않도록 함
+        if (orders.isEmpty()) {
+            return Map.of();
+        }
+        return orderItemRepository.findByOrderIdIn(orders.stream()
+                        .map(Order::getOrderId)
+                        .collect(Collectors.toList())).stream()
+                .collect(Collectors.groupingBy(item -> item.getOrder().getOrderId()));
     }
 
     public OrderResponse.OrderInfo updateOrderStatus(Long orderId, OrderRequest.StatusUpdate request) {
@@ -189,9 +608,44 @@ public class OrderService {
             throw new RuntimeException("유효하지 않은 주문 상태입니다: " + request.getStatus());
         }
 
+        // 일괄 변경과 같은 전이 규칙: 취소/배송 완료된 주문은 되살릴 수 없고, 이미 같은 상태면 변경 없이 반환
+        if (order.getStatus() == newStatus) {
+            return OrderResponse.OrderInfo.from(order);
+        }
+        if (!order.getStatus().canTransitionTo(newStatus)) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT,
+                    "허용되지 않는 상태 전이입니다: " + order.getStatus() + " -> " + newStatus);
+        }
+
+        // 대기 중인 주문이 진행되면 홀드해 둔 재고를 실제로 차감
+        if (order.getStatus() == Order.OrderStatus.PENDING
+                && newStatus != Order.OrderStatus.PENDING
+                && newStatus != Order.OrderStatus.CANCELLED
+                && order.getStockReservationId() != null) {
+            confirmStockHolds(order.getStockReservationId());
+        }
+
+        boolean stockHeld = order.getStatus() == Order.OrderStatus.PENDING && order.getStockReservationId() != null;
+        // 접수 워커가 아직 재고를 예약하지 않은 주문은 복원할 재고가 없음
+        boolean restoreStock = newStatus == Order.OrderStatus.CANCELLED
+                && order.getIntakeStatus() != Order.IntakeStatus.ACCEPTED;
+        boolean wasCounted = SalesRollupService.isCounted(order.getStatus());
+        if (newStatus == Order.OrderStatus.CANCELLED && order.getIntakeStatus() == Order.IntakeStatus.ACCEPTED) {
+            order.rejectIntake("주문이 취소되었습니다");
+        }
         order.updateStatus(newStatus);
         Order updatedOrder = orderRepository.save(order);
 
+        // 상태 변경 API 로 취소해도 주문 취소와 같이 홀드를 해제하거나 재고를 복원
+        if (restoreStock) {
+            restoreStocks(updatedOrder, stockHeld);
+        }
+
+        // 취소된 주문은 매출 집계에서 뺌 (취소된 주문은 다른 상태로 바뀔 수 없으므로 다시 더하는 경우는 없음)
+        if (wasCounted && !SalesRollupService.isCounted(newStatus)) {
+            salesRollupService.recordCancelled(updatedOrder, updatedOrder.getOrderItems());
+        }
+
         // 주문 상태 변경 이벤트 발행
         publishOrderEvent("ORDER_STATUS_UPDATED", updatedOrder);
 
@@ -208,57 +662,73 @@ public class OrderService {
             order.getStatus() == Order.OrderStatus.DELIVERED) {
             throw new RuntimeException("배송 중이거나 완료된 주문은 취소할 수 없습니다");
         }
+        if (order.getStatus() == Order.OrderStatus.CANCELLED) {
+            // 다시 취소하면 재고가 두 번 복원됨
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "이미 취소된 주문입니다");
+        }
 
+        boolean stockHeld = order.getStatus() == Order.OrderStatus.PENDING && order.getStockReservationId() != null;
+        boolean wasCounted = SalesRollupService.isCounted(order.getStatus());
+        if (order.getIntakeStatus() == Order.IntakeStatus.ACCEPTED) {
+            // 접수 워커가 처리하기 전에 취소된 주문은 예약된 재고가 없음
+            order.rejectIntake("주문이 취소되었습니다");
+        }
         order.updateStatus(Order.OrderStatus.CANCELLED);
         orderRepository.save(order);
-
-        // 재고 복원
-        for (OrderItem orderItem : order.getOrderItems()) {
-            try {
-                StockUpdateRequest request = StockUpdateRequest.builder()
-                        .quantity(orderItem.getQuantity())
-                        .operation("INCREASE")
-                        .build();
-                
-                productServiceClient.updateStock(orderItem.getProductId(), request);
-            } catch (Exception e) {
-                log.error("Failed to restore stock for productId: {}, quantity: {}", 
-                        orderItem.getProductId(), orderItem.getQuantity(), e);
-            }
+        if (wasCounted) {
+            salesRollupService.recordCancelled(order, order.getOrderItems());
         }
 
+        restoreStocks(order, stockHeld);
+
         // 주문 취소 이벤트 발행
         publishOrderEvent("ORDER_CANCELLED", order);
 
         log.info("Order cancelled successfully: orderId={}", orderId);
     }
 
-    private void publishOrderEvent(String eventType, Order order) {
-        try {
-            List<OrderEvent.OrderItemEvent> orderItemEvents = order.getOrderItems().stream()
-                    .map(item -> OrderEvent.OrderItemEvent.builder()
-                            .productId(item.getProductId())
-                            .productName(item.getProductName())
-                            .quantity(item.getQuantity())
-                            .price(item.getPrice())
-                            .build())
-                    .collect(Collectors.toList());
+    private void restoreStocks(Order order, boolean stockHeld) {
+        // 재고 복원 (확정 전 주문은 홀드만 해제)
+        if (order.getOrderItems().isEmpty()) {
+            log.debug("No order items to restore stock for: orderId={}", order.getOrderId());
+        } else if (stockHeld) {
+            releaseStockHoldsQuietly(order.getStockReservationId());
+        } else {
+            releaseStocksQuietly(StockReservationRequest.builder()
+                    .items(order.getOrderItems().stream()
+                            .map(item -> StockReservationRequest.Item.builder()
+                                    .productId(item.getProductId())
+                                    .quantity(item.getQuantity())
+                                    .build())
+                            .collect(Collectors.toList()))
+                    .build());
+        }
+    }
 
-            OrderEvent event = OrderEvent.builder()
-                    .eventType(eventType)
-                    .orderId(order.getOrderId())
-                    .userId(order.getUserId())
-                    .totalAmount(order.getTotalAmount())
-                    .orderStatus(order.getStatus().name())
-                    .orderItems(orderItemEvents)
-                    .eventTime(LocalDateTime.now())
-                    .build();
+    private void publishOrderEvent(String eventType, Order order) {
+        // 주문과 같은 트랜잭션에서 아웃박스에 기록하고, 실제 발행은 OutboxRelay 가 담당
+        List<OrderEvent.OrderItemEvent> orderItemEvents = order.getOrderItems().stream()
+                .map(item -> OrderEvent.OrderItemEvent.builder()
+                        .productId(item.getProductId())
+                        .productName(item.getProductName())
+                        .quantity(item.getQuantity())
+                        .price(item.getPrice())
+                        .build())
+                .collect(Collectors.toList());
+
+        OrderEvent event = OrderEvent.builder()
+                .eventType(eventType)
+                .orderId(order.getOrderId())
+                .userId(order.getUserId())
+                .totalAmount(order.getTotalAmount())
+                .orderStatus(order.getStatus().name())
+                .orderItems(orderItemEvents)
+                .orderCreatedAt(order.getCreatedAt())
+                .eventTime(LocalDateTime.now())
+                .build();
 
-            kafkaTemplate.send("order.events", event);
-            log.info("Order event published: eventType={}, orderId={}", eventType, order.getOrderId());
-        } catch (Exception e) {
-            log.error("Failed to publish order event: eventType={}, orderId={}", eventType, order.getOrderId(), e);
-        }
+        outboxService.append(ORDER_EVENTS_TOPIC, String.valueOf(order.getOrderId()), eventType, event);
+        log.info("Order event recorded: eventType={}, orderId={}", eventType, order.getOrderId());
     }
 
     // Fallback methods
@@ -269,6 +739,7 @@ public class OrderService {
                         .userId(userId)
                         .name("사용자 정보 조회 실패")
                         .available(false)
+                        .fallback(true)
                         .build()
         );
     }
@@ -281,6 +752,7 @@ public class OrderService {
                         .name("상품 정보 조회 실패")
                         .price(BigDecimal.ZERO)
                         .available(false)
+                        .fallback(true)
                         .build()
         );
     }
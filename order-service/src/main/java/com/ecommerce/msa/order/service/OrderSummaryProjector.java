@@ -0,0 +1,26 @@
+package com.ecommerce.msa.order.service;
+
+import com.ecommerce.msa.order.event.OrderEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+// order.events 를 별도 컨슈머 그룹으로 구독해 order_summaries 조회 모델을 갱신
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OrderSummaryProjector {
+
+    private final OrderSummaryService orderSummaryService;
+
+    @KafkaListener(
+            topics = "order.events",
+            groupId = "${order.read-model.group-id:order-service-read-model}",
+            concurrency = "${order.read-model.concurrency:1}",
+            properties = "value.deserializer=com.ecommerce.msa.order.event.OrderEventDeserializer")
+    public void onOrderEvent(OrderEvent event) {
+        orderSummaryService.apply(event);
+        log.debug("Order summary updated: orderId={}, eventType={}", event.getOrderId(), event.getEventType());
+    }
+}
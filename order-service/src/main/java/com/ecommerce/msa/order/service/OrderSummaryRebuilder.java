@@ -0,0 +1,117 @@
+package com.ecommerce.msa.order.service;
+
+import com.ecommerce.msa.order.event.OrderEvent;
+import com.ecommerce.msa.order.event.OrderEventDeserializer;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+// order.events 를 처음부터 다시 읽어 order_summaries 를 재구성
+// 컨슈머 그룹과 무관하게 모든 파티션을 직접 할당하므로 어느 인스턴스에서 실행해도 전체가 재구성됨
+// 재생 결과는 order_summaries_rebuild 에 쌓았다가 한 트랜잭션으로 반영하므로 재구성 중에도 조회 모델이 비지 않음
+@Component
+@Slf4j
+public class OrderSummaryRebuilder {
+
+    private static final String TOPIC = "order.events";
+
+    private final ConsumerFactory<Object, Object> consumerFactory;
+    private final OrderSummaryService orderSummaryService;
+    private final TaskExecutor taskExecutor;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    @Value("${order.read-model.rebuild-group-id:order-service-read-model-rebuild}")
+    private String rebuildGroupId;
+
+    public OrderSummaryRebuilder(ConsumerFactory<Object, Object> consumerFactory,
+                                 OrderSummaryService orderSummaryService,
+                                 @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+                                 TaskExecutor taskExecutor) {
+        this.consumerFactory = consumerFactory;
+        this.orderSummaryService = orderSummaryService;
+        this.taskExecutor = taskExecutor;
+    }
+
+    public boolean rebuildAsync() {
+        if (!running.compareAndSet(false, true)) {
+            return false;
+        }
+        try {
+            taskExecutor.execute(() -> {
+                try {
+                    long applied = rebuild();
+                    log.info("Order summaries rebuilt: events={}", applied);
+                } catch (Exception e) {
+                    log.error("Failed to rebuild order summaries", e);
+                } finally {
+                    running.set(false);
+                }
+            });
+            return true;
+        } catch (TaskRejectedException e) {
+            running.set(false);
+            log.warn("Order summary rebuild rejected by task executor", e);
+            return false;
+        }
+    }
+
+    long rebuild() {
+        Properties properties = new Properties();
+        properties.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, "false");
+        properties.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, OrderEventDeserializer.class.getName());
+
+        try (Consumer<Object, Object> consumer = consumerFactory.createConsumer(
+                rebuildGroupId, null, "-rebuild", properties)) {
+            List<TopicPartition> partitions = consumer.partitionsFor(TOPIC).stream()
+                    .map(info -> new TopicPartition(TOPIC, info.partition()))
+                    .collect(Collectors.toList());
+            consumer.assign(partitions);
+            consumer.seekToBeginning(partitions);
+            // 시작 시점의 끝 오프셋까지만 재생하고, 이후 이벤트는 실시간 프로젝터가 반영
+            Map<TopicPartition, Long> endOffsets = consumer.endOffsets(partitions);
+            LocalDateTime startedAt = LocalDateTime.now();
+
+            orderSummaryService.prepareRebuild();
+            long applied = 0;
+            while (!reachedEnd(consumer, endOffsets)) {
+                ConsumerRecords<Object, Object> records = consumer.poll(Duration.ofSeconds(1));
+                List<OrderEvent> events = new ArrayList<>(records.count());
+                for (ConsumerRecord<Object, Object> record : records) {
+                    if (record.value() instanceof OrderEvent event) {
+                        events.add(event);
+                    }
+                }
+                if (!events.isEmpty()) {
+                    orderSummaryService.applyToRebuild(events);
+                    applied += events.size();
+                }
+            }
+            orderSummaryService.swapRebuilt(startedAt);
+            return applied;
+        }
+    }
+
+    private boolean reachedEnd(Consumer<Object, Object> consumer, Map<TopicPartition, Long> endOffsets) {
+        return endOffsets.entrySet().stream()
+                .allMatch(entry -> consumer.position(entry.getKey()) >= entry.getValue());
+    }
+}
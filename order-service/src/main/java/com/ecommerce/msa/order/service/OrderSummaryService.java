@@ -0,0 +1,152 @@
+package com.ecommerce.msa.order.service;
+
+import com.ecommerce.msa.order.dto.CursorPage;
+import com.ecommerce.msa.order.dto.OrderCursor;
+import com.ecommerce.msa.order.dto.OrderResponse;
+import com.ecommerce.msa.order.entity.OrderSummary;
+import com.ecommerce.msa.order.event.OrderEvent;
+import com.ecommerce.msa.order.repository.OrderSummaryRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Transactional
+@Slf4j
+public class OrderSummaryService {
+
+    private static final TypeReference<List<OrderResponse.OrderSummaryItem>> ITEMS_TYPE = new TypeReference<>() {
+    };
+
+    private final OrderSummaryRepository orderSummaryRepository;
+    private final ObjectMapper objectMapper;
+
+    public void apply(OrderEvent event) {
+        if (event.getOrderId() == null) {
+            return;
+        }
+
+        OrderSummary summary = orderSummaryRepository.findById(event.getOrderId())
+                .orElseGet(() -> OrderSummary.builder().orderId(event.getOrderId()).build());
+        // 재전달되거나 늦게 도착한 이전 이벤트로 최신 상태를 덮어쓰지 않음
+        if (summary.getLastEventTime() != null && event.getEventTime() != null
+                && event.getEventTime().isBefore(summary.getLastEventTime())) {
+            log.debug("Stale order event skipped: orderId={}, eventType={}", event.getOrderId(), event.getEventType());
+            return;
+        }
+
+        List<OrderEvent.OrderItemEvent> items = event.getOrderItems() != null ? event.getOrderItems() : List.of();
+        summary.setUserId(event.getUserId());
+        summary.setStatus(event.getOrderStatus());
+        summary.setTotalAmount(event.getTotalAmount());
+        summary.setItemCount(items.size());
+        summary.setTotalQuantity(totalQuantity(items));
+        summary.setItems(toJson(items));
+        if (event.getOrderCreatedAt() != null) {
+            summary.setOrderCreatedAt(event.getOrderCreatedAt());
+        } else if (summary.getOrderCreatedAt() == null) {
+            summary.setOrderCreatedAt(event.getEventTime());
+        }
+        summary.setLastEventType(event.getEventType());
+        summary.setLastEventTime(event.getEventTime());
+        orderSummaryRepository.save(summary);
+    }
+
+    public void prepareRebuild() {
+        orderSummaryRepository.createRebuildTable();
+        orderSummaryRepository.truncateRebuildTable();
+    }
+
+    // 재생한 이벤트를 재구성용 테이블에만 반영 (poll 한 묶음을 한 트랜잭션으로)
+    public void applyToRebuild(List<OrderEvent> events) {
+        for (OrderEvent event : events) {
+            if (event.getOrderId() == null) {
+                continue;
+            }
+            List<OrderEvent.OrderItemEvent> items = event.getOrderItems() != null ? event.getOrderItems() : List.of();
+            orderSummaryRepository.upsertRebuilt(event.getOrderId(), event.getUserId(), event.getOrderStatus(),
+                    event.getTotalAmount(), items.size(), totalQuantity(items), toJson(items),
+                    event.getOrderCreatedAt(), event.getEventType(), event.getEventTime());
+        }
+    }
+
+    // 재구성 결과를 한 트랜잭션으로 반영: 커밋 전까지 조회는 기존 행을 그대로 봄
+    public int swapRebuilt(LocalDateTime startedAt) {
+        int deleted = orderSummaryRepository.deleteNotRebuilt(startedAt);
+        int merged = orderSummaryRepository.mergeRebuilt();
+        orderSummaryRepository.truncateRebuildTable();
+        log.info("Rebuilt order summaries swapped in: merged={}, deleted={}", merged, deleted);
+        return merged;
+    }
+
+    @Transactional(readOnly = true)
+    public OrderResponse.OrderSummaryInfo getSummary(Long orderId) {
+        OrderSummary summary = orderSummaryRepository.findById(orderId)
+                .orElseThrow(() -> new RuntimeException("주문을 찾을 수 없습니다"));
+        return toInfo(summary);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<OrderResponse.OrderSummaryInfo> getSummariesByUserId(Long userId, String cursor, int size) {
+        int limit = OrderCursor.pageSize(size);
+        OrderCursor after = OrderCursor.decode(cursor);
+        List<OrderSummary> summaries = after == null
+                ? orderSummaryRepository.findByUserIdOrderByOrderCreatedAtDescOrderIdDesc(
+                        userId, PageRequest.of(0, limit + 1))
+                : orderSummaryRepository.findByUserIdBefore(
+                        userId, after.createdAt(), after.orderId(), PageRequest.of(0, limit + 1));
+
+        return CursorPage.of(summaries, limit,
+                content -> content.stream().map(this::toInfo).collect(Collectors.toList()),
+                last -> new OrderCursor(last.getOrderCreatedAt(), last.getOrderId()).encode());
+    }
+
+    private OrderResponse.OrderSummaryInfo toInfo(OrderSummary summary) {
+        return OrderResponse.OrderSummaryInfo.builder()
+                .orderId(summary.getOrderId())
+                .userId(summary.getUserId())
+                .status(summary.getStatus())
+                .totalAmount(summary.getTotalAmount())
+                .itemCount(summary.getItemCount())
+                .totalQuantity(summary.getTotalQuantity())
+                .items(fromJson(summary.getItems()))
+                .createdAt(summary.getOrderCreatedAt())
+                .updatedAt(summary.getLastEventTime())
+                .build();
+    }
+
+    private static int totalQuantity(List<OrderEvent.OrderItemEvent> items) {
+        return items.stream()
+                .mapToInt(item -> item.getQuantity() != null ? item.getQuantity() : 0)
+                .sum();
+    }
+
+    private String toJson(List<OrderEvent.OrderItemEvent> items) {
+        try {
+            return objectMapper.writeValueAsString(items);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("주문 항목 직렬화 실패", e);
+        }
+    }
+
+    private List<OrderResponse.OrderSummaryItem> fromJson(String items) {
+        if (items == null) {
+            return List.of();
+        }
+        try {
+            return objectMapper.readValue(items, ITEMS_TYPE);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("주문 항목을 읽을 수 없습니다", e);
+        }
+    }
+}
@@ -0,0 +1,219 @@
+package com.ecommerce.msa.order.service;
+
+import com.ecommerce.msa.order.entity.OutboxEvent;
+import com.ecommerce.msa.order.repository.OutboxEventRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.errors.ApiException;
+import org.apache.kafka.common.errors.RetriableException;
+import org.apache.kafka.common.errors.SerializationException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+// outbox_events 를 id 순서로 읽어 Kafka 로 발행하고, 브로커가 확인한 행만 published_at 으로 표시
+@Component
+@Slf4j
+public class OutboxRelay {
+
+    private static final long RELAY_LOCK_KEY = 0x6F7574626F78L;
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    private final AtomicLong lag = new AtomicLong();
+    private final AtomicLong oldestAgeSeconds = new AtomicLong();
+    private final AtomicLong deadLetters = new AtomicLong();
+    private final Counter publishedCounter;
+    private final Counter failedCounter;
+    private final Counter deadLetteredCounter;
+    private final Timer batchTimer;
+
+    @Value("${order.outbox.relay.batch-size:500}")
+    private int batchSize;
+
+    @Value("${order.outbox.relay.send-timeout-ms:10000}")
+    private long sendTimeoutMs;
+
+    @Value("${order.outbox.retention-hours:24}")
+    private long retentionHours;
+
+    public OutboxRelay(OutboxEventRepository outboxEventRepository,
+                       KafkaTemplate<String, Object> kafkaTemplate,
+                       ObjectMapper objectMapper,
+                       TransactionTemplate transactionTemplate,
+                       MeterRegistry meterRegistry) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.kafkaTemplate = kafkaTemplate;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = transactionTemplate;
+
+        Gauge.builder("order.outbox.lag", lag, AtomicLong::get)
+                .description("Outbox events waiting to be published")
+                .register(meterRegistry);
+        Gauge.builder("order.outbox.oldest.age", oldestAgeSeconds, AtomicLong::get)
+                .description("Age of the oldest unpublished outbox event")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("order.outbox.dead.letters", deadLetters, AtomicLong::get)
+                .description("Outbox events parked because they can never be published")
+                .register(meterRegistry);
+        this.publishedCounter = Counter.builder("order.outbox.published")
+                .description("Outbox events published to Kafka")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("order.outbox.publish.failures")
+                .description("Outbox events that failed to publish and will be retried")
+                .register(meterRegistry);
+        this.deadLetteredCounter = Counter.builder("order.outbox.dead.lettered")
+                .description("Outbox events parked after a non-retriable publish failure")
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("order.outbox.relay.batch")
+                .description("Time to publish one outbox batch")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${order.outbox.relay.interval-ms:200}")
+    public void relay() {
+        try {
+            // 배치가 가득 차 있으면 밀린 이벤트가 남아 있으므로 바로 다음 배치를 처리
+            Integer published;
+            do {
+                published = transactionTemplate.execute(status -> relayBatch());
+            } while (published != null && published == batchSize);
+        } catch (Exception e) {
+            log.error("Failed to relay outbox events", e);
+        } finally {
+            updateLag();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${order.outbox.cleanup-interval-ms:3600000}")
+    public void cleanup() {
+        try {
+            Integer deleted = transactionTemplate.execute(status -> outboxEventRepository
+                    .deletePublishedBefore(LocalDateTime.now().minusHours(retentionHours)));
+            if (deleted != null && deleted > 0) {
+                log.info("Published outbox events purged: count={}", deleted);
+            }
+        } catch (Exception e) {
+            log.error("Failed to purge published outbox events", e);
+        }
+    }
+
+    private int relayBatch() {
+        if (!outboxEventRepository.tryRelayLock(RELAY_LOCK_KEY)) {
+            return 0;
+        }
+        List<OutboxEvent> events = outboxEventRepository.findUnpublished(batchSize);
+        if (events.isEmpty()) {
+            return 0;
+        }
+
+        Timer.Sample sample = Timer.start();
+        // 배치 전체를 먼저 전송해 프로듀서가 요청을 파이프라이닝하게 하고, 확인은 순서대로 기다림
+        List<CompletableFuture<SendResult<String, Object>>> futures = new ArrayList<>(events.size());
+        for (OutboxEvent event : events) {
+            futures.add(send(event));
+        }
+
+        // 앞에서부터 연속으로 성공한 이벤트만 완료 처리해 실패 이후 이벤트의 순서를 유지
+        // 재시도해도 성공할 수 없는 이벤트(역직렬화 실패, 직렬화/크기 오류 등)는 격리하고 다음 이벤트를 계속 발행
+        List<Long> publishedIds = new ArrayList<>(events.size());
+        int deadLettered = 0;
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(sendTimeoutMs);
+        for (int i = 0; i < events.size(); i++) {
+            OutboxEvent event = events.get(i);
+            try {
+                futures.get(i).get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                publishedIds.add(event.getId());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                Throwable cause = e instanceof ExecutionException && e.getCause() != null ? e.getCause() : e;
+                if (!isRetriable(cause)) {
+                    outboxEventRepository.markDeadLettered(event.getId(), errorMessage(cause), LocalDateTime.now());
+                    deadLetteredCounter.increment();
+                    deadLettered++;
+                    log.error("Outbox event dead-lettered: id={}, topic={}, eventType={}, payloadType={}",
+                            event.getId(), event.getTopic(), event.getEventType(), event.getPayloadType(), cause);
+                    continue;
+                }
+                outboxEventRepository.recordFailure(event.getId(), errorMessage(cause));
+                failedCounter.increment(events.size() - i);
+                log.warn("Outbox event publish failed, will retry: id={}, topic={}, eventType={}",
+                        event.getId(), event.getTopic(), event.getEventType(), cause);
+                break;
+            }
+        }
+
+        if (!publishedIds.isEmpty()) {
+            outboxEventRepository.markPublished(publishedIds, LocalDateTime.now());
+            publishedCounter.increment(publishedIds.size());
+        }
+        sample.stop(batchTimer);
+        log.debug("Outbox batch relayed: published={}, deadLettered={}, fetched={}",
+                publishedIds.size(), deadLettered, events.size());
+        return publishedIds.size() + deadLettered;
+    }
+
+    private CompletableFuture<SendResult<String, Object>> send(OutboxEvent event) {
+        try {
+            Object payload = objectMapper.readValue(event.getPayload(), Class.forName(event.getPayloadType()));
+            return kafkaTemplate.send(event.getTopic(), event.getMessageKey(), payload);
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private static boolean isRetriable(Throwable error) {
+        // 브로커 연결/타임아웃 등 일시적인 오류만 재시도하고, 페이로드 자체의 문제는 격리
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof RetriableException || cause instanceof TimeoutException) {
+                return true;
+            }
+            if (cause instanceof ClassNotFoundException || cause instanceof JsonProcessingException
+                    || cause instanceof ApiException || cause instanceof SerializationException) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String errorMessage(Throwable error) {
+        String message = error.getClass().getName() + ": " + error.getMessage();
+        return message.length() > 1000 ? message.substring(0, 1000) : message;
+    }
+
+    private void updateLag() {
+        try {
+            lag.set(outboxEventRepository.countPending());
+            deadLetters.set(outboxEventRepository.countByDeadLetteredAtIsNotNull());
+            LocalDateTime oldest = outboxEventRepository.findOldestUnpublishedCreatedAt();
+            oldestAgeSeconds.set(oldest != null
+                    ? Math.max(0, Duration.between(oldest, LocalDateTime.now()).getSeconds()) : 0);
+        } catch (Exception e) {
+            log.warn("Failed to update outbox lag metrics", e);
+        }
+    }
+}
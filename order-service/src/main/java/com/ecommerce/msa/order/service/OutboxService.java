@@ -0,0 +1,80 @@
+package com.ecommerce.msa.order.service;
+
+import com.ecommerce.msa.order.entity.OutboxEvent;
+import com.ecommerce.msa.order.repository.OutboxEventRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class OutboxService {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+    private final JdbcTemplate jdbcTemplate;
+
+    public record Message(String messageKey, String eventType, Object payload) {
+    }
+
+    // 호출한 트랜잭션과 함께 커밋/롤백되도록 기존 트랜잭션 안에서만 기록
+    @Transactional(propagation = Propagation.MANDATORY)
+    public OutboxEvent append(String topic, String messageKey, String eventType, Object payload) {
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("이벤트 직렬화 실패: " + eventType, e);
+        }
+
+        OutboxEvent outboxEvent = outboxEventRepository.save(OutboxEvent.builder()
+                .topic(topic)
+                .messageKey(messageKey)
+                .eventType(eventType)
+                .payloadType(payload.getClass().getName())
+                .payload(json)
+                .build());
+        log.debug("Outbox event recorded: id={}, topic={}, eventType={}, key={}",
+                outboxEvent.getId(), topic, eventType, messageKey);
+        return outboxEvent;
+    }
+
+    // 대량 상태 변경 등에서 여러 이벤트를 JDBC 배치 INSERT 한 번으로 기록
+    @Transactional(propagation = Propagation.MANDATORY)
+    public int appendAll(String topic, List<Message> messages) {
+        if (messages.isEmpty()) {
+            return 0;
+        }
+
+        List<Object[]> rows = new ArrayList<>(messages.size());
+        for (Message message : messages) {
+            try {
+                rows.add(new Object[]{
+                        topic,
+                        message.messageKey(),
+                        message.eventType(),
+                        message.payload().getClass().getName(),
+                        objectMapper.writeValueAsString(message.payload())
+                });
+            } catch (JsonProcessingException e) {
+                throw new RuntimeException("이벤트 직렬화 실패: " + message.eventType(), e);
+            }
+        }
+
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO outbox_events (topic, message_key, event_type, payload_type, payload, created_at) " +
+                "VALUES (?, ?, ?, ?, ?, now())",
+                rows);
+        log.debug("Outbox events recorded in batch: topic={}, count={}", topic, rows.size());
+        return rows.size();
+    }
+}
@@ -0,0 +1,75 @@
+package com.ecommerce.msa.order.service;
+
+import com.ecommerce.msa.order.dto.ProductResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+
+// 주문 생성 시 반복 조회되는 상품 이름/가격을 인스턴스 로컬에 보관
+// 상품 변경 알림(product.events)으로 무효화하고, 알림이 유실되더라도 TTL 로 오래된 값을 제한
+// 재고는 캐시하지 않음 (재고 판단은 항상 product-service 의 예약 API 가 담당)
+@Component
+@Slf4j
+public class ProductCache {
+
+    private static final String CACHE_NAME = "order.product-cache";
+
+    private final Cache<Long, ProductResponse> cache;
+
+    public ProductCache(MeterRegistry meterRegistry,
+                        @Value("${order.product-cache.max-size:10000}") long maxSize,
+                        @Value("${order.product-cache.ttl-seconds:60}") long ttlSeconds) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        Gauge.builder(CACHE_NAME + ".hit.ratio", cache, c -> c.stats().hitRate())
+                .description("Product near-cache hit ratio")
+                .register(meterRegistry);
+    }
+
+    public ProductResponse get(Long productId) {
+        return cache.getIfPresent(productId);
+    }
+
+    public Map<Long, ProductResponse> getAll(Collection<Long> productIds) {
+        return cache.getAllPresent(productIds);
+    }
+
+    public void put(ProductResponse product) {
+        // 조회 실패 응답이나 판매 불가 상품은 보관하지 않음
+        if (product == null || product.getProductId() == null || !product.isAvailable()) {
+            return;
+        }
+        cache.put(product.getProductId(), ProductResponse.builder()
+                .productId(product.getProductId())
+                .name(product.getName())
+                .description(product.getDescription())
+                .price(product.getPrice())
+                .category(product.getCategory())
+                .brand(product.getBrand())
+                .status(product.getStatus())
+                .available(true)
+                .build());
+    }
+
+    public void invalidate(Long productId) {
+        cache.invalidate(productId);
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+}
@@ -0,0 +1,33 @@
+package com.ecommerce.msa.order.service;
+
+import com.ecommerce.msa.order.event.ProductEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+// 인스턴스마다 고유한 컨슈머 그룹으로 product.events 를 구독해 모든 인스턴스의 상품 캐시를 무효화
+// 그룹 이름은 재시작해도 바뀌지 않는 인스턴스 ID 로 만들어, 재시작마다 컨슈머 그룹이 쌓이지 않고 재시작 중 놓친 알림도 이어서 처리
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ProductCacheInvalidator {
+
+    private final ProductCache productCache;
+
+    @KafkaListener(
+            topics = "product.events",
+            groupId = "${order.product-cache.group-id-prefix:order-service-product-cache}-${eureka.instance.instance-id}",
+            properties = {
+                    "auto.offset.reset=latest",
+                    "spring.json.use.type.headers=false",
+                    "spring.json.value.default.type=com.ecommerce.msa.order.event.ProductEvent"
+            })
+    public void onProductEvent(ProductEvent event) {
+        if (event.getProductId() == null) {
+            return;
+        }
+        productCache.invalidate(event.getProductId());
+        log.debug("Product cache invalidated: productId={}, eventType={}", event.getProductId(), event.getEventType());
+    }
+}
@@ -0,0 +1,102 @@
+package com.ecommerce.msa.order.service;
+
+import com.ecommerce.msa.order.dto.SalesResponse;
+import com.ecommerce.msa.order.entity.Order;
+import com.ecommerce.msa.order.entity.OrderItem;
+import com.ecommerce.msa.order.entity.SalesRollup;
+import com.ecommerce.msa.order.repository.SalesRollupRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+// 주문 상태 변경과 같은 트랜잭션에서 sales_rollups 를 증분 갱신하고, 조회는 집계 행만 읽음
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SalesRollupService {
+
+    private final SalesRollupRepository salesRollupRepository;
+
+    // 집계에 포함되는 주문 상태 (취소된 주문은 제외)
+    public static boolean isCounted(Order.OrderStatus status) {
+        return status != Order.OrderStatus.CANCELLED;
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordPlaced(Order order, List<OrderItem> orderItems) {
+        apply(order, orderItems, 1);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordCancelled(Order order, List<OrderItem> orderItems) {
+        apply(order, orderItems, -1);
+    }
+
+    @Transactional(readOnly = true)
+    public List<SalesResponse.BucketInfo> getBuckets(SalesRollup.Granularity granularity, Long productId,
+                                                     LocalDateTime from, LocalDateTime to) {
+        List<SalesRollup> rollups = productId != null
+                ? salesRollupRepository.findByProductIdAndRange(granularity, productId, from, to)
+                : salesRollupRepository.findByRange(granularity, from, to);
+        return rollups.stream()
+                .map(SalesResponse.BucketInfo::from)
+                .collect(Collectors.toList());
+    }
+
+    @Transactional(readOnly = true)
+    public List<SalesResponse.ProductTotal> getProductTotals(SalesRollup.Granularity granularity,
+                                                             LocalDateTime from, LocalDateTime to) {
+        return salesRollupRepository.sumByProduct(granularity, from, to).stream()
+                .map(row -> SalesResponse.ProductTotal.builder()
+                        .productId((Long) row[0])
+                        .revenue((BigDecimal) row[1])
+                        .orderCount(((Number) row[2]).longValue())
+                        .unitsSold(((Number) row[3]).longValue())
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    private void apply(Order order, List<OrderItem> orderItems, int sign) {
+        if (orderItems.isEmpty() || order.getCreatedAt() == null) {
+            return;
+        }
+
+        // 같은 상품의 여러 항목은 한 행으로 합치고, productId 순서로 갱신해 교착 상태를 방지
+        Map<Long, long[]> units = new TreeMap<>();
+        Map<Long, BigDecimal> revenues = new TreeMap<>();
+        for (OrderItem item : orderItems) {
+            units.computeIfAbsent(item.getProductId(), productId -> new long[1])[0] += item.getQuantity();
+            revenues.merge(item.getProductId(),
+                    item.getPrice().multiply(BigDecimal.valueOf(item.getQuantity())), BigDecimal::add);
+        }
+
+        // 취소 시에도 주문 생성 시각의 구간에서 빼야 합계가 맞음
+        for (SalesRollup.Granularity granularity : SalesRollup.Granularity.values()) {
+            LocalDateTime bucketStart = bucketStart(granularity, order.getCreatedAt());
+            units.forEach((productId, quantity) -> salesRollupRepository.upsert(
+                    granularity.name(),
+                    bucketStart,
+                    productId,
+                    sign > 0 ? revenues.get(productId) : revenues.get(productId).negate(),
+                    sign,
+                    sign * quantity[0]));
+        }
+        log.debug("Sales rollups updated: orderId={}, products={}, sign={}", order.getOrderId(), units.size(), sign);
+    }
+
+    public static LocalDateTime bucketStart(SalesRollup.Granularity granularity, LocalDateTime time) {
+        return granularity == SalesRollup.Granularity.HOUR
+                ? time.truncatedTo(ChronoUnit.HOURS)
+                : time.truncatedTo(ChronoUnit.DAYS);
+    }
+}
@@ -0,0 +1,73 @@
+package com.ecommerce.msa.order.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+// 사용자 ID 별 주문 가능 여부(활성 상태)를 인스턴스 로컬에 보관
+// user.events 로 가입/상태 변경을 반영하고, 원격 조회 결과는 비어 있는 경우에만 채움
+// 비활성/미존재 사용자(음성 항목)는 짧은 TTL 로 보관해 반복 조회만 막음
+@Component
+public class UserStatusCache {
+
+    private static final String CACHE_NAME = "order.user-cache";
+
+    private final Cache<Long, Boolean> cache;
+
+    public UserStatusCache(MeterRegistry meterRegistry,
+                           @Value("${order.user-cache.max-size:100000}") long maxSize,
+                           @Value("${order.user-cache.ttl-seconds:600}") long ttlSeconds,
+                           @Value("${order.user-cache.negative-ttl-seconds:30}") long negativeTtlSeconds) {
+        long activeTtlNanos = TimeUnit.SECONDS.toNanos(ttlSeconds);
+        long negativeTtlNanos = TimeUnit.SECONDS.toNanos(negativeTtlSeconds);
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new Expiry<Long, Boolean>() {
+                    @Override
+                    public long expireAfterCreate(Long userId, Boolean active, long currentTime) {
+                        return active ? activeTtlNanos : negativeTtlNanos;
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(Long userId, Boolean active, long currentTime, long currentDuration) {
+                        return active ? activeTtlNanos : negativeTtlNanos;
+                    }
+
+                    @Override
+                    public long expireAfterRead(Long userId, Boolean active, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        Gauge.builder(CACHE_NAME + ".hit.ratio", cache, c -> c.stats().hitRate())
+                .description("User status cache hit ratio")
+                .register(meterRegistry);
+    }
+
+    public Boolean get(Long userId) {
+        return cache.getIfPresent(userId);
+    }
+
+    public void update(Long userId, boolean active) {
+        cache.put(userId, active);
+    }
+
+    public void putIfAbsent(Long userId, boolean active) {
+        // 조회 중에 도착한 상태 변경 이벤트를 오래된 원격 응답으로 덮어쓰지 않음
+        cache.asMap().putIfAbsent(userId, active);
+    }
+
+    public void invalidate(Long userId) {
+        cache.invalidate(userId);
+    }
+}
@@ -0,0 +1,39 @@
+package com.ecommerce.msa.order.service;
+
+import com.ecommerce.msa.order.event.UserEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+// 인스턴스마다 고유한 컨슈머 그룹으로 user.events 를 구독해 모든 인스턴스의 사용자 상태 캐시를 갱신
+// 그룹 이름은 재시작해도 바뀌지 않는 인스턴스 ID 로 만들어 재시작마다 컨슈머 그룹이 쌓이지 않게 함
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class UserStatusCacheUpdater {
+
+    private static final String ACTIVE = "ACTIVE";
+
+    private final UserStatusCache userStatusCache;
+
+    @KafkaListener(
+            topics = "user.events",
+            groupId = "${order.user-cache.group-id-prefix:order-service-user-cache}-${eureka.instance.instance-id}",
+            properties = {
+                    "auto.offset.reset=latest",
+                    "spring.json.use.type.headers=false",
+                    "spring.json.value.default.type=com.ecommerce.msa.order.event.UserEvent"
+            })
+    public void onUserEvent(UserEvent event) {
+        if (event.getUserId() == null) {
+            return;
+        }
+        if (event.getStatus() == null) {
+            userStatusCache.invalidate(event.getUserId());
+        } else {
+            userStatusCache.update(event.getUserId(), ACTIVE.equals(event.getStatus()));
+        }
+        log.debug("User status cache updated: userId={}, status={}", event.getUserId(), event.getStatus());
+    }
+}
@@ -0,0 +1,232 @@
+package com.ecommerce.msa.order.client;
+
+import com.ecommerce.msa.order.config.DownstreamCallGuard;
+import com.ecommerce.msa.order.support.IntegrationTestSupport;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import feign.FeignException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// product-service 인스턴스 두 개를 JDK HttpServer 스텁으로 띄우고 하나만 느리게 응답시켜 헤지 요청의 효과를 확인
+// 요청은 Feign(커넥션 풀, 에러 디코더)과 DownstreamCallGuard 를 그대로 거침
+@TestPropertySource(properties = {
+        "order.outbox.relay.interval-ms=3600000",
+        "order.product-lookup.hedge.enabled=true",
+        "order.product-lookup.hedge.initial-delay-ms=50",
+        "order.product-lookup.hedge.min-delay-ms=50",
+        "order.product-lookup.hedge.budget-ratio=1.0"
+})
+class HedgedProductReaderTest extends IntegrationTestSupport {
+
+    private static final Logger log = LoggerFactory.getLogger(HedgedProductReaderTest.class);
+
+    private static final long SLOW_MS = 400;
+    private static final int LOOKUPS = 20;
+    private static final long FAILING_PRODUCT = 404L;
+
+    private static final AtomicLong PRODUCT_IDS = new AtomicLong(3_000_000);
+    private static final Queue<String> USER_AGENTS = new ConcurrentLinkedQueue<>();
+    private static final AtomicInteger SLOW_REQUESTS = new AtomicInteger();
+    private static final HttpServer SLOW_INSTANCE = startProductService(SLOW_MS, SLOW_REQUESTS);
+    private static final HttpServer FAST_INSTANCE = startProductService(0, new AtomicInteger());
+
+    @DynamicPropertySource
+    static void productServiceProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.cloud.discovery.client.simple.instances.product-service[0].uri",
+                () -> "http://localhost:" + SLOW_INSTANCE.getAddress().getPort());
+        registry.add("spring.cloud.discovery.client.simple.instances.product-service[1].uri",
+                () -> "http://localhost:" + FAST_INSTANCE.getAddress().getPort());
+    }
+
+    @AfterAll
+    static void stopProductServices() {
+        SLOW_INSTANCE.stop(0);
+        FAST_INSTANCE.stop(0);
+    }
+
+    @Autowired
+    private HedgedProductReader hedgedProductReader;
+
+    @Autowired
+    private ProductServiceClient productServiceClient;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private BulkheadRegistry bulkheadRegistry;
+
+    @Test
+    void hedgingCutsSlowInstanceLatency() throws Exception {
+        // 연결 수립 비용을 측정에서 빼기 위해 두 인스턴스에 한 번씩 먼저 요청
+        productServiceClient.getProductById(PRODUCT_IDS.incrementAndGet());
+        productServiceClient.getProductById(PRODUCT_IDS.incrementAndGet());
+
+        List<Long> direct = new ArrayList<>();
+        for (int i = 0; i < LOOKUPS; i++) {
+            long start = System.nanoTime();
+            assertThat(productServiceClient.getProductById(PRODUCT_IDS.incrementAndGet()).isFallback()).isFalse();
+            direct.add(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        }
+
+        double wonBefore = hedgeCount("won");
+        List<Long> hedged = new ArrayList<>();
+        for (int i = 0; i < LOOKUPS; i++) {
+            long start = System.nanoTime();
+            assertThat(hedgedProductReader.getProductById(PRODUCT_IDS.incrementAndGet()).get(5, TimeUnit.SECONDS)
+                    .getName()).isEqualTo("헤지 테스트 상품");
+            hedged.add(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        }
+
+        log.info("product lookup without hedging: avg={}ms, max={}ms", average(direct), max(direct));
+        log.info("product lookup with hedging: avg={}ms, max={}ms, hedgesWon={}",
+                average(hedged), max(hedged), hedgeCount("won") - wonBefore);
+
+        // 라운드 로빈이라 헤지 없이는 절반이 느린 인스턴스로 감
+        assertThat(max(direct)).isGreaterThanOrEqualTo(SLOW_MS);
+        assertThat(max(hedged)).isLessThan(SLOW_MS);
+        assertThat(hedgeCount("won")).isGreaterThan(wonBefore);
+    }
+
+    @Test
+    void primaryLatencyIsRecordedForEveryLookup() throws Exception {
+        Timer latency = meterRegistry.get("order.product-lookup.latency").timer();
+        long before = latency.count();
+
+        for (int i = 0; i < LOOKUPS; i++) {
+            hedgedProductReader.getProductById(PRODUCT_IDS.incrementAndGet()).get(5, TimeUnit.SECONDS);
+        }
+
+        // 헤지가 이긴 조회의 첫 요청도 끝나는 대로 기록되므로, 느린 응답이 표본에서 빠지지 않음
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (latency.count() < before + LOOKUPS && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(latency.count()).isEqualTo(before + LOOKUPS);
+        assertThat(latency.max(TimeUnit.MILLISECONDS)).isGreaterThanOrEqualTo(SLOW_MS);
+    }
+
+    @Test
+    void hedgeGoesToOtherInstanceAndEveryAttemptHoldsPermit() throws Exception {
+        Bulkhead bulkhead = bulkheadRegistry.bulkhead(DownstreamCallGuard.PRODUCT_SERVICE);
+        awaitNoCallsInFlight(bulkhead);
+        int slowBefore = SLOW_REQUESTS.get();
+        double sentBefore = hedgeCount("sent");
+        boolean leftoverChecked = false;
+
+        for (int i = 0; i < LOOKUPS; i++) {
+            hedgedProductReader.getProductById(PRODUCT_IDS.incrementAndGet()).get(5, TimeUnit.SECONDS);
+            if (!leftoverChecked && hedgeCount("sent") > sentBefore) {
+                // 헤지가 먼저 끝나도 느린 인스턴스로 간 원 요청은 끝날 때까지 허가를 쥐고 있음
+                assertThat(callsInFlight(bulkhead)).isEqualTo(1);
+                leftoverChecked = true;
+            }
+            awaitNoCallsInFlight(bulkhead);
+        }
+
+        // 원 요청은 두 인스턴스에 번갈아 가고 헤지는 항상 다른 인스턴스로 가므로, 느린 인스턴스는 원 요청만 받음
+        assertThat(leftoverChecked).isTrue();
+        assertThat(SLOW_REQUESTS.get() - slowBefore).isEqualTo(LOOKUPS / 2);
+    }
+
+    @Test
+    void requestsGoThroughFeign() {
+        USER_AGENTS.clear();
+
+        // 두 인스턴스가 모두 실패하면 Feign 에러 디코더가 만든 예외로 실패
+        assertThatThrownBy(() -> hedgedProductReader.getProductById(FAILING_PRODUCT).get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(FeignException.class);
+
+        // 별도 HTTP 클라이언트가 아닌 Feign 의 Apache HttpClient 5 커넥션 풀로 전송
+        assertThat(USER_AGENTS).isNotEmpty().allSatisfy(userAgent -> assertThat(userAgent).startsWith("Apache-HttpClient/5"));
+    }
+
+    private static int callsInFlight(Bulkhead bulkhead) {
+        return bulkhead.getMetrics().getMaxAllowedConcurrentCalls() - bulkhead.getMetrics().getAvailableConcurrentCalls();
+    }
+
+    private static void awaitNoCallsInFlight(Bulkhead bulkhead) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (callsInFlight(bulkhead) > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(callsInFlight(bulkhead)).isZero();
+    }
+
+    private double hedgeCount(String result) {
+        return meterRegistry.get("order.product-lookup.hedge").tag("result", result).counter().count();
+    }
+
+    private static long average(List<Long> values) {
+        return (long) values.stream().mapToLong(Long::longValue).average().orElse(0);
+    }
+
+    private static long max(List<Long> values) {
+        return values.stream().mapToLong(Long::longValue).max().orElse(0);
+    }
+
+    private static HttpServer startProductService(long delayMs, AtomicInteger requests) {
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+            server.setExecutor(Executors.newCachedThreadPool());
+            server.createContext("/products/", exchange -> {
+                USER_AGENTS.add(String.valueOf(exchange.getRequestHeaders().getFirst("User-Agent")));
+                requests.incrementAndGet();
+                long productId = Long.parseLong(exchange.getRequestURI().getPath().substring("/products/".length()));
+                if (productId == FAILING_PRODUCT) {
+                    respond(exchange, 500, "{\"status\":500,\"message\":\"서버 내부 오류가 발생했습니다\"}");
+                    return;
+                }
+                try {
+                    Thread.sleep(delayMs);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                respond(exchange, 200, "{\"productId\":" + productId + ",\"name\":\"헤지 테스트 상품\","
+                        + "\"price\":10000,\"stockQuantity\":100,\"available\":true}");
+            });
+            server.start();
+            return server;
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
@@ -0,0 +1,272 @@
+package com.ecommerce.msa.order.client;
+
+import com.ecommerce.msa.order.dto.ProductResponse;
+import com.ecommerce.msa.order.support.ConcurrentLoad;
+import com.ecommerce.msa.order.support.IntegrationTestSupport;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.management.OperatingSystemMXBean;
+import com.sun.net.httpserver.HttpServer;
+import io.rsocket.core.RSocketServer;
+import io.rsocket.transport.netty.server.CloseableChannel;
+import io.rsocket.transport.netty.server.TcpServerTransport;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.codec.cbor.Jackson2CborDecoder;
+import org.springframework.http.codec.cbor.Jackson2CborEncoder;
+import org.springframework.messaging.handler.annotation.DestinationVariable;
+import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.messaging.rsocket.RSocketRequester;
+import org.springframework.messaging.rsocket.RSocketStrategies;
+import org.springframework.messaging.rsocket.annotation.support.RSocketMessageHandler;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.web.util.pattern.PathPatternRouteMatcher;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// RSocket 전송의 재고 일괄 확인(request-channel)과 오류의 fallback 변환을 확인하고,
+// 같은 재고 확인을 Feign(JSON) 과 RSocket(CBOR) 으로 보냈을 때의 처리량, p50/p99 응답 시간, 호출당 CPU 시간을 로그로 출력
+// product-service 는 JDK HttpServer(HTTP)와 RSocketServer(RSocket) 스텁으로 띄움
+@TestPropertySource(properties = "order.outbox.relay.interval-ms=3600000")
+class ProductRSocketClientTest extends IntegrationTestSupport {
+
+    private static final Logger log = LoggerFactory.getLogger(ProductRSocketClientTest.class);
+
+    private static final long FAILING_PRODUCT = 404L;
+    private static final long SLOW_PRODUCT = 408L;
+    private static final int STREAM_BATCH_SIZE = 100;
+    private static final int BENCHMARK_PRODUCTS = 100;
+    private static final int BENCHMARK_THREADS = 8;
+    private static final int BENCHMARK_CALLS_PER_THREAD = 200;
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final HttpServer HTTP_PRODUCT_SERVICE = startHttpProductService();
+    private static final CloseableChannel RSOCKET_PRODUCT_SERVICE = startRSocketProductService();
+
+    @DynamicPropertySource
+    static void productServiceProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.cloud.discovery.client.simple.instances.product-service[0].uri",
+                () -> "http://localhost:" + HTTP_PRODUCT_SERVICE.getAddress().getPort());
+    }
+
+    @AfterAll
+    static void stopProductServices() {
+        HTTP_PRODUCT_SERVICE.stop(0);
+        RSOCKET_PRODUCT_SERVICE.dispose();
+    }
+
+    @Autowired
+    private RSocketRequester.Builder rsocketRequesterBuilder;
+
+    @Autowired
+    @Qualifier("productServiceFeignClient")
+    private ProductServiceClient feignClient;
+
+    @Autowired
+    private ProductServiceClientFallback fallback;
+
+    private RSocketRequester requester;
+    private ProductRSocketClient rsocketClient;
+
+    @BeforeEach
+    void connect() {
+        requester = rsocketRequesterBuilder.tcp("localhost", RSOCKET_PRODUCT_SERVICE.address().getPort());
+        rsocketClient = new ProductRSocketClient(requester, Duration.ofMillis(500), fallback);
+    }
+
+    @AfterEach
+    void disconnect() {
+        requester.dispose();
+    }
+
+    @Test
+    void checkStocksStreamsInRequestOrder() {
+        // 서버 묶음 크기보다 많이 보내 여러 프레임으로 나뉘어도 순서가 유지되는지 확인
+        List<Long> productIds = LongStream.rangeClosed(1, STREAM_BATCH_SIZE * 2 + 50).boxed().toList();
+
+        List<ProductResponse.StockInfo> stockInfos = rsocketClient.checkStocks(productIds);
+
+        assertThat(stockInfos).extracting(ProductResponse.StockInfo::getProductId).isEqualTo(productIds);
+        assertThat(stockInfos).noneMatch(ProductResponse.StockInfo::isFallback);
+        assertThat(stockInfos.get(0).getStockQuantity()).isEqualTo(10);
+    }
+
+    @Test
+    void applicationErrorUsesFallback() {
+        ProductResponse product = rsocketClient.getProductById(FAILING_PRODUCT);
+        assertThat(product.isFallback()).isTrue();
+        assertThat(product.isAvailable()).isFalse();
+
+        List<ProductResponse.StockInfo> stockInfos = rsocketClient.checkStocks(List.of(1L, FAILING_PRODUCT));
+        assertThat(stockInfos).hasSize(2).allMatch(ProductResponse.StockInfo::isFallback);
+    }
+
+    @Test
+    void timeoutUsesFallback() {
+        long start = System.nanoTime();
+        assertThat(rsocketClient.getProductById(SLOW_PRODUCT).isFallback()).isTrue();
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(2));
+    }
+
+    @Test
+    void failingFallbackIsRethrown() {
+        // Feign 과 같이 응답을 대신할 수 없는 호출은 fallback 의 예외로 실패
+        assertThatThrownBy(() -> rsocketClient.releaseStockHolds("missing"))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessage("재고 홀드 해제 실패");
+    }
+
+    @Test
+    void benchmarkCheckStocksFeignVersusRSocket() throws Exception {
+        List<Long> productIds = LongStream.rangeClosed(1, BENCHMARK_PRODUCTS).boxed().toList();
+        // 연결 수립과 JIT 준비 시간이 측정에 섞이지 않도록 먼저 호출
+        ConcurrentLoad.run(BENCHMARK_THREADS, 20, () -> checkStocks(feignClient, productIds));
+        ConcurrentLoad.run(BENCHMARK_THREADS, 20, () -> checkStocks(rsocketClient, productIds));
+
+        Benchmark feign = benchmark(feignClient, productIds);
+        Benchmark rsocket = benchmark(rsocketClient, productIds);
+
+        log.info("checkStocks x{} products, Feign + JSON ({} threads): {}", BENCHMARK_PRODUCTS, BENCHMARK_THREADS, feign);
+        log.info("checkStocks x{} products, RSocket channel + CBOR ({} threads): {}", BENCHMARK_PRODUCTS, BENCHMARK_THREADS, rsocket);
+
+        assertThat(feign.load().succeeded()).isEqualTo(BENCHMARK_THREADS * BENCHMARK_CALLS_PER_THREAD);
+        assertThat(rsocket.load().succeeded()).isEqualTo(BENCHMARK_THREADS * BENCHMARK_CALLS_PER_THREAD);
+    }
+
+    // 호출별 응답 시간과 프로세스 CPU 시간을 함께 측정
+    // RSocket 은 인코딩/디코딩이 Netty 스레드에서 일어나 호출 스레드 CPU 로는 비교할 수 없으므로 프로세스 전체 CPU 를 씀
+    // (같은 JVM 의 스텁 서버 직렬화 비용도 포함되며, 두 전송 모두 같은 조건)
+    private static Benchmark benchmark(ProductServiceClient client, List<Long> productIds) throws Exception {
+        OperatingSystemMXBean os = (OperatingSystemMXBean) ManagementFactory.getOperatingSystemMXBean();
+        Queue<Long> latencies = new ConcurrentLinkedQueue<>();
+        long cpuBefore = os.getProcessCpuTime();
+        ConcurrentLoad.Result load = ConcurrentLoad.run(BENCHMARK_THREADS, BENCHMARK_CALLS_PER_THREAD, () -> {
+            long start = System.nanoTime();
+            boolean succeeded = checkStocks(client, productIds);
+            latencies.add(System.nanoTime() - start);
+            return succeeded;
+        });
+        long cpuNanos = os.getProcessCpuTime() - cpuBefore;
+
+        long[] sorted = latencies.stream().mapToLong(Long::longValue).sorted().toArray();
+        return new Benchmark(load, percentile(sorted, 0.50), percentile(sorted, 0.99), cpuNanos / load.attempts());
+    }
+
+    private static long percentile(long[] sorted, double percentile) {
+        return sorted[Math.min(sorted.length - 1, (int) Math.ceil(percentile * sorted.length) - 1)];
+    }
+
+    private record Benchmark(ConcurrentLoad.Result load, long p50Nanos, long p99Nanos, long cpuNanosPerOp) {
+
+        @Override
+        public String toString() {
+            return String.format("%s, p50=%.2fms, p99=%.2fms, cpu=%dus/op", load,
+                    p50Nanos / 1_000_000.0, p99Nanos / 1_000_000.0, cpuNanosPerOp / 1_000);
+        }
+    }
+
+    private static boolean checkStocks(ProductServiceClient client, List<Long> productIds) {
+        List<ProductResponse.StockInfo> stockInfos = client.checkStocks(productIds);
+        return stockInfos.size() == productIds.size() && stockInfos.stream().noneMatch(ProductResponse.StockInfo::isFallback);
+    }
+
+    private static ProductResponse.StockInfo stockInfo(long productId) {
+        return ProductResponse.StockInfo.builder()
+                .productId(productId)
+                .name("재고 테스트 상품 " + productId)
+                .stockQuantity(10)
+                .reservedQuantity(0)
+                .availableQuantity(10)
+                .available(true)
+                .build();
+    }
+
+    private static HttpServer startHttpProductService() {
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+            server.setExecutor(Executors.newCachedThreadPool());
+            server.createContext("/products/stock/check", exchange -> {
+                List<Long> productIds = OBJECT_MAPPER.readValue(exchange.getRequestBody(), new TypeReference<>() {
+                });
+                byte[] bytes = OBJECT_MAPPER.writeValueAsBytes(
+                        productIds.stream().map(ProductRSocketClientTest::stockInfo).toList());
+                exchange.getResponseHeaders().add("Content-Type", "application/json");
+                exchange.sendResponseHeaders(200, bytes.length);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(bytes);
+                }
+            });
+            server.start();
+            return server;
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static CloseableChannel startRSocketProductService() {
+        RSocketMessageHandler handler = new RSocketMessageHandler();
+        handler.setRSocketStrategies(RSocketStrategies.builder()
+                .encoder(new Jackson2CborEncoder())
+                .decoder(new Jackson2CborDecoder())
+                .routeMatcher(new PathPatternRouteMatcher())
+                .build());
+        handler.setHandlers(List.of(new StubProductRSocketController()));
+        handler.afterPropertiesSet();
+        return RSocketServer.create(handler.responder())
+                .bind(TcpServerTransport.create("localhost", 0))
+                .block();
+    }
+
+    // product-service ProductRSocketController 와 같은 경로/묶음 방식의 스텁
+    static class StubProductRSocketController {
+
+        @MessageMapping("products.get")
+        Mono<ProductResponse> getProduct(Long productId) {
+            if (productId == FAILING_PRODUCT) {
+                return Mono.error(new IllegalArgumentException("상품을 찾을 수 없습니다: " + productId));
+            }
+            Mono<ProductResponse> product = Mono.just(ProductResponse.builder()
+                    .productId(productId)
+                    .name("재고 테스트 상품 " + productId)
+                    .available(true)
+                    .build());
+            return productId == SLOW_PRODUCT ? product.delayElement(Duration.ofSeconds(5)) : product;
+        }
+
+        @MessageMapping("products.stock.stream")
+        Flux<List<ProductResponse.StockInfo>> streamStocks(Flux<Long> productIds) {
+            return productIds
+                    .buffer(STREAM_BATCH_SIZE)
+                    .concatMap(chunk -> chunk.contains(FAILING_PRODUCT)
+                            ? Mono.error(new IllegalStateException("재고 조회 실패"))
+                            : Mono.just(chunk.stream().map(ProductRSocketClientTest::stockInfo).toList()));
+        }
+
+        @MessageMapping("products.stock.holds.{reservationId}.release")
+        Mono<Void> releaseStockHolds(@DestinationVariable String reservationId) {
+            return Mono.error(new IllegalArgumentException("재고 홀드를 찾을 수 없습니다: " + reservationId));
+        }
+    }
+}
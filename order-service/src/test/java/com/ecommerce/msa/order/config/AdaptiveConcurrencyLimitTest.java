@@ -0,0 +1,142 @@
+package com.ecommerce.msa.order.config;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// AIMD 한도 조정: 실패/지연 시 비율 감소, 한도를 충분히 쓸 때만 1씩 증가, 최소/최대 한도 유지
+class AdaptiveConcurrencyLimitTest {
+
+    private static final long MS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    @Test
+    void rejectsBeyondLimit() {
+        AdaptiveConcurrencyLimit limit = limit(3, 1, 10);
+
+        assertThat(limit.tryAcquire()).isTrue();
+        assertThat(limit.tryAcquire()).isTrue();
+        assertThat(limit.tryAcquire()).isTrue();
+        assertThat(limit.tryAcquire()).isFalse();
+        assertThat(limit.getInFlight()).isEqualTo(3);
+
+        limit.onSuccess(10 * MS);
+        assertThat(limit.getInFlight()).isEqualTo(2);
+        assertThat(limit.tryAcquire()).isTrue();
+    }
+
+    @Test
+    void successUnderLoadGrowsByOneUpToMax() {
+        AdaptiveConcurrencyLimit limit = limit(2, 1, 3);
+
+        acquire(limit, 2);
+        limit.onSuccess(10 * MS);
+        assertThat(limit.getLimit()).isEqualTo(3);
+
+        acquire(limit, 2);
+        limit.onSuccess(10 * MS);
+        limit.onSuccess(10 * MS);
+        limit.onSuccess(10 * MS);
+        assertThat(limit.getLimit()).isEqualTo(3);
+    }
+
+    @Test
+    void idleSuccessDoesNotGrow() {
+        AdaptiveConcurrencyLimit limit = limit(10, 1, 100);
+
+        for (int i = 0; i < 50; i++) {
+            acquire(limit, 1);
+            limit.onSuccess(10 * MS);
+        }
+
+        assertThat(limit.getLimit()).isEqualTo(10);
+    }
+
+    @Test
+    void failureBacksOffToMin() {
+        AdaptiveConcurrencyLimit limit = limit(10, 4, 100);
+
+        acquire(limit, 1);
+        limit.onFailure(10 * MS);
+        assertThat(limit.getLimit()).isEqualTo(5);
+
+        acquire(limit, 1);
+        limit.onFailure(10 * MS);
+        assertThat(limit.getLimit()).isEqualTo(4);
+    }
+
+    @Test
+    void slowResponseBacksOff() {
+        AdaptiveConcurrencyLimit limit = limit(10, 1, 100);
+        acquire(limit, 1);
+        limit.onSuccess(10 * MS);
+        assertThat(limit.getBaselineLatencyMillis()).isEqualTo(10.0);
+
+        // 기준 지연의 2배(latencyTolerance)를 넘으면 성공해도 감소
+        acquire(limit, 1);
+        limit.onSuccess(25 * MS);
+        assertThat(limit.getLimit()).isEqualTo(5);
+
+        // 기준과 관계없이 최대 지연을 넘으면 감소
+        AdaptiveConcurrencyLimit fresh = limit(10, 1, 100);
+        acquire(fresh, 1);
+        fresh.onSuccess(150 * MS);
+        assertThat(fresh.getLimit()).isEqualTo(5);
+    }
+
+    @Test
+    void failedLatencyIsExcludedFromBaseline() {
+        AdaptiveConcurrencyLimit limit = limit(10, 1, 100);
+        acquire(limit, 1);
+        limit.onSuccess(10 * MS);
+
+        acquire(limit, 1);
+        limit.onFailure(90 * MS);
+
+        assertThat(limit.getBaselineLatencyMillis()).isEqualTo(10.0);
+    }
+
+    @Test
+    void concurrentCallersNeverExceedLimit() throws Exception {
+        AdaptiveConcurrencyLimit limit = limit(5, 5, 5);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        CountDownLatch done = new CountDownLatch(16);
+        try {
+            for (int t = 0; t < 16; t++) {
+                executor.execute(() -> {
+                    for (int i = 0; i < 2_000; i++) {
+                        if (limit.tryAcquire()) {
+                            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                            running.decrementAndGet();
+                            limit.onSuccess(MS);
+                        }
+                    }
+                    done.countDown();
+                });
+            }
+            assertThat(done.await(30, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(maxRunning.get()).isLessThanOrEqualTo(5);
+        assertThat(limit.getInFlight()).isZero();
+    }
+
+    private static void acquire(AdaptiveConcurrencyLimit limit, int permits) {
+        for (int i = 0; i < permits; i++) {
+            assertThat(limit.tryAcquire()).isTrue();
+        }
+    }
+
+    private static AdaptiveConcurrencyLimit limit(int initial, int min, int max) {
+        return new AdaptiveConcurrencyLimit(initial, min, max, 0.5, 2.0, 100 * MS);
+    }
+}
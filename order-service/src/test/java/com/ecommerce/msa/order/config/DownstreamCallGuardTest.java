@@ -0,0 +1,136 @@
+package com.ecommerce.msa.order.config;
+
+import com.ecommerce.msa.order.client.DownstreamOverloadedException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 벌크헤드와 적응형 한도를 차례로 적용하고, 거절 시 503 + Retry-After, 완료/실패 시 두 허가를 모두 반환하는지 확인
+class DownstreamCallGuardTest {
+
+    private static final String DOWNSTREAM = DownstreamCallGuard.PRODUCT_SERVICE;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private BulkheadRegistry bulkheadRegistry;
+
+    @Test
+    void callReleasesPermitsOnSuccessAndFailure() {
+        DownstreamCallGuard guard = guard(2, true, 2);
+
+        assertThat(guard.call(DOWNSTREAM, () -> "ok")).isEqualTo("ok");
+        assertThatThrownBy(() -> guard.call(DOWNSTREAM, () -> {
+            throw new IllegalStateException("하위 서비스 오류");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(limit(guard).getInFlight()).isZero();
+        assertThat(bulkhead().getMetrics().getAvailableConcurrentCalls()).isEqualTo(2);
+        // 실패는 한도를 줄임 (backoff-ratio 0.5)
+        assertThat(limit(guard).getLimit()).isEqualTo(1);
+    }
+
+    @Test
+    void bulkheadRejectsWhenFull() {
+        DownstreamCallGuard guard = guard(1, true, 10);
+        CompletableFuture<String> pending = new CompletableFuture<>();
+        guard.callAsync(DOWNSTREAM, () -> pending);
+
+        assertThatThrownBy(() -> guard.call(DOWNSTREAM, () -> "ok"))
+                .isInstanceOfSatisfying(DownstreamOverloadedException.class, e -> {
+                    assertThat(e.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+                    assertThat(e.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+                    assertThat(e.getDownstream()).isEqualTo(DOWNSTREAM);
+                });
+        assertThat(guard.getRejectedCount(DOWNSTREAM)).isEqualTo(1.0);
+        assertThat(meterRegistry.get("order.downstream.rejected")
+                .tag("downstream", DOWNSTREAM).tag("reason", "bulkhead").counter().count()).isEqualTo(1.0);
+        // 거절된 호출은 적응형 한도 허가를 잡지 않음
+        assertThat(limit(guard).getInFlight()).isEqualTo(1);
+
+        pending.complete("done");
+        assertThat(guard.call(DOWNSTREAM, () -> "ok")).isEqualTo("ok");
+    }
+
+    @Test
+    void concurrencyLimitRejectsAndReturnsBulkheadPermit() {
+        DownstreamCallGuard guard = guard(10, true, 1);
+        CompletableFuture<String> pending = new CompletableFuture<>();
+        guard.callAsync(DOWNSTREAM, () -> pending);
+
+        assertThatThrownBy(() -> guard.call(DOWNSTREAM, () -> "ok"))
+                .isInstanceOf(DownstreamOverloadedException.class);
+        assertThat(meterRegistry.get("order.downstream.rejected")
+                .tag("downstream", DOWNSTREAM).tag("reason", "concurrency-limit").counter().count()).isEqualTo(1.0);
+        assertThat(bulkhead().getMetrics().getAvailableConcurrentCalls()).isEqualTo(9);
+
+        pending.complete("done");
+        assertThat(bulkhead().getMetrics().getAvailableConcurrentCalls()).isEqualTo(10);
+    }
+
+    @Test
+    void callAsyncHoldsPermitUntilCompletion() {
+        DownstreamCallGuard guard = guard(2, true, 2);
+        CompletableFuture<String> pending = new CompletableFuture<>();
+
+        CompletableFuture<String> result = guard.callAsync(DOWNSTREAM, () -> pending);
+        assertThat(limit(guard).getInFlight()).isEqualTo(1);
+
+        pending.completeExceptionally(new IllegalStateException("하위 서비스 오류"));
+        assertThat(result).isCompletedExceptionally();
+        assertThat(limit(guard).getInFlight()).isZero();
+        assertThat(limit(guard).getLimit()).isEqualTo(1);
+    }
+
+    @Test
+    void callAsyncReleasesWhenSupplierThrows() {
+        DownstreamCallGuard guard = guard(1, true, 1);
+
+        assertThatThrownBy(() -> guard.callAsync(DOWNSTREAM, () -> {
+            throw new IllegalStateException("실행기 포화");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(limit(guard).getInFlight()).isZero();
+        assertThat(bulkhead().getMetrics().getAvailableConcurrentCalls()).isEqualTo(1);
+    }
+
+    @Test
+    void disabledLimitOnlyAppliesBulkhead() {
+        DownstreamCallGuard guard = guard(3, false, 1);
+
+        guard.callAsync(DOWNSTREAM, CompletableFuture::new);
+        guard.callAsync(DOWNSTREAM, CompletableFuture::new);
+        guard.callAsync(DOWNSTREAM, CompletableFuture::new);
+        assertThatThrownBy(() -> guard.call(DOWNSTREAM, () -> "ok"))
+                .isInstanceOf(DownstreamOverloadedException.class);
+
+        assertThat(limit(guard).getInFlight()).isZero();
+        assertThat(meterRegistry.get("order.downstream.concurrency.limit")
+                .tag("downstream", DOWNSTREAM).gauge().value()).isEqualTo(1.0);
+    }
+
+    private DownstreamCallGuard guard(int bulkheadSize, boolean adaptiveEnabled, int initialLimit) {
+        bulkheadRegistry = BulkheadRegistry.of(BulkheadConfig.custom()
+                .maxConcurrentCalls(bulkheadSize)
+                .maxWaitDuration(Duration.ZERO)
+                .build());
+        return new DownstreamCallGuard(bulkheadRegistry, meterRegistry, adaptiveEnabled,
+                initialLimit, 1, 100, 0.5, 2.0, 1000);
+    }
+
+    private static AdaptiveConcurrencyLimit limit(DownstreamCallGuard guard) {
+        return guard.getLimits().get(DOWNSTREAM);
+    }
+
+    private Bulkhead bulkhead() {
+        return bulkheadRegistry.bulkhead(DOWNSTREAM);
+    }
+}
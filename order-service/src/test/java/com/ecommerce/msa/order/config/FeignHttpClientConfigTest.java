@@ -0,0 +1,49 @@
+package com.ecommerce.msa.order.config;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.hc.client5.http.socket.ConnectionSocketFactory;
+import org.apache.hc.client5.http.socket.LayeredConnectionSocketFactory;
+import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.http.config.Registry;
+import org.apache.hc.core5.http.protocol.BasicHttpContext;
+import org.apache.hc.core5.util.TimeValue;
+import org.junit.jupiter.api.Test;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 연결 시간 계측용 소켓 팩토리: http 는 평문 팩토리, https 만 TLS 계층 팩토리로 등록되고 연결 수립 시간이 기록되는지 확인
+class FeignHttpClientConfigTest {
+
+    @Test
+    void onlyHttpsIsLayered() {
+        Registry<ConnectionSocketFactory> registry = FeignHttpClientConfig.socketFactoryRegistry(new SimpleMeterRegistry());
+
+        assertThat(registry.lookup("http")).isNotInstanceOf(LayeredConnectionSocketFactory.class);
+        assertThat(registry.lookup("https")).isInstanceOf(LayeredConnectionSocketFactory.class);
+    }
+
+    @Test
+    void plainConnectIsTimed() throws Exception {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ConnectionSocketFactory http = FeignHttpClientConfig.socketFactoryRegistry(meterRegistry).lookup("http");
+
+        try (ServerSocket server = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+            BasicHttpContext context = new BasicHttpContext();
+            InetSocketAddress address = new InetSocketAddress(InetAddress.getLoopbackAddress(), server.getLocalPort());
+            try (Socket socket = http.connectSocket(TimeValue.ofSeconds(1), http.createSocket(context),
+                    new HttpHost("http", "localhost", server.getLocalPort()), address, null, context)) {
+                assertThat(socket.isConnected()).isTrue();
+            }
+        }
+
+        Timer timer = meterRegistry.get("order.feign.connect").tag("scheme", "http").timer();
+        assertThat(timer.count()).isEqualTo(1);
+        assertThat(meterRegistry.get("order.feign.connect").tag("scheme", "https").timer().count()).isZero();
+    }
+}
@@ -0,0 +1,92 @@
+package com.ecommerce.msa.order.config;
+
+import com.sun.net.httpserver.HttpServer;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.classic.methods.HttpGet;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.core5.http.io.entity.EntityUtils;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.discovery.simple.SimpleDiscoveryClient;
+import org.springframework.cloud.client.discovery.simple.SimpleDiscoveryProperties;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.net.InetSocketAddress;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 서비스별 상한이 그 서비스 인스턴스의 풀 경로에만 적용되고, 실제 요청이 쓰는 경로와 같은 키인지 확인
+class FeignRouteLimitsTest {
+
+    private static final int DEFAULT_MAX_PER_ROUTE = 100;
+
+    @Test
+    void overrideAppliesOnlyToConfiguredService() throws Exception {
+        HttpServer product = stubServer();
+        HttpServer user = stubServer();
+        try {
+            ServiceInstance productInstance = instance("product-service", product);
+            ServiceInstance userInstance = instance("user-service", user);
+            PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
+            connectionManager.setDefaultMaxPerRoute(DEFAULT_MAX_PER_ROUTE);
+
+            FeignRouteLimits routeLimits = new FeignRouteLimits(connectionManager,
+                    discoveryClient(productInstance, userInstance),
+                    new MockEnvironment()
+                            .withProperty("order.feign.max-per-route.product-service", "20")
+                            .withProperty("order.feign.max-per-route.user-service", ""));
+            routeLimits.apply();
+
+            assertThat(routeLimits.getMaxPerRoute()).containsExactly(Map.entry("product-service", 20));
+            assertThat(connectionManager.getMaxPerRoute(FeignRouteLimits.route(productInstance))).isEqualTo(20);
+            assertThat(connectionManager.getMaxPerRoute(FeignRouteLimits.route(userInstance)))
+                    .isEqualTo(DEFAULT_MAX_PER_ROUTE);
+
+            // HttpClient 가 요청에 쓴 경로가 상한을 건 경로와 같아야 실제로 적용됨
+            try (CloseableHttpClient client = HttpClients.custom()
+                    .setConnectionManager(connectionManager)
+                    .setConnectionManagerShared(true)
+                    .build()) {
+                client.execute(new HttpGet(productInstance.getUri() + "/ping"), response -> {
+                    EntityUtils.consume(response.getEntity());
+                    return null;
+                });
+            }
+            assertThat(connectionManager.getRoutes()).containsExactly(FeignRouteLimits.route(productInstance));
+            HttpRoute usedRoute = connectionManager.getRoutes().iterator().next();
+            assertThat(connectionManager.getStats(usedRoute).getMax()).isEqualTo(20);
+            connectionManager.close();
+        } finally {
+            product.stop(0);
+            user.stop(0);
+        }
+    }
+
+    private static SimpleDiscoveryClient discoveryClient(ServiceInstance... instances) {
+        SimpleDiscoveryProperties properties = new SimpleDiscoveryProperties();
+        for (ServiceInstance instance : instances) {
+            properties.getInstances().put(instance.getServiceId(), List.of((DefaultServiceInstance) instance));
+        }
+        return new SimpleDiscoveryClient(properties);
+    }
+
+    private static ServiceInstance instance(String serviceId, HttpServer server) {
+        return new DefaultServiceInstance(serviceId + "-1", serviceId, "localhost",
+                server.getAddress().getPort(), false);
+    }
+
+    private static HttpServer stubServer() throws Exception {
+        HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", exchange -> {
+            exchange.sendResponseHeaders(200, -1);
+            exchange.close();
+        });
+        server.start();
+        return server;
+    }
+}
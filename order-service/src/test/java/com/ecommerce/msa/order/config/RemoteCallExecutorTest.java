@@ -0,0 +1,146 @@
+package com.ecommerce.msa.order.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 원격 호출 전용 실행기의 스레드/포화 동작과, 지연이 있는 블로킹 호출을 공용 ForkJoinPool 과 비교한 처리량
+class RemoteCallExecutorTest {
+
+    private static final Logger log = LoggerFactory.getLogger(RemoteCallExecutorTest.class);
+
+    private static final int CALLS = 400;
+    private static final long LATENCY_MS = 20;
+
+    @Test
+    void boundedExecutorRunsOnNamedThreads() throws Exception {
+        RemoteCallExecutor executor = bounded(2, 4, 8);
+        try {
+            assertThat(executor.supplyAsync(() -> Thread.currentThread().getName()).get(1, TimeUnit.SECONDS))
+                    .startsWith("remote-call-");
+        } finally {
+            executor.destroy();
+        }
+    }
+
+    @Test
+    void saturatedBoundedExecutorRunsOnCallerThread() throws Exception {
+        RemoteCallExecutor executor = bounded(1, 1, 1);
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            // 스레드 하나와 큐 한 칸을 채운 뒤의 호출은 요청 스레드에서 바로 실행되어 유입을 늦춤
+            CompletableFuture<String> running = executor.supplyAsync(() -> await(release));
+            CompletableFuture<String> queued = executor.supplyAsync(() -> Thread.currentThread().getName());
+            CompletableFuture<String> overflow = executor.supplyAsync(() -> Thread.currentThread().getName());
+
+            assertThat(overflow.get(1, TimeUnit.SECONDS)).isEqualTo(Thread.currentThread().getName());
+            release.countDown();
+            assertThat(running.get(1, TimeUnit.SECONDS)).startsWith("remote-call-");
+            assertThat(queued.get(1, TimeUnit.SECONDS)).startsWith("remote-call-");
+        } finally {
+            release.countDown();
+            executor.destroy();
+        }
+    }
+
+    @Test
+    void virtualExecutorRequiresJava21() throws Exception {
+        if (Runtime.version().feature() >= 21) {
+            RemoteCallExecutor executor = new RemoteCallExecutor(new SimpleMeterRegistry(),
+                    RemoteCallExecutor.Type.VIRTUAL, 16, 64, 256);
+            try {
+                assertThat(executor.supplyAsync(() -> "ok").get(1, TimeUnit.SECONDS)).isEqualTo("ok");
+            } finally {
+                executor.destroy();
+            }
+            return;
+        }
+        assertThatThrownBy(() -> new RemoteCallExecutor(new SimpleMeterRegistry(),
+                RemoteCallExecutor.Type.VIRTUAL, 16, 64, 256))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Java 21");
+    }
+
+    @Test
+    void exposesExecutorMetrics() throws Exception {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        RemoteCallExecutor executor = new RemoteCallExecutor(meterRegistry, RemoteCallExecutor.Type.BOUNDED, 2, 4, 8);
+        try {
+            executor.supplyAsync(() -> "ok").get(1, TimeUnit.SECONDS);
+            assertThat(meterRegistry.find("executor.pool.max").tag("name", "order.remote-call").gauge())
+                    .isNotNull()
+                    .satisfies(gauge -> assertThat(gauge.value()).isEqualTo(4.0));
+        } finally {
+            executor.destroy();
+        }
+    }
+
+    @Test
+    void latencyBoundCallsComparedWithCommonPool() throws Exception {
+        // 비교 기준: 실행기 없이 supplyAsync 를 호출하던 기존 방식 (공용 ForkJoinPool, 크기는 CPU 수에 비례)
+        long commonPoolNanos = run(CompletableFuture::supplyAsync);
+        log.info("common ForkJoinPool (parallelism={}): {}", ForkJoinPool.getCommonPoolParallelism(),
+                describe(commonPoolNanos));
+
+        RemoteCallExecutor executor = bounded(16, 64, 256);
+        try {
+            long boundedNanos = run(executor::supplyAsync);
+            log.info("BOUNDED remote-call executor (core=16, max=64, queue=256): {}", describe(boundedNanos));
+            // 지연이 지배적인 호출이므로 최대 스레드 수만큼 겹쳐 실행되어야 함
+            assertThat(TimeUnit.NANOSECONDS.toMillis(boundedNanos)).isLessThan(CALLS * LATENCY_MS / 4);
+        } finally {
+            executor.destroy();
+        }
+    }
+
+    private static long run(Function<Supplier<String>, CompletableFuture<String>> submit) throws Exception {
+        List<CompletableFuture<String>> futures = new ArrayList<>(CALLS);
+        long start = System.nanoTime();
+        for (int i = 0; i < CALLS; i++) {
+            futures.add(submit.apply(RemoteCallExecutorTest::slowCall));
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(60, TimeUnit.SECONDS);
+        return System.nanoTime() - start;
+    }
+
+    private static String describe(long elapsedNanos) {
+        return String.format("calls=%d, latency=%dms, elapsed=%dms, throughput=%.0f calls/s", CALLS, LATENCY_MS,
+                TimeUnit.NANOSECONDS.toMillis(elapsedNanos), CALLS / (elapsedNanos / 1_000_000_000.0));
+    }
+
+    private static String slowCall() {
+        try {
+            Thread.sleep(LATENCY_MS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return Thread.currentThread().getName();
+    }
+
+    private static String await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return Thread.currentThread().getName();
+    }
+
+    private static RemoteCallExecutor bounded(int coreSize, int maxSize, int queueCapacity) {
+        return new RemoteCallExecutor(new SimpleMeterRegistry(), RemoteCallExecutor.Type.BOUNDED,
+                coreSize, maxSize, queueCapacity);
+    }
+}
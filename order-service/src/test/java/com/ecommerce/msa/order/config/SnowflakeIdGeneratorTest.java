@@ -0,0 +1,70 @@
+package com.ecommerce.msa.order.config;
+
+import com.ecommerce.msa.order.support.ConcurrentLoad;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+// 노드 ID 가 없으면 기동 단계에서 실패하는지, 동시 생성에도 ID 가 겹치지 않는지, 스레드 수별 생성 처리량
+class SnowflakeIdGeneratorTest {
+
+    private static final Logger log = LoggerFactory.getLogger(SnowflakeIdGeneratorTest.class);
+
+    private static final int IDS_PER_THREAD = 200_000;
+
+    @Test
+    void missingNodeIdFailsFast() {
+        assertThatThrownBy(() -> SnowflakeIdGenerator.resolveNodeId(null))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> SnowflakeIdGenerator.resolveNodeId("-1"))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> SnowflakeIdGenerator.resolveNodeId("1024"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(SnowflakeIdGenerator.resolveNodeId(" 1023 ")).isEqualTo(1023L);
+    }
+
+    @Test
+    void nodeIdIsEncodedInEveryId() {
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(517, null);
+
+        long previous = 0;
+        for (int i = 0; i < 10_000; i++) {
+            long id = generator.nextId();
+            assertThat((id >> 12) & SnowflakeIdGenerator.MAX_NODE_ID).isEqualTo(517L);
+            assertThat(id).isGreaterThan(previous);
+            previous = id;
+        }
+        // JavaScript 숫자(2^53)로는 정확히 표현할 수 없는 크기라 API 는 문자열로 반환
+        assertThat(previous).isGreaterThan(1L << 53);
+    }
+
+    @Test
+    void expiredLeaseStopsGeneration() {
+        // 임대하지 못했거나 갱신 없이 TTL 이 지난 임대
+        SnowflakeNodeLease lease = new SnowflakeNodeLease(mock(JdbcTemplate.class), true, 60_000, "test");
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1, lease);
+
+        assertThatThrownBy(generator::nextId).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void benchmarkConcurrentGeneration() throws Exception {
+        for (int threads : new int[]{1, 4, 16}) {
+            SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1, null);
+            Set<Long> ids = ConcurrentHashMap.newKeySet();
+            ConcurrentLoad.Result result = ConcurrentLoad.run(threads, IDS_PER_THREAD, () -> ids.add(generator.nextId()));
+
+            log.info("snowflake nextId ({} threads): {}", threads, result);
+            assertThat(result.succeeded()).isEqualTo(threads * IDS_PER_THREAD);
+            assertThat(ids).hasSize(threads * IDS_PER_THREAD);
+        }
+    }
+}
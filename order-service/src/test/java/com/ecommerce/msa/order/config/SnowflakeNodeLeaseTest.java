@@ -0,0 +1,130 @@
+package com.ecommerce.msa.order.config;
+
+import com.ecommerce.msa.order.entity.Order;
+import com.ecommerce.msa.order.repository.OrderRepository;
+import com.ecommerce.msa.order.support.IntegrationTestSupport;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 노드 ID 설정 경로(spring.jpa.properties → Hibernate 설정)와 DB 노드 ID 임대의 배타성, 만료, 인계를 확인
+@TestPropertySource(properties = "order.outbox.relay.interval-ms=3600000")
+class SnowflakeNodeLeaseTest extends IntegrationTestSupport {
+
+    private static final long SHORT_TTL_MS = 300;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    private final List<SnowflakeNodeLease> leases = new ArrayList<>();
+
+    @AfterEach
+    void releaseLeases() {
+        leases.forEach(SnowflakeNodeLease::destroy);
+    }
+
+    @Test
+    void configuredNodeIdReachesGenerator() {
+        // application-test.yml 의 spring.jpa.properties.order.id.node-id: 1
+        assertThat(entityManagerFactory.getProperties().get(SnowflakeIdGenerator.NODE_ID_SETTING)).isEqualTo("1");
+        assertThat(entityManagerFactory.getProperties()).doesNotContainKey(SnowflakeNodeLease.LEASE_SETTING);
+
+        Order order = orderRepository.save(Order.builder()
+                .userId(8_100_000L)
+                .totalAmount(new BigDecimal("1000.00"))
+                .build());
+        try {
+            assertThat((order.getOrderId() >> 12) & SnowflakeIdGenerator.MAX_NODE_ID).isEqualTo(1L);
+        } finally {
+            orderRepository.delete(order);
+        }
+    }
+
+    @Test
+    void unsetNodeIdIsLeasedThroughHibernateSettings() {
+        SnowflakeNodeLease lease = lease(60_000);
+        Map<String, Object> settings = new HashMap<>(Map.of(SnowflakeIdGenerator.NODE_ID_SETTING, "-1"));
+
+        lease.customize(settings);
+
+        assertThat(settings.get(SnowflakeIdGenerator.NODE_ID_SETTING)).isEqualTo(Integer.toString(lease.getNodeId()));
+        assertThat(settings.get(SnowflakeNodeLease.LEASE_SETTING)).isSameAs(lease);
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(lease.getNodeId(), lease);
+        assertThat((generator.nextId() >> 12) & SnowflakeIdGenerator.MAX_NODE_ID).isEqualTo(lease.getNodeId());
+    }
+
+    @Test
+    void configuredNodeIdSkipsLease() {
+        SnowflakeNodeLease lease = lease(60_000);
+        Map<String, Object> settings = new HashMap<>(Map.of(SnowflakeIdGenerator.NODE_ID_SETTING, "7"));
+
+        lease.customize(settings);
+
+        assertThat(settings).containsOnly(Map.entry(SnowflakeIdGenerator.NODE_ID_SETTING, "7"));
+        assertThat(lease.getNodeId()).isEqualTo(-1);
+    }
+
+    @Test
+    void liveLeasesAreExclusive() {
+        SnowflakeNodeLease first = lease(60_000);
+        SnowflakeNodeLease second = lease(60_000);
+
+        assertThat(first.acquire()).isNotEqualTo(second.acquire());
+    }
+
+    @Test
+    void expiredLeaseIsTakenOverAndStopsOldHolder() throws Exception {
+        SnowflakeNodeLease old = lease(SHORT_TTL_MS);
+        int nodeId = old.acquire();
+        SnowflakeIdGenerator oldGenerator = new SnowflakeIdGenerator(nodeId, old);
+        oldGenerator.nextId();
+
+        // 갱신하지 못한 채 TTL 이 지나면 기존 보유자는 스스로 생성을 멈춤
+        Thread.sleep(SHORT_TTL_MS * 2);
+        assertThatThrownBy(oldGenerator::nextId).isInstanceOf(IllegalStateException.class);
+
+        // 비어 있는 번호 중 가장 작은 번호부터 임대하므로 만료된 번호를 다시 가져감
+        SnowflakeNodeLease next = lease(60_000);
+        assertThat(next.acquire()).isEqualTo(nodeId);
+
+        // 뒤늦게 갱신을 시도해도 임대를 잃었으므로 계속 멈춰 있음
+        old.renew();
+        assertThatThrownBy(oldGenerator::nextId).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void renewKeepsLeaseAlive() throws Exception {
+        SnowflakeNodeLease lease = lease(SHORT_TTL_MS);
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(lease.acquire(), lease);
+
+        for (int i = 0; i < 6; i++) {
+            Thread.sleep(SHORT_TTL_MS / 3);
+            lease.renew();
+            generator.nextId();
+        }
+    }
+
+    private SnowflakeNodeLease lease(long ttlMs) {
+        SnowflakeNodeLease lease = new SnowflakeNodeLease(jdbcTemplate, true, ttlMs, "lease-test");
+        leases.add(lease);
+        return lease;
+    }
+}
@@ -0,0 +1,55 @@
+package com.ecommerce.msa.order.dto;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OrderCursorTest {
+
+    @Test
+    void roundTrips() {
+        OrderCursor cursor = new OrderCursor(LocalDateTime.of(2024, 1, 1, 12, 30, 15, 123_000_000), 42L);
+
+        assertThat(OrderCursor.decode(cursor.encode())).isEqualTo(cursor);
+        assertThat(OrderCursor.decode(null)).isNull();
+        assertThat(OrderCursor.decode(" ")).isNull();
+    }
+
+    @Test
+    void invalidCursorIsBadRequest() {
+        for (String cursor : List.of("!!!", "bm90LWEtY3Vyc29y", "MjAyNC0wMS0wMVQxMjowMA")) {
+            assertThatThrownBy(() -> OrderCursor.decode(cursor))
+                    .isInstanceOfSatisfying(ResponseStatusException.class,
+                            e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST));
+        }
+    }
+
+    @Test
+    void clampsPageSize() {
+        assertThat(OrderCursor.pageSize(0)).isEqualTo(1);
+        assertThat(OrderCursor.pageSize(20)).isEqualTo(20);
+        assertThat(OrderCursor.pageSize(10_000)).isEqualTo(OrderCursor.MAX_PAGE_SIZE);
+    }
+
+    @Test
+    void pageUsesExtraRowForHasNext() {
+        CursorPage<String> page = CursorPage.of(List.of(1L, 2L, 3L), 2,
+                rows -> rows.stream().map(String::valueOf).collect(Collectors.toList()), String::valueOf);
+        assertThat(page.getContent()).containsExactly("1", "2");
+        assertThat(page.isHasNext()).isTrue();
+        assertThat(page.getNextCursor()).isEqualTo("2");
+
+        CursorPage<String> last = CursorPage.of(List.of(1L, 2L), 2,
+                rows -> rows.stream().map(String::valueOf).collect(Collectors.toList()), String::valueOf);
+        assertThat(last.getSize()).isEqualTo(2);
+        assertThat(last.isHasNext()).isFalse();
+        assertThat(last.getNextCursor()).isNull();
+    }
+}
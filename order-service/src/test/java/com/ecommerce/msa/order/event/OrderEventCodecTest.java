@@ -0,0 +1,221 @@
+package com.ecommerce.msa.order.event;
+
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 바이너리 OrderEvent 인코딩의 왕복 보존, 버전 1 형식 고정, JSON 과 섞인 토픽 읽기, JSON 대비 크기/처리량
+class OrderEventCodecTest {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderEventCodecTest.class);
+
+    private static final String TOPIC = "order.events";
+
+    // 버전 1 로 인코딩한 sampleEvent(): 이미 발행된 메시지를 계속 읽을 수 있어야 하므로 값이 바뀌면 안 됨
+    private static final String VERSION_1_SAMPLE = "c101ff010d4f524445525f435245415445449ccd87e3f4d2cdb603540400e49bee02"
+            + "0750454e44494e47010f0e09ed82a4ebb3b4eb939c040400f28db701ceae90e30cc0a9d33ad0ae90e30c00";
+
+    private static final int WARMUP_ITERATIONS = 3;
+    private static final int MEASURED_ITERATIONS = 5;
+    private static final int OPERATIONS_PER_ITERATION = 20_000;
+
+    @Test
+    void roundTripPreservesEveryField() {
+        OrderEvent event = OrderEvent.builder()
+                .eventType("ORDER_STATUS_UPDATED")
+                .orderId(Long.MAX_VALUE)
+                .userId(-1L)
+                .totalAmount(new BigDecimal("123456789012345678901234567890.123"))
+                .orderStatus("SHIPPED")
+                .orderItems(List.of(
+                        item(1L, "무선 마우스", 3, new BigDecimal("0.10")),
+                        item(Long.MIN_VALUE, "", 0, new BigDecimal("-5E+3"))))
+                .orderCreatedAt(LocalDateTime.of(1969, 12, 31, 23, 59, 59, 999_999_999))
+                .eventTime(LocalDateTime.of(2099, 1, 1, 0, 0))
+                .build();
+
+        OrderEvent decoded = OrderEventCodec.decode(OrderEventCodec.encode(event));
+
+        // BigDecimal 은 scale 까지 비교하므로 0.10 과 0.1 을 구분
+        assertThat(decoded).isEqualTo(event);
+    }
+
+    @Test
+    void roundTripKeepsMissingFieldsNull() {
+        OrderEvent empty = new OrderEvent();
+        assertThat(OrderEventCodec.decode(OrderEventCodec.encode(empty))).isEqualTo(empty);
+
+        OrderEvent partial = OrderEvent.builder()
+                .orderId(1L)
+                .orderItems(List.of(new OrderEvent.OrderItemEvent(), item(2L, null, null, null)))
+                .build();
+        assertThat(OrderEventCodec.decode(OrderEventCodec.encode(partial))).isEqualTo(partial);
+
+        OrderEvent noItems = OrderEvent.builder().orderId(1L).orderItems(List.of()).build();
+        assertThat(OrderEventCodec.decode(OrderEventCodec.encode(noItems)).getOrderItems()).isEmpty();
+    }
+
+    @Test
+    void version1FormatIsStable() {
+        byte[] version1 = HexFormat.of().parseHex(VERSION_1_SAMPLE);
+
+        assertThat(OrderEventCodec.decode(version1)).isEqualTo(sampleEvent());
+        assertThat(OrderEventCodec.encode(sampleEvent())).isEqualTo(version1);
+    }
+
+    @Test
+    void unsupportedOrCorruptDataIsRejected() {
+        byte[] version1 = HexFormat.of().parseHex(VERSION_1_SAMPLE);
+
+        // 아직 모르는 다음 버전은 추측해서 읽지 않음
+        byte[] nextVersion = version1.clone();
+        nextVersion[1] = (byte) (OrderEventCodec.VERSION + 1);
+        assertThatThrownBy(() -> OrderEventCodec.decode(nextVersion))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("버전");
+
+        for (int length : new int[]{2, 3, 20, version1.length - 1}) {
+            byte[] truncated = Arrays.copyOf(version1, length);
+            assertThatThrownBy(() -> OrderEventCodec.decode(truncated)).isInstanceOf(IllegalArgumentException.class);
+        }
+        assertThatThrownBy(() -> OrderEventCodec.decode("{}".getBytes()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void deserializerReadsBinaryAndJsonMessages() {
+        // 바이너리 전환 중에는 같은 토픽에 두 형식이 섞여 있음
+        try (JsonSerializer<Object> jsonSerializer = new JsonSerializer<>();
+             OrderEventDeserializer deserializer = deserializer()) {
+            Headers jsonHeaders = new RecordHeaders();
+            byte[] json = jsonSerializer.serialize(TOPIC, jsonHeaders, sampleEvent());
+            byte[] binary = new OrderEventSerializer().serialize(TOPIC, sampleEvent());
+
+            assertThat(OrderEventCodec.isBinary(json)).isFalse();
+            assertThat(deserializer.deserialize(TOPIC, jsonHeaders, json)).isEqualTo(sampleEvent());
+            assertThat(deserializer.deserialize(TOPIC, new RecordHeaders(), binary)).isEqualTo(sampleEvent());
+        }
+    }
+
+    @Test
+    void benchmarkBinaryVersusJson() {
+        List<OrderEvent> events = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            events.add(event(i));
+        }
+
+        try (JsonSerializer<Object> jsonSerializer = new JsonSerializer<>();
+             OrderEventDeserializer deserializer = deserializer()) {
+            OrderEventSerializer binarySerializer = new OrderEventSerializer();
+
+            Result binary = measure("binary", events, event -> {
+                byte[] data = binarySerializer.serialize(TOPIC, event);
+                return deserializer.deserialize(TOPIC, new RecordHeaders(), data) != null ? data.length : -1;
+            });
+            Result json = measure("json", events, event -> {
+                Headers headers = new RecordHeaders();
+                byte[] data = jsonSerializer.serialize(TOPIC, headers, event);
+                return deserializer.deserialize(TOPIC, headers, data) != null ? data.length : -1;
+            });
+
+            assertThat(binary.averageBytes()).isLessThan(json.averageBytes());
+        }
+    }
+
+    private Result measure(String name, List<OrderEvent> events, Function<OrderEvent, Integer> roundTrip) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            run(events, roundTrip);
+        }
+        long totalNanos = 0;
+        long totalBytes = 0;
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            long start = System.nanoTime();
+            totalBytes += run(events, roundTrip);
+            totalNanos += System.nanoTime() - start;
+        }
+        long operations = (long) MEASURED_ITERATIONS * OPERATIONS_PER_ITERATION;
+        Result result = new Result(totalNanos / (double) operations, totalBytes / (double) operations);
+        log.info("{} encode+decode: iterations={}x{}, avg={} ns/op, throughput={} ops/s, avgSize={} bytes",
+                name, MEASURED_ITERATIONS, OPERATIONS_PER_ITERATION, String.format("%.0f", result.nanosPerOp()),
+                String.format("%.0f", TimeUnit.SECONDS.toNanos(1) / result.nanosPerOp()),
+                String.format("%.1f", result.averageBytes()));
+        return result;
+    }
+
+    private static long run(List<OrderEvent> events, Function<OrderEvent, Integer> roundTrip) {
+        long bytes = 0;
+        for (int i = 0; i < OPERATIONS_PER_ITERATION; i++) {
+            int size = roundTrip.apply(events.get(i % events.size()));
+            assertThat(size).isPositive();
+            bytes += size;
+        }
+        return bytes;
+    }
+
+    private record Result(double nanosPerOp, double averageBytes) {
+    }
+
+    private static OrderEventDeserializer deserializer() {
+        OrderEventDeserializer deserializer = new OrderEventDeserializer();
+        deserializer.configure(Map.of(JsonDeserializer.TRUSTED_PACKAGES, "com.ecommerce.msa.order.event"), false);
+        return deserializer;
+    }
+
+    private static OrderEvent sampleEvent() {
+        return OrderEvent.builder()
+                .eventType("ORDER_CREATED")
+                .orderId(123456789012345678L)
+                .userId(42L)
+                .totalAmount(new BigDecimal("30000.50"))
+                .orderStatus("PENDING")
+                .orderItems(List.of(item(7L, "키보드", 2, new BigDecimal("15000.25"))))
+                .orderCreatedAt(LocalDateTime.of(2024, 5, 1, 9, 30, 15, 123_000_000))
+                .eventTime(LocalDateTime.of(2024, 5, 1, 9, 30, 16))
+                .build();
+    }
+
+    // 실제 주문과 비슷한 크기: 상품 1~5개, 한글 상품명
+    private static OrderEvent event(int seed) {
+        List<OrderEvent.OrderItemEvent> items = new ArrayList<>();
+        for (int i = 0; i <= seed % 5; i++) {
+            items.add(item(1_000L + seed * 10L + i, "테스트 상품 " + i, 1 + i, new BigDecimal("12900.00")));
+        }
+        LocalDateTime createdAt = LocalDateTime.of(2024, 5, 1, 9, 0).plusSeconds(seed);
+        return OrderEvent.builder()
+                .eventType("ORDER_CREATED")
+                .orderId(480_000_000_000_000_000L + seed)
+                .userId(10_000L + seed)
+                .totalAmount(new BigDecimal("12900.00").multiply(BigDecimal.valueOf(items.size())))
+                .orderStatus("PENDING")
+                .orderItems(items)
+                .orderCreatedAt(createdAt)
+                .eventTime(createdAt.plusNanos(123_456_000))
+                .build();
+    }
+
+    private static OrderEvent.OrderItemEvent item(Long productId, String name, Integer quantity, BigDecimal price) {
+        return OrderEvent.OrderItemEvent.builder()
+                .productId(productId)
+                .productName(name)
+                .quantity(quantity)
+                .price(price)
+                .build();
+    }
+}
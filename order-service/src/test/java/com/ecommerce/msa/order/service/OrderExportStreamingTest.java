@@ -0,0 +1,177 @@
+package com.ecommerce.msa.order.service;
+
+import com.ecommerce.msa.order.support.IntegrationTestSupport;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 수백만 건 기간 내보내기가 힙 크기보다 큰 응답을 끝까지 스트리밍하는지 확인
+// 힙을 제한한 exportHeapTest 태스크에서 실행 (gradlew.bat exportHeapTest), 결과를 모아 두는 구현이면 OutOfMemoryError 로 실패
+@Tag("heap-capped")
+@TestPropertySource(properties = {
+        "order.outbox.relay.interval-ms=3600000",
+        "order.export.fetch-size=1000"
+})
+class OrderExportStreamingTest extends IntegrationTestSupport {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderExportStreamingTest.class);
+
+    private static final int ROWS = 4_000_000;
+    private static final long USER_ID = 8_800_000L;
+    // 애플리케이션이 만드는 주문 ID 와 겹치지 않는 범위
+    private static final long FIRST_ORDER_ID = 8_000_000_000_000_000_000L;
+    private static final LocalDateTime FROM = LocalDateTime.of(2001, 1, 1, 0, 0);
+    private static final LocalDateTime TO = FROM.plusYears(1);
+    private static final int HEAD_LINES = 3;
+
+    @Autowired
+    private OrderExportService orderExportService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void insertOrders() {
+        deleteOrders();
+        // 기간 안에 고르게 퍼지도록 5초 간격으로 생성 시각을 배정
+        jdbcTemplate.update("""
+                INSERT INTO orders (order_id, user_id, total_amount, status, created_at, updated_at)
+                SELECT ? + n, ?, 10000.00 + (n % 100), 'DELIVERED',
+                       ?::timestamp + n * INTERVAL '5 seconds', ?::timestamp + n * INTERVAL '5 seconds'
+                FROM generate_series(0, ? - 1) AS n
+                """, FIRST_ORDER_ID, USER_ID, FROM, FROM, ROWS);
+    }
+
+    @AfterEach
+    void deleteOrders() {
+        jdbcTemplate.update("DELETE FROM orders WHERE user_id = ?", USER_ID);
+    }
+
+    @Test
+    void exportLargerThanHeapStreams() {
+        // 데이터 준비 비용이 커서 한 번 넣고 두 형식을 모두 확인
+        assertStreamsWithinHeap(OrderExportService.Format.NDJSON);
+        assertStreamsWithinHeap(OrderExportService.Format.CSV);
+    }
+
+    private void assertStreamsWithinHeap(OrderExportService.Format format) {
+        CountingOutputStream out = new CountingOutputStream();
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        AtomicBoolean exporting = new AtomicBoolean(true);
+        AtomicLong peakHeap = new AtomicLong();
+        Thread sampler = new Thread(() -> {
+            while (exporting.get()) {
+                peakHeap.accumulateAndGet(memory.getHeapMemoryUsage().getUsed(), Math::max);
+                try {
+                    Thread.sleep(10);
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+        }, "heap-sampler");
+        sampler.start();
+
+        long start = System.nanoTime();
+        long count;
+        try {
+            count = orderExportService.export(FROM, TO, format, out);
+        } finally {
+            exporting.set(false);
+        }
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        long maxHeap = Runtime.getRuntime().maxMemory();
+        log.info("{} export: rows={}, bytes={}MB, elapsed={}ms, throughput={} rows/s, peakHeap={}MB, maxHeap={}MB",
+                format, count, out.bytes / (1024 * 1024), elapsedMs, count * 1000 / Math.max(elapsedMs, 1),
+                peakHeap.get() / (1024 * 1024), maxHeap / (1024 * 1024));
+
+        assertThat(count).isEqualTo(ROWS);
+        assertThat(out.lines).isEqualTo(format == OrderExportService.Format.CSV ? ROWS + 1 : ROWS);
+        // 응답 전체가 힙보다 커야 스트리밍 여부를 가를 수 있음 (힙 제한 없이 실행하면 이 조건에서 실패)
+        assertThat(out.bytes).isGreaterThan(maxHeap);
+        assertHeadLines(format, out.headLines());
+    }
+
+    // 앞부분 몇 줄의 형식 확인: NDJSON 은 줄마다 앞뒤 공백 없는 JSON 객체, CSV 는 헤더 다음 행
+    private void assertHeadLines(OrderExportService.Format format, List<String> lines) {
+        if (format == OrderExportService.Format.CSV) {
+            assertThat(lines).hasSize(HEAD_LINES);
+            assertThat(lines.get(0)).isEqualTo("orderId,userId,status,totalAmount,createdAt,updatedAt");
+            for (int i = 1; i < HEAD_LINES; i++) {
+                String createdAt = FROM.plusSeconds(5L * (i - 1)).toString();
+                assertThat(lines.get(i)).isEqualTo((FIRST_ORDER_ID + i - 1) + "," + USER_ID + ",DELIVERED,"
+                        + (10000 + i - 1) + ".00," + createdAt + "," + createdAt);
+            }
+            return;
+        }
+
+        assertThat(lines).hasSize(HEAD_LINES);
+        for (int i = 0; i < HEAD_LINES; i++) {
+            assertThat(lines.get(i)).startsWith("{").endsWith("}");
+            JsonNode order;
+            try {
+                order = objectMapper.readTree(lines.get(i));
+            } catch (Exception e) {
+                throw new AssertionError("NDJSON 줄을 파싱할 수 없습니다: " + lines.get(i), e);
+            }
+            assertThat(order.get("orderId").asText()).isEqualTo(String.valueOf(FIRST_ORDER_ID + i));
+            assertThat(order.get("userId").asLong()).isEqualTo(USER_ID);
+            assertThat(order.get("status").asText()).isEqualTo("DELIVERED");
+            assertThat(order.get("totalAmount").decimalValue()).isEqualByComparingTo(String.valueOf(10000 + i));
+            assertThat(order.get("createdAt").asText()).isEqualTo(FROM.plusSeconds(5L * i).toString());
+        }
+    }
+
+    // 응답은 앞부분 몇 줄만 보관하고 나머지는 크기와 줄 수만 셈
+    private static class CountingOutputStream extends OutputStream {
+
+        private final ByteArrayOutputStream head = new ByteArrayOutputStream();
+        private long bytes;
+        private long lines;
+
+        @Override
+        public void write(int b) {
+            if (lines < HEAD_LINES) {
+                head.write(b);
+            }
+            bytes++;
+            if (b == '\n') {
+                lines++;
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            for (int i = off; i < off + len; i++) {
+                write(b[i]);
+            }
+        }
+
+        List<String> headLines() {
+            return List.of(head.toString(StandardCharsets.UTF_8).split("\n"));
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.ecommerce.msa.order.service;
+
+import com.ecommerce.msa.order.dto.CursorPage;
+import com.ecommerce.msa.order.dto.OrderResponse;
+import com.ecommerce.msa.order.entity.Order;
+import com.ecommerce.msa.order.entity.OrderItem;
+import com.ecommerce.msa.order.entity.ShippingAddress;
+import com.ecommerce.msa.order.repository.OrderRepository;
+import com.ecommerce.msa.order.support.IntegrationTestSupport;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.test.context.TestPropertySource;
+
+import java.math.BigDecimal;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 주문 이력 조회가 페이지 크기와 관계없이 항목 조회 쿼리를 한 번만 실행하는지 Hibernate 통계로 확인
+@TestPropertySource(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "order.outbox.relay.interval-ms=3600000"
+})
+class OrderHistoryQueryCountTest extends IntegrationTestSupport {
+
+    private static final int ORDERS = 20;
+    private static final int ITEMS_PER_ORDER = 3;
+    private static final int PAGE_SIZE = 10;
+
+    private static final AtomicLong USER_IDS = new AtomicLong(2_000_000);
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Long userId;
+
+    @BeforeEach
+    void createOrders() {
+        userId = USER_IDS.incrementAndGet();
+        for (int i = 0; i < ORDERS; i++) {
+            Order order = Order.builder()
+                    .userId(userId)
+                    .totalAmount(BigDecimal.ZERO)
+                    .status(Order.OrderStatus.DELIVERED)
+                    .shippingAddress(ShippingAddress.builder()
+                            .zipCode("06000")
+                            .address("서울시 강남구")
+                            .recipientName("홍길동")
+                            .recipientPhone("010-0000-0000")
+                            .build())
+                    .build();
+            for (int j = 0; j < ITEMS_PER_ORDER; j++) {
+                order.addOrderItem(OrderItem.builder()
+                        .productId((long) j + 1)
+                        .productName("상품 " + (j + 1))
+                        .price(new BigDecimal("1000"))
+                        .quantity(1)
+                        .build());
+            }
+            order.calculateTotalAmount();
+            orderRepository.save(order);
+        }
+        statistics().clear();
+    }
+
+    @Test
+    void pageByUserUsesOneItemsQuery() {
+        Page<OrderResponse.OrderInfo> page = orderService.getOrdersByUserId(userId, PageRequest.of(0, PAGE_SIZE));
+
+        assertThat(page.getContent()).hasSize(PAGE_SIZE)
+                .allSatisfy(order -> assertThat(order.getOrderItems()).hasSize(ITEMS_PER_ORDER));
+        // 페이지 조회 + COUNT + 항목 일괄 조회
+        assertThat(statistics().getPrepareStatementCount()).isEqualTo(3);
+        assertThat(statistics().getCollectionFetchCount()).isZero();
+    }
+
+    @Test
+    void pageByStatusUsesOneItemsQuery() {
+        Page<OrderResponse.OrderInfo> page = orderService.getOrdersByStatus(Order.OrderStatus.DELIVERED,
+                PageRequest.of(0, PAGE_SIZE));
+
+        assertThat(page.getContent()).hasSize(PAGE_SIZE)
+                .allSatisfy(order -> assertThat(order.getOrderItems()).hasSize(ITEMS_PER_ORDER));
+        assertThat(statistics().getPrepareStatementCount()).isEqualTo(3);
+        assertThat(statistics().getCollectionFetchCount()).isZero();
+    }
+
+    @Test
+    void sliceAndCursorSkipCount() {
+        Slice<OrderResponse.OrderInfo> slice = orderService.getOrdersSliceByUserId(userId, PageRequest.of(0, PAGE_SIZE));
+        assertThat(slice.getContent()).hasSize(PAGE_SIZE);
+        // 슬라이스 조회 + 항목 일괄 조회
+        assertThat(statistics().getPrepareStatementCount()).isEqualTo(2);
+
+        statistics().clear();
+        CursorPage<OrderResponse.OrderInfo> first = orderService.getOrdersByUserIdCursor(userId, null, PAGE_SIZE);
+        CursorPage<OrderResponse.OrderInfo> second = orderService.getOrdersByUserIdCursor(userId,
+                first.getNextCursor(), PAGE_SIZE);
+
+        assertThat(first.getContent()).hasSize(PAGE_SIZE);
+        assertThat(second.getContent()).hasSize(PAGE_SIZE)
+                .allSatisfy(order -> assertThat(order.getOrderItems()).hasSize(ITEMS_PER_ORDER));
+        assertThat(statistics().getPrepareStatementCount()).isEqualTo(4);
+        assertThat(statistics().getCollectionFetchCount()).isZero();
+    }
+
+    private Statistics statistics() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+}
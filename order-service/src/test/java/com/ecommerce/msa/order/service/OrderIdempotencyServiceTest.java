@@ -0,0 +1,264 @@
+package com.ecommerce.msa.order.service;
+
+import com.ecommerce.msa.order.client.ProductServiceClient;
+import com.ecommerce.msa.order.client.UserServiceClient;
+import com.ecommerce.msa.order.dto.OrderRequest;
+import com.ecommerce.msa.order.dto.ProductResponse;
+import com.ecommerce.msa.order.dto.StockHoldRequest;
+import com.ecommerce.msa.order.dto.StockHoldResponse;
+import com.ecommerce.msa.order.dto.UserResponse;
+import com.ecommerce.msa.order.entity.IdempotencyKey;
+import com.ecommerce.msa.order.repository.IdempotencyKeyRepository;
+import com.ecommerce.msa.order.repository.OrderRepository;
+import com.ecommerce.msa.order.support.IntegrationTestSupport;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+
+// 같은 Idempotency-Key 로 동시에 들어온 요청이 주문을 한 번만 만드는지, 키 선점이 넘어간 요청의 주문은 롤백되는지 확인
+// 인스턴스 간 경쟁은 같은 DB 를 쓰는 서비스 인스턴스를 하나 더 만들어 재현
+@TestPropertySource(properties = "order.outbox.relay.interval-ms=3600000")
+class OrderIdempotencyServiceTest extends IntegrationTestSupport {
+
+    private static final AtomicLong USER_IDS = new AtomicLong(3_000_000);
+
+    @Autowired
+    private OrderIdempotencyService orderIdempotencyService;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private IdempotencyKeyRepository idempotencyKeyRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @MockBean
+    private UserServiceClient userServiceClient;
+
+    @MockBean(name = "productServiceClientTransport")
+    private ProductServiceClient productServiceClient;
+
+    private static final String SLOW_THREAD = "slow-request";
+
+    private volatile long holdDelayMs;
+    private final CountDownLatch releaseSlowHold = new CountDownLatch(1);
+
+    @BeforeEach
+    void stubDownstreams() {
+        holdDelayMs = 0;
+        given(userServiceClient.getUserById(anyLong())).willAnswer(invocation -> UserResponse.builder()
+                .userId(invocation.getArgument(0))
+                .available(true)
+                .build());
+        given(productServiceClient.getProductsByIds(anyList())).willAnswer(invocation -> {
+            List<Long> productIds = invocation.getArgument(0);
+            return productIds.stream()
+                    .map(productId -> ProductResponse.builder()
+                            .productId(productId)
+                            .name("멱등성 테스트 상품")
+                            .price(new BigDecimal("10000"))
+                            .available(true)
+                            .build())
+                    .collect(Collectors.toList());
+        });
+        given(productServiceClient.createStockHolds(any(StockHoldRequest.class))).willAnswer(invocation -> {
+            Thread.sleep(holdDelayMs);
+            if (Thread.currentThread().getName().equals(SLOW_THREAD)) {
+                releaseSlowHold.await(10, TimeUnit.SECONDS);
+            }
+            StockHoldRequest request = invocation.getArgument(0);
+            return StockHoldResponse.builder()
+                    .reservationId(request.getReservationId())
+                    .held(true)
+                    .build();
+        });
+    }
+
+    @Test
+    void concurrentDuplicatesAcrossInstancesCreateOneOrder() throws Exception {
+        OrderIdempotencyService otherInstance = newInstance(120_000);
+        String key = UUID.randomUUID().toString();
+        OrderRequest.Create request = request(USER_IDS.incrementAndGet());
+        holdDelayMs = 100;
+
+        int threads = 16;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<OrderIdempotencyService.Result>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                OrderIdempotencyService instance = i % 2 == 0 ? orderIdempotencyService : otherInstance;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return instance.createOrder(key, request);
+                }));
+            }
+            start.countDown();
+
+            List<OrderIdempotencyService.Result> results = new ArrayList<>();
+            for (Future<OrderIdempotencyService.Result> future : futures) {
+                results.add(future.get(30, TimeUnit.SECONDS));
+            }
+
+            Set<Long> orderIds = results.stream()
+                    .map(result -> result.orderInfo().getOrderId())
+                    .collect(Collectors.toSet());
+            assertThat(orderIds).hasSize(1);
+            assertThat(results).filteredOn(result -> !result.replayed()).hasSize(1);
+            assertThat(orderCount(request.getUserId())).isEqualTo(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void sameKeyWithDifferentBodyIsRejected() {
+        String key = UUID.randomUUID().toString();
+        OrderRequest.Create request = request(USER_IDS.incrementAndGet());
+        orderIdempotencyService.createOrder(key, request);
+
+        OrderRequest.Create changed = request(request.getUserId());
+        changed.getOrderItems().get(0).setQuantity(5);
+
+        // 같은 인스턴스(메모리 캐시)와 다른 인스턴스(테이블) 모두 422
+        assertThatThrownBy(() -> orderIdempotencyService.createOrder(key, changed))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY));
+        assertThatThrownBy(() -> newInstance(120_000).createOrder(key, changed))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY));
+        assertThat(orderCount(request.getUserId())).isEqualTo(1);
+    }
+
+    @Test
+    void requestThatLostItsClaimRollsBackItsOrder() throws Exception {
+        // 첫 요청이 오래 걸리는 동안 다른 인스턴스가 오래된 선점으로 보고 키를 다시 선점
+        OrderIdempotencyService slowInstance = newInstance(50);
+        OrderIdempotencyService otherInstance = newInstance(50);
+        String key = UUID.randomUUID().toString();
+        OrderRequest.Create request = request(USER_IDS.incrementAndGet());
+
+        ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, SLOW_THREAD));
+        try {
+            // 첫 요청은 키를 선점한 뒤 재고 홀드 응답을 기다리며 멈춤
+            Future<OrderIdempotencyService.Result> slow = executor.submit(() -> slowInstance.createOrder(key, request));
+            awaitClaimed(key);
+            Thread.sleep(100);
+
+            OrderIdempotencyService.Result winner = otherInstance.createOrder(key, request);
+            releaseSlowHold.countDown();
+
+            assertThatThrownBy(() -> slow.get(10, TimeUnit.SECONDS))
+                    .hasCauseInstanceOf(ResponseStatusException.class);
+            assertThat(winner.replayed()).isFalse();
+            assertThat(orderCount(request.getUserId())).isEqualTo(1);
+            assertThat(idempotencyKeyRepository.findById(key)).get()
+                    .satisfies(record -> {
+                        assertThat(record.getStatus()).isEqualTo(IdempotencyKey.Status.COMPLETED);
+                        assertThat(record.getOrderId()).isEqualTo(winner.orderInfo().getOrderId());
+                    });
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void completeAndReleaseRequireTheCurrentClaim() {
+        String key = UUID.randomUUID().toString();
+        LocalDateTime expiresAt = LocalDateTime.now().plusHours(1);
+
+        assertThat(inTransaction(() -> idempotencyKeyRepository.insertIfAbsent(key, "hash", "first", expiresAt)))
+                .isEqualTo(1);
+        assertThat(inTransaction(() -> idempotencyKeyRepository.reclaim(key, "hash", "second",
+                LocalDateTime.now().plusMinutes(1), expiresAt))).isEqualTo(1);
+
+        assertThat(inTransaction(() -> idempotencyKeyRepository.complete(key, "first", 1L, "{}"))).isZero();
+        assertThat(inTransaction(() -> idempotencyKeyRepository.deleteInProgress(key, "first"))).isZero();
+        assertThat(inTransaction(() -> idempotencyKeyRepository.complete(key, "second", 2L, "{}"))).isEqualTo(1);
+        // 완료된 키는 같은 토큰으로도 다시 완료하거나 지울 수 없음
+        assertThat(inTransaction(() -> idempotencyKeyRepository.complete(key, "second", 3L, "{}"))).isZero();
+        assertThat(inTransaction(() -> idempotencyKeyRepository.deleteInProgress(key, "second"))).isZero();
+        assertThat(idempotencyKeyRepository.findById(key).orElseThrow().getOrderId()).isEqualTo(2L);
+    }
+
+    private int inTransaction(Supplier<Integer> update) {
+        Integer updated = new TransactionTemplate(transactionManager).execute(status -> update.get());
+        return updated == null ? 0 : updated;
+    }
+
+    private void awaitClaimed(String key) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (idempotencyKeyRepository.findById(key).isEmpty() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    private OrderIdempotencyService newInstance(long staleAfterMs) {
+        OrderIdempotencyService instance = new OrderIdempotencyService(idempotencyKeyRepository, orderService,
+                objectMapper, transactionManager, 100);
+        ReflectionTestUtils.setField(instance, "ttlHours", 24L);
+        ReflectionTestUtils.setField(instance, "waitTimeoutMs", 30_000L);
+        ReflectionTestUtils.setField(instance, "staleAfterMs", staleAfterMs);
+        return instance;
+    }
+
+    private long orderCount(Long userId) {
+        return orderRepository.findByUserId(userId, Pageable.unpaged()).getTotalElements();
+    }
+
+    private static OrderRequest.Create request(Long userId) {
+        OrderRequest.OrderItemRequest item = new OrderRequest.OrderItemRequest();
+        item.setProductId(1L);
+        item.setQuantity(1);
+        OrderRequest.ShippingAddressRequest address = new OrderRequest.ShippingAddressRequest();
+        address.setZipCode("06000");
+        address.setAddress("서울시 강남구");
+        address.setRecipientName("홍길동");
+        address.setRecipientPhone("010-0000-0000");
+
+        OrderRequest.Create request = new OrderRequest.Create();
+        request.setUserId(userId);
+        request.setOrderItems(new ArrayList<>(List.of(item)));
+        request.setShippingAddress(address);
+        return request;
+    }
+}
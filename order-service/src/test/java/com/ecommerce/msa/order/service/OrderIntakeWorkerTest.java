@@ -0,0 +1,50 @@
+package com.ecommerce.msa.order.service;
+
+import com.ecommerce.msa.order.event.OrderIntakeCommand;
+import feign.RetryableException;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.CannotAcquireLockException;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+// 실제 거절만 주문 거절로 처리하고, 일시적인 오류는 컨테이너가 재시도하도록 그대로 던지는지 확인
+class OrderIntakeWorkerTest {
+
+    private final OrderService orderService = mock(OrderService.class);
+    private final OrderIntakeWorker worker = new OrderIntakeWorker(orderService);
+    private final OrderIntakeCommand command = OrderIntakeCommand.builder().orderId(1L).build();
+
+    @Test
+    void rejectsOnBusinessFailure() {
+        doThrow(new OrderRejectedException("재고가 부족합니다: 상품")).when(orderService).processOrderIntake(command);
+
+        worker.onOrderIntake(command);
+
+        verify(orderService).rejectOrderIntake(1L, "재고가 부족합니다: 상품");
+    }
+
+    @Test
+    void rethrowsDownstreamFailure() {
+        RuntimeException failure = new RuntimeException("사용자 정보 조회 실패: user-service 에 연결할 수 없습니다",
+                mock(RetryableException.class));
+        doThrow(failure).when(orderService).processOrderIntake(command);
+
+        assertThatThrownBy(() -> worker.onOrderIntake(command)).isSameAs(failure);
+        verify(orderService, never()).rejectOrderIntake(any(), anyString());
+    }
+
+    @Test
+    void rethrowsLockTimeout() {
+        doThrow(new CannotAcquireLockException("lock timeout")).when(orderService).processOrderIntake(command);
+
+        assertThatThrownBy(() -> worker.onOrderIntake(command)).isInstanceOf(CannotAcquireLockException.class);
+        verify(orderService, never()).rejectOrderIntake(eq(1L), anyString());
+    }
+}
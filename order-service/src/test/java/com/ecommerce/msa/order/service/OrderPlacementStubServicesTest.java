@@ -0,0 +1,191 @@
+package com.ecommerce.msa.order.service;
+
+import com.ecommerce.msa.order.dto.OrderRequest;
+import com.ecommerce.msa.order.support.ConcurrentLoad;
+import com.ecommerce.msa.order.support.IntegrationTestSupport;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// user-service/product-service 를 JDK HttpServer 스텁으로 띄우고 동시 createOrder 처리량을 로그로 출력
+// 원격 호출은 Feign 의 Apache HttpClient 5 커넥션 풀을 그대로 거치므로, 새로 연 연결 수와 하위 요청 수를 함께 비교
+@TestPropertySource(properties = {
+        "order.concurrency-limit.enabled=false",
+        "order.outbox.relay.interval-ms=3600000"
+})
+class OrderPlacementStubServicesTest extends IntegrationTestSupport {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderPlacementStubServicesTest.class);
+
+    private static final int THREADS = 16;
+    private static final int ORDERS_PER_THREAD = 10;
+    private static final int ITEMS_PER_ORDER = 3;
+    private static final long DOWNSTREAM_LATENCY_MS = 5;
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final AtomicInteger REQUESTS = new AtomicInteger();
+    private static final HttpServer USER_SERVICE = startStub("/users/", OrderPlacementStubServicesTest::handleUser);
+    private static final HttpServer PRODUCT_SERVICE = startStub("/products/", OrderPlacementStubServicesTest::handleProduct);
+
+    @DynamicPropertySource
+    static void downstreamProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.cloud.discovery.client.simple.instances.user-service[0].uri",
+                () -> "http://localhost:" + USER_SERVICE.getAddress().getPort());
+        registry.add("spring.cloud.discovery.client.simple.instances.product-service[0].uri",
+                () -> "http://localhost:" + PRODUCT_SERVICE.getAddress().getPort());
+    }
+
+    @AfterAll
+    static void stopStubs() {
+        USER_SERVICE.stop(0);
+        PRODUCT_SERVICE.stop(0);
+    }
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ProductCache productCache;
+
+    // 주문마다 새 사용자/상품 ID 를 써서 로컬 캐시 없이 매번 원격 호출 경로를 타도록 함
+    private final AtomicLong ids = new AtomicLong(9_000_000);
+
+    @Test
+    void placeOrdersAgainstStubServices() throws Exception {
+        // 첫 측정에 JIT/커넥션 풀 준비 시간이 섞이지 않도록 몇 건을 먼저 처리
+        ConcurrentLoad.run(1, 5, this::placeOrder);
+
+        int requestsBefore = REQUESTS.get();
+        long connectsBefore = connects();
+        ConcurrentLoad.Result result = ConcurrentLoad.run(THREADS, ORDERS_PER_THREAD, this::placeOrder);
+        int requests = REQUESTS.get() - requestsBefore;
+        long connects = connects() - connectsBefore;
+
+        log.info("createOrder against stub services ({} threads, {}ms downstream latency): {}, downstreamRequests={}, newConnections={}",
+                THREADS, DOWNSTREAM_LATENCY_MS, result, requests, connects);
+
+        assertThat(result.errors()).isZero();
+        assertThat(result.succeeded()).isEqualTo(THREADS * ORDERS_PER_THREAD);
+        // 주문마다 사용자 조회, 상품 일괄 조회, 재고 홀드 (홀드 확정은 주문 확정 시점)
+        assertThat(requests).isGreaterThanOrEqualTo(THREADS * ORDERS_PER_THREAD * 3);
+        // 대부분의 요청이 풀에 남은 keep-alive 연결을 재사용
+        assertThat(connects).isLessThan(requests / 4);
+        // 실제 상품 응답 모양(status)으로도 판매 가능 상품으로 판단해 상품 캐시에 보관
+        assertThat(productCache.get(ids.get())).isNotNull();
+    }
+
+    private long connects() {
+        return meterRegistry.get("order.feign.connect").tag("scheme", "http").timer().count();
+    }
+
+    private boolean placeOrder() {
+        OrderRequest.Create request = new OrderRequest.Create();
+        request.setUserId(ids.incrementAndGet());
+        request.setOrderItems(Stream.generate(() -> {
+            OrderRequest.OrderItemRequest item = new OrderRequest.OrderItemRequest();
+            item.setProductId(ids.incrementAndGet());
+            item.setQuantity(1);
+            return item;
+        }).limit(ITEMS_PER_ORDER).toList());
+        OrderRequest.ShippingAddressRequest address = new OrderRequest.ShippingAddressRequest();
+        address.setZipCode("06000");
+        address.setAddress("서울시 강남구");
+        address.setRecipientName("홍길동");
+        address.setRecipientPhone("010-0000-0000");
+        request.setShippingAddress(address);
+
+        return orderService.createOrder(request).getOrderId() != null;
+    }
+
+    private static String handleUser(HttpExchange exchange) {
+        long userId = Long.parseLong(exchange.getRequestURI().getPath().substring("/users/".length()));
+        return "{\"userId\":" + userId + ",\"name\":\"홍길동\",\"available\":true}";
+    }
+
+    private static String handleProduct(HttpExchange exchange) throws IOException {
+        String path = exchange.getRequestURI().getPath();
+        if (path.equals("/products/batch")) {
+            List<Long> productIds = OBJECT_MAPPER.readValue(exchange.getRequestBody(), new TypeReference<>() {
+            });
+            return productIds.stream().map(OrderPlacementStubServicesTest::product)
+                    .collect(Collectors.joining(",", "[", "]"));
+        }
+        if (path.equals("/products/stock/holds")) {
+            JsonNode hold = OBJECT_MAPPER.readTree(exchange.getRequestBody());
+            return "{\"reservationId\":\"" + hold.get("reservationId").asText() + "\",\"held\":true,\"status\":\"HELD\"}";
+        }
+        if (path.startsWith("/products/stock/holds/")) {
+            String reservationId = path.substring("/products/stock/holds/".length(), path.lastIndexOf('/'));
+            return "{\"reservationId\":\"" + reservationId + "\",\"held\":true,\"status\":\"CONFIRMED\"}";
+        }
+        return product(Long.parseLong(path.substring("/products/".length())));
+    }
+
+    // product-service ProductResponse.ProductInfo 와 같은 모양 (available 없이 status 로 판매 여부 전달)
+    private static String product(long productId) {
+        return "{\"productId\":" + productId + ",\"name\":\"스텁 상품\",\"description\":\"스텁 상품 설명\","
+                + "\"price\":10000,\"stockQuantity\":100,\"category\":\"전자제품\",\"brand\":\"스텁\","
+                + "\"imageUrl\":null,\"status\":\"ACTIVE\","
+                + "\"createdAt\":\"2026-01-01T00:00:00\",\"updatedAt\":\"2026-01-01T00:00:00\"}";
+    }
+
+    private static HttpServer startStub(String context, StubHandler handler) {
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+            server.setExecutor(Executors.newCachedThreadPool());
+            server.createContext(context, exchange -> {
+                REQUESTS.incrementAndGet();
+                try {
+                    Thread.sleep(DOWNSTREAM_LATENCY_MS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                respond(exchange, handler.handle(exchange));
+            });
+            server.start();
+            return server;
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void respond(HttpExchange exchange, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private interface StubHandler {
+        String handle(HttpExchange exchange) throws IOException;
+    }
+}
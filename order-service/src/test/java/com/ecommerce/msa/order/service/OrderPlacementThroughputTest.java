@@ -0,0 +1,166 @@
+package com.ecommerce.msa.order.service;
+
+import com.ecommerce.msa.order.client.ProductServiceClient;
+import com.ecommerce.msa.order.client.UserServiceClient;
+import com.ecommerce.msa.order.config.RemoteCallExecutor;
+import com.ecommerce.msa.order.dto.OrderRequest;
+import com.ecommerce.msa.order.dto.ProductResponse;
+import com.ecommerce.msa.order.dto.StockHoldRequest;
+import com.ecommerce.msa.order.dto.StockHoldResponse;
+import com.ecommerce.msa.order.dto.UserResponse;
+import com.ecommerce.msa.order.support.ConcurrentLoad;
+import com.ecommerce.msa.order.support.IntegrationTestSupport;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+// 하위 서비스 응답에 지연을 넣고 동시 createOrder 처리량을 원격 호출 실행기별로 비교
+// 주문마다 새 사용자/상품 ID 를 써서 로컬 캐시 없이 매번 원격 호출 경로를 타도록 함
+@TestPropertySource(properties = {
+        "order.concurrency-limit.enabled=false",
+        "order.outbox.relay.interval-ms=3600000"
+})
+class OrderPlacementThroughputTest extends IntegrationTestSupport {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderPlacementThroughputTest.class);
+
+    private static final int THREADS = 32;
+    private static final int ORDERS_PER_THREAD = 5;
+    private static final int ITEMS_PER_ORDER = 3;
+    private static final long DOWNSTREAM_LATENCY_MS = 50;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private RemoteCallExecutor remoteCallExecutor;
+
+    @MockBean
+    private UserServiceClient userServiceClient;
+
+    @MockBean(name = "productServiceClientTransport")
+    private ProductServiceClient productServiceClient;
+
+    private final AtomicLong ids = new AtomicLong(1_000_000);
+
+    @BeforeEach
+    void stubDownstreams() throws Exception {
+        given(userServiceClient.getUserById(anyLong())).willAnswer(invocation -> delayed(() -> UserResponse.builder()
+                .userId(invocation.getArgument(0))
+                .available(true)
+                .build()));
+        // 일괄 조회가 비어 있으면 상품별 개별 조회로 보완하므로 원격 호출 실행기를 거침
+        given(productServiceClient.getProductsByIds(anyList())).willAnswer(invocation -> delayed(List::of));
+        given(productServiceClient.getProductById(anyLong())).willAnswer(invocation -> delayed(() -> ProductResponse.builder()
+                .productId(invocation.getArgument(0))
+                .name("지연 테스트 상품")
+                .price(new BigDecimal("10000"))
+                .available(true)
+                .build()));
+        given(productServiceClient.createStockHolds(any(StockHoldRequest.class))).willAnswer(invocation -> {
+            StockHoldRequest request = invocation.getArgument(0);
+            return delayed(() -> StockHoldResponse.builder()
+                    .reservationId(request.getReservationId())
+                    .held(true)
+                    .build());
+        });
+
+        // 첫 측정에 JIT/커넥션 풀 준비 시간이 섞이지 않도록 몇 건을 먼저 처리
+        ConcurrentLoad.run(1, 5, this::placeOrder);
+    }
+
+    @AfterEach
+    void restoreExecutor() {
+        setRemoteCallExecutor(remoteCallExecutor);
+    }
+
+    @Test
+    void boundedExecutorPlacesOrdersUnderDownstreamLatency() throws Exception {
+        ConcurrentLoad.Result result = ConcurrentLoad.run(THREADS, ORDERS_PER_THREAD, this::placeOrder);
+        log.info("BOUNDED remote-call executor: {}", result);
+
+        assertThat(result.errors()).isZero();
+        assertThat(result.succeeded()).isEqualTo(THREADS * ORDERS_PER_THREAD);
+    }
+
+    @Test
+    void commonPoolForComparison() throws Exception {
+        // 비교 기준: 실행기 없이 supplyAsync 를 호출하던 기존 방식 (공용 ForkJoinPool)
+        RemoteCallExecutor commonPool = mock(RemoteCallExecutor.class, invocation ->
+                CompletableFuture.supplyAsync(invocation.<Supplier<?>>getArgument(0)));
+        setRemoteCallExecutor(commonPool);
+
+        ConcurrentLoad.Result result = ConcurrentLoad.run(THREADS, ORDERS_PER_THREAD, this::placeOrder);
+        log.info("common ForkJoinPool: {}", result);
+
+        assertThat(result.errors()).isZero();
+    }
+
+    @Test
+    void undersizedExecutorForComparison() throws Exception {
+        // 비교 기준: CPU 수 정도로 작게 잡은 전용 풀 (큐가 차면 요청 스레드에서 실행)
+        int size = Runtime.getRuntime().availableProcessors();
+        RemoteCallExecutor undersized = new RemoteCallExecutor(new SimpleMeterRegistry(),
+                RemoteCallExecutor.Type.BOUNDED, size, size, size);
+        setRemoteCallExecutor(undersized);
+        try {
+            ConcurrentLoad.Result result = ConcurrentLoad.run(THREADS, ORDERS_PER_THREAD, this::placeOrder);
+            log.info("BOUNDED remote-call executor (size={}): {}", size, result);
+
+            assertThat(result.errors()).isZero();
+        } finally {
+            undersized.destroy();
+        }
+    }
+
+    private boolean placeOrder() {
+        OrderRequest.Create request = new OrderRequest.Create();
+        request.setUserId(ids.incrementAndGet());
+        request.setOrderItems(Stream.generate(() -> {
+            OrderRequest.OrderItemRequest item = new OrderRequest.OrderItemRequest();
+            item.setProductId(ids.incrementAndGet());
+            item.setQuantity(1);
+            return item;
+        }).limit(ITEMS_PER_ORDER).toList());
+        OrderRequest.ShippingAddressRequest address = new OrderRequest.ShippingAddressRequest();
+        address.setZipCode("06000");
+        address.setAddress("서울시 강남구");
+        address.setRecipientName("홍길동");
+        address.setRecipientPhone("010-0000-0000");
+        request.setShippingAddress(address);
+
+        return orderService.createOrder(request).getOrderId() != null;
+    }
+
+    private void setRemoteCallExecutor(RemoteCallExecutor executor) {
+        OrderService target = AopTestUtils.getTargetObject(orderService);
+        ReflectionTestUtils.setField(target, "remoteCallExecutor", executor);
+    }
+
+    private static <T> T delayed(Supplier<T> response) throws InterruptedException {
+        Thread.sleep(DOWNSTREAM_LATENCY_MS);
+        return response.get();
+    }
+}
@@ -0,0 +1,202 @@
+package com.ecommerce.msa.order.service;
+
+import com.ecommerce.msa.order.entity.Order;
+import com.ecommerce.msa.order.entity.OrderItem;
+import com.ecommerce.msa.order.repository.OrderRepository;
+import com.ecommerce.msa.order.support.ConcurrentLoad;
+import com.ecommerce.msa.order.support.IntegrationTestSupport;
+import jakarta.persistence.CascadeType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+import jakarta.persistence.Table;
+import org.hibernate.BaseSessionEventListener;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 항목 20개짜리 주문 저장 처리량과 JDBC 왕복 횟수를 IDENTITY 키(변경 전)와 @SnowflakeId + 배치 INSERT(변경 후)로 비교해 로그로 출력
+// 변경 전 구성은 같은 컬럼의 IDENTITY 엔티티(identity_orders, identity_order_items)로 재현
+// 왕복 횟수는 Hibernate 세션 이벤트의 단건 실행/배치 실행 횟수 (reWriteBatchedInserts 로 배치 하나가 다중 행 INSERT 하나)
+@TestPropertySource(properties = {
+        "order.outbox.relay.interval-ms=3600000",
+        "spring.datasource.hikari.data-source-properties.reWriteBatchedInserts=true",
+        "spring.jpa.properties.hibernate.session.events.auto="
+                + "com.ecommerce.msa.order.service.OrderSaveBatchingBenchmarkTest$RoundTripCounter"
+})
+class OrderSaveBatchingBenchmarkTest extends IntegrationTestSupport {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderSaveBatchingBenchmarkTest.class);
+
+    private static final int ITEMS_PER_ORDER = 20;
+    private static final int THREADS = 4;
+    private static final int ORDERS_PER_THREAD = 50;
+    private static final int WARMUP_ORDERS = 20;
+    // 다른 테스트의 주문과 겹치지 않는 사용자 ID
+    private static final long IDENTITY_USER_ID = 9_900_001L;
+    private static final long SNOWFLAKE_USER_ID = 9_900_002L;
+
+    private static final AtomicLong ROUND_TRIPS = new AtomicLong();
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void snowflakeIdsBatchMultiItemOrderInserts() throws Exception {
+        ConcurrentLoad.run(1, WARMUP_ORDERS, this::saveIdentityOrder);
+        ConcurrentLoad.run(1, WARMUP_ORDERS, this::saveSnowflakeOrder);
+
+        Measurement identity = measure(this::saveIdentityOrder);
+        Measurement snowflake = measure(this::saveSnowflakeOrder);
+
+        log.info("save order x{} items, IDENTITY ({} threads): {}", ITEMS_PER_ORDER, THREADS, identity);
+        log.info("save order x{} items, @SnowflakeId + batch INSERT ({} threads): {}", ITEMS_PER_ORDER, THREADS, snowflake);
+
+        int orders = THREADS * ORDERS_PER_THREAD;
+        assertThat(identity.load().succeeded()).isEqualTo(orders);
+        assertThat(snowflake.load().succeeded()).isEqualTo(orders);
+        // IDENTITY 는 행마다 INSERT 한 번 (주문 1 + 항목 20)
+        assertThat(identity.roundTripsPerOrder()).isGreaterThanOrEqualTo(ITEMS_PER_ORDER + 1.0);
+        // 배치 INSERT 는 테이블별로 한 번
+        assertThat(snowflake.roundTripsPerOrder()).isLessThanOrEqualTo(2.0);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM order_items i JOIN orders o ON o.order_id = i.order_id "
+                + "WHERE o.user_id = ?", Long.class, SNOWFLAKE_USER_ID)).isEqualTo((long) (orders + WARMUP_ORDERS) * ITEMS_PER_ORDER);
+    }
+
+    private Measurement measure(Callable<Boolean> save) throws Exception {
+        long before = ROUND_TRIPS.get();
+        ConcurrentLoad.Result load = ConcurrentLoad.run(THREADS, ORDERS_PER_THREAD, save);
+        return new Measurement(load, (double) (ROUND_TRIPS.get() - before) / load.attempts());
+    }
+
+    private boolean saveIdentityOrder() {
+        return transactionTemplate.execute(status -> {
+            IdentityOrder order = new IdentityOrder();
+            order.userId = IDENTITY_USER_ID;
+            order.totalAmount = new BigDecimal("200000.00");
+            for (int i = 0; i < ITEMS_PER_ORDER; i++) {
+                IdentityOrderItem item = new IdentityOrderItem();
+                item.order = order;
+                item.productId = (long) i + 1;
+                item.productName = "배치 테스트 상품 " + i;
+                item.price = new BigDecimal("10000.00");
+                item.quantity = 1;
+                order.orderItems.add(item);
+            }
+            entityManager.persist(order);
+            return order.orderId != null;
+        });
+    }
+
+    private boolean saveSnowflakeOrder() {
+        return transactionTemplate.execute(status -> {
+            Order order = Order.builder()
+                    .userId(SNOWFLAKE_USER_ID)
+                    .totalAmount(new BigDecimal("200000.00"))
+                    .build();
+            for (int i = 0; i < ITEMS_PER_ORDER; i++) {
+                order.addOrderItem(OrderItem.builder()
+                        .productId((long) i + 1)
+                        .productName("배치 테스트 상품 " + i)
+                        .price(new BigDecimal("10000.00"))
+                        .quantity(1)
+                        .build());
+            }
+            return orderRepository.save(order).getOrderId() != null;
+        });
+    }
+
+    private record Measurement(ConcurrentLoad.Result load, double roundTripsPerOrder) {
+
+        @Override
+        public String toString() {
+            return String.format("%s, roundTrips/order=%.1f", load, roundTripsPerOrder);
+        }
+    }
+
+    // 단건 실행(executeUpdate/executeQuery)과 배치 실행(executeBatch)을 각각 왕복 한 번으로 셈
+    public static class RoundTripCounter extends BaseSessionEventListener {
+
+        @Override
+        public void jdbcExecuteStatementEnd() {
+            ROUND_TRIPS.incrementAndGet();
+        }
+
+        @Override
+        public void jdbcExecuteBatchEnd() {
+            ROUND_TRIPS.incrementAndGet();
+        }
+    }
+
+    // 변경 전 키 전략 재현용: IDENTITY 키는 INSERT 마다 생성 키를 돌려받아야 하므로 JDBC 배치를 쓸 수 없음
+    @Entity
+    @Table(name = "identity_orders")
+    static class IdentityOrder {
+
+        @Id
+        @GeneratedValue(strategy = GenerationType.IDENTITY)
+        Long orderId;
+
+        @Column(nullable = false)
+        Long userId;
+
+        @Column(nullable = false, precision = 10, scale = 2)
+        BigDecimal totalAmount;
+
+        @OneToMany(mappedBy = "order", cascade = CascadeType.ALL)
+        List<IdentityOrderItem> orderItems = new ArrayList<>();
+    }
+
+    @Entity
+    @Table(name = "identity_order_items")
+    static class IdentityOrderItem {
+
+        @Id
+        @GeneratedValue(strategy = GenerationType.IDENTITY)
+        Long orderItemId;
+
+        @ManyToOne(fetch = FetchType.LAZY)
+        @JoinColumn(name = "order_id")
+        IdentityOrder order;
+
+        @Column(nullable = false)
+        Long productId;
+
+        @Column(nullable = false)
+        String productName;
+
+        @Column(nullable = false, precision = 10, scale = 2)
+        BigDecimal price;
+
+        @Column(nullable = false)
+        Integer quantity;
+    }
+}
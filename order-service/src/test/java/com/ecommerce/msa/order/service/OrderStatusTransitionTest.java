@@ -0,0 +1,186 @@
+package com.ecommerce.msa.order.service;
+
+import com.ecommerce.msa.order.dto.OrderRequest;
+import com.ecommerce.msa.order.dto.OrderResponse;
+import com.ecommerce.msa.order.entity.Order;
+import com.ecommerce.msa.order.support.ConcurrentLoad;
+import com.ecommerce.msa.order.support.IntegrationTestSupport;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 주문별 상태 변경이 일괄 변경과 같은 전이 규칙을 따르는지, 취소된 주문이 되살아나 매출이 다시 더해지지 않는지 확인
+// 마지막 테스트는 같은 전이를 주문별 API 반복과 일괄 변경으로 처리했을 때의 처리량을 로그로 출력
+@TestPropertySource(properties = "order.outbox.relay.interval-ms=3600000")
+class OrderStatusTransitionTest extends IntegrationTestSupport {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderStatusTransitionTest.class);
+
+    private static final int BENCHMARK_ORDERS = 1000;
+    private static final int BENCHMARK_THREADS = 4;
+
+    // 애플리케이션이 만드는 주문 ID 와 겹치지 않는 범위
+    private static final AtomicLong ORDER_IDS = new AtomicLong(7_000_000_000_000_000_000L);
+    private static final AtomicLong PRODUCT_IDS = new AtomicLong(6_000_000);
+    // 매출 집계 구간이 다른 테스트와 겹치지 않도록 과거 시각에 생성
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2002, 3, 1, 12, 0);
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private BulkOrderStatusService bulkOrderStatusService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void cancelledOrderCannotBeReactivated() {
+        Long productId = PRODUCT_IDS.incrementAndGet();
+        Long orderId = insertOrder(Order.OrderStatus.CANCELLED, productId);
+
+        assertThatThrownBy(() -> orderService.updateOrderStatus(orderId, statusUpdate(Order.OrderStatus.CONFIRMED)))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.CONFLICT));
+
+        assertThat(status(orderId)).isEqualTo(Order.OrderStatus.CANCELLED);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM sales_rollups WHERE product_id = ?", Long.class, productId)).isZero();
+    }
+
+    @Test
+    void cancelledOrderCannotBeCancelledAgain() {
+        Long orderId = insertOrder(Order.OrderStatus.CANCELLED, PRODUCT_IDS.incrementAndGet());
+
+        assertThatThrownBy(() -> orderService.cancelOrder(orderId))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.CONFLICT));
+    }
+
+    @Test
+    void terminalAndBackwardTransitionsAreRejected() {
+        assertRejected(Order.OrderStatus.DELIVERED, Order.OrderStatus.SHIPPED);
+        assertRejected(Order.OrderStatus.SHIPPED, Order.OrderStatus.CANCELLED);
+        assertRejected(Order.OrderStatus.PROCESSING, Order.OrderStatus.CONFIRMED);
+    }
+
+    @Test
+    void forwardTransitionAndSameStatus() {
+        Long orderId = insertOrder(Order.OrderStatus.PENDING, PRODUCT_IDS.incrementAndGet());
+
+        assertThat(orderService.updateOrderStatus(orderId, statusUpdate(Order.OrderStatus.CONFIRMED)).getStatus())
+                .isEqualTo(Order.OrderStatus.CONFIRMED);
+        assertThat(orderService.updateOrderStatus(orderId, statusUpdate(Order.OrderStatus.CONFIRMED)).getStatus())
+                .isEqualTo(Order.OrderStatus.CONFIRMED);
+        assertThat(status(orderId)).isEqualTo(Order.OrderStatus.CONFIRMED);
+    }
+
+    @Test
+    void singleAndBulkUpdatesAgree() {
+        // 일괄 변경이 허용하는 대상 상태마다, 모든 시작 상태에서 두 경로의 판정을 비교 (재고 홀드 없는 주문)
+        List<Order.OrderStatus> targets = List.of(Order.OrderStatus.CONFIRMED, Order.OrderStatus.PROCESSING,
+                Order.OrderStatus.SHIPPED, Order.OrderStatus.DELIVERED);
+        for (Order.OrderStatus target : targets) {
+            for (Order.OrderStatus from : Order.OrderStatus.values()) {
+                Long singleId = insertOrder(from, PRODUCT_IDS.incrementAndGet());
+                Long bulkId = insertOrder(from, PRODUCT_IDS.incrementAndGet());
+
+                OrderResponse.BulkStatusOutcome single = singleOutcome(singleId, from, target);
+                OrderResponse.BulkStatusOutcome bulk =
+                        bulkOrderStatusService.updateStatuses(List.of(bulkId), target).getResults().get(0).getOutcome();
+
+                assertThat(single).as(from + " -> " + target).isEqualTo(bulk);
+                assertThat(status(singleId)).as(from + " -> " + target).isEqualTo(status(bulkId));
+            }
+        }
+    }
+
+    @Test
+    void benchmarkSingleVersusBulkUpdates() throws Exception {
+        List<Long> singleIds = insertOrders(Order.OrderStatus.CONFIRMED, BENCHMARK_ORDERS);
+        List<Long> bulkIds = insertOrders(Order.OrderStatus.CONFIRMED, BENCHMARK_ORDERS);
+
+        AtomicInteger next = new AtomicInteger();
+        ConcurrentLoad.Result single = ConcurrentLoad.run(BENCHMARK_THREADS, BENCHMARK_ORDERS / BENCHMARK_THREADS,
+                () -> orderService.updateOrderStatus(singleIds.get(next.getAndIncrement()),
+                        statusUpdate(Order.OrderStatus.SHIPPED)).getStatus() == Order.OrderStatus.SHIPPED);
+
+        long start = System.nanoTime();
+        OrderResponse.BulkStatusResult bulk = bulkOrderStatusService.updateStatuses(bulkIds, Order.OrderStatus.SHIPPED);
+        long bulkNanos = System.nanoTime() - start;
+
+        log.info("single updateOrderStatus x{} ({} threads): {}", BENCHMARK_ORDERS, BENCHMARK_THREADS, single);
+        log.info("bulk updateStatuses x{}: elapsed={}ms, throughput={} ops/s", BENCHMARK_ORDERS,
+                TimeUnit.NANOSECONDS.toMillis(bulkNanos), String.format("%.0f", BENCHMARK_ORDERS / (bulkNanos / 1_000_000_000.0)));
+
+        assertThat(single.succeeded()).isEqualTo(BENCHMARK_ORDERS);
+        assertThat(bulk.getUpdated()).isEqualTo(BENCHMARK_ORDERS);
+    }
+
+    private void assertRejected(Order.OrderStatus from, Order.OrderStatus to) {
+        Long orderId = insertOrder(from, PRODUCT_IDS.incrementAndGet());
+
+        assertThatThrownBy(() -> orderService.updateOrderStatus(orderId, statusUpdate(to)))
+                .as(from + " -> " + to)
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.CONFLICT));
+        assertThat(status(orderId)).isEqualTo(from);
+    }
+
+    private OrderResponse.BulkStatusOutcome singleOutcome(Long orderId, Order.OrderStatus from, Order.OrderStatus to) {
+        try {
+            orderService.updateOrderStatus(orderId, statusUpdate(to));
+        } catch (ResponseStatusException e) {
+            assertThat(e.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+            return OrderResponse.BulkStatusOutcome.REJECTED;
+        }
+        return from == to ? OrderResponse.BulkStatusOutcome.UNCHANGED : OrderResponse.BulkStatusOutcome.UPDATED;
+    }
+
+    private List<Long> insertOrders(Order.OrderStatus status, int count) {
+        List<Long> orderIds = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            orderIds.add(insertOrder(status, PRODUCT_IDS.incrementAndGet()));
+        }
+        return orderIds;
+    }
+
+    private Long insertOrder(Order.OrderStatus status, Long productId) {
+        Long orderId = ORDER_IDS.incrementAndGet();
+        jdbcTemplate.update("""
+                INSERT INTO orders (order_id, user_id, total_amount, status, created_at, updated_at)
+                VALUES (?, ?, 20000.00, ?, ?, ?)
+                """, orderId, orderId, status.name(), CREATED_AT, CREATED_AT);
+        jdbcTemplate.update("""
+                INSERT INTO order_items (order_item_id, order_id, product_id, product_name, price, quantity)
+                VALUES (?, ?, ?, '상태 전이 테스트 상품', 10000.00, 2)
+                """, orderId, orderId, productId);
+        return orderId;
+    }
+
+    private Order.OrderStatus status(Long orderId) {
+        return Order.OrderStatus.valueOf(
+                jdbcTemplate.queryForObject("SELECT status FROM orders WHERE order_id = ?", String.class, orderId));
+    }
+
+    private static OrderRequest.StatusUpdate statusUpdate(Order.OrderStatus status) {
+        OrderRequest.StatusUpdate request = new OrderRequest.StatusUpdate();
+        request.setStatus(status.name());
+        return request;
+    }
+}
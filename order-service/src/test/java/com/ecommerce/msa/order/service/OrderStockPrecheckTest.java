@@ -0,0 +1,179 @@
+package com.ecommerce.msa.order.service;
+
+import com.ecommerce.msa.order.client.DownstreamOverloadedException;
+import com.ecommerce.msa.order.client.ProductServiceClient;
+import com.ecommerce.msa.order.client.ProductServiceClientFallback;
+import com.ecommerce.msa.order.config.DownstreamCallGuard;
+import com.ecommerce.msa.order.dto.OrderRequest;
+import com.ecommerce.msa.order.dto.OrderResponse;
+import com.ecommerce.msa.order.dto.ProductResponse;
+import com.ecommerce.msa.order.support.IntegrationTestSupport;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+
+// 비동기 접수 전 재고 사전 확인: 판매 가능 수량(재고 - 홀드)이 모자라면 주문을 저장하지 않고 409, 확인하지 못하면 그대로 접수
+// 컨트롤러와 같은 순서(사전 확인 → 접수)로 호출
+@TestPropertySource(properties = {
+        "order.outbox.relay.interval-ms=3600000",
+        "order.intake.stock-precheck.enabled=true"
+})
+class OrderStockPrecheckTest extends IntegrationTestSupport {
+
+    private static final AtomicLong IDS = new AtomicLong(9_500_000);
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private ProductServiceClientFallback fallback;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockBean(name = "productServiceClientTransport")
+    private ProductServiceClient productServiceClient;
+
+    @Test
+    void insufficientStockIsRejectedBeforeAccepting() {
+        long userId = IDS.incrementAndGet();
+        long productId = IDS.incrementAndGet();
+        given(productServiceClient.checkStocks(anyList())).willReturn(List.of(stockInfo(productId, 3)));
+
+        // 같은 상품을 여러 줄로 나눠 담아도 합계 수량으로 확인
+        assertThatThrownBy(() -> accept(request(userId, productId, 2, 2)))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.CONFLICT));
+        assertThat(orders(userId)).isZero();
+    }
+
+    @Test
+    void heldStockIsNotAvailable() {
+        long userId = IDS.incrementAndGet();
+        long productId = IDS.incrementAndGet();
+        // 재고는 10 이지만 8 개가 홀드되어 판매 가능 수량은 2
+        given(productServiceClient.checkStocks(anyList())).willReturn(List.of(ProductResponse.StockInfo.builder()
+                .productId(productId)
+                .name("사전 확인 테스트 상품")
+                .stockQuantity(10)
+                .reservedQuantity(8)
+                .availableQuantity(2)
+                .available(true)
+                .build()));
+
+        assertThatThrownBy(() -> accept(request(userId, productId, 3)))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.CONFLICT));
+        assertThat(orders(userId)).isZero();
+    }
+
+    @Test
+    void precheckRunsOutsideTransaction() {
+        long userId = IDS.incrementAndGet();
+        long productId = IDS.incrementAndGet();
+        AtomicBoolean transactionActive = new AtomicBoolean(true);
+        given(productServiceClient.checkStocks(anyList())).willAnswer(invocation -> {
+            transactionActive.set(TransactionSynchronizationManager.isActualTransactionActive());
+            return List.of(stockInfo(productId, 5));
+        });
+
+        accept(request(userId, productId, 1));
+
+        assertThat(transactionActive).isFalse();
+    }
+
+    @Test
+    void overloadedProductServiceIsAccepted() {
+        long userId = IDS.incrementAndGet();
+        long productId = IDS.incrementAndGet();
+        given(productServiceClient.checkStocks(anyList()))
+                .willThrow(new DownstreamOverloadedException(DownstreamCallGuard.PRODUCT_SERVICE));
+
+        // 한도 초과로 503 을 돌려주지 않고 접수해 부하를 큐로 넘김
+        assertThat(accept(request(userId, productId, 1)).getOrderId()).isNotNull();
+        assertThat(orders(userId)).isEqualTo(1);
+    }
+
+    @Test
+    void sufficientStockIsAccepted() {
+        long userId = IDS.incrementAndGet();
+        long productId = IDS.incrementAndGet();
+        given(productServiceClient.checkStocks(anyList())).willReturn(List.of(stockInfo(productId, 4)));
+
+        assertThat(accept(request(userId, productId, 2, 2)).getOrderId()).isNotNull();
+        assertThat(orders(userId)).isEqualTo(1);
+    }
+
+    @Test
+    void fallbackStockIsAccepted() {
+        long userId = IDS.incrementAndGet();
+        long productId = IDS.incrementAndGet();
+        given(productServiceClient.checkStocks(anyList())).willReturn(fallback.checkStocks(List.of(productId)));
+
+        assertThat(accept(request(userId, productId, 1)).getOrderId()).isNotNull();
+        assertThat(orders(userId)).isEqualTo(1);
+    }
+
+    @Test
+    void failedCheckIsAccepted() {
+        long userId = IDS.incrementAndGet();
+        long productId = IDS.incrementAndGet();
+        given(productServiceClient.checkStocks(anyList())).willThrow(new IllegalStateException("Timeout on blocking read"));
+
+        assertThat(accept(request(userId, productId, 1)).getOrderId()).isNotNull();
+        assertThat(orders(userId)).isEqualTo(1);
+    }
+
+    private OrderResponse.OrderInfo accept(OrderRequest.Create request) {
+        orderService.precheckIntakeStock(request);
+        return orderService.acceptOrder(request);
+    }
+
+    private long orders(long userId) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM orders WHERE user_id = ?", Long.class, userId);
+    }
+
+    private static ProductResponse.StockInfo stockInfo(long productId, int availableQuantity) {
+        return ProductResponse.StockInfo.builder()
+                .productId(productId)
+                .name("사전 확인 테스트 상품")
+                .stockQuantity(availableQuantity)
+                .reservedQuantity(0)
+                .availableQuantity(availableQuantity)
+                .available(availableQuantity > 0)
+                .build();
+    }
+
+    private static OrderRequest.Create request(long userId, long productId, int... quantities) {
+        OrderRequest.Create request = new OrderRequest.Create();
+        request.setUserId(userId);
+        request.setOrderItems(Arrays.stream(quantities).mapToObj(quantity -> {
+            OrderRequest.OrderItemRequest item = new OrderRequest.OrderItemRequest();
+            item.setProductId(productId);
+            item.setQuantity(quantity);
+            return item;
+        }).toList());
+        OrderRequest.ShippingAddressRequest address = new OrderRequest.ShippingAddressRequest();
+        address.setZipCode("06000");
+        address.setAddress("서울시 강남구");
+        address.setRecipientName("홍길동");
+        address.setRecipientPhone("010-0000-0000");
+        request.setShippingAddress(address);
+        return request;
+    }
+}
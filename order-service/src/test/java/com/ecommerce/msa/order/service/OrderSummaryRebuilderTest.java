@@ -0,0 +1,185 @@
+package com.ecommerce.msa.order.service;
+
+import com.ecommerce.msa.order.entity.OrderSummary;
+import com.ecommerce.msa.order.event.OrderEvent;
+import com.ecommerce.msa.order.repository.OrderSummaryRepository;
+import com.ecommerce.msa.order.support.IntegrationTestSupport;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+// 재구성이 기존 조회 모델을 비우지 않고 재생 결과로 교체하는지 확인
+// 재생 중 조회 모델 행 수를 계속 세어, 재구성 도중 행이 사라지는 순간이 없는지도 확인
+@TestPropertySource(properties = "order.outbox.relay.interval-ms=3600000")
+class OrderSummaryRebuilderTest extends IntegrationTestSupport {
+
+    private static final int ORDERS = 200;
+
+    private static final AtomicLong ORDER_IDS = new AtomicLong(9_000_000);
+
+    @Autowired
+    private OrderSummaryRebuilder orderSummaryRebuilder;
+
+    @Autowired
+    private OrderSummaryRepository orderSummaryRepository;
+
+    @Autowired
+    private KafkaTemplate<String, Object> kafkaTemplate;
+
+    @Test
+    void rebuildReplacesReadModelWithoutEmptyingIt() throws Exception {
+        LocalDateTime eventTime = LocalDateTime.now().minusMinutes(10).truncatedTo(ChronoUnit.MICROS);
+        List<Long> orderIds = new ArrayList<>();
+        for (int i = 0; i < ORDERS; i++) {
+            Long orderId = ORDER_IDS.incrementAndGet();
+            orderIds.add(orderId);
+            kafkaTemplate.send("order.events", orderId.toString(), event(orderId, eventTime));
+        }
+        kafkaTemplate.flush();
+        awaitProjected(orderIds);
+
+        // 잘못 반영된 행: 재생한 이벤트로 복구되어야 함
+        Long corruptedId = orderIds.get(0);
+        OrderSummary corrupted = orderSummaryRepository.findById(corruptedId).orElseThrow();
+        corrupted.setStatus("CORRUPTED");
+        corrupted.setLastEventTime(eventTime.minusMinutes(1));
+        orderSummaryRepository.save(corrupted);
+
+        // 토픽에 없는 오래된 행: 재구성 후 삭제
+        Long orphanId = ORDER_IDS.incrementAndGet();
+        orderSummaryRepository.save(summary(orphanId, "CONFIRMED", eventTime.minusDays(1)));
+
+        // 재구성 시작 후 실시간 프로젝터가 반영한 것과 같은 행: 재생 결과로 덮어쓰거나 지우지 않음
+        LocalDateTime later = LocalDateTime.now().plusHours(1).truncatedTo(ChronoUnit.MICROS);
+        Long updatedId = orderIds.get(1);
+        OrderSummary updated = orderSummaryRepository.findById(updatedId).orElseThrow();
+        updated.setStatus("DELIVERED");
+        updated.setLastEventTime(later);
+        orderSummaryRepository.save(updated);
+        Long liveOnlyId = ORDER_IDS.incrementAndGet();
+        orderSummaryRepository.save(summary(liveOnlyId, "PENDING", later));
+
+        List<Long> watched = new ArrayList<>(orderIds);
+        watched.add(liveOnlyId);
+        AtomicBoolean rebuilding = new AtomicBoolean(true);
+        AtomicInteger minVisible = new AtomicInteger(Integer.MAX_VALUE);
+        Thread sampler = new Thread(() -> {
+            while (rebuilding.get()) {
+                minVisible.accumulateAndGet(orderSummaryRepository.findAllById(watched).size(), Math::min);
+            }
+        }, "read-model-sampler");
+        sampler.start();
+        try {
+            assertThat(orderSummaryRebuilder.rebuild()).isGreaterThanOrEqualTo(ORDERS);
+        } finally {
+            rebuilding.set(false);
+            sampler.join(TimeUnit.SECONDS.toMillis(10));
+        }
+
+        assertThat(minVisible.get()).isEqualTo(watched.size());
+        assertThat(orderSummaryRepository.findById(corruptedId)).get()
+                .satisfies(summary -> {
+                    assertThat(summary.getStatus()).isEqualTo("PENDING");
+                    assertThat(summary.getLastEventTime()).isEqualTo(eventTime);
+                });
+        assertThat(orderSummaryRepository.findById(orphanId)).isEmpty();
+        assertThat(orderSummaryRepository.findById(updatedId)).get()
+                .satisfies(summary -> assertThat(summary.getStatus()).isEqualTo("DELIVERED"));
+        assertThat(orderSummaryRepository.findById(liveOnlyId)).isPresent();
+    }
+
+    @Test
+    void concurrentRebuildRequestIsRejected() {
+        List<Runnable> submitted = new ArrayList<>();
+        OrderSummaryRebuilder rebuilder = new OrderSummaryRebuilder(failingConsumerFactory(),
+                mock(OrderSummaryService.class), submitted::add);
+
+        assertThat(rebuilder.rebuildAsync()).isTrue();
+        assertThat(rebuilder.rebuildAsync()).isFalse();
+
+        // 실행기에서 작업이 끝나면(실패해도) 다시 요청할 수 있어야 함
+        submitted.get(0).run();
+        assertThat(rebuilder.rebuildAsync()).isTrue();
+    }
+
+    @Test
+    void rejectedByExecutorReleasesRunningFlag() {
+        OrderSummaryRebuilder rebuilder = new OrderSummaryRebuilder(failingConsumerFactory(),
+                mock(OrderSummaryService.class), task -> {
+                    throw new TaskRejectedException("포화");
+                });
+
+        assertThat(rebuilder.rebuildAsync()).isFalse();
+        assertThat(rebuilder.rebuildAsync()).isFalse();
+        assertThat((AtomicBoolean) ReflectionTestUtils.getField(rebuilder, "running")).isFalse();
+    }
+
+    private void awaitProjected(List<Long> orderIds) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 30_000;
+        while (orderSummaryRepository.findAllById(orderIds).size() < orderIds.size()
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(100);
+        }
+        assertThat(orderSummaryRepository.findAllById(orderIds)).hasSize(orderIds.size());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ConsumerFactory<Object, Object> failingConsumerFactory() {
+        ConsumerFactory<Object, Object> consumerFactory = mock(ConsumerFactory.class);
+        given(consumerFactory.createConsumer(any(), any(), any(), any()))
+                .willThrow(new IllegalStateException("broker unavailable"));
+        return consumerFactory;
+    }
+
+    private static OrderEvent event(Long orderId, LocalDateTime eventTime) {
+        return OrderEvent.builder()
+                .eventType("ORDER_CREATED")
+                .orderId(orderId)
+                .userId(orderId)
+                .totalAmount(new BigDecimal("10000.00"))
+                .orderStatus("PENDING")
+                .orderItems(List.of(OrderEvent.OrderItemEvent.builder()
+                        .productId(1L)
+                        .productName("재구성 테스트 상품")
+                        .quantity(1)
+                        .price(new BigDecimal("10000.00"))
+                        .build()))
+                .orderCreatedAt(eventTime)
+                .eventTime(eventTime)
+                .build();
+    }
+
+    private static OrderSummary summary(Long orderId, String status, LocalDateTime eventTime) {
+        return OrderSummary.builder()
+                .orderId(orderId)
+                .userId(orderId)
+                .status(status)
+                .totalAmount(BigDecimal.ZERO)
+                .itemCount(0)
+                .totalQuantity(0)
+                .items("[]")
+                .orderCreatedAt(eventTime)
+                .lastEventType("ORDER_CREATED")
+                .lastEventTime(eventTime)
+                .build();
+    }
+}
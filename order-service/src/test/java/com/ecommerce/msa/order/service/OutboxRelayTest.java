@@ -0,0 +1,125 @@
+package com.ecommerce.msa.order.service;
+
+import com.ecommerce.msa.order.entity.OutboxEvent;
+import com.ecommerce.msa.order.event.OrderEvent;
+import com.ecommerce.msa.order.repository.OutboxEventRepository;
+import com.ecommerce.msa.order.support.IntegrationTestSupport;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.utils.KafkaTestUtils;
+import org.springframework.test.context.TestPropertySource;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 재시도해도 발행할 수 없는 아웃박스 행이 뒤의 이벤트를 막지 않고 격리되는지 내장 Kafka 로 확인
+@TestPropertySource(properties = "order.outbox.relay.interval-ms=3600000")
+class OutboxRelayTest extends IntegrationTestSupport {
+
+    private static final String TOPIC = "outbox.relay.test";
+
+    @Autowired
+    private OutboxRelay outboxRelay;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private EmbeddedKafkaBroker embeddedKafkaBroker;
+
+    @Test
+    void poisonRowsAreParkedAndLaterEventsKeepFlowing() throws Exception {
+        OutboxEvent first = append("1", OrderEvent.class.getName(), orderEventJson(1L));
+        OutboxEvent unknownType = append("2", "com.ecommerce.msa.order.event.RemovedEvent", orderEventJson(2L));
+        OutboxEvent brokenPayload = append("3", OrderEvent.class.getName(), "{\"orderId\": ");
+        OutboxEvent last = append("4", OrderEvent.class.getName(), orderEventJson(4L));
+
+        relayUntilPublished(last);
+
+        assertThat(reload(first).getPublishedAt()).isNotNull();
+        assertThat(reload(last).getPublishedAt()).isNotNull();
+        assertThat(reload(unknownType)).satisfies(event -> {
+            assertThat(event.getPublishedAt()).isNull();
+            assertThat(event.getDeadLetteredAt()).isNotNull();
+            assertThat(event.getAttempts()).isEqualTo(1);
+            assertThat(event.getLastError()).contains("ClassNotFoundException");
+        });
+        assertThat(reload(brokenPayload)).satisfies(event -> {
+            assertThat(event.getPublishedAt()).isNull();
+            assertThat(event.getDeadLetteredAt()).isNotNull();
+            assertThat(event.getLastError()).isNotBlank();
+        });
+
+        // 격리된 행은 다음 릴레이에서도 다시 조회되지 않음
+        outboxRelay.relay();
+        assertThat(reload(unknownType).getAttempts()).isEqualTo(1);
+
+        assertThat(consumeKeys(2)).containsExactly("1", "4");
+    }
+
+    private void relayUntilPublished(OutboxEvent event) throws InterruptedException {
+        // 기동 직후 스케줄된 릴레이가 잠금을 잡고 있으면 이번 호출은 건너뛰므로 잠시 후 다시 시도
+        long deadline = System.currentTimeMillis() + 10_000;
+        outboxRelay.relay();
+        while (reload(event).getPublishedAt() == null && System.currentTimeMillis() < deadline) {
+            Thread.sleep(200);
+            outboxRelay.relay();
+        }
+    }
+
+    private OutboxEvent append(String key, String payloadType, String payload) {
+        return outboxEventRepository.save(OutboxEvent.builder()
+                .topic(TOPIC)
+                .messageKey(key)
+                .eventType("ORDER_CREATED")
+                .payloadType(payloadType)
+                .payload(payload)
+                .build());
+    }
+
+    private String orderEventJson(Long orderId) throws Exception {
+        return objectMapper.writeValueAsString(OrderEvent.builder()
+                .eventType("ORDER_CREATED")
+                .orderId(orderId)
+                .userId(1L)
+                .totalAmount(new BigDecimal("10000"))
+                .build());
+    }
+
+    private OutboxEvent reload(OutboxEvent event) {
+        return outboxEventRepository.findById(event.getId()).orElseThrow();
+    }
+
+    private List<String> consumeKeys(int expected) {
+        Map<String, Object> props = KafkaTestUtils.consumerProps("outbox-relay-test", "false", embeddedKafkaBroker);
+        props.put("auto.offset.reset", "earliest");
+        try (Consumer<String, String> consumer = new DefaultKafkaConsumerFactory<>(props,
+                new StringDeserializer(), new StringDeserializer()).createConsumer()) {
+            consumer.subscribe(List.of(TOPIC));
+            List<String> keys = new ArrayList<>();
+            long deadline = System.currentTimeMillis() + 10_000;
+            while (keys.size() < expected && System.currentTimeMillis() < deadline) {
+                ConsumerRecords<String, String> records = KafkaTestUtils.getRecords(consumer, Duration.ofSeconds(1));
+                for (ConsumerRecord<String, String> record : records) {
+                    keys.add(record.key());
+                }
+            }
+            return keys;
+        }
+    }
+}
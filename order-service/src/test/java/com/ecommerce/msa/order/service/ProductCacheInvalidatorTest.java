@@ -0,0 +1,120 @@
+package com.ecommerce.msa.order.service;
+
+import com.ecommerce.msa.order.dto.ProductResponse;
+import com.ecommerce.msa.order.event.ProductEvent;
+import com.ecommerce.msa.order.support.IntegrationTestSupport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.env.Environment;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.kafka.test.utils.ContainerTestUtils;
+import org.springframework.test.context.TestPropertySource;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 상품 캐시 무효화 컨슈머 그룹이 인스턴스 ID 로 고정되는지, 재시작 중 발행된 알림도 이어서 처리하는지 확인
+@TestPropertySource(properties = "order.outbox.relay.interval-ms=3600000")
+class ProductCacheInvalidatorTest extends IntegrationTestSupport {
+
+    private static final AtomicLong PRODUCT_IDS = new AtomicLong(5_000_000);
+
+    @Autowired
+    private ProductCache productCache;
+
+    @Autowired
+    private KafkaTemplate<String, Object> kafkaTemplate;
+
+    @Autowired
+    private KafkaListenerEndpointRegistry registry;
+
+    @Autowired
+    private Environment environment;
+
+    private MessageListenerContainer container;
+
+    @BeforeEach
+    void findContainer() {
+        String groupId = environment.resolvePlaceholders(
+                "${order.product-cache.group-id-prefix}-${eureka.instance.instance-id}");
+        container = registry.getListenerContainers().stream()
+                .filter(candidate -> groupId.equals(candidate.getGroupId()))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("no listener container for group " + groupId));
+        ContainerTestUtils.waitForAssignment(container, 1);
+    }
+
+    @Test
+    void groupIdIsStableInstanceId() {
+        // 무작위 값 없이 호스트명/서비스명/포트로만 정해지므로 같은 인스턴스가 재시작해도 같은 그룹
+        assertThat(container.getGroupId()).isEqualTo("order-service-product-cache-"
+                + environment.getProperty("spring.cloud.client.hostname") + ":order-service:"
+                + environment.getProperty("server.port"));
+    }
+
+    @Test
+    void invalidatesOnProductEvent() throws Exception {
+        Long productId = cached();
+
+        send(productId);
+
+        awaitInvalidated(productId);
+    }
+
+    @Test
+    void resumesEventsPublishedWhileStopped() throws Exception {
+        // 커밋된 오프셋이 있어야 재시작 후 그 다음부터 읽으므로 한 건을 먼저 처리
+        Long first = cached();
+        send(first);
+        awaitInvalidated(first);
+
+        container.stop();
+        try {
+            Long missed = cached();
+            send(missed);
+            assertThat(productCache.get(missed)).isNotNull();
+
+            container.start();
+            ContainerTestUtils.waitForAssignment(container, 1);
+            awaitInvalidated(missed);
+        } finally {
+            if (!container.isRunning()) {
+                container.start();
+            }
+        }
+    }
+
+    private Long cached() {
+        Long productId = PRODUCT_IDS.incrementAndGet();
+        productCache.put(ProductResponse.builder()
+                .productId(productId)
+                .name("캐시 무효화 테스트 상품")
+                .price(new BigDecimal("10000"))
+                .available(true)
+                .build());
+        assertThat(productCache.get(productId)).isNotNull();
+        return productId;
+    }
+
+    private void send(Long productId) throws Exception {
+        kafkaTemplate.send("product.events", productId.toString(), ProductEvent.builder()
+                .eventType("PRODUCT_UPDATED")
+                .productId(productId)
+                .eventTime(LocalDateTime.now())
+                .build()).get();
+    }
+
+    private void awaitInvalidated(Long productId) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 30_000;
+        while (productCache.get(productId) != null && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        assertThat(productCache.get(productId)).isNull();
+    }
+}
@@ -0,0 +1,162 @@
+package com.ecommerce.msa.order.service;
+
+import com.ecommerce.msa.order.event.UserEvent;
+import com.ecommerce.msa.order.support.IntegrationTestSupport;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.env.Environment;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.kafka.test.utils.ContainerTestUtils;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 사용자 상태 캐시: user-service 의 404 는 음성 항목으로 보관하고, 장애 대체 응답은 보관하지 않는지 확인
+// user-service 는 JDK HttpServer 스텁으로 띄우고 Feign(디코더, 서킷 브레이커, fallback) 경로를 그대로 사용
+@TestPropertySource(properties = "order.outbox.relay.interval-ms=3600000")
+class UserStatusCacheTest extends IntegrationTestSupport {
+
+    private static final long ACTIVE_USER = 7_000_001L;
+    private static final long FAILING_USER = 7_000_002L;
+
+    private static final AtomicLong UNKNOWN_USER_IDS = new AtomicLong(7_100_000);
+
+    private static final Map<String, AtomicInteger> HITS = new ConcurrentHashMap<>();
+    private static final HttpServer USER_SERVICE = startUserService();
+
+    @DynamicPropertySource
+    static void userServiceProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.cloud.discovery.client.simple.instances.user-service[0].uri",
+                () -> "http://localhost:" + USER_SERVICE.getAddress().getPort());
+    }
+
+    @AfterAll
+    static void stopUserService() {
+        USER_SERVICE.stop(0);
+    }
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private UserStatusCache userStatusCache;
+
+    @Autowired
+    private KafkaTemplate<String, Object> kafkaTemplate;
+
+    @Autowired
+    private KafkaListenerEndpointRegistry registry;
+
+    @Autowired
+    private Environment environment;
+
+    @Test
+    void unknownUserIsCachedAsNegativeEntry() {
+        long userId = UNKNOWN_USER_IDS.incrementAndGet();
+
+        assertThat(orderService.isUserAvailable(userId)).isFalse();
+        assertThat(userStatusCache.get(userId)).isFalse();
+
+        // 두 번째 확인은 원격 조회 없이 음성 항목으로 처리
+        assertThat(orderService.isUserAvailable(userId)).isFalse();
+        assertThat(hits(userId)).isEqualTo(1);
+    }
+
+    @Test
+    void fallbackIsNotCached() {
+        userStatusCache.invalidate(FAILING_USER);
+
+        assertThat(orderService.isUserAvailable(FAILING_USER)).isFalse();
+        assertThat(userStatusCache.get(FAILING_USER)).isNull();
+
+        int hitsAfterFirstCheck = hits(FAILING_USER);
+        assertThat(orderService.isUserAvailable(FAILING_USER)).isFalse();
+        assertThat(hits(FAILING_USER)).isGreaterThan(hitsAfterFirstCheck);
+    }
+
+    @Test
+    void activeUserIsCached() {
+        userStatusCache.invalidate(ACTIVE_USER);
+
+        assertThat(orderService.isUserAvailable(ACTIVE_USER)).isTrue();
+        assertThat(userStatusCache.get(ACTIVE_USER)).isTrue();
+    }
+
+    @Test
+    void userEventsUpdateCacheThroughStableGroup() throws Exception {
+        String groupId = "order-service-user-cache-" + environment.getProperty("spring.cloud.client.hostname")
+                + ":order-service:" + environment.getProperty("server.port");
+        MessageListenerContainer container = registry.getListenerContainers().stream()
+                .filter(candidate -> groupId.equals(candidate.getGroupId()))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("no listener container for group " + groupId));
+        ContainerTestUtils.waitForAssignment(container, 1);
+
+        long userId = UNKNOWN_USER_IDS.incrementAndGet();
+        userStatusCache.update(userId, true);
+        kafkaTemplate.send("user.events", Long.toString(userId), UserEvent.builder()
+                .eventType("USER_STATUS_CHANGED")
+                .userId(userId)
+                .status("SUSPENDED")
+                .eventTime(LocalDateTime.now())
+                .build()).get();
+
+        long deadline = System.currentTimeMillis() + 30_000;
+        while (!Boolean.FALSE.equals(userStatusCache.get(userId)) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        assertThat(userStatusCache.get(userId)).isFalse();
+    }
+
+    private static int hits(long userId) {
+        return HITS.getOrDefault("/users/" + userId, new AtomicInteger()).get();
+    }
+
+    private static HttpServer startUserService() {
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+            server.createContext("/users/", exchange -> {
+                String path = exchange.getRequestURI().getPath();
+                HITS.computeIfAbsent(path, key -> new AtomicInteger()).incrementAndGet();
+                long userId = Long.parseLong(path.substring("/users/".length()));
+                if (userId == ACTIVE_USER) {
+                    respond(exchange, 200, "{\"userId\":" + userId + ",\"name\":\"홍길동\",\"available\":true}");
+                } else if (userId == FAILING_USER) {
+                    respond(exchange, 500, "{\"status\":500,\"message\":\"서버 내부 오류가 발생했습니다\"}");
+                } else {
+                    respond(exchange, 404, "{\"status\":404,\"message\":\"사용자를 찾을 수 없습니다\"}");
+                }
+            });
+            server.start();
+            return server;
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.ecommerce.msa.order.support;
+
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+// PostgreSQL 컨테이너와 내장 Kafka 브로커로 전체 컨텍스트를 띄우는 테스트의 공통 설정 (Docker 가 없으면 건너뜀)
+// 캐시된 스프링 컨텍스트가 같은 DB 를 계속 쓰도록 컨테이너는 테스트 클래스마다 내리지 않고 JVM 종료 시 정리
+@SpringBootTest
+@ActiveProfiles("test")
+@EmbeddedKafka(partitions = 1)
+@Testcontainers(disabledWithoutDocker = true)
+public abstract class IntegrationTestSupport {
+
+    protected static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:15");
+
+    @DynamicPropertySource
+    static void datasourceProperties(DynamicPropertyRegistry registry) {
+        POSTGRES.start();
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+}
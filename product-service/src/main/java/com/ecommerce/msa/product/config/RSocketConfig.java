@@ -0,0 +1,17 @@
+package com.ecommerce.msa.product.config;
+
+import jakarta.validation.Validator;
+import org.springframework.boot.autoconfigure.rsocket.RSocketMessageHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+
+@Configuration
+public class RSocketConfig {
+
+    // REST 와 같은 Bean Validation 규칙을 RSocket @Valid 페이로드에도 적용
+    @Bean
+    public RSocketMessageHandlerCustomizer validatingRSocketMessageHandlerCustomizer(Validator validator) {
+        return messageHandler -> messageHandler.setValidator(new SpringValidatorAdapter(validator));
+    }
+}
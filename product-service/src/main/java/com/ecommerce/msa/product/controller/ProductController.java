@@ -1,12 +1,17 @@
 package com.ecommerce.msa.product.controller;
 
+import com.ecommerce.msa.product.dto.CursorPage;
 import com.ecommerce.msa.product.dto.ProductRequest;
 import com.ecommerce.msa.product.dto.ProductResponse;
 import com.ecommerce.msa.product.service.ProductService;
+import com.ecommerce.msa.product.service.RedisStockFlusher;
+import com.ecommerce.msa.product.service.StockHoldService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -19,6 +24,8 @@ import java.util.List;
 public class ProductController {
 
     private final ProductService productService;
+    private final StockHoldService stockHoldService;
+    private final ObjectProvider<RedisStockFlusher> redisStockFlusher;
 
     @PostMapping
     public ResponseEntity<ProductResponse.ProductInfo> createProduct(
@@ -33,6 +40,13 @@ public class ProductController {
         return ResponseEntity.ok(productInfo);
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<List<ProductResponse.ProductInfo>> getProductsByIds(
+            @RequestBody List<Long> productIds) {
+        List<ProductResponse.ProductInfo> products = productService.getProductsByIds(productIds);
+        return ResponseEntity.ok(products);
+    }
+
     @GetMapping
     public ResponseEntity<Page<ProductResponse.ProductInfo>> getProducts(Pageable pageable) {
         Page<ProductResponse.ProductInfo> products = productService.getProducts(pageable);
@@ -46,6 +60,36 @@ public class ProductController {
         return ResponseEntity.ok(products);
     }
 
+    @GetMapping("/slice")
+    public ResponseEntity<Slice<ProductResponse.ProductInfo>> getProductsSlice(Pageable pageable) {
+        Slice<ProductResponse.ProductInfo> products = productService.getProductsSlice(pageable);
+        return ResponseEntity.ok(products);
+    }
+
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorPage<ProductResponse.ProductInfo>> getProductsByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        CursorPage<ProductResponse.ProductInfo> products = productService.getProductsByCursor(cursor, size);
+        return ResponseEntity.ok(products);
+    }
+
+    @GetMapping("/search/slice")
+    public ResponseEntity<Slice<ProductResponse.ProductInfo>> searchProductsSlice(
+            @RequestParam String keyword, Pageable pageable) {
+        Slice<ProductResponse.ProductInfo> products = productService.searchProductsSlice(keyword, pageable);
+        return ResponseEntity.ok(products);
+    }
+
+    @GetMapping("/search/cursor")
+    public ResponseEntity<CursorPage<ProductResponse.ProductInfo>> searchProductsByCursor(
+            @RequestParam String keyword,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        CursorPage<ProductResponse.ProductInfo> products = productService.searchProductsByCursor(keyword, cursor, size);
+        return ResponseEntity.ok(products);
+    }
+
     @GetMapping("/category/{category}")
     public ResponseEntity<Page<ProductResponse.ProductInfo>> getProductsByCategory(
             @PathVariable String category, Pageable pageable) {
@@ -110,6 +154,20 @@ public class ProductController {
         return ResponseEntity.ok(stockInfo);
     }
 
+    @PutMapping("/{productId}/stock/stripes")
+    public ResponseEntity<ProductResponse.StockInfo> enableStockStripes(
+            @PathVariable Long productId,
+            @Valid @RequestBody ProductRequest.StockStripes request) {
+        ProductResponse.StockInfo stockInfo = productService.enableStockStripes(productId, request);
+        return ResponseEntity.ok(stockInfo);
+    }
+
+    @DeleteMapping("/{productId}/stock/stripes")
+    public ResponseEntity<ProductResponse.StockInfo> disableStockStripes(@PathVariable Long productId) {
+        ProductResponse.StockInfo stockInfo = productService.disableStockStripes(productId);
+        return ResponseEntity.ok(stockInfo);
+    }
+
     @PostMapping("/stock/check")
     public ResponseEntity<List<ProductResponse.StockInfo>> checkMultipleStocks(
             @RequestBody List<Long> productIds) {
@@ -117,6 +175,48 @@ public class ProductController {
         return ResponseEntity.ok(stockInfos);
     }
 
+    @PostMapping("/stock/reserve")
+    public ResponseEntity<ProductResponse.StockReservationResult> reserveStocks(
+            @Valid @RequestBody ProductRequest.StockReservation request) {
+        ProductResponse.StockReservationResult result = productService.reserveStocks(request);
+        return ResponseEntity.ok(result);
+    }
+
+    @PostMapping("/stock/release")
+    public ResponseEntity<Void> releaseStocks(
+            @Valid @RequestBody ProductRequest.StockReservation request) {
+        productService.releaseStocks(request);
+        return ResponseEntity.noContent().build();
+    }
+
+    @PostMapping("/stock/holds")
+    public ResponseEntity<ProductResponse.StockHoldResult> createStockHolds(
+            @Valid @RequestBody ProductRequest.StockHoldCreate request) {
+        ProductResponse.StockHoldResult result = stockHoldService.createHolds(request);
+        return ResponseEntity.ok(result);
+    }
+
+    @PostMapping("/stock/holds/{reservationId}/confirm")
+    public ResponseEntity<ProductResponse.StockHoldResult> confirmStockHolds(@PathVariable String reservationId) {
+        ProductResponse.StockHoldResult result = stockHoldService.confirmHolds(reservationId);
+        return ResponseEntity.ok(result);
+    }
+
+    @PostMapping("/stock/holds/{reservationId}/release")
+    public ResponseEntity<Void> releaseStockHolds(@PathVariable String reservationId) {
+        stockHoldService.releaseHolds(reservationId);
+        return ResponseEntity.noContent().build();
+    }
+
+    @PostMapping("/stock/redis/recover")
+    public ResponseEntity<Integer> recoverRedisStock() {
+        RedisStockFlusher flusher = redisStockFlusher.getIfAvailable();
+        if (flusher == null) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(flusher.recover());
+    }
+
     @DeleteMapping("/{productId}")
     public ResponseEntity<Void> deleteProduct(@PathVariable Long productId) {
         productService.deleteProduct(productId);
@@ -0,0 +1,94 @@
+package com.ecommerce.msa.product.controller;
+
+import com.ecommerce.msa.product.dto.ProductRequest;
+import com.ecommerce.msa.product.dto.ProductResponse;
+import com.ecommerce.msa.product.service.ProductService;
+import com.ecommerce.msa.product.service.StockHoldService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.handler.annotation.DestinationVariable;
+import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.stereotype.Controller;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+
+// order-service 전용 내부 RSocket(CBOR) 엔드포인트. 공개 REST API 는 ProductController 그대로 유지
+// 서비스 호출은 JPA/Redis 블로킹 I/O 이므로 Netty 이벤트 루프가 아닌 boundedElastic 스케줄러에서 실행
+@Controller
+@RequiredArgsConstructor
+public class ProductRSocketController {
+
+    private final ProductService productService;
+    private final StockHoldService stockHoldService;
+
+    @Value("${product.rsocket.stock-stream.batch-size:100}")
+    private int stockStreamBatchSize;
+
+    @MessageMapping("products.get")
+    public Mono<ProductResponse.ProductInfo> getProduct(Long productId) {
+        return blocking(() -> productService.getProduct(productId));
+    }
+
+    // 상품마다 프레임을 나누면 프레임/디코딩 비용이 커지므로 목록 하나를 한 프레임으로 응답
+    @MessageMapping("products.batch")
+    public Mono<List<ProductResponse.ProductInfo>> getProductsByIds(List<Long> productIds) {
+        return blocking(() -> productService.getProductsByIds(productIds));
+    }
+
+    @MessageMapping("products.{productId}.stock")
+    public Mono<ProductResponse.StockInfo> checkStock(@DestinationVariable Long productId) {
+        return blocking(() -> productService.checkStock(productId));
+    }
+
+    // request-channel: 상품 ID 를 스트림으로 받아 batch-size 단위로 모아 조회하고, 묶음마다 한 프레임으로 들어온 순서대로 응답
+    @MessageMapping("products.stock.stream")
+    public Flux<List<ProductResponse.StockInfo>> streamStocks(Flux<Long> productIds) {
+        return productIds
+                .buffer(stockStreamBatchSize)
+                .concatMap(chunk -> blocking(() -> productService.checkMultipleStocks(chunk)));
+    }
+
+    @MessageMapping("products.{productId}.stock.update")
+    public Mono<ProductResponse.StockInfo> updateStock(@DestinationVariable Long productId,
+                                                       @Valid ProductRequest.StockUpdate request) {
+        return blocking(() -> productService.updateStock(productId, request));
+    }
+
+    @MessageMapping("products.stock.reserve")
+    public Mono<ProductResponse.StockReservationResult> reserveStocks(@Valid ProductRequest.StockReservation request) {
+        return blocking(() -> productService.reserveStocks(request));
+    }
+
+    @MessageMapping("products.stock.release")
+    public Mono<Void> releaseStocks(@Valid ProductRequest.StockReservation request) {
+        return blockingRun(() -> productService.releaseStocks(request));
+    }
+
+    @MessageMapping("products.stock.holds.create")
+    public Mono<ProductResponse.StockHoldResult> createStockHolds(@Valid ProductRequest.StockHoldCreate request) {
+        return blocking(() -> stockHoldService.createHolds(request));
+    }
+
+    @MessageMapping("products.stock.holds.{reservationId}.confirm")
+    public Mono<ProductResponse.StockHoldResult> confirmStockHolds(@DestinationVariable String reservationId) {
+        return blocking(() -> stockHoldService.confirmHolds(reservationId));
+    }
+
+    @MessageMapping("products.stock.holds.{reservationId}.release")
+    public Mono<Void> releaseStockHolds(@DestinationVariable String reservationId) {
+        return blockingRun(() -> stockHoldService.releaseHolds(reservationId));
+    }
+
+    private static <T> Mono<T> blocking(Callable<T> call) {
+        return Mono.fromCallable(call).subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private static Mono<Void> blockingRun(Runnable call) {
+        return Mono.<Void>fromRunnable(call).subscribeOn(Schedulers.boundedElastic());
+    }
+}
@@ -0,0 +1,35 @@
+package com.ecommerce.msa.product.dto;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+// productId 키셋 페이지네이션용 불투명 커서 (목록/검색 조회 공통)
+public record ProductCursor(Long productId) {
+
+    public static final int MAX_PAGE_SIZE = 100;
+
+    public static int pageSize(int size) {
+        return Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+    }
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(String.valueOf(productId).getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 커서가 없으면 첫 페이지 (productId > 0)
+    public static long decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0L;
+        }
+        try {
+            return Long.parseLong(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8));
+        } catch (IllegalArgumentException e) {
+            // 클라이언트가 보낸 값의 문제이므로 500 이 아닌 400 으로 응답
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "유효하지 않은 커서입니다");
+        }
+    }
+}
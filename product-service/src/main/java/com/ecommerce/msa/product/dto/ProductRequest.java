@@ -1,12 +1,16 @@
 package com.ecommerce.msa.product.dto;
 
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
 import lombok.Data;
 
 import java.math.BigDecimal;
+import java.util.List;
 
 public class ProductRequest {
 
@@ -49,4 +53,42 @@ public class ProductRequest {
         @NotBlank(message = "작업 타입은 필수입니다")
         private String operation; // INCREASE, DECREASE
     }
+
+    @Data
+    public static class StockReservation {
+        @NotEmpty(message = "예약 항목은 필수입니다")
+        @Valid
+        private List<StockReservationItem> items;
+    }
+
+    @Data
+    public static class StockReservationItem {
+        @NotNull(message = "상품 ID는 필수입니다")
+        private Long productId;
+
+        @NotNull(message = "수량은 필수입니다")
+        @Min(value = 1, message = "수량은 1개 이상이어야 합니다")
+        private Integer quantity;
+    }
+
+    @Data
+    public static class StockStripes {
+        @NotNull(message = "스트라이프 수는 필수입니다")
+        @Min(value = 2, message = "스트라이프 수는 2 이상이어야 합니다")
+        @Max(value = 64, message = "스트라이프 수는 64 이하여야 합니다")
+        private Integer stripeCount;
+    }
+
+    @Data
+    public static class StockHoldCreate {
+        private String reservationId;
+
+        @NotEmpty(message = "예약 항목은 필수입니다")
+        @Valid
+        private List<StockReservationItem> items;
+
+        @Min(value = 1, message = "유효 시간은 1초 이상이어야 합니다")
+        @Max(value = 86400, message = "유효 시간은 86400초 이하여야 합니다")
+        private Integer ttlSeconds;
+    }
 }
@@ -1,11 +1,13 @@
 package com.ecommerce.msa.product.dto;
 
 import com.ecommerce.msa.product.entity.Product;
+import com.ecommerce.msa.product.entity.StockHold;
 import lombok.Builder;
 import lombok.Data;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.List;
 
 public class ProductResponse {
 
@@ -25,12 +27,16 @@ public class ProductResponse {
         private LocalDateTime updatedAt;
 
         public static ProductInfo from(Product product) {
+            return from(product, product.getStockQuantity());
+        }
+
+        public static ProductInfo from(Product product, int stockQuantity) {
             return ProductInfo.builder()
                     .productId(product.getProductId())
                     .name(product.getName())
                     .description(product.getDescription())
                     .price(product.getPrice())
-                    .stockQuantity(product.getStockQuantity())
+                    .stockQuantity(stockQuantity)
                     .category(product.getCategory())
                     .brand(product.getBrand())
                     .imageUrl(product.getImageUrl())
@@ -50,14 +56,54 @@ public class ProductResponse {
         private Product.ProductStatus status;
         private boolean available;
 
+        private Integer reservedQuantity;
+        private Integer availableQuantity;
+        private Integer stockStripes;
+
         public static StockInfo from(Product product) {
+            return from(product, product.getStockQuantity(), product.getStatus());
+        }
+
+        public static StockInfo from(Product product, int stockQuantity, Product.ProductStatus status) {
+            int availableQuantity = stockQuantity - product.getReservedQuantity();
             return StockInfo.builder()
                     .productId(product.getProductId())
                     .name(product.getName())
-                    .stockQuantity(product.getStockQuantity())
-                    .status(product.getStatus())
-                    .available(product.getStockQuantity() > 0 && product.getStatus() == Product.ProductStatus.ACTIVE)
+                    .stockQuantity(stockQuantity)
+                    .status(status)
+                    .available(availableQuantity > 0 && status == Product.ProductStatus.ACTIVE)
+                    .reservedQuantity(product.getReservedQuantity())
+                    .availableQuantity(availableQuantity)
+                    .stockStripes(product.getStockStripes())
                     .build();
         }
     }
+
+    @Data
+    @Builder
+    public static class StockReservationResult {
+        private boolean reserved;
+        private List<StockReservationLine> items;
+    }
+
+    @Data
+    @Builder
+    public static class StockReservationLine {
+        private Long productId;
+        private String name;
+        private Integer requestedQuantity;
+        private Integer stockQuantity;
+        private boolean reserved;
+        private String reason;
+    }
+
+    @Data
+    @Builder
+    public static class StockHoldResult {
+        private String reservationId;
+        private boolean held;
+        private StockHold.HoldStatus status;
+        private LocalDateTime expiresAt;
+        private List<StockReservationLine> items;
+    }
 }
@@ -5,6 +5,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -13,12 +14,15 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "products")
+@Table(name = "products", indexes = {
+        @Index(name = "idx_products_status_product_id", columnList = "status, product_id")
+})
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 @EntityListeners(AuditingEntityListener.class)
+@DynamicUpdate
 public class Product {
 
     @Id
@@ -37,6 +41,16 @@ public class Product {
     @Column(nullable = false)
     private Integer stockQuantity;
 
+    // 유효한 재고 홀드 수량의 합 (판매 가능 재고 = 보유 재고 - 홀드 수량)
+    @Column(nullable = false, columnDefinition = "integer default 0")
+    @Builder.Default
+    private Integer reservedQuantity = 0;
+
+    // 0보다 크면 재고를 product_stock_stripes 의 하위 카운터로 나누어 관리 (핫 상품 모드)
+    @Column(nullable = false, columnDefinition = "integer default 0")
+    @Builder.Default
+    private Integer stockStripes = 0;
+
     private String category;
 
     private String brand;
@@ -59,8 +73,24 @@ public class Product {
         ACTIVE, INACTIVE, OUT_OF_STOCK
     }
 
+    public boolean isStockStriped() {
+        return stockStripes != null && stockStripes > 0;
+    }
+
+    public int getAvailableQuantity() {
+        return stockQuantity - reservedQuantity;
+    }
+
+    public void hold(int quantity) {
+        this.reservedQuantity += quantity;
+    }
+
+    public void unhold(int quantity) {
+        this.reservedQuantity = Math.max(0, this.reservedQuantity - quantity);
+    }
+
     public void decreaseStock(int quantity) {
-        if (this.stockQuantity < quantity) {
+        if (getAvailableQuantity() < quantity) {
             throw new RuntimeException("재고가 부족합니다");
         }
         this.stockQuantity -= quantity;
@@ -0,0 +1,30 @@
+package com.ecommerce.msa.product.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(name = "product_stock_stripes",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"product_id", "stripe_no"}))
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductStockStripe {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long stripeId;
+
+    @Column(name = "product_id", nullable = false)
+    private Long productId;
+
+    @Column(name = "stripe_no", nullable = false)
+    private Integer stripeNo;
+
+    @Column(nullable = false)
+    private Integer quantity;
+}
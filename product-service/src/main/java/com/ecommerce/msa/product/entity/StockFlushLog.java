@@ -0,0 +1,28 @@
+package com.ecommerce.msa.product.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "stock_flush_logs")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StockFlushLog {
+
+    @Id
+    @Column(length = 36)
+    private String batchId;
+
+    @Column(nullable = false)
+    private Integer productCount;
+
+    @Column(name = "applied_at", nullable = false)
+    private LocalDateTime appliedAt;
+}
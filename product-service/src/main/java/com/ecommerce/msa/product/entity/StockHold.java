@@ -0,0 +1,73 @@
+package com.ecommerce.msa.product.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+@Entity
+// 같은 예약 ID 로 같은 상품의 홀드가 두 번 생기지 않도록 (reservation_id, product_id) 유니크
+@Table(name = "stock_holds", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_stock_holds_reservation_product", columnNames = {"reservation_id", "product_id"})
+}, indexes = {
+        @Index(name = "idx_stock_holds_status_expires_at", columnList = "status, expires_at")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@EntityListeners(AuditingEntityListener.class)
+public class StockHold {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long holdId;
+
+    @Column(name = "reservation_id", nullable = false, length = 64)
+    private String reservationId;
+
+    @Column(name = "product_id", nullable = false)
+    private Long productId;
+
+    @Column(nullable = false)
+    private Integer quantity;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    @Builder.Default
+    private HoldStatus status = HoldStatus.HELD;
+
+    // 스트라이프/Redis 재고 상품은 products 행을 잠그지 않도록 홀드 생성 시 재고 카운터에서 바로 차감
+    // (확정 시에는 차감할 것이 없고 해제/만료 시 카운터로 되돌림)
+    @Column(name = "stock_deducted", columnDefinition = "boolean default false")
+    @Builder.Default
+    private Boolean stockDeducted = false;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @CreatedDate
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;
+
+    @LastModifiedDate
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    public enum HoldStatus {
+        HELD,           // 재고 확보됨
+        CONFIRMED,      // 주문 확정으로 재고 차감됨
+        RELEASED,       // 주문 취소로 해제됨
+        EXPIRED         // 유효 시간 초과로 해제됨
+    }
+
+    public boolean isDeductedFromCounter() {
+        return Boolean.TRUE.equals(stockDeducted);
+    }
+}
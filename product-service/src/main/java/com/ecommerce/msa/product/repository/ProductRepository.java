@@ -1,14 +1,19 @@
 package com.ecommerce.msa.product.repository;
 
 import com.ecommerce.msa.product.entity.Product;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -48,6 +53,40 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
             Pageable pageable
     );
     
+    Slice<Product> findSliceByStatus(Product.ProductStatus status, Pageable pageable);
+    
+    @Query("SELECT p FROM Product p WHERE p.status = :status AND p.productId > :afterProductId ORDER BY p.productId")
+    List<Product> findByStatusAfter(
+            @Param("status") Product.ProductStatus status,
+            @Param("afterProductId") Long afterProductId,
+            Pageable pageable
+    );
+    
+    @Query("SELECT p FROM Product p WHERE " +
+           "(LOWER(p.name) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+           "LOWER(p.description) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+           "LOWER(p.category) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+           "LOWER(p.brand) LIKE LOWER(CONCAT('%', :keyword, '%'))) AND " +
+           "p.status = :status")
+    Slice<Product> searchSliceByKeywordAndStatus(
+            @Param("keyword") String keyword,
+            @Param("status") Product.ProductStatus status,
+            Pageable pageable
+    );
+    
+    @Query("SELECT p FROM Product p WHERE " +
+           "(LOWER(p.name) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+           "LOWER(p.description) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+           "LOWER(p.category) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+           "LOWER(p.brand) LIKE LOWER(CONCAT('%', :keyword, '%'))) AND " +
+           "p.status = :status AND p.productId > :afterProductId ORDER BY p.productId")
+    List<Product> searchByKeywordAndStatusAfter(
+            @Param("keyword") String keyword,
+            @Param("status") Product.ProductStatus status,
+            @Param("afterProductId") Long afterProductId,
+            Pageable pageable
+    );
+    
     @Query("SELECT DISTINCT p.category FROM Product p WHERE p.status = :status ORDER BY p.category")
     List<String> findAllCategoriesByStatus(@Param("status") Product.ProductStatus status);
     
@@ -56,6 +95,67 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
     
     List<Product> findByProductIdIn(List<Long> productIds);
     
+    @Query("SELECT p.productId FROM Product p WHERE p.productId IN :productIds AND p.stockStripes > 0")
+    List<Long> findStripedProductIds(@Param("productIds") Collection<Long> productIds);
+    
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM Product p WHERE p.productId IN :productIds ORDER BY p.productId")
+    List<Product> findByProductIdInForUpdate(@Param("productIds") Collection<Long> productIds);
+    
     @Query("SELECT p FROM Product p WHERE p.stockQuantity < :threshold AND p.status = :status")
     List<Product> findLowStockProducts(@Param("threshold") Integer threshold, @Param("status") Product.ProductStatus status);
+    
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Product p SET " +
+           "p.stockQuantity = p.stockQuantity - :quantity, " +
+           "p.status = CASE WHEN p.stockQuantity - :quantity = 0 THEN :outOfStock ELSE p.status END, " +
+           "p.updatedAt = CURRENT_TIMESTAMP " +
+           "WHERE p.productId = :productId AND p.stockQuantity - p.reservedQuantity >= :quantity " +
+           "AND p.stockStripes = 0")
+    int decreaseStockIfAvailable(
+            @Param("productId") Long productId,
+            @Param("quantity") Integer quantity,
+            @Param("outOfStock") Product.ProductStatus outOfStock
+    );
+    
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Product p SET " +
+           "p.stockQuantity = p.stockQuantity + :quantity, " +
+           "p.status = CASE WHEN p.status = :outOfStock AND p.stockQuantity + :quantity > 0 THEN :active ELSE p.status END, " +
+           "p.updatedAt = CURRENT_TIMESTAMP " +
+           "WHERE p.productId = :productId AND p.stockStripes = 0")
+    int increaseStock(
+            @Param("productId") Long productId,
+            @Param("quantity") Integer quantity,
+            @Param("outOfStock") Product.ProductStatus outOfStock,
+            @Param("active") Product.ProductStatus active
+    );
+    
+    @Modifying
+    @Query("UPDATE Product p SET p.status = :to, p.updatedAt = CURRENT_TIMESTAMP " +
+           "WHERE p.productId = :productId AND p.status = :from")
+    int updateStatusIfMatches(
+            @Param("productId") Long productId,
+            @Param("from") Product.ProductStatus from,
+            @Param("to") Product.ProductStatus to
+    );
+    
+    @Modifying
+    @Query("UPDATE Product p SET " +
+           "p.stockQuantity = p.stockQuantity + :delta, " +
+           "p.status = CASE " +
+           "WHEN p.status = :active AND p.stockQuantity + :delta <= 0 THEN :outOfStock " +
+           "WHEN p.status = :outOfStock AND p.stockQuantity + :delta > 0 THEN :active " +
+           "ELSE p.status END, " +
+           "p.updatedAt = CURRENT_TIMESTAMP " +
+           "WHERE p.productId = :productId")
+    int applyStockDelta(
+            @Param("productId") Long productId,
+            @Param("delta") Integer delta,
+            @Param("outOfStock") Product.ProductStatus outOfStock,
+            @Param("active") Product.ProductStatus active
+    );
+    
+    @Query("SELECT p FROM Product p WHERE p.stockStripes = 0 AND p.productId > :afterProductId ORDER BY p.productId")
+    List<Product> findUnstripedProductsAfter(@Param("afterProductId") Long afterProductId, Pageable pageable);
 }
@@ -0,0 +1,58 @@
+package com.ecommerce.msa.product.repository;
+
+import com.ecommerce.msa.product.entity.ProductStockStripe;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ProductStockStripeRepository extends JpaRepository<ProductStockStripe, Long> {
+    
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM ProductStockStripe s WHERE s.productId = :productId ORDER BY s.stripeNo")
+    List<ProductStockStripe> findByProductIdForUpdate(@Param("productId") Long productId);
+    
+    @Query("SELECT COALESCE(SUM(s.quantity), 0) FROM ProductStockStripe s WHERE s.productId = :productId")
+    int sumQuantityByProductId(@Param("productId") Long productId);
+    
+    @Query("SELECT s.productId, SUM(s.quantity) FROM ProductStockStripe s " +
+           "WHERE s.productId IN :productIds GROUP BY s.productId")
+    List<Object[]> sumQuantityByProductIdIn(@Param("productIds") Collection<Long> productIds);
+    
+    // 수량이 충분한 스트라이프 중 다른 트랜잭션이 잡고 있지 않은 하나만 차감 (startStripe 부터 순서대로 탐색)
+    // 잠긴 스트라이프는 기다리지 않고 건너뛰므로, 차감 트랜잭션은 스트라이프 잠금을 최대 하나만 보유
+    @Modifying
+    @Query(value = "UPDATE product_stock_stripes SET quantity = quantity - :quantity " +
+                   "WHERE stripe_id = (SELECT stripe_id FROM product_stock_stripes " +
+                   "WHERE product_id = :productId AND quantity >= :quantity " +
+                   "ORDER BY (stripe_no + :stripeCount - :startStripe) % :stripeCount " +
+                   "LIMIT 1 FOR UPDATE SKIP LOCKED) " +
+                   "AND quantity >= :quantity",
+           nativeQuery = true)
+    int decreaseAnyAvailable(
+            @Param("productId") Long productId,
+            @Param("quantity") Integer quantity,
+            @Param("startStripe") Integer startStripe,
+            @Param("stripeCount") Integer stripeCount
+    );
+    
+    @Modifying
+    @Query("UPDATE ProductStockStripe s SET s.quantity = s.quantity + :quantity " +
+           "WHERE s.productId = :productId AND s.stripeNo = :stripeNo")
+    int increase(
+            @Param("productId") Long productId,
+            @Param("stripeNo") Integer stripeNo,
+            @Param("quantity") Integer quantity
+    );
+    
+    @Modifying
+    @Query("DELETE FROM ProductStockStripe s WHERE s.productId = :productId")
+    void deleteByProductId(@Param("productId") Long productId);
+}
@@ -0,0 +1,19 @@
+package com.ecommerce.msa.product.repository;
+
+import com.ecommerce.msa.product.entity.StockFlushLog;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface StockFlushLogRepository extends JpaRepository<StockFlushLog, String> {
+    
+    // 같은 배치를 동시에 반영하려는 인스턴스는 먼저 커밋한 쪽이 끝날 때까지 대기한 뒤 0을 받음
+    @Modifying
+    @Query(value = "INSERT INTO stock_flush_logs (batch_id, product_count, applied_at) " +
+                   "VALUES (:batchId, :productCount, now()) ON CONFLICT (batch_id) DO NOTHING",
+           nativeQuery = true)
+    int insertIfAbsent(@Param("batchId") String batchId, @Param("productCount") int productCount);
+}
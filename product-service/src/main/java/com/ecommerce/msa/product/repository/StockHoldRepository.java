@@ -0,0 +1,41 @@
+package com.ecommerce.msa.product.repository;
+
+import com.ecommerce.msa.product.entity.StockHold;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface StockHoldRepository extends JpaRepository<StockHold, Long> {
+    
+    List<StockHold> findByReservationIdOrderByProductId(String reservationId);
+    
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT h FROM StockHold h WHERE h.reservationId = :reservationId ORDER BY h.productId")
+    List<StockHold> findByReservationIdForUpdate(@Param("reservationId") String reservationId);
+    
+    // 같은 예약 ID 로 동시에 들어온 홀드 생성 요청을 트랜잭션이 끝날 때까지 직렬화
+    @Query(value = "SELECT 1 FROM pg_advisory_xact_lock(hashtext(:reservationId))", nativeQuery = true)
+    Integer lockReservation(@Param("reservationId") String reservationId);
+    
+    @Query(value = "SELECT hold_id FROM stock_holds WHERE status = 'HELD' AND expires_at < :now " +
+                   "AND hold_id > :afterHoldId ORDER BY hold_id LIMIT :limit",
+           nativeQuery = true)
+    List<Long> findExpiredHoldIds(@Param("now") LocalDateTime now,
+                                  @Param("afterHoldId") Long afterHoldId,
+                                  @Param("limit") int limit);
+    
+    // 여러 인스턴스의 스위퍼가 같은 홀드를 처리하지 않도록 잠긴 행은 건너뜀
+    @Query(value = "SELECT * FROM stock_holds WHERE hold_id IN (:holdIds) AND status = 'HELD' " +
+                   "AND expires_at < :now ORDER BY hold_id FOR UPDATE SKIP LOCKED",
+           nativeQuery = true)
+    List<StockHold> findExpiredHoldsForUpdate(@Param("holdIds") Collection<Long> holdIds,
+                                              @Param("now") LocalDateTime now);
+}
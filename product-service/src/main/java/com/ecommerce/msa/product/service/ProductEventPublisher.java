@@ -0,0 +1,31 @@
+package com.ecommerce.msa.product.service;
+
+import com.ecommerce.msa.product.event.ProductEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+// 상품 변경이 커밋된 뒤에만 product.events 로 알림을 보내 다른 서비스의 로컬 캐시를 무효화
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ProductEventPublisher {
+
+    private static final String PRODUCT_EVENTS_TOPIC = "product.events";
+
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void publish(ProductEvent event) {
+        try {
+            kafkaTemplate.send(PRODUCT_EVENTS_TOPIC, String.valueOf(event.getProductId()), event);
+            log.debug("Product event published: productId={}, eventType={}", event.getProductId(), event.getEventType());
+        } catch (Exception e) {
+            // 알림이 유실돼도 구독 측 캐시는 TTL 로 만료되므로 상품 변경 자체는 실패시키지 않음
+            log.error("Failed to publish product event: productId={}", event.getProductId(), e);
+        }
+    }
+}
@@ -1,20 +1,36 @@
 package com.ecommerce.msa.product.service;
 
+import com.ecommerce.msa.product.dto.CursorPage;
+import com.ecommerce.msa.product.dto.ProductCursor;
 import com.ecommerce.msa.product.dto.ProductRequest;
 import com.ecommerce.msa.product.dto.ProductResponse;
 import com.ecommerce.msa.product.entity.Product;
+import com.ecommerce.msa.product.event.ProductEvent;
 import com.ecommerce.msa.product.repository.ProductRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 
 @Service
@@ -24,6 +40,19 @@ import java.util.stream.Collectors;
 public class ProductService {
 
     private final ProductRepository productRepository;
+    private final CacheManager cacheManager;
+    private final StripedStockService stripedStockService;
+    private final RedisStockService redisStockService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${product.stock.update-mode:CONDITIONAL}")
+    private StockUpdateMode stockUpdateMode;
+
+    public enum StockUpdateMode {
+        CONDITIONAL,    // 조건부 UPDATE 한 번으로 차감
+        ENTITY,         // 엔티티 조회 후 변경 (read-modify-write)
+        REDIS           // Redis 카운터에서 선차감 후 DB 에 비동기 반영
+    }
 
     public ProductResponse.ProductInfo createProduct(ProductRequest.Create request) {
         Product product = Product.builder()
@@ -48,34 +77,107 @@ public class ProductService {
         Product product = productRepository.findById(productId)
                 .orElseThrow(() -> new RuntimeException("상품을 찾을 수 없습니다"));
 
-        return ProductResponse.ProductInfo.from(product);
+        return toProductInfo(product, stripedStockTotals(List.of(product)));
+    }
+
+    @Transactional(readOnly = true)
+    public List<ProductResponse.ProductInfo> getProductsByIds(List<Long> productIds) {
+        List<Long> distinctIds = productIds.stream().distinct().collect(Collectors.toList());
+        Cache cache = cacheManager.getCache("products");
+
+        // 캐시에서 먼저 찾고, 없는 상품만 DB에서 한 번에 조회
+        Map<Long, ProductResponse.ProductInfo> productInfos = new HashMap<>();
+        List<Long> missedIds = new ArrayList<>();
+        for (Long productId : distinctIds) {
+            ProductResponse.ProductInfo cached = cache != null
+                    ? cache.get(productId, ProductResponse.ProductInfo.class) : null;
+            if (cached != null) {
+                productInfos.put(productId, cached);
+            } else {
+                missedIds.add(productId);
+            }
+        }
+
+        if (!missedIds.isEmpty()) {
+            List<Product> products = productRepository.findByProductIdIn(missedIds);
+            Map<Long, Integer> stripedTotals = stripedStockTotals(products);
+            for (Product product : products) {
+                ProductResponse.ProductInfo productInfo = toProductInfo(product, stripedTotals);
+                productInfos.put(product.getProductId(), productInfo);
+                if (cache != null) {
+                    cache.put(product.getProductId(), productInfo);
+                }
+            }
+        }
+
+        return distinctIds.stream()
+                .map(productInfos::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
     }
 
     @Transactional(readOnly = true)
     public Page<ProductResponse.ProductInfo> getProducts(Pageable pageable) {
         Page<Product> products = productRepository.findByStatus(Product.ProductStatus.ACTIVE, pageable);
-        return products.map(ProductResponse.ProductInfo::from);
+        return toProductInfos(products);
     }
 
     @Transactional(readOnly = true)
     public Page<ProductResponse.ProductInfo> searchProducts(String keyword, Pageable pageable) {
         Page<Product> products = productRepository.searchByKeywordAndStatus(
                 keyword, Product.ProductStatus.ACTIVE, pageable);
-        return products.map(ProductResponse.ProductInfo::from);
+        return toProductInfos(products);
+    }
+
+    @Transactional(readOnly = true)
+    public Slice<ProductResponse.ProductInfo> getProductsSlice(Pageable pageable) {
+        return toProductInfos(productRepository.findSliceByStatus(Product.ProductStatus.ACTIVE, pageable));
+    }
+
+    @Transactional(readOnly = true)
+    public Slice<ProductResponse.ProductInfo> searchProductsSlice(String keyword, Pageable pageable) {
+        return toProductInfos(productRepository.searchSliceByKeywordAndStatus(
+                keyword, Product.ProductStatus.ACTIVE, pageable));
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<ProductResponse.ProductInfo> getProductsByCursor(String cursor, int size) {
+        int limit = ProductCursor.pageSize(size);
+        // productId 기준 키셋 조회: 페이지 깊이와 관계없이 인덱스에서 바로 다음 행부터 읽음
+        List<Product> products = productRepository.findByStatusAfter(
+                Product.ProductStatus.ACTIVE, ProductCursor.decode(cursor), PageRequest.of(0, limit + 1));
+        return toCursorPage(products, limit);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<ProductResponse.ProductInfo> searchProductsByCursor(String keyword, String cursor, int size) {
+        int limit = ProductCursor.pageSize(size);
+        List<Product> products = productRepository.searchByKeywordAndStatusAfter(
+                keyword, Product.ProductStatus.ACTIVE, ProductCursor.decode(cursor), PageRequest.of(0, limit + 1));
+        return toCursorPage(products, limit);
+    }
+
+    private CursorPage<ProductResponse.ProductInfo> toCursorPage(List<Product> products, int limit) {
+        return CursorPage.of(products, limit, content -> {
+            Map<Long, Integer> stripedTotals = stripedStockTotals(content);
+            return content.stream()
+                    .map(product -> toProductInfo(product, stripedTotals))
+                    .collect(Collectors.toList());
+        }, last -> new ProductCursor(last.getProductId()).encode());
     }
 
     @Transactional(readOnly = true)
     public Page<ProductResponse.ProductInfo> getProductsByCategory(String category, Pageable pageable) {
         Page<Product> products = productRepository.findByCategoryAndStatus(
                 category, Product.ProductStatus.ACTIVE, pageable);
-        return products.map(ProductResponse.ProductInfo::from);
+        return toProductInfos(products);
     }
 
     @Transactional(readOnly = true)
     public Page<ProductResponse.ProductInfo> getProductsByBrand(String brand, Pageable pageable) {
         Page<Product> products = productRepository.findByBrandIgnoreCaseAndStatus(
                 brand, Product.ProductStatus.ACTIVE, pageable);
-        return products.map(ProductResponse.ProductInfo::from);
+        return toProductInfos(products);
     }
 
     @Transactional(readOnly = true)
@@ -92,9 +194,36 @@ public class ProductService {
     public List<ProductResponse.ProductInfo> getLowStockProducts(Integer threshold) {
         List<Product> products = productRepository.findLowStockProducts(
                 threshold != null ? threshold : 10, Product.ProductStatus.ACTIVE);
+        Map<Long, Integer> stripedTotals = stripedStockTotals(products);
         return products.stream()
-                .map(ProductResponse.ProductInfo::from)
+                .map(product -> toProductInfo(product, stripedTotals))
+                .collect(Collectors.toList());
+    }
+
+    private Page<ProductResponse.ProductInfo> toProductInfos(Page<Product> products) {
+        Map<Long, Integer> stripedTotals = stripedStockTotals(products.getContent());
+        return products.map(product -> toProductInfo(product, stripedTotals));
+    }
+
+    private Slice<ProductResponse.ProductInfo> toProductInfos(Slice<Product> products) {
+        Map<Long, Integer> stripedTotals = stripedStockTotals(products.getContent());
+        return products.map(product -> toProductInfo(product, stripedTotals));
+    }
+
+    private ProductResponse.ProductInfo toProductInfo(Product product, Map<Long, Integer> stripedTotals) {
+        // 스트라이프 상품은 products.stock_quantity 가 갱신되지 않으므로 하위 카운터 합계로 응답 (checkStock 과 동일)
+        Integer stripedTotal = stripedTotals.get(product.getProductId());
+        return stripedTotal != null
+                ? ProductResponse.ProductInfo.from(product, stripedTotal)
+                : ProductResponse.ProductInfo.from(product);
+    }
+
+    private Map<Long, Integer> stripedStockTotals(Collection<Product> products) {
+        List<Long> stripedIds = products.stream()
+                .filter(Product::isStockStriped)
+                .map(Product::getProductId)
                 .collect(Collectors.toList());
+        return stripedIds.isEmpty() ? Map.of() : stripedStockService.getTotalQuantities(stripedIds);
     }
 
     @Transactional(readOnly = true)
@@ -102,7 +231,7 @@ public class ProductService {
             BigDecimal minPrice, BigDecimal maxPrice, Pageable pageable) {
         Page<Product> products = productRepository.findByPriceRangeAndStatus(
                 minPrice, maxPrice, Product.ProductStatus.ACTIVE, pageable);
-        return products.map(ProductResponse.ProductInfo::from);
+        return toProductInfos(products);
     }
 
     @CacheEvict(value = "products", key = "#productId")
@@ -119,8 +248,14 @@ public class ProductService {
         if (request.getPrice() != null) {
             product.setPrice(request.getPrice());
         }
-        if (request.getStockQuantity() != null) {
+        if (request.getStockQuantity() != null && isRedisManaged(product)) {
+            // Redis 모드에서는 카운터를 기준으로 바꾸고 DB 에는 차이만큼 비동기 반영
+            redisStockService.setStock(product, request.getStockQuantity());
+        } else if (request.getStockQuantity() != null) {
             product.setStockQuantity(request.getStockQuantity());
+            if (product.isStockStriped()) {
+                stripedStockService.enable(product, product.getStockStripes());
+            }
         }
         if (request.getCategory() != null) {
             product.setCategory(request.getCategory());
@@ -133,6 +268,7 @@ public class ProductService {
         }
 
         Product updatedProduct = productRepository.save(product);
+        publishProductEvent("PRODUCT_UPDATED", productId);
         log.info("Product updated successfully: {}", updatedProduct.getName());
 
         return ProductResponse.ProductInfo.from(updatedProduct);
@@ -140,8 +276,18 @@ public class ProductService {
 
     @CacheEvict(value = "products", key = "#productId")
     public ProductResponse.StockInfo updateStock(Long productId, ProductRequest.StockUpdate request) {
+        if (stockUpdateMode == StockUpdateMode.CONDITIONAL) {
+            return updateStockConditionally(productId, request);
+        }
+
         Product product = productRepository.findById(productId)
                 .orElseThrow(() -> new RuntimeException("상품을 찾을 수 없습니다"));
+        if (product.isStockStriped()) {
+            return updateStripedStock(product, request);
+        }
+        if (stockUpdateMode == StockUpdateMode.REDIS) {
+            return updateRedisStock(product, request);
+        }
 
         if ("INCREASE".equals(request.getOperation())) {
             product.increaseStock(request.getQuantity());
@@ -158,20 +304,364 @@ public class ProductService {
         return ProductResponse.StockInfo.from(updatedProduct);
     }
 
+    private ProductResponse.StockInfo updateStockConditionally(Long productId, ProductRequest.StockUpdate request) {
+        int updatedRows;
+        if ("INCREASE".equals(request.getOperation())) {
+            updatedRows = productRepository.increaseStock(productId, request.getQuantity(),
+                    Product.ProductStatus.OUT_OF_STOCK, Product.ProductStatus.ACTIVE);
+        } else if ("DECREASE".equals(request.getOperation())) {
+            // 재고가 충분할 때만 차감되는 단일 UPDATE 문 (품절 상태 전환 포함)
+            updatedRows = productRepository.decreaseStockIfAvailable(productId, request.getQuantity(),
+                    Product.ProductStatus.OUT_OF_STOCK);
+        } else {
+            throw new RuntimeException("유효하지 않은 재고 작업입니다");
+        }
+
+        Product updatedProduct = productRepository.findById(productId)
+                .orElseThrow(() -> new RuntimeException("상품을 찾을 수 없습니다"));
+        if (updatedRows == 0 && updatedProduct.isStockStriped()) {
+            return updateStripedStock(updatedProduct, request);
+        }
+        if (updatedRows == 0) {
+            throw new RuntimeException("재고가 부족합니다");
+        }
+
+        log.info("Product stock updated: {} {} {}",
+                updatedProduct.getName(), request.getOperation(), request.getQuantity());
+
+        return ProductResponse.StockInfo.from(updatedProduct);
+    }
+
+    private ProductResponse.StockInfo updateRedisStock(Product product, ProductRequest.StockUpdate request) {
+        Map<Long, Integer> quantities = Map.of(product.getProductId(), request.getQuantity());
+        Map<Long, Product> products = Map.of(product.getProductId(), product);
+
+        int stockQuantity;
+        if ("INCREASE".equals(request.getOperation())) {
+            stockQuantity = redisStockService.release(quantities, products).get(product.getProductId());
+        } else if ("DECREASE".equals(request.getOperation())) {
+            RedisStockService.Result result = redisStockService.reserve(quantities, products);
+            if (!result.isSuccess()) {
+                throw new RuntimeException("재고가 부족합니다");
+            }
+            stockQuantity = result.getStockQuantities().get(product.getProductId());
+        } else {
+            throw new RuntimeException("유효하지 않은 재고 작업입니다");
+        }
+
+        log.info("Product redis stock updated: {} {} {}",
+                product.getName(), request.getOperation(), request.getQuantity());
+
+        return stockInfo(product, stockQuantity);
+    }
+
+    private ProductResponse.StockInfo updateStripedStock(Product product, ProductRequest.StockUpdate request) {
+        if ("INCREASE".equals(request.getOperation())) {
+            stripedStockService.increase(product, request.getQuantity());
+        } else if ("DECREASE".equals(request.getOperation())) {
+            if (!stripedStockService.decrease(product, request.getQuantity())) {
+                throw new RuntimeException("재고가 부족합니다");
+            }
+        } else {
+            throw new RuntimeException("유효하지 않은 재고 작업입니다");
+        }
+
+        log.info("Product striped stock updated: {} {} {}",
+                product.getName(), request.getOperation(), request.getQuantity());
+
+        return stockInfo(product, stripedStockService.getTotalQuantity(product.getProductId()));
+    }
+
+    public ProductResponse.StockInfo enableStockStripes(Long productId, ProductRequest.StockStripes request) {
+        if (stockUpdateMode == StockUpdateMode.REDIS) {
+            throw new RuntimeException("Redis 재고 모드에서는 스트라이프 재고를 사용할 수 없습니다");
+        }
+        Product product = findProductForUpdate(productId);
+        if (product.isStockStriped()) {
+            stripedStockService.disable(product);
+        }
+        stripedStockService.enable(product, request.getStripeCount());
+        evictProductCache(productId);
+
+        return stockInfo(product, product.getStockQuantity());
+    }
+
+    public ProductResponse.StockInfo disableStockStripes(Long productId) {
+        Product product = findProductForUpdate(productId);
+        if (product.isStockStriped()) {
+            stripedStockService.disable(product);
+        }
+        evictProductCache(productId);
+
+        return ProductResponse.StockInfo.from(product);
+    }
+
     @Transactional(readOnly = true)
     public ProductResponse.StockInfo checkStock(Long productId) {
         Product product = productRepository.findById(productId)
                 .orElseThrow(() -> new RuntimeException("상품을 찾을 수 없습니다"));
 
+        if (product.isStockStriped()) {
+            return stockInfo(product, stripedStockService.getTotalQuantity(productId));
+        }
+        if (stockUpdateMode == StockUpdateMode.REDIS) {
+            return stockInfo(product, redisStockService.getStock(product));
+        }
         return ProductResponse.StockInfo.from(product);
     }
 
     @Transactional(readOnly = true)
     public List<ProductResponse.StockInfo> checkMultipleStocks(List<Long> productIds) {
         List<Product> products = productRepository.findByProductIdIn(productIds);
+        if (stockUpdateMode != StockUpdateMode.REDIS && products.stream().noneMatch(Product::isStockStriped)) {
+            return products.stream()
+                    .map(ProductResponse.StockInfo::from)
+                    .collect(Collectors.toList());
+        }
+
+        Map<Long, Integer> stockQuantities = currentStockQuantities(products);
         return products.stream()
-                .map(ProductResponse.StockInfo::from)
+                .map(product -> stockInfo(product, stockQuantities.getOrDefault(product.getProductId(), 0)))
+                .collect(Collectors.toList());
+    }
+
+    private ProductResponse.StockInfo stockInfo(Product product, int totalQuantity) {
+        // 스트라이프/Redis 재고는 상품 행과 별도로 관리되므로 실제 재고 기준으로 응답 상태를 맞춤
+        Product.ProductStatus status = product.getStatus();
+        if (totalQuantity == 0 && status == Product.ProductStatus.ACTIVE) {
+            status = Product.ProductStatus.OUT_OF_STOCK;
+        } else if (totalQuantity > 0 && status == Product.ProductStatus.OUT_OF_STOCK) {
+            status = Product.ProductStatus.ACTIVE;
+        }
+        return ProductResponse.StockInfo.from(product, totalQuantity, status);
+    }
+
+    private Product findProductForUpdate(Long productId) {
+        return productRepository.findByProductIdInForUpdate(List.of(productId)).stream()
+                .findFirst()
+                .orElseThrow(() -> new RuntimeException("상품을 찾을 수 없습니다"));
+    }
+
+    public ProductResponse.StockReservationResult reserveStocks(ProductRequest.StockReservation request) {
+        Map<Long, Integer> quantities = sumQuantitiesByProductId(request.getItems());
+
+        Map<Long, Product> products = loadProductsForStockUpdate(quantities.keySet());
+        Map<Long, Integer> stockQuantities = currentStockQuantities(products.values());
+
+        Map<Long, String> failures = new HashMap<>();
+        quantities.forEach((productId, quantity) -> {
+            Product product = products.get(productId);
+            if (product == null) {
+                failures.put(productId, "상품을 찾을 수 없습니다");
+            } else if (product.getStatus() == Product.ProductStatus.INACTIVE) {
+                failures.put(productId, "판매 중인 상품이 아닙니다");
+            } else if (stockQuantities.getOrDefault(productId, 0) - product.getReservedQuantity() < quantity) {
+                failures.put(productId, "재고가 부족합니다");
+            }
+        });
+
+        // 하나라도 실패하면 어떤 상품의 재고도 차감하지 않음
+        boolean reserved = failures.isEmpty();
+        if (reserved && stockUpdateMode == StockUpdateMode.REDIS) {
+            // Redis 카운터는 스크립트 하나로 전체 확인 후 차감
+            Map<Long, Integer> redisQuantities = new TreeMap<>();
+            quantities.forEach((productId, quantity) -> {
+                if (isRedisManaged(products.get(productId))) {
+                    redisQuantities.put(productId, quantity);
+                }
+            });
+            if (!redisQuantities.isEmpty()) {
+                RedisStockService.Result result = redisStockService.reserve(redisQuantities, products);
+                if (result.isSuccess()) {
+                    stockQuantities.putAll(result.getStockQuantities());
+                } else {
+                    failures.put(result.getFailedProductId(), "재고가 부족합니다");
+                    reserved = false;
+                }
+            }
+        }
+        if (reserved) {
+            quantities.forEach((productId, quantity) -> {
+                Product product = products.get(productId);
+                if (isRedisManaged(product)) {
+                    evictProductCache(productId);
+                    return;
+                }
+                if (product.isStockStriped()) {
+                    // 스트라이프 재고가 그 사이 소진되면 예외로 전체 트랜잭션을 롤백
+                    if (!stripedStockService.decrease(product, quantity)) {
+                        throw new RuntimeException("재고가 부족합니다: " + product.getName());
+                    }
+                } else {
+                    product.decreaseStock(quantity);
+                }
+                stockQuantities.merge(productId, -quantity, Integer::sum);
+                evictProductCache(productId);
+            });
+            log.info("Product stocks reserved: {}", quantities);
+        } else {
+            log.info("Product stock reservation rejected: {}", failures);
+        }
+
+        List<ProductResponse.StockReservationLine> lines = request.getItems().stream()
+                .map(item -> {
+                    Product product = products.get(item.getProductId());
+                    return ProductResponse.StockReservationLine.builder()
+                            .productId(item.getProductId())
+                            .name(product != null ? product.getName() : null)
+                            .requestedQuantity(item.getQuantity())
+                            .stockQuantity(stockQuantities.getOrDefault(item.getProductId(), 0))
+                            .reserved(failures.isEmpty())
+                            .reason(failures.get(item.getProductId()))
+                            .build();
+                })
                 .collect(Collectors.toList());
+
+        return ProductResponse.StockReservationResult.builder()
+                .reserved(reserved)
+                .items(lines)
+                .build();
+    }
+
+    public void releaseStocks(ProductRequest.StockReservation request) {
+        releaseStocks(sumQuantitiesByProductId(request.getItems()));
+    }
+
+    public void releaseStocks(Map<Long, Integer> quantities) {
+        Map<Long, Product> products = loadProductsForStockUpdate(quantities.keySet());
+        Map<Long, Integer> redisQuantities = new TreeMap<>();
+        for (Product product : products.values()) {
+            if (isRedisManaged(product)) {
+                redisQuantities.put(product.getProductId(), quantities.get(product.getProductId()));
+            } else if (product.isStockStriped()) {
+                stripedStockService.increase(product, quantities.get(product.getProductId()));
+            } else {
+                product.increaseStock(quantities.get(product.getProductId()));
+            }
+            evictProductCache(product.getProductId());
+        }
+        if (!redisQuantities.isEmpty()) {
+            redisStockService.release(redisQuantities, products);
+        }
+        log.info("Product stocks released: {}", quantities);
+    }
+
+    public Map<Long, Product> loadProductsForStockUpdate(Collection<Long> productIds) {
+        if (stockUpdateMode == StockUpdateMode.REDIS) {
+            // Redis 모드에서는 재고를 카운터에서 원자적으로 처리하므로 행 잠금이 필요 없음
+            return productRepository.findByProductIdIn(new ArrayList<>(productIds)).stream()
+                    .collect(Collectors.toMap(Product::getProductId, product -> product,
+                            (a, b) -> a, TreeMap::new));
+        }
+
+        // 스트라이프 상품은 products 행을 잠그지 않고, 나머지는 교착 상태를 막기 위해 productId 순서로 잠금
+        List<Long> stripedIds = productRepository.findStripedProductIds(productIds);
+        List<Long> lockedIds = productIds.stream()
+                .filter(productId -> !stripedIds.contains(productId))
+                .collect(Collectors.toList());
+
+        Map<Long, Product> products = new TreeMap<>();
+        if (!lockedIds.isEmpty()) {
+            productRepository.findByProductIdInForUpdate(lockedIds)
+                    .forEach(product -> products.put(product.getProductId(), product));
+        }
+        if (!stripedIds.isEmpty()) {
+            productRepository.findByProductIdIn(stripedIds)
+                    .forEach(product -> products.put(product.getProductId(), product));
+        }
+        return products;
+    }
+
+    public Long holdCounterStocks(Map<Long, Integer> quantities, Map<Long, Product> products) {
+        // 스트라이프/Redis 재고 상품의 홀드는 reserved_quantity 대신 재고 카운터에서 바로 차감 (products 행 잠금 없음)
+        // 반환: Redis 카운터가 부족한 상품 ID, 모두 차감했으면 null
+        Map<Long, Integer> redisQuantities = new TreeMap<>();
+        quantities.forEach((productId, quantity) -> {
+            if (isRedisManaged(products.get(productId))) {
+                redisQuantities.put(productId, quantity);
+            }
+        });
+        if (!redisQuantities.isEmpty()) {
+            RedisStockService.Result result = redisStockService.reserve(redisQuantities, products);
+            if (!result.isSuccess()) {
+                return result.getFailedProductId();
+            }
+        }
+
+        quantities.forEach((productId, quantity) -> {
+            Product product = products.get(productId);
+            if (product.isStockStriped() && !stripedStockService.decrease(product, quantity)) {
+                // 스트라이프 재고가 그 사이 소진되면 예외로 전체 트랜잭션을 롤백
+                throw new RuntimeException("재고가 부족합니다: " + product.getName());
+            }
+            evictProductCache(productId);
+        });
+        return null;
+    }
+
+    public void decreaseHeldStocks(Map<Long, Integer> quantities, Map<Long, Product> products) {
+        // 홀드로 확보해 둔 수량을 실제 재고에서 차감 (products 행은 호출 측에서 잠금)
+        Map<Long, Integer> redisQuantities = new TreeMap<>();
+        quantities.forEach((productId, quantity) -> {
+            Product product = products.get(productId);
+            product.unhold(quantity);
+            if (isRedisManaged(product)) {
+                redisQuantities.put(productId, quantity);
+            } else if (product.isStockStriped()) {
+                if (!stripedStockService.decrease(product, quantity)) {
+                    throw new RuntimeException("재고가 부족합니다: " + product.getName());
+                }
+            } else {
+                product.decreaseStock(quantity);
+            }
+            evictProductCache(productId);
+        });
+
+        if (!redisQuantities.isEmpty() && !redisStockService.reserve(redisQuantities, products).isSuccess()) {
+            throw new RuntimeException("재고가 부족합니다");
+        }
+    }
+
+    public Map<Long, Integer> currentStockQuantities(Collection<Product> products) {
+        Map<Long, Integer> stockQuantities = stripedStockService.getTotalQuantities(products.stream()
+                .filter(Product::isStockStriped)
+                .map(Product::getProductId)
+                .collect(Collectors.toList()));
+        if (stockUpdateMode == StockUpdateMode.REDIS) {
+            stockQuantities.putAll(redisStockService.getStocks(products.stream()
+                    .filter(this::isRedisManaged)
+                    .collect(Collectors.toList())));
+            return stockQuantities;
+        }
+        for (Product product : products) {
+            if (!product.isStockStriped()) {
+                stockQuantities.put(product.getProductId(), product.getStockQuantity());
+            }
+        }
+        return stockQuantities;
+    }
+
+    private boolean isRedisManaged(Product product) {
+        return stockUpdateMode == StockUpdateMode.REDIS && !product.isStockStriped();
+    }
+
+    public boolean isCounterManaged(Product product) {
+        return product.isStockStriped() || isRedisManaged(product);
+    }
+
+    private Map<Long, Integer> sumQuantitiesByProductId(List<ProductRequest.StockReservationItem> items) {
+        Map<Long, Integer> quantities = new TreeMap<>();
+        for (ProductRequest.StockReservationItem item : items) {
+            quantities.merge(item.getProductId(), item.getQuantity(), Integer::sum);
+        }
+        return quantities;
+    }
+
+    private void evictProductCache(Long productId) {
+        Cache cache = cacheManager.getCache("products");
+        if (cache != null) {
+            cache.evict(productId);
+        }
     }
 
     @CacheEvict(value = "products", key = "#productId")
@@ -181,6 +671,16 @@ public class ProductService {
 
         product.setStatus(Product.ProductStatus.INACTIVE);
         productRepository.save(product);
+        publishProductEvent("PRODUCT_DEACTIVATED", productId);
         log.info("Product deleted successfully: {}", product.getName());
     }
+
+    private void publishProductEvent(String eventType, Long productId) {
+        // 커밋 이후 ProductEventPublisher 가 Kafka 로 전송
+        eventPublisher.publishEvent(ProductEvent.builder()
+                .eventType(eventType)
+                .productId(productId)
+                .eventTime(LocalDateTime.now())
+                .build());
+    }
 }
@@ -0,0 +1,68 @@
+package com.ecommerce.msa.product.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(name = "product.stock.update-mode", havingValue = "REDIS")
+@RequiredArgsConstructor
+@Slf4j
+public class RedisStockFlusher {
+
+    private final RedisStockService redisStockService;
+
+    @Value("${product.stock.redis.reconcile-page-size:500}")
+    private int reconcilePageSize;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileOnStartup() {
+        // 이전 프로세스가 남긴 배치를 먼저 반영한 뒤 DB 기준으로 카운터를 점검
+        flushAll();
+        int adjusted = redisStockService.reconcile(false, reconcilePageSize);
+        log.info("Redis stock counters reconciled on startup: initializedOrMismatched={}", adjusted);
+    }
+
+    @Scheduled(fixedDelayString = "${product.stock.redis.flush-interval-ms:500}")
+    public void flush() {
+        try {
+            flushBatch();
+        } catch (Exception e) {
+            log.error("Failed to flush redis stock deltas", e);
+        }
+    }
+
+    public int recover() {
+        // 트래픽을 멈춘 상태에서 실행: 남은 변경분을 모두 반영하고 카운터를 DB 값으로 덮어씀
+        flushAll();
+        return redisStockService.reconcile(true, reconcilePageSize);
+    }
+
+    private void flushAll() {
+        // 반영 중이던 배치와 새로 쌓인 변경분까지 최대 두 번
+        for (int i = 0; i < 2 && flushBatch(); i++) {
+            log.debug("Flushed pending redis stock deltas");
+        }
+    }
+
+    private boolean flushBatch() {
+        RedisStockService.FlushBatch batch = redisStockService.rotatePendingBatch();
+        if (batch == null) {
+            return false;
+        }
+
+        if (redisStockService.applyDeltas(batch.getBatchId(), batch.getDeltas())) {
+            log.info("Redis stock deltas flushed: batchId={}, products={}",
+                    batch.getBatchId(), batch.getDeltas().size());
+        }
+        if (!redisStockService.completeFlushingBatch(batch.getBatchId())) {
+            log.debug("Redis stock flush batch already completed: batchId={}", batch.getBatchId());
+        }
+        return true;
+    }
+}
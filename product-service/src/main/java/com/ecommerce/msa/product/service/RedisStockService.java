@@ -0,0 +1,263 @@
+package com.ecommerce.msa.product.service;
+
+import com.ecommerce.msa.product.entity.Product;
+import com.ecommerce.msa.product.repository.ProductRepository;
+import com.ecommerce.msa.product.repository.StockFlushLogRepository;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+// 재고를 Redis 카운터에서 원자적으로 선차감하고, 변경분은 RedisStockFlusher 가 모아서 DB에 반영
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RedisStockService {
+
+    private static final String STOCK_KEY_PREFIX = "{inventory}:stock:";
+    private static final String PENDING_KEY = "{inventory}:pending";
+    private static final String FLUSHING_KEY = "{inventory}:flushing";
+    private static final String FLUSHING_BATCH_KEY = "{inventory}:flushing:batch";
+    private static final int MAX_INIT_ATTEMPTS = 3;
+
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> RESERVE_SCRIPT = script("reserve.lua", List.class);
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> RELEASE_SCRIPT = script("release.lua", List.class);
+    private static final RedisScript<Long> SET_SCRIPT = script("set.lua", Long.class);
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> ROTATE_SCRIPT = script("rotate.lua", List.class);
+    private static final RedisScript<Long> COMPLETE_SCRIPT = script("complete.lua", Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ProductRepository productRepository;
+    private final StockFlushLogRepository stockFlushLogRepository;
+
+    @Getter
+    @Builder
+    public static class Result {
+        private final boolean success;
+        private final Long failedProductId;
+        private final Map<Long, Integer> stockQuantities;
+    }
+
+    @Getter
+    @Builder
+    public static class FlushBatch {
+        private final String batchId;
+        private final Map<Long, Integer> deltas;
+    }
+
+    public Result reserve(Map<Long, Integer> quantities, Map<Long, Product> products) {
+        Result result = execute(RESERVE_SCRIPT, quantities, products);
+        if (result.isSuccess()) {
+            // DB 트랜잭션이 롤백되면 선차감한 재고를 되돌림
+            runAfterRollback(() -> release(quantities, products));
+        }
+        return result;
+    }
+
+    public Map<Long, Integer> release(Map<Long, Integer> quantities, Map<Long, Product> products) {
+        return execute(RELEASE_SCRIPT, quantities, products).getStockQuantities();
+    }
+
+    public int getStock(Product product) {
+        return getStocks(List.of(product)).get(product.getProductId());
+    }
+
+    public Map<Long, Integer> getStocks(Collection<Product> products) {
+        List<Product> productList = new ArrayList<>(products);
+        List<String> values = redisTemplate.opsForValue().multiGet(productList.stream()
+                .map(product -> stockKey(product.getProductId()))
+                .toList());
+
+        Map<Long, Integer> stockQuantities = new HashMap<>();
+        for (int i = 0; i < productList.size(); i++) {
+            Product product = productList.get(i);
+            String value = values != null ? values.get(i) : null;
+            stockQuantities.put(product.getProductId(),
+                    value != null ? Integer.parseInt(value) : initializeCounter(product));
+        }
+        return stockQuantities;
+    }
+
+    public int setStock(Product product, int stockQuantity) {
+        Long result = redisTemplate.execute(SET_SCRIPT,
+                List.of(stockKey(product.getProductId()), PENDING_KEY),
+                String.valueOf(stockQuantity),
+                String.valueOf(product.getProductId()),
+                String.valueOf(product.getStockQuantity()));
+        return result != null ? result.intValue() : stockQuantity;
+    }
+
+    @SuppressWarnings("unchecked")
+    public FlushBatch rotatePendingBatch() {
+        // 배치 ID 와 변경분을 한 번에 읽어야 그 사이 교체된 다른 배치의 변경분을 이 배치 ID 로 반영하지 않음
+        List<String> result = redisTemplate.execute(ROTATE_SCRIPT,
+                List.of(PENDING_KEY, FLUSHING_KEY, FLUSHING_BATCH_KEY),
+                UUID.randomUUID().toString());
+        if (result == null || result.isEmpty()) {
+            return null;
+        }
+
+        Map<Long, Integer> deltas = new TreeMap<>();
+        for (int i = 1; i + 1 < result.size(); i += 2) {
+            deltas.put(Long.valueOf(result.get(i)), Integer.valueOf(result.get(i + 1)));
+        }
+        return FlushBatch.builder().batchId(result.get(0)).deltas(deltas).build();
+    }
+
+    public boolean completeFlushingBatch(String batchId) {
+        // 그 사이 다른 인스턴스가 이 배치를 끝내고 새 배치를 올렸다면 지우지 않음
+        Long deleted = redisTemplate.execute(COMPLETE_SCRIPT,
+                List.of(FLUSHING_KEY, FLUSHING_BATCH_KEY), batchId);
+        return deleted != null && deleted == 1L;
+    }
+
+    @Transactional
+    public boolean applyDeltas(String batchId, Map<Long, Integer> deltas) {
+        // 배치 ID 를 먼저 기록해 크래시 후 재시도나 다른 인스턴스가 같은 배치를 두 번 반영하지 않도록 함
+        if (stockFlushLogRepository.insertIfAbsent(batchId, deltas.size()) == 0) {
+            log.info("Stock flush batch already applied: batchId={}", batchId);
+            return false;
+        }
+
+        // productId 순서로 갱신해 다른 재고 트랜잭션과의 교착 상태를 방지
+        new TreeMap<>(deltas).forEach((productId, delta) -> {
+            if (delta != 0) {
+                productRepository.applyStockDelta(productId, delta,
+                        Product.ProductStatus.OUT_OF_STOCK, Product.ProductStatus.ACTIVE);
+            }
+        });
+        return true;
+    }
+
+    public int reconcile(boolean overwrite, int pageSize) {
+        Map<Object, Object> pending = new HashMap<>(redisTemplate.opsForHash().entries(PENDING_KEY));
+        redisTemplate.opsForHash().entries(FLUSHING_KEY).forEach((productId, delta) ->
+                pending.merge(productId, delta, (a, b) ->
+                        String.valueOf(Integer.parseInt((String) a) + Integer.parseInt((String) b))));
+
+        int adjusted = 0;
+        long afterProductId = 0L;
+        List<Product> page;
+        do {
+            page = productRepository.findUnstripedProductsAfter(afterProductId, PageRequest.of(0, pageSize));
+            for (Product product : page) {
+                String key = stockKey(product.getProductId());
+                if (overwrite) {
+                    redisTemplate.opsForValue().set(key, String.valueOf(product.getStockQuantity()));
+                    redisTemplate.opsForHash().delete(PENDING_KEY, String.valueOf(product.getProductId()));
+                    adjusted++;
+                    continue;
+                }
+
+                String counter = redisTemplate.opsForValue().get(key);
+                if (counter == null) {
+                    initializeCounter(product);
+                    adjusted++;
+                    continue;
+                }
+                Object pendingDelta = pending.get(String.valueOf(product.getProductId()));
+                int expected = product.getStockQuantity()
+                        + (pendingDelta != null ? Integer.parseInt((String) pendingDelta) : 0);
+                if (Integer.parseInt(counter) != expected) {
+                    adjusted++;
+                    log.warn("Redis stock counter mismatch: productId={}, redis={}, expected={}",
+                            product.getProductId(), counter, expected);
+                }
+            }
+            if (!page.isEmpty()) {
+                afterProductId = page.get(page.size() - 1).getProductId();
+            }
+        } while (page.size() == pageSize);
+
+        return adjusted;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Result execute(@SuppressWarnings("rawtypes") RedisScript<List> script,
+                           Map<Long, Integer> quantities, Map<Long, Product> products) {
+        List<Long> productIds = new ArrayList<>(quantities.keySet());
+        List<String> keys = new ArrayList<>();
+        List<String> args = new ArrayList<>();
+        for (Long productId : productIds) {
+            keys.add(stockKey(productId));
+            args.add(String.valueOf(quantities.get(productId)));
+        }
+        keys.add(PENDING_KEY);
+        productIds.forEach(productId -> args.add(String.valueOf(productId)));
+        // 홀드로 묶인 수량은 판매 가능 재고에서 제외 (release 스크립트는 사용하지 않음)
+        productIds.forEach(productId -> args.add(String.valueOf(products.get(productId).getReservedQuantity())));
+
+        for (int attempt = 0; attempt < MAX_INIT_ATTEMPTS; attempt++) {
+            List<Long> result = redisTemplate.execute(script, keys, args.toArray());
+            if (result == null || result.isEmpty()) {
+                throw new RuntimeException("재고 처리에 실패했습니다");
+            }
+
+            long code = result.get(0);
+            if (code == 0) {
+                Map<Long, Integer> stockQuantities = new LinkedHashMap<>();
+                for (int i = 0; i < productIds.size(); i++) {
+                    stockQuantities.put(productIds.get(i), result.get(i + 1).intValue());
+                }
+                return Result.builder().success(true).stockQuantities(stockQuantities).build();
+            }
+
+            Long productId = productIds.get(result.get(1).intValue() - 1);
+            if (code == -1) {
+                return Result.builder().success(false).failedProductId(productId).build();
+            }
+            // 카운터가 아직 없으면 DB 재고로 초기화한 뒤 다시 시도
+            initializeCounter(products.get(productId));
+        }
+        throw new RuntimeException("재고 카운터를 초기화할 수 없습니다");
+    }
+
+    private int initializeCounter(Product product) {
+        String key = stockKey(product.getProductId());
+        redisTemplate.opsForValue().setIfAbsent(key, String.valueOf(product.getStockQuantity()));
+        String value = redisTemplate.opsForValue().get(key);
+        return value != null ? Integer.parseInt(value) : product.getStockQuantity();
+    }
+
+    private void runAfterRollback(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    action.run();
+                }
+            }
+        });
+    }
+
+    private static String stockKey(Long productId) {
+        return STOCK_KEY_PREFIX + productId;
+    }
+
+    private static <T> RedisScript<T> script(String name, Class<T> resultType) {
+        return RedisScript.of(new ClassPathResource("scripts/stock/" + name), resultType);
+    }
+}
@@ -0,0 +1,245 @@
+package com.ecommerce.msa.product.service;
+
+import com.ecommerce.msa.product.dto.ProductRequest;
+import com.ecommerce.msa.product.dto.ProductResponse;
+import com.ecommerce.msa.product.entity.Product;
+import com.ecommerce.msa.product.entity.StockHold;
+import com.ecommerce.msa.product.repository.ProductRepository;
+import com.ecommerce.msa.product.repository.StockHoldRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Transactional
+@Slf4j
+public class StockHoldService {
+
+    private final ProductRepository productRepository;
+    private final StockHoldRepository stockHoldRepository;
+    private final ProductService productService;
+
+    @Value("${product.stock.hold.default-ttl-seconds:900}")
+    private int defaultTtlSeconds;
+
+    public ProductResponse.StockHoldResult createHolds(ProductRequest.StockHoldCreate request) {
+        String reservationId = request.getReservationId() != null
+                ? request.getReservationId() : UUID.randomUUID().toString();
+
+        // 같은 예약 ID 로 다시 요청하면 기존 홀드를 그대로 반환
+        // 동시에 들어온 재시도가 둘 다 홀드를 만들지 않도록 예약 ID 잠금을 잡은 뒤 확인
+        stockHoldRepository.lockReservation(reservationId);
+        List<StockHold> existingHolds = stockHoldRepository.findByReservationIdOrderByProductId(reservationId);
+        if (!existingHolds.isEmpty()) {
+            return toResult(reservationId, existingHolds);
+        }
+
+        Map<Long, Integer> quantities = new TreeMap<>();
+        for (ProductRequest.StockReservationItem item : request.getItems()) {
+            quantities.merge(item.getProductId(), item.getQuantity(), Integer::sum);
+        }
+        // 스트라이프/Redis 재고 상품은 products 행을 잠그지 않음
+        Map<Long, Product> products = productService.loadProductsForStockUpdate(quantities.keySet());
+        Map<Long, Integer> stockQuantities = productService.currentStockQuantities(products.values());
+
+        Map<Long, String> failures = new HashMap<>();
+        quantities.forEach((productId, quantity) -> {
+            Product product = products.get(productId);
+            if (product == null) {
+                failures.put(productId, "상품을 찾을 수 없습니다");
+            } else if (product.getStatus() == Product.ProductStatus.INACTIVE) {
+                failures.put(productId, "판매 중인 상품이 아닙니다");
+            } else if (stockQuantities.getOrDefault(productId, 0) - product.getReservedQuantity() < quantity) {
+                failures.put(productId, "재고가 부족합니다");
+            }
+        });
+
+        if (failures.isEmpty()) {
+            Map<Long, Integer> counterQuantities = new TreeMap<>();
+            quantities.forEach((productId, quantity) -> {
+                if (productService.isCounterManaged(products.get(productId))) {
+                    counterQuantities.put(productId, quantity);
+                }
+            });
+            Long failedProductId = counterQuantities.isEmpty()
+                    ? null : productService.holdCounterStocks(counterQuantities, products);
+            if (failedProductId != null) {
+                failures.put(failedProductId, "재고가 부족합니다");
+            }
+        }
+
+        boolean held = failures.isEmpty();
+        LocalDateTime expiresAt = LocalDateTime.now().plusSeconds(
+                request.getTtlSeconds() != null ? request.getTtlSeconds() : defaultTtlSeconds);
+        if (held) {
+            quantities.forEach((productId, quantity) -> {
+                Product product = products.get(productId);
+                boolean deducted = productService.isCounterManaged(product);
+                if (!deducted) {
+                    product.hold(quantity);
+                }
+                stockHoldRepository.save(StockHold.builder()
+                        .reservationId(reservationId)
+                        .productId(productId)
+                        .quantity(quantity)
+                        .stockDeducted(deducted)
+                        .expiresAt(expiresAt)
+                        .build());
+            });
+            log.info("Stock holds created: reservationId={}, items={}, expiresAt={}",
+                    reservationId, quantities, expiresAt);
+        } else {
+            log.info("Stock hold rejected: reservationId={}, failures={}", reservationId, failures);
+        }
+
+        List<ProductResponse.StockReservationLine> lines = request.getItems().stream()
+                .map(item -> {
+                    Product product = products.get(item.getProductId());
+                    return ProductResponse.StockReservationLine.builder()
+                            .productId(item.getProductId())
+                            .name(product != null ? product.getName() : null)
+                            .requestedQuantity(item.getQuantity())
+                            .stockQuantity(product != null
+                                    ? stockQuantities.getOrDefault(item.getProductId(), 0) - product.getReservedQuantity()
+                                    : 0)
+                            .reserved(held)
+                            .reason(failures.get(item.getProductId()))
+                            .build();
+                })
+                .collect(Collectors.toList());
+
+        return ProductResponse.StockHoldResult.builder()
+                .reservationId(reservationId)
+                .held(held)
+                .status(held ? StockHold.HoldStatus.HELD : null)
+                .expiresAt(held ? expiresAt : null)
+                .items(lines)
+                .build();
+    }
+
+    public ProductResponse.StockHoldResult confirmHolds(String reservationId) {
+        List<StockHold> holds = findHoldsForUpdate(reservationId);
+        if (holds.stream().allMatch(hold -> hold.getStatus() == StockHold.HoldStatus.CONFIRMED)) {
+            return toResult(reservationId, holds);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        boolean expired = holds.stream().anyMatch(hold ->
+                hold.getStatus() != StockHold.HoldStatus.HELD || hold.getExpiresAt().isBefore(now));
+        if (expired) {
+            throw new RuntimeException("재고 예약이 만료되었습니다");
+        }
+
+        // 재고 카운터에서 이미 차감된 홀드는 확정 시 할 일이 없고, reserved_quantity 로 잡아 둔 홀드만 실제 재고에서 차감
+        Map<Long, Integer> quantities = sumQuantities(holds);
+        Map<Long, Integer> reservedQuantities = sumQuantities(holds.stream()
+                .filter(hold -> !hold.isDeductedFromCounter())
+                .collect(Collectors.toList()));
+        if (!reservedQuantities.isEmpty()) {
+            productService.decreaseHeldStocks(reservedQuantities, lockProducts(reservedQuantities.keySet()));
+        }
+        holds.forEach(hold -> hold.setStatus(StockHold.HoldStatus.CONFIRMED));
+        log.info("Stock holds confirmed: reservationId={}, items={}", reservationId, quantities);
+
+        return toResult(reservationId, holds);
+    }
+
+    public void releaseHolds(String reservationId) {
+        List<StockHold> activeHolds = findHoldsForUpdate(reservationId).stream()
+                .filter(hold -> hold.getStatus() == StockHold.HoldStatus.HELD)
+                .collect(Collectors.toList());
+
+        unhold(activeHolds, StockHold.HoldStatus.RELEASED);
+        log.info("Stock holds released: reservationId={}, holds={}", reservationId, activeHolds.size());
+    }
+
+    @Transactional(readOnly = true)
+    public List<Long> findExpiredHoldIds(Long afterHoldId, int limit) {
+        return stockHoldRepository.findExpiredHoldIds(LocalDateTime.now(), afterHoldId, limit);
+    }
+
+    public int expireHolds(Collection<Long> holdIds) {
+        List<StockHold> expiredHolds = stockHoldRepository.findExpiredHoldsForUpdate(holdIds, LocalDateTime.now());
+        unhold(expiredHolds, StockHold.HoldStatus.EXPIRED);
+        return expiredHolds.size();
+    }
+
+    private void unhold(List<StockHold> holds, StockHold.HoldStatus status) {
+        if (holds.isEmpty()) {
+            return;
+        }
+        Map<Long, Integer> reservedQuantities = sumQuantities(holds.stream()
+                .filter(hold -> !hold.isDeductedFromCounter())
+                .collect(Collectors.toList()));
+        if (!reservedQuantities.isEmpty()) {
+            Map<Long, Product> products = lockProducts(reservedQuantities.keySet());
+            reservedQuantities.forEach((productId, quantity) -> {
+                Product product = products.get(productId);
+                if (product != null) {
+                    product.unhold(quantity);
+                }
+            });
+        }
+
+        // 재고 카운터에서 차감해 둔 홀드는 카운터로 되돌림
+        Map<Long, Integer> deductedQuantities = sumQuantities(holds.stream()
+                .filter(StockHold::isDeductedFromCounter)
+                .collect(Collectors.toList()));
+        if (!deductedQuantities.isEmpty()) {
+            productService.releaseStocks(deductedQuantities);
+        }
+        holds.forEach(hold -> hold.setStatus(status));
+    }
+
+    private List<StockHold> findHoldsForUpdate(String reservationId) {
+        List<StockHold> holds = stockHoldRepository.findByReservationIdForUpdate(reservationId);
+        if (holds.isEmpty()) {
+            throw new RuntimeException("재고 예약을 찾을 수 없습니다");
+        }
+        return holds;
+    }
+
+    private Map<Long, Product> lockProducts(Collection<Long> productIds) {
+        // reserved_quantity 를 바꾸는 홀드만 잠금. 교착 상태를 막기 위해 항상 productId 순서로 행 잠금
+        return productRepository.findByProductIdInForUpdate(productIds).stream()
+                .collect(Collectors.toMap(Product::getProductId, product -> product, (a, b) -> a, TreeMap::new));
+    }
+
+    private Map<Long, Integer> sumQuantities(List<StockHold> holds) {
+        Map<Long, Integer> quantities = new TreeMap<>();
+        for (StockHold hold : holds) {
+            quantities.merge(hold.getProductId(), hold.getQuantity(), Integer::sum);
+        }
+        return quantities;
+    }
+
+    private ProductResponse.StockHoldResult toResult(String reservationId, List<StockHold> holds) {
+        StockHold first = holds.get(0);
+        return ProductResponse.StockHoldResult.builder()
+                .reservationId(reservationId)
+                .held(first.getStatus() == StockHold.HoldStatus.HELD
+                        || first.getStatus() == StockHold.HoldStatus.CONFIRMED)
+                .status(first.getStatus())
+                .expiresAt(first.getExpiresAt())
+                .items(holds.stream()
+                        .map(hold -> ProductResponse.StockReservationLine.builder()
+                                .productId(hold.getProductId())
+                                .requestedQuantity(hold.getQuantity())
+                                .reserved(true)
+                                .build())
+                        .collect(Collectors.toList()))
+                .build();
+    }
+}
@@ -0,0 +1,58 @@
+package com.ecommerce.msa.product.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class StockHoldSweeper {
+
+    private final StockHoldService stockHoldService;
+
+    @Value("${product.stock.hold.sweep-batch-size:200}")
+    private int batchSize;
+
+    @Scheduled(fixedDelayString = "${product.stock.hold.sweep-interval-ms:5000}")
+    public void sweepExpiredHolds() {
+        try {
+            // 배치 단위로 각각 커밋하면서 hold_id 순으로 끝까지 진행 (실패한 홀드가 뒤의 홀드를 막지 않도록)
+            List<Long> holdIds;
+            long afterHoldId = 0L;
+            int total = 0;
+            int failed = 0;
+            do {
+                holdIds = stockHoldService.findExpiredHoldIds(afterHoldId, batchSize);
+                if (holdIds.isEmpty()) {
+                    break;
+                }
+                try {
+                    total += stockHoldService.expireHolds(holdIds);
+                } catch (Exception e) {
+                    // 배치가 롤백되면 홀드마다 따로 처리해 문제 있는 홀드만 다음 실행으로 남김
+                    log.warn("Failed to expire stock hold batch, retrying one by one: holds={}", holdIds.size(), e);
+                    for (Long holdId : holdIds) {
+                        try {
+                            total += stockHoldService.expireHolds(List.of(holdId));
+                        } catch (Exception holdError) {
+                            failed++;
+                            log.error("Failed to expire stock hold: holdId={}", holdId, holdError);
+                        }
+                    }
+                }
+                afterHoldId = holdIds.get(holdIds.size() - 1);
+            } while (holdIds.size() == batchSize);
+
+            if (total > 0 || failed > 0) {
+                log.info("Expired stock holds released: count={}, failed={}", total, failed);
+            }
+        } catch (Exception e) {
+            log.error("Failed to sweep expired stock holds", e);
+        }
+    }
+}
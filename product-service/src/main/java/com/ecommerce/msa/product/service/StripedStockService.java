@@ -0,0 +1,129 @@
+package com.ecommerce.msa.product.service;
+
+import com.ecommerce.msa.product.entity.Product;
+import com.ecommerce.msa.product.entity.ProductStockStripe;
+import com.ecommerce.msa.product.repository.ProductRepository;
+import com.ecommerce.msa.product.repository.ProductStockStripeRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+// 핫 상품 재고를 여러 하위 카운터(스트라이프)로 나누어 products 행 하나에 차감이 몰리지 않도록 한다
+@Service
+@RequiredArgsConstructor
+@Transactional
+@Slf4j
+public class StripedStockService {
+
+    private final ProductRepository productRepository;
+    private final ProductStockStripeRepository stripeRepository;
+
+    public void enable(Product product, int stripeCount) {
+        // product.stockQuantity 를 기준으로 스트라이프를 새로 구성
+        if (product.isStockStriped()) {
+            stripeRepository.findByProductIdForUpdate(product.getProductId());
+            stripeRepository.deleteByProductId(product.getProductId());
+        }
+
+        List<ProductStockStripe> stripes = new ArrayList<>();
+        int[] quantities = distribute(product.getStockQuantity(), stripeCount);
+        for (int stripeNo = 0; stripeNo < stripeCount; stripeNo++) {
+            stripes.add(ProductStockStripe.builder()
+                    .productId(product.getProductId())
+                    .stripeNo(stripeNo)
+                    .quantity(quantities[stripeNo])
+                    .build());
+        }
+        stripeRepository.saveAll(stripes);
+        product.setStockStripes(stripeCount);
+        log.info("Striped stock enabled: productId={}, stripes={}", product.getProductId(), stripeCount);
+    }
+
+    public void disable(Product product) {
+        int total = stripeRepository.findByProductIdForUpdate(product.getProductId()).stream()
+                .mapToInt(ProductStockStripe::getQuantity)
+                .sum();
+        stripeRepository.deleteByProductId(product.getProductId());
+        product.setStockQuantity(total);
+        product.setStockStripes(0);
+        log.info("Striped stock disabled: productId={}, stockQuantity={}", product.getProductId(), total);
+    }
+
+    public boolean decrease(Product product, int quantity) {
+        Long productId = product.getProductId();
+        int stripeCount = product.getStockStripes();
+        // 스트라이프 상품의 홀드는 생성 시 스트라이프에서 바로 차감되므로 reserved_quantity 는 스트라이프 전환 전 홀드만 남고 줄어들기만 함
+        int reservedQuantity = product.getReservedQuantity();
+
+        // 임의의 스트라이프부터 순서대로 하나를 골라 차감
+        // (스트라이프를 하나씩 UPDATE 로 시도하면 조건이 맞지 않은 행의 잠금도 남아 재분배 경로와 교착 상태가 생김)
+        int start = ThreadLocalRandom.current().nextInt(stripeCount);
+        if (reservedQuantity == 0
+                && stripeRepository.decreaseAnyAvailable(productId, quantity, start, stripeCount) == 1) {
+            markOutOfStockIfEmpty(productId);
+            return true;
+        }
+
+        // 홀드가 남아 있거나, 단일 스트라이프로 부족하거나 모두 사용 중이면 전체를 잠그고 남은 재고를 재분배
+        List<ProductStockStripe> stripes = stripeRepository.findByProductIdForUpdate(productId);
+        int total = stripes.stream().mapToInt(ProductStockStripe::getQuantity).sum();
+        if (total - reservedQuantity < quantity) {
+            return false;
+        }
+
+        int[] quantities = distribute(total - quantity, stripes.size());
+        for (int i = 0; i < stripes.size(); i++) {
+            stripes.get(i).setQuantity(quantities[i]);
+        }
+        if (total == quantity) {
+            productRepository.updateStatusIfMatches(productId,
+                    Product.ProductStatus.ACTIVE, Product.ProductStatus.OUT_OF_STOCK);
+        }
+        log.debug("Striped stock rebalanced: productId={}, remaining={}", productId, total - quantity);
+        return true;
+    }
+
+    public void increase(Product product, int quantity) {
+        int stripeNo = ThreadLocalRandom.current().nextInt(product.getStockStripes());
+        stripeRepository.increase(product.getProductId(), stripeNo, quantity);
+        productRepository.updateStatusIfMatches(product.getProductId(),
+                Product.ProductStatus.OUT_OF_STOCK, Product.ProductStatus.ACTIVE);
+    }
+
+    @Transactional(readOnly = true)
+    public int getTotalQuantity(Long productId) {
+        return stripeRepository.sumQuantityByProductId(productId);
+    }
+
+    @Transactional(readOnly = true)
+    public Map<Long, Integer> getTotalQuantities(Collection<Long> productIds) {
+        Map<Long, Integer> totals = new HashMap<>();
+        for (Object[] row : stripeRepository.sumQuantityByProductIdIn(productIds)) {
+            totals.put((Long) row[0], ((Number) row[1]).intValue());
+        }
+        return totals;
+    }
+
+    private void markOutOfStockIfEmpty(Long productId) {
+        if (stripeRepository.sumQuantityByProductId(productId) == 0) {
+            productRepository.updateStatusIfMatches(productId,
+                    Product.ProductStatus.ACTIVE, Product.ProductStatus.OUT_OF_STOCK);
+        }
+    }
+
+    private int[] distribute(int total, int stripeCount) {
+        int[] quantities = new int[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            quantities[i] = total / stripeCount + (i < total % stripeCount ? 1 : 0);
+        }
+        return quantities;
+    }
+}
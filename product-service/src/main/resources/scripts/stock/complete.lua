@@ -0,0 +1,8 @@
+-- KEYS[1]: 반영 중인 해시, KEYS[2]: 반영 중인 배치 ID
+-- ARGV[1]: 반영을 마친 배치 ID
+-- 반환: 1 삭제, 0 그 사이 다른 인스턴스가 새 배치를 올렸으므로 건드리지 않음
+if redis.call('GET', KEYS[2]) == ARGV[1] then
+    redis.call('DEL', KEYS[1], KEYS[2])
+    return 1
+end
+return 0
@@ -0,0 +1,15 @@
+-- KEYS[1..n]: 상품별 재고 카운터, KEYS[n+1]: 미반영 변경분 해시
+-- ARGV[1..n]: 증가 수량, ARGV[n+1..2n]: 상품 ID
+-- 반환: {0, 현재 재고...} 성공, {-2, i} 카운터 없음
+local n = #KEYS - 1
+for i = 1, n do
+    if redis.call('EXISTS', KEYS[i]) == 0 then
+        return {-2, i}
+    end
+end
+local result = {0}
+for i = 1, n do
+    result[i + 1] = redis.call('INCRBY', KEYS[i], ARGV[i])
+    redis.call('HINCRBY', KEYS[n + 1], ARGV[n + i], ARGV[i])
+end
+return result
@@ -0,0 +1,19 @@
+-- KEYS[1..n]: 상품별 재고 카운터, KEYS[n+1]: 미반영 변경분 해시
+-- ARGV[1..n]: 차감 수량, ARGV[n+1..2n]: 상품 ID, ARGV[2n+1..3n]: 홀드로 묶인 수량 (차감 후에도 남겨야 하는 재고)
+-- 반환: {0, 남은 재고...} 성공, {-1, i} 재고 부족, {-2, i} 카운터 없음
+local n = #KEYS - 1
+for i = 1, n do
+    local current = redis.call('GET', KEYS[i])
+    if not current then
+        return {-2, i}
+    end
+    if tonumber(current) - tonumber(ARGV[2 * n + i] or 0) < tonumber(ARGV[i]) then
+        return {-1, i}
+    end
+end
+local result = {0}
+for i = 1, n do
+    result[i + 1] = redis.call('DECRBY', KEYS[i], ARGV[i])
+    redis.call('HINCRBY', KEYS[n + 1], ARGV[n + i], -tonumber(ARGV[i]))
+end
+return result
@@ -0,0 +1,22 @@
+-- KEYS[1]: 미반영 변경분 해시, KEYS[2]: 반영 중인 해시, KEYS[3]: 반영 중인 배치 ID
+-- ARGV[1]: 새 배치 ID
+-- 반환: {배치 ID, 상품 ID, 변경분, ...} (배치 ID 와 변경분을 함께 읽어 다른 배치의 변경분과 섞이지 않도록 함)
+-- 이전에 끝나지 않은 배치가 있으면 그 배치를 먼저 반환
+local batchId = redis.call('GET', KEYS[3])
+if batchId and redis.call('EXISTS', KEYS[2]) == 1 then
+    local result = {batchId}
+    for _, value in ipairs(redis.call('HGETALL', KEYS[2])) do
+        table.insert(result, value)
+    end
+    return result
+end
+if redis.call('EXISTS', KEYS[1]) == 0 then
+    return {}
+end
+redis.call('RENAME', KEYS[1], KEYS[2])
+redis.call('SET', KEYS[3], ARGV[1])
+local result = {ARGV[1]}
+for _, value in ipairs(redis.call('HGETALL', KEYS[2])) do
+    table.insert(result, value)
+end
+return result
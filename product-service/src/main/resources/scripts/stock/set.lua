@@ -0,0 +1,9 @@
+-- KEYS[1]: 상품 재고 카운터, KEYS[2]: 미반영 변경분 해시
+-- ARGV[1]: 새 재고, ARGV[2]: 상품 ID, ARGV[3]: 카운터가 없을 때 기준이 되는 DB 재고
+local current = redis.call('GET', KEYS[1])
+if not current then
+    current = ARGV[3]
+end
+redis.call('SET', KEYS[1], ARGV[1])
+redis.call('HINCRBY', KEYS[2], ARGV[2], tonumber(ARGV[1]) - tonumber(current))
+return tonumber(ARGV[1])
@@ -0,0 +1,33 @@
+package com.ecommerce.msa.product.dto;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ProductCursorTest {
+
+    @Test
+    void roundTrips() {
+        assertThat(ProductCursor.decode(new ProductCursor(123L).encode())).isEqualTo(123L);
+        assertThat(ProductCursor.decode(null)).isZero();
+        assertThat(ProductCursor.decode("")).isZero();
+    }
+
+    @Test
+    void invalidCursorIsBadRequest() {
+        assertThatThrownBy(() -> ProductCursor.decode("bm90LWEtbnVtYmVy"))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST));
+        assertThatThrownBy(() -> ProductCursor.decode("!!!"))
+                .isInstanceOf(ResponseStatusException.class);
+    }
+
+    @Test
+    void clampsPageSize() {
+        assertThat(ProductCursor.pageSize(-5)).isEqualTo(1);
+        assertThat(ProductCursor.pageSize(10_000)).isEqualTo(ProductCursor.MAX_PAGE_SIZE);
+    }
+}
@@ -0,0 +1,148 @@
+package com.ecommerce.msa.product.service;
+
+import com.ecommerce.msa.product.dto.ProductRequest;
+import com.ecommerce.msa.product.entity.Product;
+import com.ecommerce.msa.product.repository.ProductRepository;
+import com.ecommerce.msa.product.support.ConcurrentLoad;
+import com.ecommerce.msa.product.support.RedisIntegrationTestSupport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 여러 인스턴스의 flusher 가 동시에 돌아도 변경분이 유실되거나 두 번 반영되지 않는지 확인
+@TestPropertySource(properties = {
+        "product.stock.update-mode=REDIS",
+        // 스케줄러는 사실상 멈추고 테스트에서 flusher 를 직접 실행
+        "product.stock.redis.flush-interval-ms=3600000"
+})
+class RedisStockFlushConcurrencyTest extends RedisIntegrationTestSupport {
+
+    private static final Logger log = LoggerFactory.getLogger(RedisStockFlushConcurrencyTest.class);
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private RedisStockService redisStockService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    @BeforeEach
+    void clearRedis() {
+        redisTemplate.execute((RedisCallback<Void>) connection -> {
+            connection.serverCommands().flushDb();
+            return null;
+        });
+    }
+
+    @Test
+    void staleCompletionDoesNotDeleteNewerBatch() {
+        Long productId = createProduct(100);
+        decrease(productId, 5);
+
+        // 인스턴스 A 가 배치 1 을 반영하고 정리
+        RedisStockService.FlushBatch first = redisStockService.rotatePendingBatch();
+        redisStockService.applyDeltas(first.getBatchId(), first.getDeltas());
+        assertThat(redisStockService.completeFlushingBatch(first.getBatchId())).isTrue();
+
+        // 인스턴스 C 가 새 변경분으로 배치 2 를 올림
+        decrease(productId, 3);
+        RedisStockService.FlushBatch second = redisStockService.rotatePendingBatch();
+        assertThat(second.getBatchId()).isNotEqualTo(first.getBatchId());
+
+        // 배치 1 을 같이 읽었던 인스턴스 B 가 늦게 정리를 시도해도 배치 2 는 남아 있어야 함
+        assertThat(redisStockService.completeFlushingBatch(first.getBatchId())).isFalse();
+        RedisStockService.FlushBatch pending = redisStockService.rotatePendingBatch();
+        assertThat(pending.getBatchId()).isEqualTo(second.getBatchId());
+        assertThat(pending.getDeltas()).containsEntry(productId, -3);
+
+        redisStockService.applyDeltas(pending.getBatchId(), pending.getDeltas());
+        assertThat(redisStockService.completeFlushingBatch(pending.getBatchId())).isTrue();
+        assertThat(redisStockService.rotatePendingBatch()).isNull();
+        assertThat(productRepository.findById(productId).orElseThrow().getStockQuantity()).isEqualTo(92);
+    }
+
+    @Test
+    void twoFlushersKeepDatabaseInSyncWithCounters() throws Exception {
+        int initialStock = 2_000;
+        List<Long> productIds = List.of(createProduct(initialStock), createProduct(initialStock));
+        RedisStockFlusher instanceA = new RedisStockFlusher(redisStockService);
+        RedisStockFlusher instanceB = new RedisStockFlusher(redisStockService);
+
+        AtomicBoolean running = new AtomicBoolean(true);
+        List<CompletableFuture<Void>> flushers = new ArrayList<>();
+        for (RedisStockFlusher flusher : List.of(instanceA, instanceB)) {
+            flushers.add(CompletableFuture.runAsync(() -> {
+                while (running.get()) {
+                    flusher.flush();
+                }
+            }));
+        }
+
+        ConcurrentLoad.Result result;
+        try {
+            result = ConcurrentLoad.run(32, 50, () -> {
+                Long productId = productIds.get((int) (Thread.currentThread().getId() % productIds.size()));
+                return decrease(productId, 1);
+            });
+        } finally {
+            running.set(false);
+            CompletableFuture.allOf(flushers.toArray(CompletableFuture[]::new)).join();
+        }
+        log.info("Redis decrements with two concurrent flushers: {}", result);
+
+        // 남은 변경분 정리 (반영 중이던 배치 + 새로 쌓인 변경분)
+        instanceA.flush();
+        instanceB.flush();
+        assertThat(redisStockService.rotatePendingBatch()).isNull();
+
+        assertThat(result.errors()).isZero();
+        int totalStock = 0;
+        for (Long productId : productIds) {
+            Product product = productRepository.findById(productId).orElseThrow();
+            assertThat(product.getStockQuantity()).isEqualTo(redisStockService.getStock(product));
+            totalStock += product.getStockQuantity();
+        }
+        assertThat(totalStock).isEqualTo(initialStock * productIds.size() - result.succeeded());
+    }
+
+    private boolean decrease(Long productId, int quantity) {
+        ProductRequest.StockUpdate request = new ProductRequest.StockUpdate();
+        request.setOperation("DECREASE");
+        request.setQuantity(quantity);
+        try {
+            productService.updateStock(productId, request);
+            return true;
+        } catch (RuntimeException e) {
+            if ("재고가 부족합니다".equals(e.getMessage())) {
+                return false;
+            }
+            throw e;
+        }
+    }
+
+    private Long createProduct(int stockQuantity) {
+        return productRepository.save(Product.builder()
+                .name("Redis 재고 반영 테스트 상품")
+                .price(new BigDecimal("10000"))
+                .stockQuantity(stockQuantity)
+                .build()).getProductId();
+    }
+}
@@ -0,0 +1,105 @@
+package com.ecommerce.msa.product.service;
+
+import com.ecommerce.msa.product.dto.ProductRequest;
+import com.ecommerce.msa.product.dto.ProductResponse;
+import com.ecommerce.msa.product.entity.Product;
+import com.ecommerce.msa.product.repository.ProductRepository;
+import com.ecommerce.msa.product.support.RedisIntegrationTestSupport;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Redis 재고 모드에서 홀드가 products 행 대신 카운터를 사용하고, 남아 있는 홀드 수량은 판매 가능 재고에서 빠지는지 확인
+@TestPropertySource(properties = {
+        "product.stock.update-mode=REDIS",
+        "product.stock.redis.flush-interval-ms=3600000"
+})
+class RedisStockHoldTest extends RedisIntegrationTestSupport {
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private StockHoldService stockHoldService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Test
+    void holdDeductsCounterWithoutReserving() {
+        Long productId = createProduct(10);
+
+        String reservationId = createHold(productId, 4);
+        assertThat(productRepository.findById(productId).orElseThrow().getReservedQuantity()).isZero();
+        assertThat(productService.checkStock(productId).getStockQuantity()).isEqualTo(6);
+        assertThat(decrease(productId, 7)).isFalse();
+
+        stockHoldService.releaseHolds(reservationId);
+        assertThat(productService.checkStock(productId).getStockQuantity()).isEqualTo(10);
+
+        stockHoldService.confirmHolds(createHold(productId, 4));
+        assertThat(productService.checkStock(productId).getStockQuantity()).isEqualTo(6);
+    }
+
+    @Test
+    void counterDecreaseKeepsHeldQuantity() {
+        // Redis 모드 전환 전에 잡힌 홀드(reserved_quantity)는 카운터 차감에서도 판매 가능 재고에서 빠져야 함
+        Long productId = createProduct(10);
+        setStockUpdateMode(ProductService.StockUpdateMode.CONDITIONAL);
+        try {
+            createHold(productId, 8);
+        } finally {
+            setStockUpdateMode(ProductService.StockUpdateMode.REDIS);
+        }
+
+        assertThat(decrease(productId, 3)).isFalse();
+        assertThat(decrease(productId, 2)).isTrue();
+        assertThat(productService.checkStock(productId).getStockQuantity()).isEqualTo(8);
+    }
+
+    private String createHold(Long productId, int quantity) {
+        ProductRequest.StockReservationItem item = new ProductRequest.StockReservationItem();
+        item.setProductId(productId);
+        item.setQuantity(quantity);
+        ProductRequest.StockHoldCreate request = new ProductRequest.StockHoldCreate();
+        request.setItems(List.of(item));
+        ProductResponse.StockHoldResult result = stockHoldService.createHolds(request);
+        assertThat(result.isHeld()).isTrue();
+        return result.getReservationId();
+    }
+
+    private boolean decrease(Long productId, int quantity) {
+        ProductRequest.StockUpdate request = new ProductRequest.StockUpdate();
+        request.setOperation("DECREASE");
+        request.setQuantity(quantity);
+        try {
+            productService.updateStock(productId, request);
+            return true;
+        } catch (RuntimeException e) {
+            if ("재고가 부족합니다".equals(e.getMessage())) {
+                return false;
+            }
+            throw e;
+        }
+    }
+
+    private Long createProduct(int stockQuantity) {
+        return productRepository.save(Product.builder()
+                .name("Redis 홀드 테스트 상품")
+                .price(new BigDecimal("10000"))
+                .stockQuantity(stockQuantity)
+                .build()).getProductId();
+    }
+
+    private void setStockUpdateMode(ProductService.StockUpdateMode mode) {
+        ProductService target = AopTestUtils.getTargetObject(productService);
+        ReflectionTestUtils.setField(target, "stockUpdateMode", mode);
+    }
+}
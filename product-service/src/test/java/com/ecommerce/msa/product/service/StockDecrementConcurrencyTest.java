@@ -0,0 +1,121 @@
+package com.ecommerce.msa.product.service;
+
+import com.ecommerce.msa.product.dto.ProductRequest;
+import com.ecommerce.msa.product.entity.Product;
+import com.ecommerce.msa.product.repository.ProductRepository;
+import com.ecommerce.msa.product.support.ConcurrentLoad;
+import com.ecommerce.msa.product.support.IntegrationTestSupport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 한 상품에 수백 개 스레드가 동시에 차감해도 초과 판매가 없는지 확인하고, 기존 경로와 처리량을 비교
+class StockDecrementConcurrencyTest extends IntegrationTestSupport {
+
+    private static final Logger log = LoggerFactory.getLogger(StockDecrementConcurrencyTest.class);
+
+    private static final int THREADS = 200;
+    private static final int ATTEMPTS_PER_THREAD = 10;
+    // 시도 횟수(2000)의 절반만 재고가 있으므로 정확히 절반만 성공해야 함
+    private static final int INITIAL_STOCK = 1_000;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @AfterEach
+    void restoreStockUpdateMode() {
+        setStockUpdateMode(ProductService.StockUpdateMode.CONDITIONAL);
+    }
+
+    @Test
+    void conditionalUpdateNeverOversells() throws Exception {
+        Long productId = createProduct(INITIAL_STOCK);
+
+        ConcurrentLoad.Result result = ConcurrentLoad.run(THREADS, ATTEMPTS_PER_THREAD, () -> decrease(productId));
+        log.info("CONDITIONAL (guarded UPDATE): {}", result);
+
+        Product product = productRepository.findById(productId).orElseThrow();
+        assertThat(result.errors()).isZero();
+        assertThat(result.succeeded()).isEqualTo(INITIAL_STOCK);
+        assertThat(product.getStockQuantity()).isZero();
+        assertThat(product.getStatus()).isEqualTo(Product.ProductStatus.OUT_OF_STOCK);
+    }
+
+    @Test
+    void lockedReservationNeverOversells() throws Exception {
+        // 비교 기준: SELECT ... FOR UPDATE 로 행을 잠근 뒤 엔티티를 변경하는 예약 경로
+        Long productId = createProduct(INITIAL_STOCK);
+
+        ConcurrentLoad.Result result = ConcurrentLoad.run(THREADS, ATTEMPTS_PER_THREAD, () -> reserve(productId));
+        log.info("Row lock (SELECT FOR UPDATE): {}", result);
+
+        Product product = productRepository.findById(productId).orElseThrow();
+        assertThat(result.errors()).isZero();
+        assertThat(result.succeeded()).isEqualTo(INITIAL_STOCK);
+        assertThat(product.getStockQuantity()).isZero();
+    }
+
+    @Test
+    void entityReadModifyWriteForComparison() throws Exception {
+        // 비교 기준: 잠금 없이 조회 후 저장하는 기존 경로 (ENTITY). 갱신 손실로 초과 판매가 생길 수 있어 건수만 기록
+        setStockUpdateMode(ProductService.StockUpdateMode.ENTITY);
+        Long productId = createProduct(INITIAL_STOCK);
+
+        ConcurrentLoad.Result result = ConcurrentLoad.run(THREADS, ATTEMPTS_PER_THREAD, () -> decrease(productId));
+
+        Product product = productRepository.findById(productId).orElseThrow();
+        int consumed = INITIAL_STOCK - product.getStockQuantity();
+        log.info("ENTITY (read-modify-write): {}, consumed={}, oversold={}",
+                result, consumed, result.succeeded() - consumed);
+        assertThat(result.succeeded()).isGreaterThanOrEqualTo(consumed);
+    }
+
+    private boolean decrease(Long productId) {
+        ProductRequest.StockUpdate request = new ProductRequest.StockUpdate();
+        request.setOperation("DECREASE");
+        request.setQuantity(1);
+        try {
+            productService.updateStock(productId, request);
+            return true;
+        } catch (RuntimeException e) {
+            if ("재고가 부족합니다".equals(e.getMessage())) {
+                return false;
+            }
+            throw e;
+        }
+    }
+
+    private boolean reserve(Long productId) {
+        ProductRequest.StockReservationItem item = new ProductRequest.StockReservationItem();
+        item.setProductId(productId);
+        item.setQuantity(1);
+        ProductRequest.StockReservation request = new ProductRequest.StockReservation();
+        request.setItems(List.of(item));
+        return productService.reserveStocks(request).isReserved();
+    }
+
+    private Long createProduct(int stockQuantity) {
+        return productRepository.save(Product.builder()
+                .name("동시성 테스트 상품")
+                .price(new BigDecimal("10000"))
+                .stockQuantity(stockQuantity)
+                .build()).getProductId();
+    }
+
+    private void setStockUpdateMode(ProductService.StockUpdateMode mode) {
+        ProductService target = AopTestUtils.getTargetObject(productService);
+        ReflectionTestUtils.setField(target, "stockUpdateMode", mode);
+    }
+}
@@ -0,0 +1,118 @@
+package com.ecommerce.msa.product.service;
+
+import com.ecommerce.msa.product.dto.ProductRequest;
+import com.ecommerce.msa.product.entity.Product;
+import com.ecommerce.msa.product.entity.StockHold;
+import com.ecommerce.msa.product.repository.ProductRepository;
+import com.ecommerce.msa.product.repository.StockHoldRepository;
+import com.ecommerce.msa.product.support.ConcurrentLoad;
+import com.ecommerce.msa.product.support.IntegrationTestSupport;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.test.context.TestPropertySource;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doThrow;
+
+// 같은 예약 ID 로 동시에 재시도해도 홀드가 한 번만 잡히고, 스위퍼가 실패한 홀드 하나 때문에 멈추지 않는지 확인
+@TestPropertySource(properties = {
+        "product.stock.hold.sweep-interval-ms=3600000",
+        "product.stock.hold.sweep-batch-size=2"
+})
+class StockHoldConcurrencyTest extends IntegrationTestSupport {
+
+    private static final int THREADS = 16;
+
+    @Autowired
+    private StockHoldService stockHoldService;
+
+    @Autowired
+    private StockHoldSweeper stockHoldSweeper;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private StockHoldRepository stockHoldRepository;
+
+    @SpyBean
+    private ProductService productService;
+
+    @Test
+    void concurrentRetriesHoldStockOnce() throws Exception {
+        Long productId = createProduct(10, 0);
+        String reservationId = UUID.randomUUID().toString();
+
+        ConcurrentLoad.Result result = ConcurrentLoad.run(THREADS, 1,
+                () -> stockHoldService.createHolds(holdRequest(reservationId, productId, 3)).isHeld());
+
+        assertThat(result.succeeded()).isEqualTo(THREADS);
+        assertThat(stockHoldRepository.findByReservationIdOrderByProductId(reservationId)).hasSize(1);
+        assertThat(productRepository.findById(productId).orElseThrow().getReservedQuantity()).isEqualTo(3);
+    }
+
+    @Test
+    void sweeperSkipsFailingHold() {
+        Long firstProductId = createProduct(10, 2);
+        Long brokenProductId = createProduct(10, 0);
+        Long lastProductId = createProduct(10, 2);
+        // 재고 카운터로 되돌리는 단계에서 실패하는 홀드를 배치 가운데에 둠
+        doThrow(new RuntimeException("재고 카운터 복원 실패"))
+                .when(productService).releaseStocks(argThat((Map<Long, Integer> quantities) ->
+                        quantities.containsKey(brokenProductId)));
+
+        StockHold first = createExpiredHold(firstProductId, false);
+        StockHold broken = createExpiredHold(brokenProductId, true);
+        StockHold last = createExpiredHold(lastProductId, false);
+
+        stockHoldSweeper.sweepExpiredHolds();
+        stockHoldSweeper.sweepExpiredHolds();
+
+        assertThat(statusOf(first)).isEqualTo(StockHold.HoldStatus.EXPIRED);
+        assertThat(statusOf(broken)).isEqualTo(StockHold.HoldStatus.HELD);
+        assertThat(statusOf(last)).isEqualTo(StockHold.HoldStatus.EXPIRED);
+        assertThat(productRepository.findById(firstProductId).orElseThrow().getReservedQuantity()).isZero();
+        assertThat(productRepository.findById(lastProductId).orElseThrow().getReservedQuantity()).isZero();
+    }
+
+    private ProductRequest.StockHoldCreate holdRequest(String reservationId, Long productId, int quantity) {
+        ProductRequest.StockReservationItem item = new ProductRequest.StockReservationItem();
+        item.setProductId(productId);
+        item.setQuantity(quantity);
+        ProductRequest.StockHoldCreate request = new ProductRequest.StockHoldCreate();
+        request.setReservationId(reservationId);
+        request.setItems(List.of(item));
+        return request;
+    }
+
+    private StockHold createExpiredHold(Long productId, boolean stockDeducted) {
+        return stockHoldRepository.save(StockHold.builder()
+                .reservationId(UUID.randomUUID().toString())
+                .productId(productId)
+                .quantity(2)
+                .stockDeducted(stockDeducted)
+                .expiresAt(LocalDateTime.now().minusMinutes(1))
+                .build());
+    }
+
+    private StockHold.HoldStatus statusOf(StockHold hold) {
+        return stockHoldRepository.findById(hold.getHoldId()).orElseThrow().getStatus();
+    }
+
+    private Long createProduct(int stockQuantity, int reservedQuantity) {
+        return productRepository.save(Product.builder()
+                .name("홀드 동시성 테스트 상품")
+                .price(new BigDecimal("10000"))
+                .stockQuantity(stockQuantity)
+                .reservedQuantity(reservedQuantity)
+                .build()).getProductId();
+    }
+}
@@ -0,0 +1,161 @@
+package com.ecommerce.msa.product.service;
+
+import com.ecommerce.msa.product.dto.ProductRequest;
+import com.ecommerce.msa.product.dto.ProductResponse;
+import com.ecommerce.msa.product.entity.Product;
+import com.ecommerce.msa.product.repository.ProductRepository;
+import com.ecommerce.msa.product.support.ConcurrentLoad;
+import com.ecommerce.msa.product.support.IntegrationTestSupport;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 핫 상품 모드: 스트라이프 재고가 동시 차감에서도 정확한 합계를 유지하는지 확인하고, 단일 행 경로와 처리량을 비교
+class StripedStockConcurrencyTest extends IntegrationTestSupport {
+
+    private static final Logger log = LoggerFactory.getLogger(StripedStockConcurrencyTest.class);
+
+    private static final int THREADS = 200;
+    private static final int ATTEMPTS_PER_THREAD = 10;
+    private static final int INITIAL_STOCK = 1_000;
+    private static final int STRIPES = 8;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private StockHoldService stockHoldService;
+
+    @Test
+    void stripedDecrementKeepsExactTotal() throws Exception {
+        Long productId = createProduct(INITIAL_STOCK);
+        enableStripes(productId);
+
+        ConcurrentLoad.Result result = ConcurrentLoad.run(THREADS, ATTEMPTS_PER_THREAD, () -> decrease(productId));
+        log.info("Striped ({} stripes) until sold out: {}", STRIPES, result);
+
+        assertThat(result.errors()).isZero();
+        assertThat(result.succeeded()).isEqualTo(INITIAL_STOCK);
+        assertThat(productService.checkStock(productId).getStockQuantity()).isZero();
+        assertThat(productRepository.findById(productId).orElseThrow().getStatus())
+                .isEqualTo(Product.ProductStatus.OUT_OF_STOCK);
+    }
+
+    @Test
+    void comparesThroughputWithSingleRow() throws Exception {
+        // 재고가 충분한 상태에서 차감만 비교 (품절 이후의 거절 경로는 제외)
+        int stock = THREADS * ATTEMPTS_PER_THREAD * 2;
+        Long singleRowId = createProduct(stock);
+        Long stripedId = createProduct(stock);
+        enableStripes(stripedId);
+
+        ConcurrentLoad.Result singleRow = ConcurrentLoad.run(THREADS, ATTEMPTS_PER_THREAD, () -> decrease(singleRowId));
+        ConcurrentLoad.Result striped = ConcurrentLoad.run(THREADS, ATTEMPTS_PER_THREAD, () -> decrease(stripedId));
+        log.info("Single row: {}", singleRow);
+        log.info("Striped ({} stripes): {}", STRIPES, striped);
+
+        int attempts = THREADS * ATTEMPTS_PER_THREAD;
+        assertThat(singleRow.succeeded()).isEqualTo(attempts);
+        assertThat(striped.succeeded()).isEqualTo(attempts);
+        assertThat(productService.checkStock(singleRowId).getStockQuantity()).isEqualTo(stock - attempts);
+        assertThat(productService.checkStock(stripedId).getStockQuantity()).isEqualTo(stock - attempts);
+    }
+
+    @Test
+    void productInfoReportsStripeTotal() throws Exception {
+        Long productId = createProduct(100);
+        enableStripes(productId);
+
+        ConcurrentLoad.run(10, 3, () -> decrease(productId));
+
+        // products.stock_quantity 는 100 그대로지만 상품 조회도 스트라이프 합계를 응답해야 함
+        assertThat(productRepository.findById(productId).orElseThrow().getStockQuantity()).isEqualTo(100);
+        assertThat(productService.checkStock(productId).getStockQuantity()).isEqualTo(70);
+        assertThat(productService.getProduct(productId).getStockQuantity()).isEqualTo(70);
+        assertThat(productService.getProductsByIds(List.of(productId)))
+                .singleElement()
+                .satisfies(productInfo -> assertThat(productInfo.getStockQuantity()).isEqualTo(70));
+    }
+
+    @Test
+    void stripedDecreaseKeepsHeldQuantity() {
+        // 스트라이프 전환 전에 잡힌 홀드(reserved_quantity)는 스트라이프 차감에서도 판매 가능 재고에서 빠져야 함
+        Long productId = createProduct(10);
+        createHold(productId, 8);
+        enableStripes(productId);
+
+        assertThat(decrease(productId, 3)).isFalse();
+        assertThat(decrease(productId, 2)).isTrue();
+        assertThat(productService.checkStock(productId).getStockQuantity()).isEqualTo(8);
+    }
+
+    @Test
+    void holdOnStripedProductDeductsStripesWithoutReserving() {
+        Long productId = createProduct(10);
+        enableStripes(productId);
+
+        String reservationId = createHold(productId, 4);
+        assertThat(productRepository.findById(productId).orElseThrow().getReservedQuantity()).isZero();
+        assertThat(productService.checkStock(productId).getStockQuantity()).isEqualTo(6);
+
+        stockHoldService.releaseHolds(reservationId);
+        assertThat(productService.checkStock(productId).getStockQuantity()).isEqualTo(10);
+
+        // 확정은 이미 차감된 스트라이프를 다시 차감하지 않음
+        stockHoldService.confirmHolds(createHold(productId, 4));
+        assertThat(productService.checkStock(productId).getStockQuantity()).isEqualTo(6);
+    }
+
+    private String createHold(Long productId, int quantity) {
+        ProductRequest.StockReservationItem item = new ProductRequest.StockReservationItem();
+        item.setProductId(productId);
+        item.setQuantity(quantity);
+        ProductRequest.StockHoldCreate request = new ProductRequest.StockHoldCreate();
+        request.setItems(List.of(item));
+        ProductResponse.StockHoldResult result = stockHoldService.createHolds(request);
+        assertThat(result.isHeld()).isTrue();
+        return result.getReservationId();
+    }
+
+    private boolean decrease(Long productId) {
+        return decrease(productId, 1);
+    }
+
+    private boolean decrease(Long productId, int quantity) {
+        ProductRequest.StockUpdate request = new ProductRequest.StockUpdate();
+        request.setOperation("DECREASE");
+        request.setQuantity(quantity);
+        try {
+            productService.updateStock(productId, request);
+            return true;
+        } catch (RuntimeException e) {
+            if ("재고가 부족합니다".equals(e.getMessage())) {
+                return false;
+            }
+            throw e;
+        }
+    }
+
+    private void enableStripes(Long productId) {
+        ProductRequest.StockStripes request = new ProductRequest.StockStripes();
+        request.setStripeCount(STRIPES);
+        productService.enableStockStripes(productId, request);
+    }
+
+    private Long createProduct(int stockQuantity) {
+        return productRepository.save(Product.builder()
+                .name("핫 상품")
+                .price(new BigDecimal("10000"))
+                .stockQuantity(stockQuantity)
+                .build()).getProductId();
+    }
+}
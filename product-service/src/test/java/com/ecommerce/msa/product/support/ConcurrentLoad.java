@@ -0,0 +1,80 @@
+package com.ecommerce.msa.product.support;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+// 여러 스레드가 동시에 같은 작업을 반복 실행하고 성공/실패 건수와 처리량을 집계
+public final class ConcurrentLoad {
+
+    private ConcurrentLoad() {
+    }
+
+    public record Result(int succeeded, int rejected, int errors, long elapsedNanos, Throwable firstError) {
+
+        public int attempts() {
+            return succeeded + rejected + errors;
+        }
+
+        public double throughput() {
+            return attempts() / (elapsedNanos / 1_000_000_000.0);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("attempts=%d, succeeded=%d, rejected=%d, errors=%d, elapsed=%dms, throughput=%.0f ops/s%s",
+                    attempts(), succeeded, rejected, errors, TimeUnit.NANOSECONDS.toMillis(elapsedNanos), throughput(),
+                    firstError != null ? ", firstError=" + firstError : "");
+        }
+    }
+
+    // 작업이 true 를 반환하면 성공, false 는 재고 부족 등 정상 거절, 예외는 오류로 집계
+    public static Result run(int threads, int attemptsPerThread, Callable<Boolean> task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch ready = new CountDownLatch(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        AtomicInteger errors = new AtomicInteger();
+        AtomicReference<Throwable> firstError = new AtomicReference<>();
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    ready.countDown();
+                    start.await();
+                    for (int i = 0; i < attemptsPerThread; i++) {
+                        try {
+                            if (task.call()) {
+                                succeeded.incrementAndGet();
+                            } else {
+                                rejected.incrementAndGet();
+                            }
+                        } catch (Exception e) {
+                            errors.incrementAndGet();
+                            firstError.compareAndSet(null, e);
+                        }
+                    }
+                    return null;
+                }));
+            }
+            ready.await();
+            long startNanos = System.nanoTime();
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            return new Result(succeeded.get(), rejected.get(), errors.get(), System.nanoTime() - startNanos,
+                    firstError.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.ecommerce.msa.product.support;
+
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.GenericContainer;
+
+// PostgreSQL 과 함께 Redis 컨테이너도 띄우는 테스트의 공통 설정
+public abstract class RedisIntegrationTestSupport extends IntegrationTestSupport {
+
+    protected static final GenericContainer<?> REDIS = new GenericContainer<>("redis:7-alpine")
+            .withExposedPorts(6379);
+
+    @DynamicPropertySource
+    static void redisProperties(DynamicPropertyRegistry registry) {
+        REDIS.start();
+        registry.add("spring.data.redis.host", REDIS::getHost);
+        registry.add("spring.data.redis.port", () -> REDIS.getMappedPort(6379));
+    }
+}
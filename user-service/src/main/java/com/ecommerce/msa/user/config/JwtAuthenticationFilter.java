@@ -0,0 +1,52 @@
+package com.ecommerce.msa.user.config;
+
+import com.ecommerce.msa.user.entity.User;
+import com.ecommerce.msa.user.util.JwtUtil;
+import io.jsonwebtoken.Claims;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.List;
+
+// Bearer 토큰의 role 클레임을 권한(ROLE_USER, ROLE_ADMIN)으로 옮겨 요청별 접근 제어에 사용
+// 서블릿 필터로 자동 등록되지 않도록 빈이 아니라 SecurityConfig 에서 직접 생성
+@RequiredArgsConstructor
+@Slf4j
+public class JwtAuthenticationFilter extends OncePerRequestFilter {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final JwtUtil jwtUtil;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (header != null && header.startsWith(BEARER_PREFIX)) {
+            try {
+                Claims claims = jwtUtil.parseToken(header.substring(BEARER_PREFIX.length()));
+                // role 클레임이 없는 이전 토큰은 일반 사용자로 취급
+                String role = claims.get("role", String.class);
+                if (role == null) {
+                    role = User.UserRole.USER.name();
+                }
+                UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+                        claims.getSubject(), null, List.of(new SimpleGrantedAuthority("ROLE_" + role)));
+                SecurityContextHolder.getContext().setAuthentication(authentication);
+            } catch (Exception e) {
+                log.debug("JWT token validation failed: {}", e.getMessage());
+            }
+        }
+        filterChain.doFilter(request, response);
+    }
+}
@@ -48,6 +48,14 @@ public class UserController {
         return ResponseEntity.ok(userInfo);
     }
 
+    @PutMapping("/{userId}/status")
+    public ResponseEntity<UserResponse.UserInfo> updateStatus(
+            @PathVariable Long userId,
+            @Valid @RequestBody UserRequest.StatusUpdate request) {
+        UserResponse.UserInfo userInfo = userService.updateStatus(userId, request);
+        return ResponseEntity.ok(userInfo);
+    }
+
     @GetMapping("/health")
     public ResponseEntity<String> health() {
         return ResponseEntity.ok("User Service is running");
@@ -1,7 +1,9 @@
 package com.ecommerce.msa.user.dto;
 
+import com.ecommerce.msa.user.entity.User;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 import lombok.Data;
 
@@ -38,4 +40,10 @@ public class UserRequest {
         private String name;
         private String phoneNumber;
     }
+
+    @Data
+    public static class StatusUpdate {
+        @NotNull(message = "상태는 필수입니다")
+        private User.UserStatus status;
+    }
 }
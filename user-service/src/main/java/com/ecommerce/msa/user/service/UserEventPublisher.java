@@ -0,0 +1,31 @@
+package com.ecommerce.msa.user.service;
+
+import com.ecommerce.msa.user.event.UserEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+// 사용자 가입/상태 변경이 커밋된 뒤 user.events 로 알림을 보내 다른 서비스가 사용자 상태를 로컬에 유지하도록 함
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class UserEventPublisher {
+
+    private static final String USER_EVENTS_TOPIC = "user.events";
+
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void publish(UserEvent event) {
+        try {
+            kafkaTemplate.send(USER_EVENTS_TOPIC, String.valueOf(event.getUserId()), event);
+            log.debug("User event published: userId={}, eventType={}", event.getUserId(), event.getEventType());
+        } catch (Exception e) {
+            // 알림이 유실돼도 구독 측 캐시는 TTL 로 만료되므로 사용자 변경 자체는 실패시키지 않음
+            log.error("Failed to publish user event: userId={}", event.getUserId(), e);
+        }
+    }
+}
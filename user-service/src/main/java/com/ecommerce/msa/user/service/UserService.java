@@ -3,14 +3,19 @@ package com.ecommerce.msa.user.service;
 import com.ecommerce.msa.user.dto.UserRequest;
 import com.ecommerce.msa.user.dto.UserResponse;
 import com.ecommerce.msa.user.entity.User;
+import com.ecommerce.msa.user.event.UserEvent;
 import com.ecommerce.msa.user.repository.UserRepository;
 import com.ecommerce.msa.user.util.JwtUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 @Service
@@ -22,6 +27,7 @@ public class UserService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtUtil jwtUtil;
+    private final ApplicationEventPublisher eventPublisher;
 
     public UserResponse.UserInfo register(UserRequest.Register request) {
         // 이메일 중복 확인
@@ -38,6 +44,7 @@ public class UserService {
                 .build();
 
         User savedUser = userRepository.save(user);
+        publishUserEvent("USER_REGISTERED", savedUser);
         log.info("User registered successfully: {}", savedUser.getEmail());
 
         return UserResponse.UserInfo.from(savedUser);
@@ -55,7 +62,7 @@ public class UserService {
             throw new RuntimeException("비활성화된 계정입니다");
         }
 
-        String accessToken = jwtUtil.generateToken(user.getEmail(), user.getUserId());
+        String accessToken = jwtUtil.generateToken(user.getEmail(), user.getUserId(), user.getRole().name());
         log.info("User logged in successfully: {}", user.getEmail());
 
         return UserResponse.LoginResponse.builder()
@@ -68,8 +75,9 @@ public class UserService {
 
     @Transactional(readOnly = true)
     public UserResponse.UserInfo getUserById(Long userId) {
+        // 없는 사용자는 404 로 응답해 호출 측(order-service)이 장애와 구분해 음성 캐시에 보관할 수 있게 함
         User user = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다"));
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "사용자를 찾을 수 없습니다"));
 
         return UserResponse.UserInfo.from(user);
     }
@@ -96,4 +104,28 @@ public class UserService {
 
         return UserResponse.UserInfo.from(updatedUser);
     }
+
+    public UserResponse.UserInfo updateStatus(Long userId, UserRequest.StatusUpdate request) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다"));
+
+        if (user.getStatus() != request.getStatus()) {
+            user.setStatus(request.getStatus());
+            user = userRepository.save(user);
+            publishUserEvent("USER_STATUS_CHANGED", user);
+            log.info("User status changed: userId={}, status={}", userId, user.getStatus());
+        }
+
+        return UserResponse.UserInfo.from(user);
+    }
+
+    private void publishUserEvent(String eventType, User user) {
+        // 커밋 이후 UserEventPublisher 가 Kafka 로 전송
+        eventPublisher.publishEvent(UserEvent.builder()
+                .eventType(eventType)
+                .userId(user.getUserId())
+                .status(user.getStatus().name())
+                .eventTime(LocalDateTime.now())
+                .build());
+    }
 }
@@ -0,0 +1,91 @@
+package com.ecommerce.msa.user.controller;
+
+import com.ecommerce.msa.user.config.SecurityConfig;
+import com.ecommerce.msa.user.dto.UserRequest;
+import com.ecommerce.msa.user.dto.UserResponse;
+import com.ecommerce.msa.user.entity.User;
+import com.ecommerce.msa.user.service.UserService;
+import com.ecommerce.msa.user.util.JwtUtil;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.web.server.ResponseStatusException;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 계정 상태 변경은 관리자 토큰으로만 가능하고, 없는 사용자 조회는 404 로 응답하는지 확인
+@WebMvcTest(UserController.class)
+@Import({SecurityConfig.class, JwtUtil.class})
+class UserControllerSecurityTest {
+
+    private static final String STATUS_BODY = "{\"status\":\"SUSPENDED\"}";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @MockBean
+    private UserService userService;
+
+    @Test
+    void statusUpdateRequiresAdminRole() throws Exception {
+        mockMvc.perform(statusUpdate(1L))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(statusUpdate(1L).header(HttpHeaders.AUTHORIZATION, bearer(User.UserRole.USER)))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(statusUpdate(1L).header(HttpHeaders.AUTHORIZATION, "Bearer invalid-token"))
+                .andExpect(status().isForbidden());
+
+        verify(userService, never()).updateStatus(any(), any());
+    }
+
+    @Test
+    void adminCanUpdateStatus() throws Exception {
+        given(userService.updateStatus(eq(1L), any(UserRequest.StatusUpdate.class)))
+                .willReturn(UserResponse.UserInfo.builder()
+                        .userId(1L)
+                        .status(User.UserStatus.SUSPENDED)
+                        .build());
+
+        mockMvc.perform(statusUpdate(1L).header(HttpHeaders.AUTHORIZATION, bearer(User.UserRole.ADMIN)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("SUSPENDED"));
+    }
+
+    @Test
+    void unknownUserIsNotFound() throws Exception {
+        given(userService.getUserById(404L))
+                .willThrow(new ResponseStatusException(HttpStatus.NOT_FOUND, "사용자를 찾을 수 없습니다"));
+
+        mockMvc.perform(get("/users/404").header(HttpHeaders.AUTHORIZATION, bearer(User.UserRole.USER)))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.message").value("사용자를 찾을 수 없습니다"));
+    }
+
+    private String bearer(User.UserRole role) {
+        return "Bearer " + jwtUtil.generateToken("user@example.com", 1L, role.name());
+    }
+
+    private static MockHttpServletRequestBuilder statusUpdate(Long userId) {
+        return put("/users/{userId}/status", userId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(STATUS_BODY);
+    }
+}